@@ -0,0 +1,33 @@
+#!/bin/sh
+#
+# Regenerates the lexer and the parser from grammar.sablecc, then compiles
+# their tables into LexerTables and ParserTables and patches the static
+# initializers of Lexer and Parser to read them (see TableEncoder).
+#
+# Usage, from the root of the project:
+#
+#     ./regenerate-parser.sh path/to/sablecc.jar
+#
+# TableEncoderTest fails when the generated sources are committed without
+# this last step.
+
+set -e
+
+if [ $# -ne 1 ]; then
+    echo "Usage: $0 path/to/sablecc.jar" >&2
+    exit 1
+fi
+
+grammar=$(mktemp -d)
+trap 'rm -rf "$grammar"' EXIT
+
+# The grammar does not name its package, the generated code lives in
+# org.jberger.pergen.generated.
+{
+    echo "Package org.jberger.pergen.generated;"
+    cat grammar.sablecc
+} > "$grammar/grammar.sablecc"
+
+java -jar "$1" -d src/main/java "$grammar/grammar.sablecc"
+mvn -B -q -DskipTests test-compile
+java -cp target/classes:target/test-classes org.jberger.pergen.generated.TableEncoder
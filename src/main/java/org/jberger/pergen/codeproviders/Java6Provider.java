@@ -13,22 +13,300 @@
    limitations under the License.
 */
 
+
 package org.jberger.pergen.codeproviders;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
 import org.jberger.pergen.domain.Entity;
 import org.jberger.pergen.domain.Field;
 import org.jberger.pergen.domain.FieldType;
 import org.jberger.pergen.domain.Relation;
 import org.jberger.pergen.domain.RelationType;
-import org.jberger.pergen.files.FileWriterWrapper;
+import org.jberger.pergen.files.CodeSink;
 
 /**
- * Provides all the Java code.
+ * Provides all the Java code. The code is written from templates compiled
+ * once, filled with the names of the entities and of the fields.
  */
 public final class Java6Provider {
 
+    private static final String HEADER_COMMENT =
+            "/*\n"
+            + " * This file was generated with the PerGen tool.\n"
+            + " * This code is free to use and distribute.\n"
+            + " */\n\n";
+
+    private static final Template PACKAGE_DECLARATION = Template.compile(
+            "package ${package};\n\n", "package");
+
+    private static final Template CLASS_DECLARATION = Template.compile(
+            "public class ${class} {\n\n", "class");
+
+    private static final Template DEFAULT_CONSTRUCTOR = Template.compile(
+            "    public ${class}() {\n"
+            + "    }\n\n", "class");
+
+    private static final String POJO_ID =
+            "    private Integer id = null;\n\n"
+            + "    public Integer getId() {\n"
+            + "        return id;\n"
+            + "    }\n\n"
+            + "    public void setId(Integer newId) {\n"
+            + "        id = newId;\n"
+            + "    }\n\n";
+
+    private static final Template DAO_IMPORTS = Template.compile(
+            "import java.sql.Connection;\n"
+            + "import java.sql.PreparedStatement;\n"
+            + "import java.sql.ResultSet;\n"
+            + "import java.sql.SQLException;\n"
+            + "import java.util.ArrayList;\n\n"
+            + "import pojos.${class};\n\n", "class");
+
+    private static final Template POJO_FIELD = Template.compile(
+            "    private ${type} ${field} = null;\n\n"
+            + "    public ${type} ${getter}() {\n"
+            + "        return ${field};\n"
+            + "    }\n\n"
+            + "    public void ${setter}(${type} newValue) {\n"
+            + "        ${field} = newValue;\n"
+            + "    }\n\n", "type", "field", "getter", "setter");
+
+    private static final Template POJO_ONE_RELATION = Template.compile(
+            "    private Integer ${variable}Id = null;\n\n"
+            + "    public Integer get${class}Id() {\n"
+            + "        return ${variable}Id;\n"
+            + "    }\n\n"
+            + "    public void set${class}Id(Integer new${class}) {\n"
+            + "        ${variable}Id = new${class};\n"
+            + "    }\n\n", "class", "variable");
+
+    private static final Template POJO_MANY_RELATION = Template.compile(
+            "    private ArrayList<Integer> ${variable}List = new ArrayList<Integer>();\n\n"
+            + "    public void add${class}(Integer ${variable}Id) {\n"
+            + "        ${variable}List.add(${variable}Id);\n"
+            + "    }\n\n"
+            + "    public void remove${class}(Integer ${variable}Id) {\n"
+            + "        ${variable}List.remove(${variable}Id);\n"
+            + "    }\n\n"
+            + "    public ArrayList<Integer> get${class}List() {\n"
+            + "        return ${variable}List;\n"
+            + "    }\n\n", "class", "variable");
+
+    private static final Template DAO_CONNECTION_AND_CONSTRUCTOR = Template.compile(
+            "    private Connection connection = null;\n\n"
+            + "    public ${class}(final Connection databaseConnection) {\n"
+            + "        connection = databaseConnection;\n"
+            + "    }\n\n", "class");
+
+    private static final String DAO_EXCEPTION_CLASS =
+            "public class DAOException extends Exception {\n\n"
+            + "    static final long serialVersionUID = 200710190246666L;\n\n"
+            + "    public DAOException(final String message, final Exception e) {\n"
+            + "        super(message, e);\n"
+            + "    }\n\n"
+            + "}\n";
+
+    private static final String NULLITY_EXCEPTION_CLASS =
+            "public class NullityException extends Exception {\n\n"
+            + "    static final long serialVersionUID = 200710190250666L;\n\n"
+            + "    public NullityException(final String className, final String field) {\n"
+            + "         super(\"The field \" + field + \" of the class \" + className"
+            + " + \" should not contain a null value.\");\n"
+            + "    }\n\n"
+            + "}\n";
+
+    private static final Template DAO_GET_BEGIN = Template.compile(
+            "    public ${class} get${class}(final Integer id) throws DAOException {\n"
+            + "        try {\n"
+            + "            PreparedStatement query = connection.prepareStatement(\"select * from ${table}"
+            + " where ${table}_ID=?\");\n"
+            + "            query.setInt(1, id.intValue());\n\n"
+            + "            ResultSet result = query.executeQuery();\n"
+            + "            result.beforeFirst();\n"
+            + "            if (result.next()) {\n", "class", "table");
+
+    private static final String DAO_GET_END =
+            "            }\n"
+            + "        } catch (SQLException e) {\n"
+            + "            throw new DAOException(\"Unable to perform query on database.\", e);\n"
+            + "        }\n"
+            + "        return null;\n"
+            + "    }\n\n";
+
+    private static final Template DAO_GET_ALL_BEGIN = Template.compile(
+            "    public ArrayList<${class}> getAll${class}s() throws DAOException {\n"
+            + "        try {\n"
+            + "            PreparedStatement query = connection.prepareStatement(\"select * from ${table}\");\n\n"
+            + "            ResultSet result = query.executeQuery();\n"
+            + "            result.beforeFirst();\n"
+            + "            ArrayList<${class}> list = new ArrayList<${class}>();\n\n"
+            + "            while (result.next()) {\n", "class", "table");
+
+    private static final Template DAO_GET_ALL_END = Template.compile(
+            "                list.add(${variable});\n"
+            + "            }\n\n"
+            + "            return list;\n"
+            + "        } catch (SQLException e) {\n"
+            + "            throw new DAOException(\"Unable to perform query on database.\", e);\n"
+            + "        }\n"
+            + "    }\n\n", "variable");
+
+    private static final Template READ_ENTITY = Template.compile(
+            "                ${class} ${variable} = new ${class}();\n"
+            + "                ${variable}.setId(result.getInt(\"${table}_ID\"));\n\n",
+            "class", "variable", "table");
+
+    private static final Template READ_FIELD = Template.compile(
+            "                ${variable}.${setter}(result.${getter}(\"${column}\"));\n",
+            "variable", "setter", "getter", "column");
+
+    private static final Template READ_ONE_RELATION = Template.compile(
+            "                ${variable}.set${link}Id(result.getInt(\"${linkTable}_ID\"));\n",
+            "variable", "link", "linkTable");
+
+    private static final Template READ_MANY_RELATION = Template.compile(
+            "                PreparedStatement ${statement}s = connection.prepareStatement(\"select ${linkTable}_ID"
+            + " from ${relationTable} where ${table}_ID=?\");\n"
+            + "                ${statement}s.setInt(1, ${variable}.getId().intValue());\n"
+            + "                ResultSet ${statement}sResult = ${statement}s.executeQuery();\n"
+            + "                ${statement}sResult.beforeFirst();\n"
+            + "                while (${statement}sResult.next()) {\n"
+            + "                    ${variable}.add${link}(${statement}sResult.getInt(\"${linkTable}_ID\"));\n"
+            + "                }\n\n",
+            "statement", "linkTable", "relationTable", "table", "variable", "link");
+
+    private static final String DAO_DELETE_BEGIN =
+            "    public void delete(final Integer id) throws DAOException {\n"
+            + "        try {\n";
+
+    private static final Template DAO_DELETE_LINKS = Template.compile(
+            "            PreparedStatement ${variable}s = connection.prepareStatement(\"delete from ${linkTable}"
+            + " where ${table}_ID=?\");\n"
+            + "            ${variable}s.setInt(1, id);\n"
+            + "            ${variable}s.executeUpdate();\n\n", "variable", "linkTable", "table");
+
+    private static final Template DAO_DELETE_END = Template.compile(
+            "            PreparedStatement query = connection.prepareStatement(\"delete from ${table}"
+            + " where ${table}_ID=?\");\n"
+            + "            query.setInt(1, id);\n"
+            + "            query.executeUpdate();\n"
+            + "        } catch (SQLException e) {\n"
+            + "            throw new DAOException(\"Unable to perform delete on database.\", e);\n"
+            + "        }\n"
+            + "    }\n\n", "table");
+
+    private static final Template DAO_CHECK_NULLITY_BEGIN = Template.compile(
+            "    protected void checkNullity(final ${class} ${variable}) throws NullityException {\n",
+            "class", "variable");
+
+    private static final Template CHECK_FIELD = Template.compile(
+            "        if (${variable}.${getter}() == null) {\n"
+            + "            throw new NullityException(\"${class}\", \"${field}\");\n"
+            + "        }\n\n", "variable", "getter", "class", "field");
+
+    private static final Template CHECK_ONE_RELATION = Template.compile(
+            "        if (${variable}.get${link}Id() == null) {\n"
+            + "            throw new NullityException(\"${class}\", \"${link}Id\");\n"
+            + "        }\n\n", "variable", "link", "class");
+
+    private static final Template CHECK_ONE_TO_MANY_RELATION = Template.compile(
+            "        if (${variable}.get${link}List().size() == 0) {\n"
+            + "            throw new NullityException(\"${class}\", \"${link}Id\");\n"
+            + "        }\n\n", "variable", "link", "class");
+
+    private static final Template CHECK_MANY_TO_MANY_RELATION = Template.compile(
+            "        if (${variable}.get${link}List().size() == 0) {\n"
+            + "            throw new NullityException(\"${class}\", \"${linkTable}:${link}Id\");\n"
+            + "        }\n\n", "variable", "link", "class", "linkTable");
+
+    private static final String METHOD_END = "    }\n\n";
+
+    private static final Template DAO_NEW_ID = Template.compile(
+            "    protected Integer getNewId() throws DAOException {\n"
+            + "        try {\n"
+            + "            PreparedStatement query = connection.prepareStatement(\"select max(${table}_ID)"
+            + " as NEWID from ${table}\");\n"
+            + "            ResultSet result = query.executeQuery();\n"
+            + "            if (result.next()) {\n"
+            + "                return new Integer(result.getInt(\"NEWID\") + 1);\n"
+            + "            } else {\n"
+            + "                return new Integer(0);\n"
+            + "            }\n"
+            + "         } catch (SQLException e) {\n"
+            + "             throw new DAOException(\"Unable to perform query on database.\", e);\n"
+            + "         }\n"
+            + "    }\n\n", "table");
+
+    private static final Template DAO_SAVE_BEGIN = Template.compile(
+            "    public void save(final ${class} ${parameter}) throws DAOException, NullityException {\n"
+            + "        checkNullity(${parameter});\n\n"
+            + "        if (${parameter}.getId() == null) {\n"
+            + "            ${parameter}.setId(getNewId());\n\n"
+            + "            try {\n"
+            + "                PreparedStatement query = connection.prepareStatement(\n"
+            + "                    \"insert into ${table}(${table}_ID", "class", "parameter", "table");
+
+    private static final Template INSERT_VALUES_END = Template.compile(
+            ")\");\n"
+            + "                query.setInt(1, ${parameter}.getId().intValue());\n", "parameter");
+
+    private static final Template SET_FIELD = Template.compile(
+            "                query.${setter}(${number}, ${parameter}.${getter}());\n",
+            "setter", "number", "parameter", "getter");
+
+    private static final Template SET_DATE_FIELD = Template.compile(
+            "                query.${setter}(${number}, new java.sql.Date(${parameter}.${getter}().getTime()));\n",
+            "setter", "number", "parameter", "getter");
+
+    private static final Template SET_ONE_RELATION = Template.compile(
+            "                query.setInt(${number}, ${parameter}.get${link}Id());\n",
+            "number", "parameter", "link");
+
+    private static final Template DAO_SAVE_UPDATE = Template.compile(
+            "                query.executeUpdate();\n"
+            + "            } catch (SQLException e) {\n"
+            + "                throw new DAOException(\"Unable to perform insert on database.\", e);\n"
+            + "            }\n"
+            + "        } else {\n"
+            + "            try {\n"
+            + "                PreparedStatement query = connection.prepareStatement(\n"
+            + "                                \"update ${table} set ", "table");
+
+    private static final Template UPDATE_WHERE = Template.compile(
+            " where ${table}_ID=?\");\n", "table");
+
+    private static final Template UPDATE_ID = Template.compile(
+            "                query.setInt(${number}, ${parameter}.getId().intValue());\n\n"
+            + "                query.executeUpdate();\n\n", "number", "parameter");
+
+    private static final Template DELETE_LINKS = Template.compile(
+            "                PreparedStatement delete${link} = connection.prepareStatement(\"delete from ${linkTable}"
+            + " where ${table}_ID=?\");\n"
+            + "                delete${link}.setInt(1, ${parameter}.getId());\n"
+            + "                delete${link}.executeUpdate();\n\n", "link", "linkTable", "table", "parameter");
+
+    private static final String DAO_SAVE_UPDATE_END =
+            "            } catch (SQLException e) {\n"
+            + "                throw new DAOException(\"Unable to perform update on database.\", e);\n"
+            + "            }\n"
+            + "        }\n\n";
+
+    private static final Template INSERT_LINKS = Template.compile(
+            "            for (Integer id : ${parameter}.get${link}List()) {\n"
+            + "                PreparedStatement link = connection.prepareStatement(\n"
+            + "                        \"insert into ${linkTable}(${linkColumn}_ID, ${table}_ID) values(?, ?)\");\n"
+            + "                link.setInt(1, id);\n"
+            + "                link.setInt(2, ${parameter}.getId());\n"
+            + "                link.executeUpdate();\n"
+            + "            }\n\n", "parameter", "link", "linkTable", "linkColumn", "table");
+
+    private static final String INSERT_LINKS_END =
+            "        } catch (SQLException e) {\n"
+            + "            throw new DAOException(\"Unable to perform insert on database.\", e);\n"
+            + "        }\n";
+
     /**
      * To avoid instanciation.
      */
@@ -40,12 +318,9 @@ public final class Java6Provider {
      * @param writer The file writer.
      * @throws IOException From the file writer.
      */
-    public static void provideHeaderComment(final FileWriterWrapper writer)
+    public static void provideHeaderComment(final CodeSink writer)
                                             throws IOException {
-        writer.write("/*\n");
-        writer.write(" * This file was generated with the PerGen tool.\n");
-        writer.write(" * This code is free to use and distribute.\n");
-        writer.write(" */\n\n");
+        writer.write(HEADER_COMMENT);
     }
 
     /**
@@ -54,10 +329,10 @@ public final class Java6Provider {
      * @param packageName The package name.
      * @throws IOException From the file writer.
      */
-    public static void providePackageDeclaration(final FileWriterWrapper writer,
+    public static void providePackageDeclaration(final CodeSink writer,
                                                  final String packageName)
                                                  throws IOException {
-        writer.write("package " + packageName + ";\n\n");
+        PACKAGE_DECLARATION.render(writer, packageName);
     }
 
     /**
@@ -66,17 +341,16 @@ public final class Java6Provider {
      * @param className The class name.
      * @throws IOException From the file writer.
      */
-    public static void provideClassDeclaration(final FileWriterWrapper writer,
+    public static void provideClassDeclaration(final CodeSink writer,
                                                final String className)
                                                throws IOException {
-        writer.write("public class " + className + " {\n\n");
+        CLASS_DECLARATION.render(writer, className);
     }
 
-    public static void provideDefaultConstructor(final FileWriterWrapper writer,
+    public static void provideDefaultConstructor(final CodeSink writer,
                                                  final String className)
                                                  throws IOException {
-        writer.write("    public " + className + "() {\n");
-        writer.write("    }\n\n");
+        DEFAULT_CONSTRUCTOR.render(writer, className);
     }
 
     /**
@@ -84,17 +358,9 @@ public final class Java6Provider {
      * @param writer The file writer.
      * @throws IOException From the file writer.
      */
-    public static void providePOJOsIdGetterSetter(final FileWriterWrapper writer)
+    public static void providePOJOsIdGetterSetter(final CodeSink writer)
                                               throws IOException {
-        writer.write("    private Integer id = null;\n\n");
-
-        writer.write("    public Integer getId() {\n");
-        writer.write("        return id;\n");
-        writer.write("    }\n\n");
-
-        writer.write("    public void setId(Integer newId) {\n");
-        writer.write("        id = newId;\n");
-        writer.write("    }\n\n");
+        writer.write(POJO_ID);
     }
 
     /**
@@ -102,7 +368,7 @@ public final class Java6Provider {
      * @param writer The file writer.
      * @throws IOException From the file writer.
      */
-    public static void provideClassEnd(final FileWriterWrapper writer)
+    public static void provideClassEnd(final CodeSink writer)
                                        throws IOException {
         writer.write("}\n");
     }
@@ -113,7 +379,7 @@ public final class Java6Provider {
      * @param entity The entity of the generating class.
      * @throws IOException From the file writer.
      */
-    public static void providePOJOsImports(final FileWriterWrapper writer,
+    public static void providePOJOsImports(final CodeSink writer,
                                            final Entity entity)
                                            throws IOException {
         if (entity.hasADateField()) {
@@ -123,7 +389,7 @@ public final class Java6Provider {
         if (entity.hasAManyRelation()) {
             writer.write("import java.util.ArrayList;\n");
         }
-        writer.write("\n");
+        writer.write('\n');
     }
 
     /**
@@ -132,16 +398,10 @@ public final class Java6Provider {
      * @param entityCodeName The entity class to import in the DAO.
      * @throws IOException From the file writer.
      */
-    public static void provideDAOsImports(final FileWriterWrapper writer,
+    public static void provideDAOsImports(final CodeSink writer,
                                           final String entityCodeName)
                                           throws IOException {
-        writer.write("import java.sql.Connection;\n");
-        writer.write("import java.sql.PreparedStatement;\n");
-        writer.write("import java.sql.ResultSet;\n");
-        writer.write("import java.sql.SQLException;\n");
-        writer.write("import java.util.ArrayList;\n\n");
-
-        writer.write("import pojos." + entityCodeName + ";\n\n");
+        DAO_IMPORTS.render(writer, entityCodeName);
     }
 
     /**
@@ -151,24 +411,11 @@ public final class Java6Provider {
      * @throws IOException From the file writer.
      */
     public static void providePOJOsFieldAndGetterSetter(
-                                                 final FileWriterWrapper writer,
+                                                 final CodeSink writer,
                                                  final Field field)
                                                  throws IOException {
-        String javaType = mapType(field.getOriginalDataType());
-
-        writer.write("    private " + javaType + " " + field.getJavaName()
-                     + " = null;\n\n");
-
-        writer.write("    public " + javaType + " " + field.getGetterName()
-                     + "() {\n");
-        writer.write("        return " + field.getJavaName() + ";\n");
-        writer.write("    }\n\n");
-
-        writer.write("    public void " + field.getSetterName() + "("
-                     + javaType + " newValue) {\n");
-        writer.write("        " + field.getJavaName() + " = newValue"
-                     + ";\n");
-        writer.write("    }\n\n");
+        POJO_FIELD.render(writer, mapType(field.getOriginalDataType()), field.getJavaName(),
+                          field.getGetterName(), field.getSetterName());
     }
 
     /**
@@ -180,24 +427,10 @@ public final class Java6Provider {
      * @throws IOException From the file writer.
      */
     public static void providePOJOsEverythingForAOneRelation(
-                                                final FileWriterWrapper writer,
+                                                final CodeSink writer,
                                                 final String entityCodeName)
                                                 throws IOException {
-        char[] workingName = entityCodeName.toCharArray();
-        workingName[0] = Character.toLowerCase(workingName[0]);
-        String lowcaseName = new String(workingName);
-
-        writer.write("    private Integer " + lowcaseName + "Id = null;\n\n");
-
-        writer.write("    public Integer get" + entityCodeName + "Id() {\n");
-        writer.write("        return " + lowcaseName + "Id;\n");
-        writer.write("    }\n\n");
-
-        writer.write("    public void set" + entityCodeName + "Id(Integer new"
-                     + entityCodeName + ") {\n");
-        writer.write("        " + lowcaseName + "Id = new" + entityCodeName
-                     + ";\n");
-        writer.write("    }\n\n");
+        POJO_ONE_RELATION.render(writer, entityCodeName, lowerFirst(entityCodeName));
     }
 
     /**
@@ -209,32 +442,10 @@ public final class Java6Provider {
      * @throws IOException From the file writer.
      */
     public static void providePOJOsEverythingForAManyRelation(
-                                               final FileWriterWrapper writer,
+                                               final CodeSink writer,
                                                final String entityCodeName)
                                                throws IOException {
-        char[] workingName = entityCodeName.toCharArray();
-        workingName[0] = Character.toLowerCase(workingName[0]);
-        String lowcaseName = new String(workingName);
-
-        writer.write("    private ArrayList<Integer> " + lowcaseName
-                     + "List = new ArrayList<Integer>();\n\n");
-
-        writer.write("    public void add" + entityCodeName + "(Integer "
-                     + lowcaseName + "Id) {\n");
-        writer.write("        " + lowcaseName + "List.add("
-                     + lowcaseName + "Id);\n");
-        writer.write("    }\n\n");
-
-        writer.write("    public void remove" + entityCodeName
-                     + "(Integer " + lowcaseName + "Id) {\n");
-        writer.write("        " + lowcaseName + "List.remove("
-                     + lowcaseName + "Id);\n");
-        writer.write("    }\n\n");
-
-        writer.write("    public ArrayList<Integer> get" + entityCodeName
-                     + "List() {\n");
-        writer.write("        return " + lowcaseName + "List;\n");
-        writer.write("    }\n\n");
+        POJO_MANY_RELATION.render(writer, entityCodeName, lowerFirst(entityCodeName));
     }
 
     /**
@@ -244,15 +455,10 @@ public final class Java6Provider {
      * @throws IOException From the file writer.
      */
     public static void provideDAOsConnectionAndConstructor(
-                                                        final FileWriterWrapper writer,
+                                                        final CodeSink writer,
                                                         final String className)
                                                         throws IOException {
-        writer.write("    private Connection connection = null;\n\n");
-
-        writer.write("    public " + className
-                     + "(final Connection databaseConnection) {\n");
-        writer.write("        connection = databaseConnection;\n");
-        writer.write("    }\n\n");
+        DAO_CONNECTION_AND_CONSTRUCTOR.render(writer, className);
     }
 
     /**
@@ -260,16 +466,9 @@ public final class Java6Provider {
      * @param writer The file writer.
      * @throws IOException From the file writer.
      */
-    public static void provideDAOExceptionClass(final FileWriterWrapper writer)
+    public static void provideDAOExceptionClass(final CodeSink writer)
                                                 throws IOException {
-        writer.write("public class DAOException extends Exception {\n\n");
-        writer.write("    static final long serialVersionUID = "
-                     + "200710190246666L;\n\n");
-        writer.write("    public DAOException(final String message, "
-                     + "final Exception e) {\n");
-        writer.write("        super(message, e);\n");
-        writer.write("    }\n\n");
-        writer.write("}\n");
+        writer.write(DAO_EXCEPTION_CLASS);
     }
 
     /**
@@ -277,18 +476,9 @@ public final class Java6Provider {
      * @param writer The file writer.
      * @throws IOException From the file writer.
      */
-    public static void provideNullityExceptionClass(final FileWriterWrapper writer)
+    public static void provideNullityExceptionClass(final CodeSink writer)
                                                     throws IOException {
-        writer.write("public class NullityException extends Exception {\n\n");
-        writer.write("    static final long serialVersionUID = "
-                     + "200710190250666L;\n\n");
-        writer.write("    public NullityException(final String className, "
-                     + "final String field) {\n");
-        writer.write("         super(\"The field \" + field + \" of the class "
-                     + "\" + className + \" should not contain a null "
-                     + "value.\");\n");
-        writer.write("    }\n\n");
-        writer.write("}\n");
+        writer.write(NULLITY_EXCEPTION_CLASS);
     }
 
 
@@ -298,83 +488,16 @@ public final class Java6Provider {
      * @param entity The entity of the DAO.
      * @throws IOException From the file writer.
      */
-    public static void provideDAOGetMethod(final FileWriterWrapper writer,
+    public static void provideDAOGetMethod(final CodeSink writer,
                                            final Entity entity)
                                            throws IOException {
-        writer.write("    public " + entity.getJavaName() + " get"
-                     + entity.getJavaName() + "(final Integer id) "
-                     + "throws DAOException {\n");
-        writer.write("        try {\n");
-
-        writer.write("            PreparedStatement query = "
-                     + "connection.prepareStatement(\"select * from "
-                     + entity.getSqlName() + " where "
-                     + entity.getSqlName() + "_ID=?\");\n");
-        writer.write("            query.setInt(1, id.intValue());\n\n");
-
-        writer.write("            ResultSet result = query.executeQuery();\n");
-        writer.write("            result.beforeFirst();\n");
-        writer.write("            if (result.next()) {\n");
-
+        DAO_GET_BEGIN.render(writer, entity.getJavaName(), entity.getSqlName());
         String variableName = entity.getJavaName().toLowerCase();
-        writer.write("                " + entity.getJavaName()
-                     + " " + variableName + " = new " + entity.getJavaName()
-                     + "();\n");
-        writer.write("                " + variableName
-                     + ".setId(result.getInt(\"" + entity.getSqlName()
-                     + "_ID\"));\n\n");
-
-        for (Field field : entity.getFields()) {
-            writer.write("                " + variableName + "."
-                         + field.getSetterName() + "(result."
-                         + mapResultSetGetter(field.getOriginalDataType())
-                         + "(\"" + field.getSqlName() + "\"));\n");
-        }
-        writer.write("\n");
-
-        for (Relation manyToOne : entity.getAllManyToOneRelations()) {
-            Entity link = manyToOne.getEntity();
-            writer.write("                " + variableName + ".set"
-                         + link.getJavaName() + "Id(result.getInt(\""
-                         + link.getSqlName() + "_ID\"));\n");
-        }
-        writer.write("\n");
-
-        for (Relation many : entity.getAllMANYRelations()) {
-            Entity link = many.getEntity();
-            String statementName = link.getJavaName().toLowerCase() + "s";
-            String linkTable = link.getSqlName();
-            if (many.isManyToMany()) {
-                linkTable = many.getNameOfLinkTable();
-            }
-
-            writer.write("                PreparedStatement " + statementName
-                         + " = connection.prepareStatement(\"select "
-                         + link.getSqlName() + "_ID from " + linkTable
-                         + " where " + entity.getSqlName() + "_ID=?\");\n");
-            writer.write("                " + statementName + ".setInt(1, "
-                         + variableName + ".getId().intValue());\n");
-
-            String resultName = statementName + "Result";
-            writer.write("                ResultSet " + resultName + " = "
-                         + statementName + ".executeQuery();\n");
-            writer.write("                " + resultName + ".beforeFirst();\n");
-            writer.write("                while (" + resultName
-                         + ".next()) {\n");
-            writer.write("                    " + variableName + ".add"
-                         + link.getJavaName() + "(" + resultName + ".getInt(\""
-                         + link.getSqlName() + "_ID\"));\n");
-            writer.write("                }\n\n");
-        }
-
-        writer.write("                return " + variableName + ";\n");
-        writer.write("            }\n");
-        writer.write("        } catch (SQLException e) {\n");
-        writer.write("            throw new DAOException(\"Unable to perform "
-                     + "query on database.\", e);\n");
-        writer.write("        }\n");
-        writer.write("        return null;\n");
-        writer.write("    }\n\n");
+        provideEntityReading(writer, entity, variableName);
+        writer.write("                return ");
+        writer.write(variableName);
+        writer.write(";\n");
+        writer.write(DAO_GET_END);
     }
 
     /**
@@ -383,87 +506,48 @@ public final class Java6Provider {
      * @param entity The entity of the DAO.
      * @throws IOException From the file writer.
      */
-    public static void provideDAOGetAllMethod(final FileWriterWrapper writer,
+    public static void provideDAOGetAllMethod(final CodeSink writer,
                                               final Entity entity)
                                               throws IOException {
-        writer.write("    public ArrayList<" + entity.getJavaName()
-                     + "> getAll" + entity.getJavaName()
-                     + "s() throws DAOException {\n");
-        writer.write("        try {\n");
-
-        writer.write("            PreparedStatement query = "
-                     + "connection.prepareStatement(\"select * from "
-                     + entity.getSqlName() + "\");\n\n");
-
-        writer.write("            ResultSet result = query.executeQuery();\n");
-        writer.write("            result.beforeFirst();\n");
-
-        writer.write("            ArrayList<" + entity.getJavaName()
-                     + "> list = new ArrayList<" + entity.getJavaName()
-                     + ">();\n\n");
-
-        writer.write("            while (result.next()) {\n");
-
+        DAO_GET_ALL_BEGIN.render(writer, entity.getJavaName(), entity.getSqlName());
         String variableName = entity.getJavaName().toLowerCase();
-        writer.write("                " + entity.getJavaName()
-                     + " " + variableName + " = new " + entity.getJavaName()
-                     + "();\n");
-        writer.write("                " + variableName
-                     + ".setId(result.getInt(\"" + entity.getSqlName()
-                     + "_ID\"));\n\n");
+        provideEntityReading(writer, entity, variableName);
+        DAO_GET_ALL_END.render(writer, variableName);
+    }
+
+    /**
+     * Generates the creation of an entity from the current row of a result
+     * set, with its fields and its relations.
+     * @param writer The file writer.
+     * @param entity The entity read.
+     * @param variableName The variable receiving the entity.
+     */
+    private static void provideEntityReading(final CodeSink writer,
+                                             final Entity entity,
+                                             final String variableName) {
+        READ_ENTITY.render(writer, entity.getJavaName(), variableName, entity.getSqlName());
 
         for (Field field : entity.getFields()) {
-            writer.write("                " + variableName + "."
-                         + field.getSetterName() + "(result."
-                         + mapResultSetGetter(field.getOriginalDataType())
-                         + "(\"" + field.getSqlName() + "\"));\n");
+            READ_FIELD.render(writer, variableName, field.getSetterName(),
+                              mapResultSetGetter(field.getOriginalDataType()), field.getSqlName());
         }
-        writer.write("\n");
+        writer.write('\n');
 
         for (Relation manyToOne : entity.getAllManyToOneRelations()) {
             Entity link = manyToOne.getEntity();
-            writer.write("                " + variableName + ".set"
-                         + link.getJavaName() + "Id(result.getInt(\""
-                         + link.getSqlName() + "_ID\"));\n");
+            READ_ONE_RELATION.render(writer, variableName, link.getJavaName(), link.getSqlName());
         }
-        writer.write("\n");
+        writer.write('\n');
 
         for (Relation many : entity.getAllMANYRelations()) {
             Entity link = many.getEntity();
-            String statementName = link.getJavaName().toLowerCase() + "s";
             String linkTable = link.getSqlName();
             if (many.isManyToMany()) {
                 linkTable = many.getNameOfLinkTable();
             }
-
-            writer.write("                PreparedStatement " + statementName
-                         + " = connection.prepareStatement(\"select "
-                         + link.getSqlName() + "_ID from " + linkTable
-                         + " where " + entity.getSqlName() + "_ID=?\");\n");
-            writer.write("                " + statementName + ".setInt(1, "
-                         + variableName + ".getId().intValue());\n");
-
-            String resultName = statementName + "Result";
-            writer.write("                ResultSet " + resultName + " = "
-                         + statementName + ".executeQuery();\n");
-            writer.write("                " + resultName + ".beforeFirst();\n");
-            writer.write("                while (" + resultName
-                         + ".next()) {\n");
-            writer.write("                    " + variableName + ".add"
-                         + link.getJavaName() + "(" + resultName + ".getInt(\""
-                         + link.getSqlName() + "_ID\"));\n");
-            writer.write("                }\n\n");
+            READ_MANY_RELATION.render(writer, link.getJavaName().toLowerCase(), link.getSqlName(), linkTable,
+                                      entity.getSqlName(), variableName, link.getJavaName());
         }
-
-        writer.write("                list.add(" + variableName + ");\n");
-        writer.write("            }\n\n");
-        writer.write("            return list;\n");
-
-        writer.write("        } catch (SQLException e) {\n");
-        writer.write("            throw new DAOException(\"Unable to perform "
-                     + "query on database.\", e);\n");
-        writer.write("        }\n");
-        writer.write("    }\n\n");
     }
 
     /**
@@ -472,38 +556,17 @@ public final class Java6Provider {
      * @param entity The entity of the DAO.
      * @throws IOException From the file writer.
      */
-    public static void provideDAODeleteMethod(final FileWriterWrapper writer,
+    public static void provideDAODeleteMethod(final CodeSink writer,
                                               final Entity entity)
                                               throws IOException {
-        writer.write("    public void delete(final Integer id) "
-                     + "throws DAOException {\n");
-        writer.write("        try {\n");
+        writer.write(DAO_DELETE_BEGIN);
 
         for (Relation relation : entity.getAllManyToManyRelations()) {
-            String variableName = relation.getEntity()
-                                           .getOriginalName().toLowerCase()
-                                  + "s";
-            writer.write("            PreparedStatement " + variableName
-                         + " = connection.prepareStatement(\"delete from "
-                         + relation.getNameOfLinkTable() + " where "
-                         + entity.getSqlName() + "_ID=?\");\n");
-            writer.write("            " + variableName + ".setInt(1, id);\n");
-            writer.write("            " + variableName
-                         + ".executeUpdate();\n\n");
+            DAO_DELETE_LINKS.render(writer, relation.getEntity().getOriginalName().toLowerCase(),
+                                    relation.getNameOfLinkTable(), entity.getSqlName());
         }
 
-        writer.write("            PreparedStatement query = "
-                     + "connection.prepareStatement(\"delete from "
-                     + entity.getSqlName() + " where " + entity.getSqlName()
-                     + "_ID=?\");\n");
-        writer.write("            query.setInt(1, id);\n");
-        writer.write("            query.executeUpdate();\n");
-
-        writer.write("        } catch (SQLException e) {\n");
-        writer.write("            throw new DAOException(\"Unable to "
-                     + "perform delete on database.\", e);\n");
-        writer.write("        }\n");
-        writer.write("    }\n\n");
+        DAO_DELETE_END.render(writer, entity.getSqlName());
     }
 
     /**
@@ -513,51 +576,34 @@ public final class Java6Provider {
      * @throws IOException From the file writer.
      */
     public static void provideDAOCheckNullityMethod(
-                                               final FileWriterWrapper writer,
+                                               final CodeSink writer,
                                                final Entity entity)
                                                throws IOException {
-        String variableName = entity.getJavaName().toLowerCase();
-        writer.write("    protected void checkNullity(final "
-                     + entity.getJavaName() + " " + variableName
-                     + ") throws NullityException {\n");
+        String className = entity.getJavaName();
+        String variableName = className.toLowerCase();
+        DAO_CHECK_NULLITY_BEGIN.render(writer, className, variableName);
 
         for (Field field : entity.getFields()) {
             if (field.isRequired()) {
-                writer.write("        if (" + variableName + "."
-                             + field.getGetterName() + "() == null) {\n");
-                writer.write("            throw new NullityException(\""
-                             + entity.getJavaName() + "\", \""
-                             + field.getJavaName() + "\");\n");
-                writer.write("        }\n\n");
+                CHECK_FIELD.render(writer, variableName, field.getGetterName(), className, field.getJavaName());
             }
         }
 
         for (Relation relation : entity.getRelations()) {
             Entity link = relation.getEntity();
             if (relation.getType() == RelationType.Type.ONE) {
-                writer.write("        if (" + variableName + ".get"
-                             + link.getJavaName() + "Id() == null) {\n");
-                writer.write("            throw new NullityException(\""
-                             + entity.getJavaName() + "\", \""
-                             + link.getJavaName() + "Id\");\n");
-                writer.write("        }\n\n");
-            } else {
-                if (!relation.isMaybeZero()) {
-                    writer.write("        if (" + variableName + ".get"
-                                 + link.getJavaName()
-                                 + "List().size() == 0) {\n");
-                    writer.write("            throw new NullityException(\""
-                                 + entity.getJavaName() + "\", \"");
-                    if (relation.isManyToMany()) {
-                        writer.write(relation.getNameOfLinkTable() + ":");
-                    }
-                    writer.write(link.getJavaName() + "Id\");\n");
-                    writer.write("        }\n\n");
+                CHECK_ONE_RELATION.render(writer, variableName, link.getJavaName(), className);
+            } else if (!relation.isMaybeZero()) {
+                if (relation.isManyToMany()) {
+                    CHECK_MANY_TO_MANY_RELATION.render(writer, variableName, link.getJavaName(), className,
+                                                       relation.getNameOfLinkTable());
+                } else {
+                    CHECK_ONE_TO_MANY_RELATION.render(writer, variableName, link.getJavaName(), className);
                 }
             }
         }
 
-        writer.write("    }\n\n");
+        writer.write(METHOD_END);
     }
 
     /**
@@ -566,31 +612,10 @@ public final class Java6Provider {
      * @param entity The entity of the DAO.
      * @throws IOException From the file writer.
      */
-    public static void provideDAONewIdMethod(final FileWriterWrapper writer,
+    public static void provideDAONewIdMethod(final CodeSink writer,
                                              final Entity entity)
                                              throws IOException {
-        writer.write("    protected Integer getNewId() throws DAOException "
-                     + "{\n");
-        writer.write("        try {\n");
-
-        writer.write("            PreparedStatement query = "
-                     + "connection.prepareStatement(\"select max("
-                     + entity.getSqlName() + "_ID) as NEWID from "
-                     + entity.getSqlName() + "\");\n");
-        writer.write("            ResultSet result = query.executeQuery();\n");
-
-        writer.write("            if (result.next()) {\n");
-        writer.write("                return new Integer("
-                     + "result.getInt(\"NEWID\") + 1);\n");
-        writer.write("            } else {\n");
-        writer.write("                return new Integer(0);\n");
-        writer.write("            }\n");
-
-        writer.write("         } catch (SQLException e) {\n");
-        writer.write("             throw new DAOException(\"Unable to "
-                     + "perform query on database.\", e);\n");
-        writer.write("         }\n");
-        writer.write("    }\n\n");
+        DAO_NEW_ID.render(writer, entity.getSqlName());
     }
 
     /**
@@ -599,168 +624,118 @@ public final class Java6Provider {
      * @param entity The entity of the DAO.
      * @throws IOException From the file writer.
      */
-    public static void provideDAOSaveMethod(final FileWriterWrapper writer,
+    public static void provideDAOSaveMethod(final CodeSink writer,
                                             final Entity entity)
                                             throws IOException {
+        String table = entity.getSqlName();
         String parameter = entity.getJavaName().toLowerCase();
-        writer.write("    public void save(final " + entity.getJavaName()
-                     + " " + parameter + ") throws DAOException, "
-                     + "NullityException {\n");
-        writer.write("        checkNullity(" + parameter + ");\n\n");
-
-        writer.write("        if (" + parameter + ".getId() == null) {\n");
-        writer.write("            " + parameter + ".setId(getNewId());\n\n");
-
-        writer.write("            try {\n");
-        writer.write("                PreparedStatement query = "
-                     + "connection.prepareStatement(\n");
-        writer.write("                    \"insert into " + entity.getSqlName()
-                     + "(" + entity.getSqlName() + "_ID");
+        DAO_SAVE_BEGIN.render(writer, entity.getJavaName(), parameter, table);
 
         int questionMarksNumber = 1;
         for (Field field : entity.getFields()) {
             questionMarksNumber++;
-            writer.write(", " + field.getSqlName());
+            writer.write(", ");
+            writer.write(field.getSqlName());
         }
         for (Relation toOne : entity.getAllManyToOneRelations()) {
             questionMarksNumber++;
-            writer.write(", " + toOne.getEntity().getSqlName() + "_ID");
+            writer.write(", ");
+            writer.write(toOne.getEntity().getSqlName());
+            writer.write("_ID");
         }
         writer.write(") values(?");
         for (int marksCount = 2; marksCount <= questionMarksNumber;
                                                                  marksCount++) {
             writer.write(", ?");
         }
-        writer.write(")\");\n");
+        INSERT_VALUES_END.render(writer, parameter);
 
-        writer.write("                query.setInt(1, " + parameter
-                     + ".getId().intValue());\n");
-        int parameterNumber = 2;
-        for (Field field : entity.getFields()) {
-            writer.write("                query."
-                         + mapStatementSetter(field.getOriginalDataType())
-                         + "(" + parameterNumber + ", ");
-            if (field.getOriginalDataType() == FieldType.Type.DATE) {
-                writer.write("new java.sql.Date(");
-            }
-            writer.write(parameter + "." + field.getGetterName() + "()");
-            if (field.getOriginalDataType() == FieldType.Type.DATE) {
-                writer.write(".getTime())");
-            }
-            writer.write(");\n");
-            parameterNumber++;
-        }
-        for (Relation toOne : entity.getAllManyToOneRelations()) {
-            writer.write("                query.setInt(" + parameterNumber
-                         + ", " + parameter + ".get"
-                         + toOne.getEntity().getJavaName() + "Id());\n");
-            parameterNumber++;
-        }
-        writer.write("\n");
-
-        writer.write("                query.executeUpdate();\n");
-        writer.write("            } catch (SQLException e) {\n");
-        writer.write("                throw new DAOException(\"Unable to "
-                     + "perform insert on database.\", e);\n");
-        writer.write("            }\n");
-        writer.write("        } else {\n");
-        writer.write("            try {\n");
-
-        writer.write("                PreparedStatement query = "
-                     + "connection.prepareStatement(\n");
-        writer.write("                                \"update "
-                     + entity.getSqlName() + " set ");
+        provideParameterSetters(writer, entity, parameter, 2);
+        writer.write('\n');
+
+        DAO_SAVE_UPDATE.render(writer, table);
         int updateParameter = 0;
         for (Field field : entity.getFields()) {
             if (updateParameter > 0) {
                 writer.write(", ");
             }
-            writer.write(field.getSqlName() + "=?");
+            writer.write(field.getSqlName());
+            writer.write("=?");
             updateParameter++;
         }
         for (Relation toOne : entity.getAllManyToOneRelations()) {
             if (updateParameter > 0) {
                 writer.write(", ");
             }
-            writer.write(toOne.getEntity().getSqlName() + "_ID=?");
+            writer.write(toOne.getEntity().getSqlName());
+            writer.write("_ID=?");
             updateParameter++;
         }
-        writer.write(" where " + entity.getSqlName() + "_ID=?\");\n");
-
-        int updateParameterNumber = 1;
-        for (Field field : entity.getFields()) {
-            writer.write("                query."
-                         + mapStatementSetter(field.getOriginalDataType())
-                         + "(" + updateParameterNumber + ", ");
-            if (field.getOriginalDataType() == FieldType.Type.DATE) {
-                writer.write("new java.sql.Date(");
-            }
-            writer.write(parameter + "." + field.getGetterName() + "()");
-            if (field.getOriginalDataType() == FieldType.Type.DATE) {
-                writer.write(".getTime())");
-            }
-            writer.write(");\n");
-            updateParameterNumber++;
-        }
-        for (Relation toOne : entity.getAllManyToOneRelations()) {
-            writer.write("                query.setInt("
-                         + updateParameterNumber + ", " + parameter + ".get"
-                         + toOne.getEntity().getJavaName() + "Id());\n");
-            updateParameterNumber++;
-        }
-        writer.write("                query.setInt(" + updateParameterNumber
-                     + ", " + parameter + ".getId().intValue());\n\n");
+        UPDATE_WHERE.render(writer, table);
 
-        writer.write("                query.executeUpdate();\n\n");
+        int updateParameterNumber = provideParameterSetters(writer, entity, parameter, 1);
+        UPDATE_ID.render(writer, Integer.toString(updateParameterNumber), parameter);
 
         for (Relation manyToMany : entity.getAllManyToManyRelations()) {
-            String variableName = "delete"
-                                  + manyToMany.getEntity().getJavaName();
-            writer.write("                PreparedStatement " + variableName
-                         + " = connection.prepareStatement(\"delete from "
-                         + manyToMany.getNameOfLinkTable() + " where "
-                         + entity.getSqlName() + "_ID=?\");\n");
-            writer.write("                " + variableName + ".setInt(1, "
-                         + parameter + ".getId());\n");
-            writer.write("                " + variableName
-                         + ".executeUpdate();\n\n");
+            DELETE_LINKS.render(writer, manyToMany.getEntity().getJavaName(), manyToMany.getNameOfLinkTable(),
+                                table, parameter);
         }
 
-        writer.write("            } catch (SQLException e) {\n");
-        writer.write("                throw new DAOException(\"Unable to "
-                     + "perform update on database.\", e);\n");
-        writer.write("            }\n");
-        writer.write("        }\n\n");
+        writer.write(DAO_SAVE_UPDATE_END);
 
-        ArrayList<Relation> manyToManyList = entity.getAllManyToManyRelations();
+        List<Relation> manyToManyList = entity.getAllManyToManyRelations();
         if (!manyToManyList.isEmpty()) {
             writer.write("        try {\n");
 
             for (Relation relation : manyToManyList) {
                 Entity link = relation.getEntity();
-                writer.write("            for (Integer id : "
-                             + parameter + ".get" + link.getJavaName()
-                             + "List()) {\n");
-                writer.write("                PreparedStatement link = "
-                             + "connection.prepareStatement(\n");
-                writer.write("                        \"insert into "
-                             + relation.getNameOfLinkTable() + "("
-                             + link.getSqlName() + "_ID, " + entity.getSqlName()
-                             + "_ID) values(?, ?)\");\n");
-                writer.write("                link.setInt(1, id);\n");
-                writer.write("                link.setInt(2, " + parameter
-                             + ".getId());\n");
-                writer.write("                link.executeUpdate();\n");
-                writer.write("            }\n\n");
+                INSERT_LINKS.render(writer, parameter, link.getJavaName(), relation.getNameOfLinkTable(),
+                                    link.getSqlName(), table);
             }
 
-            writer.write("        } catch (SQLException e) {\n");
-            writer.write("            throw new DAOException(\"Unable to "
-                         + "perform insert on database.\", e);\n");
-            writer.write("        }\n");
+            writer.write(INSERT_LINKS_END);
         }
 
-        writer.write("    }\n\n");
+        writer.write(METHOD_END);
+    }
+
+    /**
+     * Generates the setting of the parameters of an insert or an update:
+     * the fields, then the entities of the many-to-one relations.
+     * @param writer The file writer.
+     * @param entity The entity saved.
+     * @param parameter The variable holding the entity.
+     * @param firstNumber The number of the first parameter.
+     * @return The number following the last parameter.
+     */
+    private static int provideParameterSetters(final CodeSink writer,
+                                               final Entity entity,
+                                               final String parameter,
+                                               final int firstNumber) {
+        int parameterNumber = firstNumber;
+        for (Field field : entity.getFields()) {
+            Template setter = field.getOriginalDataType() == FieldType.Type.DATE ? SET_DATE_FIELD : SET_FIELD;
+            setter.render(writer, mapStatementSetter(field.getOriginalDataType()),
+                          Integer.toString(parameterNumber), parameter, field.getGetterName());
+            parameterNumber++;
+        }
+        for (Relation toOne : entity.getAllManyToOneRelations()) {
+            SET_ONE_RELATION.render(writer, Integer.toString(parameterNumber), parameter,
+                                    toOne.getEntity().getJavaName());
+            parameterNumber++;
+        }
+        return parameterNumber;
+    }
+
+    /**
+     * Gives a name starting with a lower case letter.
+     * @param name The name.
+     * @return The name, its first letter in lower case.
+     */
+    private static String lowerFirst(final String name) {
+        char[] workingName = name.toCharArray();
+        workingName[0] = Character.toLowerCase(workingName[0]);
+        return new String(workingName);
     }
 
     /**
@@ -13,6 +13,7 @@
    limitations under the License.
  */
 
+
 package org.jberger.pergen.codeproviders;
 
 import org.jberger.pergen.domain.FieldType;
@@ -21,17 +22,49 @@ import org.jberger.pergen.domain.Entity;
 import org.jberger.pergen.domain.Field;
 import org.jberger.pergen.domain.UnicityConstraint;
 import org.jberger.pergen.domain.Relation;
-import org.jberger.pergen.files.FileWriterWrapper;
+import org.jberger.pergen.files.CodeSink;
 import org.jberger.pergen.generators.SQLGenerator;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
 
 /**
- * Provides all the mysql5 code.
+ * Provides all the mysql5 code, written from templates compiled once.
  */
 public final class MySql5Provider {
 
+    private static final Template CREATE_TABLE_BEGIN = Template.compile(
+            "CREATE TABLE ${table} (\n"
+            + "  ${table}_ID INTEGER NOT NULL,\n", "table");
+
+    private static final Template COLUMN = Template.compile(
+            "  ${column} ${type},\n", "column", "type");
+
+    private static final Template SIZED_COLUMN = Template.compile(
+            "  ${column} ${type}(${length}),\n", "column", "type", "length");
+
+    private static final Template FOREIGN_KEY_COLUMN = Template.compile(
+            "  ${table}_ID INTEGER NOT NULL,\n", "table");
+
+    private static final Template CREATE_TABLE_END = Template.compile(
+            "  CONSTRAINT PK_${table} PRIMARY KEY (${table}_ID)\n"
+            + ");\n\n", "table");
+
+    private static final Template CREATE_JUNCTION_TABLE = Template.compile(
+            "CREATE TABLE ${table} (\n"
+            + "  ${table}_ID INTEGER NOT NULL auto_increment,\n"
+            + "  ${first}_ID INTEGER NOT NULL,\n"
+            + "  ${second}_ID INTEGER NOT NULL,\n"
+            + "  CONSTRAINT PK_${table} PRIMARY KEY (${table}_ID)\n"
+            + ");\n\n", "table", "first", "second");
+
+    private static final Template FOREIGN_KEY = Template.compile(
+            "ALTER TABLE ${table} ADD (CONSTRAINT FK_${table}_${referenced} FOREIGN KEY (${referenced}_ID)"
+            + " REFERENCES ${referenced}(${referenced}_ID));\n\n", "table", "referenced");
+
+    private static final Template UNIQUE_INDEX_BEGIN = Template.compile(
+            "CREATE UNIQUE INDEX INDEX_${table}${count} ON ${table}(", "table", "count");
+
     /**
      * To avoid instanciation.
      */
@@ -49,50 +82,69 @@ public final class MySql5Provider {
      *             From the file writer.
      */
     public static void provideStandardCreateTable(final Entity entity,
-                                                  final FileWriterWrapper writer) throws IOException {
-        writer.write("CREATE TABLE " + entity.getSqlName() + " (\n");
-        writer.write("  " + entity.getSqlName() + "_ID INTEGER NOT NULL,\n");
+                                                  final CodeSink writer) throws IOException {
+        CREATE_TABLE_BEGIN.render(writer, entity.getSqlName());
 
         for (Field field : entity.getFields()) {
-            writer.write("  " + field.getSqlName() + " " + originalTypeToDatabaseType(field.getOriginalDataType()));
-
+            String type = originalTypeToDatabaseType(field.getOriginalDataType());
             Integer length = field.getStringLength();
             if (length != null) {
-                writer.write("(" + length.toString() + ")");
+                SIZED_COLUMN.render(writer, field.getSqlName(), type, length.toString());
             } else if (field.getOriginalDataType() == FieldType.Type.STRING) {
-                writer.write("(255)");
+                SIZED_COLUMN.render(writer, field.getSqlName(), type, "255");
+            } else {
+                COLUMN.render(writer, field.getSqlName(), type);
             }
-
-            writer.write(",\n");
         }
 
         for (Relation relation : entity.getRelations()) {
             if (relation.getType() == RelationType.Type.ONE) {
-                writer.write("  " + relation.getEntity().getSqlName() + "_ID INTEGER NOT NULL,\n");
+                FOREIGN_KEY_COLUMN.render(writer, relation.getEntity().getSqlName());
             }
         }
 
-        writer.write("  CONSTRAINT PK_" + entity.getSqlName() + " PRIMARY " + "KEY ("
-                + entity.getSqlName() + "_ID)\n");
-        writer.write(");\n\n");
+        CREATE_TABLE_END.render(writer, entity.getSqlName());
     }
 
     public static String buildCreateStatementForJunctionTable(final String firstEntitySqlName,
                                                               final String secondEntitySqlName) {
         String tableName = SQLGenerator.buildJunctionTableName(firstEntitySqlName,
                 secondEntitySqlName);
-        return "CREATE TABLE " + tableName + " (\n" + "  " + tableName + "_ID INTEGER NOT NULL "
-                + "auto_increment,\n" + "  " + firstEntitySqlName + "_ID INTEGER NOT NULL,\n"
-                + "  " + secondEntitySqlName + "_ID INTEGER NOT NULL,\n" + "  CONSTRAINT PK_"
-                + tableName + " PRIMARY KEY (" + tableName + "_ID)\n" + ");\n\n";
+        return CREATE_JUNCTION_TABLE.render(tableName, firstEntitySqlName, secondEntitySqlName);
+    }
+
+    /**
+     * Generates the CREATE TABLE statement of the junction table of two
+     * entities.
+     *
+     * @param firstEntitySqlName The SQL name of the entity defining the relation.
+     * @param secondEntitySqlName The SQL name of the other entity.
+     * @param writer The file writer.
+     */
+    public static void provideCreateStatementForJunctionTable(final String firstEntitySqlName,
+                                                              final String secondEntitySqlName,
+                                                              final CodeSink writer) {
+        String tableName = SQLGenerator.buildJunctionTableName(firstEntitySqlName,
+                secondEntitySqlName);
+        CREATE_JUNCTION_TABLE.render(writer, tableName, firstEntitySqlName, secondEntitySqlName);
     }
 
     public static String buildForeignKeyStatement(String modifiedTableName,
                                                   String referencedTableName) {
-        return "ALTER TABLE " + modifiedTableName + " ADD (" + "CONSTRAINT FK_" + modifiedTableName
-                + "_" + referencedTableName + " FOREIGN KEY (" + referencedTableName
-                + "_ID) REFERENCES " + referencedTableName + "(" + referencedTableName
-                + "_ID));\n\n";
+        return FOREIGN_KEY.render(modifiedTableName, referencedTableName);
+    }
+
+    /**
+     * Generates the foreign key from a table to another.
+     *
+     * @param modifiedTableName The table holding the key.
+     * @param referencedTableName The table referenced.
+     * @param writer The file writer.
+     */
+    public static void provideForeignKeyStatement(String modifiedTableName,
+                                                  String referencedTableName,
+                                                  CodeSink writer) {
+        FOREIGN_KEY.render(writer, modifiedTableName, referencedTableName);
     }
 
     public static String buildForeignKeyStatementsForJunctionTable(String firstReferencedTableName,
@@ -104,6 +156,23 @@ public final class MySql5Provider {
                 buildForeignKeyStatement(junctionTableName, secondReferencedTableName);
     }
 
+    /**
+     * Generates the foreign keys of the junction table of two entities.
+     *
+     * @param firstReferencedTableName The SQL name of the entity defining the relation.
+     * @param secondReferencedTableName The SQL name of the other entity.
+     * @param writer The file writer.
+     */
+    public static void provideForeignKeyStatementsForJunctionTable(String firstReferencedTableName,
+                                                                   String secondReferencedTableName,
+                                                                   CodeSink writer) {
+        String junctionTableName = SQLGenerator.buildJunctionTableName(firstReferencedTableName,
+                secondReferencedTableName);
+
+        FOREIGN_KEY.render(writer, junctionTableName, firstReferencedTableName);
+        FOREIGN_KEY.render(writer, junctionTableName, secondReferencedTableName);
+    }
+
     /**
      * Generates the create unique index statement for a unicity constraint.
      *
@@ -122,10 +191,9 @@ public final class MySql5Provider {
      *             From the file writer.
      */
     public static void provideUnicityConstraint(final UnicityConstraint unicity,
-                                                final String entityName, final int unicityCount, final FileWriterWrapper writer)
+                                                final String entityName, final int unicityCount, final CodeSink writer)
             throws IOException {
-        writer.write("CREATE UNIQUE INDEX INDEX_" + entityName + unicityCount + " ON " + entityName
-                + "(");
+        UNIQUE_INDEX_BEGIN.render(writer, entityName, Integer.toString(unicityCount));
 
         Collection<Field> fields = unicity.getFields();
         Iterator<Field> iterator = fields.iterator();
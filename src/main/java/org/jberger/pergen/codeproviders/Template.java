@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.codeproviders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jberger.pergen.files.CodeSink;
+
+/**
+ * A fragment of generated code compiled once into its constant parts and
+ * the slots between them. Rendering copies the constant parts and the slot
+ * values straight into the sink, without building intermediate strings.
+ * A slot is written ${name} in the text of the template.
+ */
+public final class Template {
+
+    private static final String SLOT_START = "${";
+    private static final char SLOT_END = '}';
+
+    /**
+     * The constant parts, one more than the slots: the text before the
+     * first slot, between two slots and after the last slot.
+     */
+    private final char[][] constants;
+
+    /**
+     * For every slot of the text, the index of its value.
+     */
+    private final int[] slots;
+
+    private final int slotNameCount;
+    private final int constantLength;
+
+    private Template(char[][] constants, int[] slots, int slotNameCount) {
+        this.constants = constants;
+        this.slots = slots;
+        this.slotNameCount = slotNameCount;
+        int length = 0;
+        for (char[] constant : constants) {
+            length += constant.length;
+        }
+        this.constantLength = length;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param text The text of the template.
+     * @param slotNames The names of the slots, in the order their values are
+     *                  given to render. A slot may appear many times in the
+     *                  text; every name must appear at least once.
+     * @return The compiled template.
+     */
+    public static Template compile(String text, String... slotNames) {
+        List<String> names = Arrays.asList(slotNames);
+        boolean[] used = new boolean[slotNames.length];
+        ArrayList<char[]> constants = new ArrayList<char[]>();
+        ArrayList<Integer> slots = new ArrayList<Integer>();
+
+        int start = 0;
+        int open = text.indexOf(SLOT_START);
+        while (open >= 0) {
+            int close = text.indexOf(SLOT_END, open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated slot in the template: " + text);
+            }
+            String name = text.substring(open + SLOT_START.length(), close);
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown slot " + name + " in the template: " + text);
+            }
+            used[slot] = true;
+            constants.add(text.substring(start, open).toCharArray());
+            slots.add(slot);
+            start = close + 1;
+            open = text.indexOf(SLOT_START, start);
+        }
+        constants.add(text.substring(start).toCharArray());
+
+        for (int slot = 0; slot < used.length; slot++) {
+            if (!used[slot]) {
+                throw new IllegalArgumentException("The slot " + slotNames[slot]
+                                                   + " is not in the template: " + text);
+            }
+        }
+
+        int[] slotIndexes = new int[slots.size()];
+        for (int index = 0; index < slotIndexes.length; index++) {
+            slotIndexes[index] = slots.get(index);
+        }
+        return new Template(constants.toArray(new char[constants.size()][]), slotIndexes, slotNames.length);
+    }
+
+    /**
+     * Writes the template in a sink.
+     *
+     * @param sink The sink.
+     * @param values The values of the slots, in the order of their names.
+     */
+    public void render(CodeSink sink, String... values) {
+        checkValues(values);
+        sink.write(constants[0]);
+        for (int index = 0; index < slots.length; index++) {
+            sink.write(values[slots[index]]);
+            sink.write(constants[index + 1]);
+        }
+    }
+
+    /**
+     * Renders the template in a string of the exact size.
+     *
+     * @param values The values of the slots, in the order of their names.
+     * @return The text.
+     */
+    public String render(String... values) {
+        checkValues(values);
+        int length = constantLength;
+        for (int slot : slots) {
+            length += values[slot].length();
+        }
+
+        StringBuilder text = new StringBuilder(length);
+        text.append(constants[0]);
+        for (int index = 0; index < slots.length; index++) {
+            text.append(values[slots[index]]);
+            text.append(constants[index + 1]);
+        }
+        return text.toString();
+    }
+
+    private void checkValues(String[] values) {
+        if (values.length != slotNameCount) {
+            throw new IllegalArgumentException("The template has " + slotNameCount + " slots, "
+                                               + values.length + " values given.");
+        }
+    }
+}
@@ -15,27 +15,44 @@
 
 package org.jberger.pergen.domain;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import org.jberger.pergen.exceptions.AmbiguousEntityNameException;
+import org.jberger.pergen.transformers.IdentifierTransformer;
 
 public class DataLayerSpecifications {
 
     private HashMap<String, Entity> entities;
 
+    /**
+     * The entities by Java name, which is enough to find the ambiguous
+     * names: two entities with the same SQL name, their original name in
+     * upper case, always have the same Java name.
+     */
+    private HashMap<String, Entity> entitiesByJavaName;
+    private Entity[] frozenEntities;
+    private List<Entity> entityView;
+
     public DataLayerSpecifications() {
         entities = new HashMap<String, Entity>();
+        entitiesByJavaName = new HashMap<String, Entity>();
     }
 
     public final void addEntity(final Entity entity) throws AmbiguousEntityNameException {
-        for (Entity possibleDuplicate : entities.values()) {
-            if (possibleDuplicate.getJavaName().equals(entity.getJavaName())) {
-                throw new AmbiguousEntityNameException(entity.getOriginalName(),
-		        possibleDuplicate.getOriginalName(), entity.getJavaName());
-            }
+        if (frozenEntities != null) {
+            throw new IllegalStateException("The specifications are frozen.");
+        }
+        Entity possibleDuplicate = entitiesByJavaName.get(entity.getJavaName());
+        if (possibleDuplicate != null) {
+            throw new AmbiguousEntityNameException(entity.getOriginalName(),
+                    possibleDuplicate.getOriginalName(), entity.getJavaName());
         }
-        
+
         entities.put(entity.getOriginalName(), entity);
+        entitiesByJavaName.put(entity.getJavaName(), entity);
     }
 
     public final boolean isEntityDefined(final String entityName) {
@@ -46,7 +63,44 @@ public class DataLayerSpecifications {
         return entities.get(entityName);
     }
 
+    public final Entity getEntityByJavaName(final String javaName) {
+        return entitiesByJavaName.get(javaName);
+    }
+
+    public final Entity getEntityBySqlName(final String sqlName) {
+        Entity entity = entitiesByJavaName.get(IdentifierTransformer.snakeCaseIdentifierToPascalCase(sqlName));
+        return entity != null && entity.getSqlName().equals(sqlName) ? entity : null;
+    }
+
     public final Collection<Entity> getEntities() {
+        if (entityView != null) {
+            return entityView;
+        }
         return entities.values();
     }
+
+    /**
+     * Freezes the specifications once the relations are built. The order
+     * the entities are iterated in is fixed, and every entity precomputes
+     * its relation views.
+     */
+    public final void freeze() {
+        if (frozenEntities != null) {
+            return;
+        }
+        Entity[] frozen = entities.values().toArray(new Entity[entities.size()]);
+        for (Entity entity : frozen) {
+            entity.freeze();
+        }
+        frozenEntities = frozen;
+        entityView = Collections.unmodifiableList(Arrays.asList(frozen));
+    }
+
+    public final boolean isFrozen() {
+        return frozenEntities != null;
+    }
+
+    public final int getEntityCount() {
+        return entities.size();
+    }
 }
@@ -16,8 +16,11 @@
 package org.jberger.pergen.domain;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import org.jberger.pergen.exceptions.AmbiguousFieldNameException;
 import org.jberger.pergen.transformers.IdentifierTransformer;
 
@@ -28,11 +31,24 @@ public class Entity {
     private String javaName;
     private ArrayList<UnicityConstraint> unicityList;
     private HashMap<String, Field> fields;
+
+    private HashMap<String, Field> fieldsByJavaName;
     private ArrayList<Relation> relations;
+    private int line;
+    private int column;
+    private boolean frozen;
+    private List<Relation> relationView;
+    private List<UnicityConstraint> unicityView;
+    private List<Field> fieldView;
+    private List<Relation> manyToManyRelations;
+    private List<Relation> manyToOneRelations;
+    private List<Relation> oneToManyRelations;
+    private List<Relation> manyRelations;
 
     public Entity(final String name) {
         originalName = name;
         fields = new HashMap<String, Field>();
+        fieldsByJavaName = new HashMap<String, Field>();
         unicityList = new ArrayList<UnicityConstraint>();
         relations = new ArrayList<Relation>();
         
@@ -44,9 +60,42 @@ public class Entity {
         return originalName;
     }
 
+    public final boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Set the place where the name of the entity is written.
+     * @param nameLine The line starting at 1.
+     * @param nameColumn The column starting at 1.
+     */
+    public final void setPosition(final int nameLine, final int nameColumn) {
+        line = nameLine;
+        column = nameColumn;
+    }
+
+    /**
+     * Get the line of the name of the entity.
+     * @return The line, 0 when unknown.
+     */
+    public final int getLine() {
+        return line;
+    }
+
+    /**
+     * Get the column of the name of the entity.
+     * @return The column, 0 when unknown.
+     */
+    public final int getColumn() {
+        return column;
+    }
+
     public final void addField(final Field field) throws AmbiguousFieldNameException {
+        checkNotFrozen();
         validateAmbiguousFieldName(field);
         fields.put(field.getOriginalName(), field);
+        fieldsByJavaName.put(field.getJavaName(), field);
+        fieldView = null;
     }
 
     public final boolean isFieldDefined(final String fieldName) {
@@ -57,12 +106,31 @@ public class Entity {
         return fields.get(originalFieldName);
     }
 
+    public final Field getFieldByJavaName(final String javaName) {
+        return fieldsByJavaName.get(javaName);
+    }
+
+    /**
+     * The SQL name of a field is its original name in upper case, so its
+     * camel case form is the Java name of the field.
+     */
+    public final Field getFieldBySqlName(final String sqlName) {
+        Field field = fieldsByJavaName.get(IdentifierTransformer.snakeCaseIdentifierToCamelCase(sqlName));
+        if (field == null || !field.getSqlName().equals(sqlName)) {
+            return null;
+        }
+        return field;
+    }
+
     public final void addUnicityConstraint(final UnicityConstraint constraint) {
+        checkNotFrozen();
         unicityList.add(constraint);
     }
 
     public final void addRelation(final Relation relation) {
+        checkNotFrozen();
         relations.add(relation);
+        clearRelationViews();
     }
 
     public String getSqlName() {
@@ -70,15 +138,19 @@ public class Entity {
     }
     
     public final Collection<Field> getFields() {
-        return fields.values();
+        if (fieldView == null) {
+            fieldView = Collections.unmodifiableList(
+                    Arrays.asList(fields.values().toArray(new Field[fields.size()])));
+        }
+        return fieldView;
     }
 
     public final Collection<Relation> getRelations() {
-        return relations;
+        return frozen ? relationView : relations;
     }
 
     public final Collection<UnicityConstraint> getUnicityConstraints() {
-        return unicityList;
+        return frozen ? unicityView : unicityList;
     }
 
     public final String getJavaName() {
@@ -103,54 +175,108 @@ public class Entity {
         return false;
     }
 
-    public final ArrayList<Relation> getAllManyToManyRelations() {
-        ArrayList<Relation> returnList = new ArrayList<Relation>();
-        for (Relation relation : relations) {
-            if (relation.isManyToMany()) {
-                returnList.add(relation);
-            }
+    public final List<Relation> getAllManyToManyRelations() {
+        if (manyToManyRelations == null) {
+            buildRelationViews();
+        }
+        return manyToManyRelations;
+    }
+
+    public final List<Relation> getAllManyToOneRelations() {
+        if (manyToOneRelations == null) {
+            buildRelationViews();
+        }
+        return manyToOneRelations;
+    }
+
+    public final List<Relation> getAllOneToManyRelations() {
+        if (oneToManyRelations == null) {
+            buildRelationViews();
+        }
+        return oneToManyRelations;
+    }
+
+    public final List<Relation> getAllMANYRelations() {
+        if (manyRelations == null) {
+            buildRelationViews();
         }
-        return returnList;
+        return manyRelations;
     }
 
-    public final ArrayList<Relation> getAllManyToOneRelations() {
-        ArrayList<Relation> returnList = new ArrayList<Relation>();
+    /**
+     * Freezes the entity and its fields : the views of the relations and of
+     * the unicity constraints are computed once and the entity can no
+     * longer be modified.
+     */
+    final void freeze() {
+        if (frozen) {
+            return;
+        }
+        for (Field field : getFields()) {
+            field.freeze();
+        }
+        buildRelationViews();
+        relationView = Collections.unmodifiableList(relations);
+        unicityView = Collections.unmodifiableList(unicityList);
+        frozen = true;
+    }
+
+    private void buildRelationViews() {
+        ArrayList<Relation> manyToMany = new ArrayList<Relation>();
+        ArrayList<Relation> manyToOne = new ArrayList<Relation>();
+        ArrayList<Relation> oneToMany = new ArrayList<Relation>();
+        ArrayList<Relation> many = new ArrayList<Relation>();
         for (Relation relation : relations) {
             if (relation.getType() == RelationType.Type.ONE) {
-                returnList.add(relation);
+                manyToOne.add(relation);
+            } else {
+                many.add(relation);
+                if (relation.isManyToMany()) {
+                    manyToMany.add(relation);
+                } else {
+                    oneToMany.add(relation);
+                }
             }
         }
-        return returnList;
+        manyToManyRelations = toView(manyToMany);
+        manyToOneRelations = toView(manyToOne);
+        oneToManyRelations = toView(oneToMany);
+        manyRelations = toView(many);
     }
 
-    public final ArrayList<Relation> getAllOneToManyRelations() {
-        ArrayList<Relation> returnList = new ArrayList<Relation>();
-        for (Relation relation : relations) {
-            if (!relation.isManyToMany()
-                && relation.getType() == RelationType.Type.MANY) {
-                returnList.add(relation);
-            }
+    private static List<Relation> toView(final ArrayList<Relation> list) {
+        if (list.isEmpty()) {
+            return Collections.emptyList();
         }
-        return returnList;
+        return Collections.unmodifiableList(
+                Arrays.asList(list.toArray(new Relation[list.size()])));
     }
 
-    public final ArrayList<Relation> getAllMANYRelations() {
-        ArrayList<Relation> returnList = new ArrayList<Relation>();
-        for (Relation relation : relations) {
-            if (relation.getType() == RelationType.Type.MANY) {
-                returnList.add(relation);
-            }
+    private void clearRelationViews() {
+        manyToManyRelations = null;
+        manyToOneRelations = null;
+        oneToManyRelations = null;
+        manyRelations = null;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("The entity " + originalName
+                                            + " is frozen.");
         }
-        return returnList;
     }
 
+    /**
+     * Two fields are ambiguous when they have the same Java name. Their SQL
+     * names are then equal as well, and two fields with the same SQL name
+     * always have the same Java name.
+     */
     private void validateAmbiguousFieldName(final Field field) throws AmbiguousFieldNameException {
-        for (Field possibleDuplicate : fields.values()) {
-            if (possibleDuplicate.getJavaName().equals(field.getJavaName())) {
-                throw new AmbiguousFieldNameException(field.getOriginalName(),
-                                            possibleDuplicate.getOriginalName(),
-                                            originalName, field.getJavaName());
-            }
+        Field possibleDuplicate = fieldsByJavaName.get(field.getJavaName());
+        if (possibleDuplicate != null) {
+            throw new AmbiguousFieldNameException(field.getOriginalName(),
+                                        possibleDuplicate.getOriginalName(),
+                                        originalName, field.getJavaName());
         }
     }
 }
\ No newline at end of file
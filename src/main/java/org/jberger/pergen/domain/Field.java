@@ -20,6 +20,12 @@ import org.jberger.pergen.transformers.IdentifierTransformer;
 public class Field {
 
     private String originalName;
+
+    /**
+     * The names derived from the original name, computed the first time
+     * they are asked. A name may be computed twice by concurrent threads,
+     * always to the same value.
+     */
     private String sqlName;
     private String javaName;
     private String setterName;
@@ -27,6 +33,7 @@ public class Field {
     private FieldType.Type originalDataType;
     private boolean isRequired;
     private Integer stringLength = null;
+    private boolean frozen;
 
     public Field(final String fieldName,
                              final FieldType.Type dataType,
@@ -34,7 +41,6 @@ public class Field {
         originalName = fieldName;
         originalDataType = dataType;
         isRequired = fieldRequired;
-        generateCodeNames();
     }
 
     public final String getOriginalName() {
@@ -54,30 +60,54 @@ public class Field {
     }
 
     public final void setStringLength(final Integer length) {
+        if (frozen) {
+            throw new IllegalStateException("The field " + originalName
+                                            + " is frozen.");
+        }
         stringLength = length;
     }
 
+    /**
+     * Freezes the field with its entity, its length can no longer be
+     * modified.
+     */
+    final void freeze() {
+        frozen = true;
+    }
+
     public String getSqlName() {
-        return sqlName;
+        String name = sqlName;
+        if (name == null) {
+            name = IdentifierTransformer.snakeCaseIdentifierToSqlStandardCase(originalName);
+            sqlName = name;
+        }
+        return name;
     }
 
     public final String getJavaName() {
-        return javaName;
+        String name = javaName;
+        if (name == null) {
+            name = IdentifierTransformer.snakeCaseIdentifierToCamelCase(originalName);
+            javaName = name;
+        }
+        return name;
     }
 
     public final String getGetterName() {
-        return getterName;
+        String name = getterName;
+        if (name == null) {
+            name = "get" + IdentifierTransformer.snakeCaseIdentifierToPascalCase(originalName);
+            getterName = name;
+        }
+        return name;
     }
 
     public final String getSetterName() {
-        return setterName;
-    }
-
-    private void generateCodeNames() {
-        String methodSuffix = IdentifierTransformer.snakeCaseIdentifierToPascalCase(originalName);
-        sqlName = IdentifierTransformer.snakeCaseIdentifierToSqlStandardCase(originalName);
-        javaName = IdentifierTransformer.snakeCaseIdentifierToCamelCase(originalName);
-        getterName = "get" + methodSuffix;
-        setterName = "set" + methodSuffix;
+        String name = setterName;
+        if (name == null) {
+            name = "set" + IdentifierTransformer.snakeCaseIdentifierToPascalCase(originalName);
+            setterName = name;
+        }
+        return name;
     }
 }
\ No newline at end of file
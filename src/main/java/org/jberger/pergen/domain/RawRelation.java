@@ -15,6 +15,8 @@
 
 package org.jberger.pergen.domain;
 
+import java.nio.file.Path;
+
 /**
  * Contains the raw information about a relation between two entities.
  */
@@ -37,6 +39,13 @@ public class RawRelation {
      */
     private RelationType.Type type;
 
+    /**
+     * Where the "to" entity is written, kept to report an error.
+     */
+    private Path file;
+    private int line;
+    private int column;
+
     /**
      * Get the "from" entity.
      * @return The "from" entity.
@@ -100,4 +109,40 @@ public class RawRelation {
     public final void setType(final RelationType.Type relationType) {
         type = relationType;
     }
+
+    /**
+     * Set the place where the "to" entity is written.
+     * @param inputFile The file, null for an input file given as a reader.
+     * @param toLine The line starting at 1.
+     * @param toColumn The column starting at 1.
+     */
+    public final void setPosition(final Path inputFile, final int toLine, final int toColumn) {
+        file = inputFile;
+        line = toLine;
+        column = toColumn;
+    }
+
+    /**
+     * Get the file where the relation is written.
+     * @return The file, null when unknown or read from a reader.
+     */
+    public final Path getFile() {
+        return file;
+    }
+
+    /**
+     * Get the line of the "to" entity.
+     * @return The line, 0 when unknown.
+     */
+    public final int getLine() {
+        return line;
+    }
+
+    /**
+     * Get the column of the "to" entity.
+     * @return The column, 0 when unknown.
+     */
+    public final int getColumn() {
+        return column;
+    }
 }
@@ -15,10 +15,7 @@
 package org.jberger.pergen.domain;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import org.jberger.pergen.exceptions.BidirectionalRelationException;
-import org.jberger.pergen.exceptions.EntityNotDefinedException;
-import org.jberger.pergen.exceptions.MultipleRelationException;
+import org.jberger.pergen.exceptions.ErrorCollector;
 import org.jberger.pergen.exceptions.NotSupportedException;
 import org.jberger.pergen.generators.SQLGenerator;
 
@@ -35,111 +32,69 @@ public class RelationAnalyzer {
 
     /**
      * Performs the analysis which consist of validating and building the real
-     * relations in the DataLayerSpecifications class.
+     * relations in the DataLayerSpecifications class. The specifications
+     * are frozen once the relations are built.
      *
      * @param infos The global informations about the entities.
      */
     public void analyse(final DataLayerSpecifications infos) {
-        entityExistenceVerification(infos);
-        multipleRelationVerification();
-        buildRelations(infos);
+        analyse(infos, null);
     }
 
     /**
-     * Verify the existance of every entities involved.
+     * Performs the analysis, collecting every error instead of raising the
+     * first one.
      *
      * @param infos The global informations about the entities.
+     * @param errors Receives the errors, null to raise the first one.
      */
-    private void entityExistenceVerification(
-            final DataLayerSpecifications infos) {
+    public void analyse(final DataLayerSpecifications infos, final ErrorCollector errors) {
+        RelationPairing pairing = new RelationPairing();
         for (RawRelation relation : relations) {
-            if (!infos.isEntityDefined(relation.getToEntity())) {
-                throw new EntityNotDefinedException(relation.getFromEntity(),
-                        relation.getToEntity());
-            }
+            pairing.add(relation);
         }
+        pairing.build(infos, errors);
+        infos.freeze();
     }
 
     /**
-     * Verify if an entity defines multiple relations to the same entity.
-     */
-    private void multipleRelationVerification() {
-        HashMap<String, ArrayList<String>> table
-                = new HashMap<String, ArrayList<String>>();
-        for (RawRelation relation : relations) {
-            ArrayList<String> relationList
-                    = table.get(relation.getFromEntity());
-            if (relationList == null) {
-                relationList = new ArrayList<String>();
-                table.put(relation.getFromEntity(), relationList);
-            }
-
-            if (relationList.contains(relation.getToEntity())) {
-                throw new MultipleRelationException(relation.getFromEntity(),
-                        relation.getToEntity());
-            } else {
-                relationList.add(relation.getToEntity());
-            }
-        }
-    }
-
-    /**
-     * Builds the relations in the entities of the global informations and
-     * validate that every relation is bidirectional.
+     * Builds the relations of two entities from a pair of raw relations
+     * pointing to each other.
      *
      * @param infos The global informations about the entities.
+     * @param first The raw relation defined first.
+     * @param second The raw relation going the other way.
      */
-    private void buildRelations(final DataLayerSpecifications infos) {
-        ArrayList<RawRelation> copy
-                = (ArrayList<RawRelation>) relations.clone();
-        while (!copy.isEmpty()) {
-            RawRelation first = copy.get(0);
-            copy.remove(first);
-            RawRelation second = null;
-
-            for (RawRelation thisRelation : copy) {
-                if (thisRelation.getFromEntity().equals(first.getToEntity())
-                        && thisRelation.getToEntity().equals(first.getFromEntity())) {
-                    second = thisRelation;
-                    break;
-                }
-            }
-
-            if (second == null) {
-                throw new BidirectionalRelationException(first.getFromEntity(),
-                        first.getToEntity());
-            }
-
-            copy.remove(second);
-
-            Entity firstEntity = infos.getEntity(first.getFromEntity());
-            Entity secondEntity = infos.getEntity(second.getFromEntity());
-
-            if (first.getType() == RelationType.Type.ONE
-                    && second.getType() == RelationType.Type.ONE) {
-                throw new NotSupportedException("One to one relations "
-                        + "are not supported.");
-            }
+    static void buildRelation(final DataLayerSpecifications infos,
+                              final RawRelation first,
+                              final RawRelation second) {
+        Entity firstEntity = infos.getEntity(first.getFromEntity());
+        Entity secondEntity = infos.getEntity(second.getFromEntity());
+
+        if (first.getType() == RelationType.Type.ONE
+                && second.getType() == RelationType.Type.ONE) {
+            throw new NotSupportedException("One to one relations "
+                    + "are not supported.");
+        }
 
-            boolean manyToMany = first.getType() == RelationType.Type.MANY
-                    && second.getType() == RelationType.Type.MANY;
-            String linkName = null;
-            if (manyToMany) {
-                linkName = SQLGenerator.buildJunctionTableName(
-                        firstEntity.getSqlName(),
-                        secondEntity.getSqlName());
-            }
+        boolean manyToMany = first.getType() == RelationType.Type.MANY
+                && second.getType() == RelationType.Type.MANY;
+        String linkName = null;
+        if (manyToMany) {
+            linkName = SQLGenerator.buildJunctionTableName(
+                    firstEntity.getSqlName(),
+                    secondEntity.getSqlName());
+        }
 
-            Relation firstRelation = new Relation(secondEntity, first.getType(),
-                    first.isMayBeZero(),
-                    manyToMany, linkName);
-            firstEntity.addRelation(firstRelation);
+        Relation firstRelation = new Relation(secondEntity, first.getType(),
+                first.isMayBeZero(),
+                manyToMany, linkName);
+        firstEntity.addRelation(firstRelation);
 
-            Relation secondRelation = new Relation(firstEntity,
-                    second.getType(),
-                    second.isMayBeZero(),
-                    manyToMany, linkName);
-            secondEntity.addRelation(secondRelation);
-        }
+        Relation secondRelation = new Relation(firstEntity,
+                second.getType(),
+                second.isMayBeZero(),
+                manyToMany, linkName);
+        secondEntity.addRelation(secondRelation);
     }
 }
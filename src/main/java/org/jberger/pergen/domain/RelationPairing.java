@@ -0,0 +1,176 @@
+/* Copyright 2007 Jacques Berger
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ */
+package org.jberger.pergen.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.jberger.pergen.exceptions.BidirectionalRelationException;
+import org.jberger.pergen.exceptions.EntityNotDefinedException;
+import org.jberger.pergen.exceptions.ErrorCollector;
+import org.jberger.pergen.exceptions.MultipleRelationException;
+
+/**
+ * Pairs the raw relations with their reverse relation as they are added.
+ * The relations are indexed by their "from" and "to" entities, so every
+ * verification is done in linear time.
+ */
+public class RelationPairing {
+
+    /**
+     * All the raw relations, in the order they were added.
+     */
+    private ArrayList<RawRelation> relations = new ArrayList<RawRelation>();
+
+    /**
+     * Marks a relation defined again between the same entities.
+     */
+    private static final int MULTIPLE = -2;
+
+    /**
+     * For every raw relation, the index of its reverse relation when the
+     * reverse relation was added later, MULTIPLE for a relation defined
+     * again, -1 otherwise.
+     */
+    private ArrayList<Integer> reverseIndexes = new ArrayList<Integer>();
+
+    /**
+     * The index of every relation, by "from" and "to" entities.
+     */
+    private HashMap<Key, Integer> relationIndexes = new HashMap<Key, Integer>();
+
+    /**
+     * The relations still waiting for their reverse relation.
+     */
+    private HashMap<Key, Integer> unpairedRelations = new HashMap<Key, Integer>();
+
+    /**
+     * The relations defined again between the same entities, in the order
+     * they were added.
+     */
+    private ArrayList<RawRelation> multipleRelations = new ArrayList<RawRelation>();
+
+    /**
+     * Adds a relation, pairing it with its reverse relation if it was
+     * already added.
+     *
+     * @param relation The raw relation.
+     */
+    public void add(final RawRelation relation) {
+        int index = relations.size();
+        relations.add(relation);
+        reverseIndexes.add(-1);
+
+        Key key = new Key(relation.getFromEntity(), relation.getToEntity());
+        if (relationIndexes.putIfAbsent(key, index) != null) {
+            multipleRelations.add(relation);
+            reverseIndexes.set(index, MULTIPLE);
+            return;
+        }
+
+        Integer reverseIndex = unpairedRelations.remove(
+                new Key(relation.getToEntity(), relation.getFromEntity()));
+        if (reverseIndex == null) {
+            unpairedRelations.put(key, index);
+        } else {
+            reverseIndexes.set(reverseIndex, index);
+        }
+    }
+
+    /**
+     * Validates the relations and builds them in the entities. The
+     * verifications are done in this order: existence of the entities,
+     * multiple relations between two entities, then bidirectionality.
+     *
+     * @param infos The global informations about the entities.
+     */
+    public void build(final DataLayerSpecifications infos) {
+        build(infos, null);
+    }
+
+    /**
+     * Validates the relations and builds them in the entities, the errors
+     * being raised or collected.
+     *
+     * @param infos The global informations about the entities.
+     * @param errors Receives every error found, the relations without error
+     *               being built; null to raise the first error.
+     */
+    public void build(final DataLayerSpecifications infos, final ErrorCollector errors) {
+        for (RawRelation relation : relations) {
+            if (!infos.isEntityDefined(relation.getToEntity())) {
+                report(errors, relation, new EntityNotDefinedException(relation.getFromEntity(),
+                        relation.getToEntity()));
+            }
+        }
+
+        for (RawRelation relation : multipleRelations) {
+            report(errors, relation, new MultipleRelationException(relation.getFromEntity(),
+                    relation.getToEntity()));
+        }
+
+        for (int index = 0; index < relations.size(); index++) {
+            RawRelation relation = relations.get(index);
+            int reverseIndex = reverseIndexes.get(index);
+            if (reverseIndex >= 0) {
+                try {
+                    RelationAnalyzer.buildRelation(infos, relation, relations.get(reverseIndex));
+                } catch (RuntimeException e) {
+                    report(errors, relation, e);
+                }
+            } else if (reverseIndex != MULTIPLE && unpairedRelations.containsKey(
+                    new Key(relation.getFromEntity(), relation.getToEntity()))
+                    && infos.isEntityDefined(relation.getToEntity())) {
+                report(errors, relation, new BidirectionalRelationException(relation.getFromEntity(),
+                        relation.getToEntity()));
+            }
+        }
+    }
+
+    private static void report(final ErrorCollector errors, final RawRelation relation,
+                               final RuntimeException error) {
+        if (errors == null) {
+            throw error;
+        }
+        errors.add(error, relation.getFile(), relation.getLine(), relation.getColumn());
+    }
+
+    /**
+     * Identifies the relation from an entity to another.
+     */
+    private static final class Key {
+
+        private final String fromEntity;
+        private final String toEntity;
+
+        Key(final String from, final String to) {
+            fromEntity = from;
+            toEntity = to;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return fromEntity.equals(key.fromEntity) && toEntity.equals(key.toEntity);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fromEntity.hashCode() + toEntity.hashCode();
+        }
+    }
+}
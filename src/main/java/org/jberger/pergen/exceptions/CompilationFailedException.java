@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.exceptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jberger.pergen.generators.CompilationError;
+
+/**
+ * Raised when the generated code does not compile.
+ */
+public class CompilationFailedException extends RuntimeException {
+
+    /**
+     * For serialization.
+     */
+    static final long serialVersionUID = 201210220001L;
+
+    private final ArrayList<CompilationError> errors;
+
+    /**
+     * Creates a new instance.
+     * @param errors The errors of the compiler, in the order it reported
+     *               them.
+     */
+    public CompilationFailedException(final List<CompilationError> errors) {
+        super(describe(errors));
+        this.errors = new ArrayList<CompilationError>(errors);
+    }
+
+    public List<CompilationError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    private static String describe(final List<CompilationError> errors) {
+        StringBuilder message = new StringBuilder("The generated code does not compile:");
+        for (CompilationError error : errors) {
+            message.append("\n  ").append(error);
+        }
+        return message.toString();
+    }
+}
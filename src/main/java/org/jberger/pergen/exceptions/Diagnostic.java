@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.exceptions;
+
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jberger.pergen.generated.lexer.LexerException;
+import org.jberger.pergen.generated.parser.ParserException;
+
+/**
+ * A problem found while generating the code of a schema. The position is
+ * known for the syntax errors, and for the errors in the specifications
+ * when they are checked.
+ */
+public final class Diagnostic {
+
+    /**
+     * The position SableCC puts at the start of its messages.
+     */
+    private static final Pattern POSITION = Pattern.compile("^\\[(\\d+),(\\d+)\\] *");
+
+    private final String message;
+    private final Path file;
+    private final int line;
+    private final int column;
+    private final Exception cause;
+
+    /**
+     * Creates a new instance.
+     * @param message The description of the problem, without its position.
+     * @param file The file of the problem, null when unknown.
+     * @param line The line of the problem starting at 1, 0 when unknown.
+     * @param column The column of the problem starting at 1, 0 when unknown.
+     * @param cause The exception which reported the problem, may be null.
+     */
+    public Diagnostic(String message, Path file, int line, int column, Exception cause) {
+        this.message = message;
+        this.file = file;
+        this.line = line;
+        this.column = column;
+        this.cause = cause;
+    }
+
+    /**
+     * Describes an exception raised by the generation.
+     * @param e The exception.
+     * @return The diagnostic, positioned when the exception is a syntax
+     *         error.
+     */
+    public static Diagnostic of(Exception e) {
+        String message = e.getLocalizedMessage();
+        if (message == null) {
+            return new Diagnostic(e.getClass().getName(), null, 0, 0, e);
+        }
+        Matcher position = POSITION.matcher(message);
+        String problem = position.lookingAt() ? message.substring(position.end()) : message;
+        if (e instanceof SyntaxErrorException) {
+            SyntaxErrorException error = (SyntaxErrorException) e;
+            return new Diagnostic(problem, null, error.getLine(), error.getColumn(), e);
+        }
+        if (e instanceof ParserException && ((ParserException) e).getToken() != null) {
+            ParserException error = (ParserException) e;
+            return new Diagnostic(problem, null, error.getToken().getLine(), error.getToken().getPos(), e);
+        }
+        if (e instanceof LexerException && position.lookingAt()) {
+            return new Diagnostic(problem, null, Integer.parseInt(position.group(1)),
+                                  Integer.parseInt(position.group(2)), e);
+        }
+        return new Diagnostic(message, null, 0, 0, e);
+    }
+
+    /**
+     * Describes an error collected while checking a schema.
+     * @param problem The error and its place.
+     * @return The diagnostic.
+     */
+    public static Diagnostic of(ErrorCollector.Problem problem) {
+        Diagnostic error = of(problem.getError());
+        return new Diagnostic(error.getMessage(), problem.getFile(), problem.getLine(), problem.getColumn(),
+                              problem.getError());
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the file of the problem.
+     * @return The file, null when unknown or read from a reader.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Gets the exception which reported the problem.
+     * @return The exception, null if the problem was not reported by one.
+     */
+    public Exception getCause() {
+        return cause;
+    }
+
+    public boolean hasPosition() {
+        return line > 0;
+    }
+
+    /**
+     * Gives the file, the position as SableCC writes it, then the message.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (file != null) {
+            text.append(file).append(' ');
+        }
+        if (hasPosition()) {
+            text.append('[').append(line).append(',').append(column).append("] ");
+        }
+        return text.append(message).toString();
+    }
+}
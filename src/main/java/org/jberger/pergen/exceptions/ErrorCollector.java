@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.exceptions;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Gathers the errors found in the specifications instead of raising the
+ * first one, so every error of a schema is reported in one pass. The errors
+ * can be added by the threads exploring the imported files.
+ */
+public class ErrorCollector {
+
+    /**
+     * An error and the place where it was found.
+     */
+    public static final class Problem {
+
+        private final Exception error;
+        private final Path file;
+        private final int line;
+        private final int column;
+
+        Problem(Exception error, Path file, int line, int column) {
+            this.error = error;
+            this.file = file;
+            this.line = line;
+            this.column = column;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+
+        /**
+         * Gets the file the error was found in.
+         * @return The file, null for an input file given as a reader.
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * @return The line starting at 1, 0 when unknown.
+         */
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * @return The column starting at 1, 0 when unknown.
+         */
+        public int getColumn() {
+            return column;
+        }
+    }
+
+    /**
+     * Orders the problems by file, the reader first, then by position.
+     */
+    private static final Comparator<Problem> BY_POSITION = Comparator
+            .comparing(Problem::getFile, Comparator.nullsFirst(Comparator.<Path>naturalOrder()))
+            .thenComparingInt(Problem::getLine)
+            .thenComparingInt(Problem::getColumn);
+
+    private final ArrayList<Problem> problems = new ArrayList<Problem>();
+
+    /**
+     * Adds an error.
+     * @param error The error, as it would have been raised.
+     * @param file The file of the error, null for an input file given as a
+     *             reader.
+     * @param line The line of the error starting at 1, 0 when unknown.
+     * @param column The column of the error starting at 1, 0 when unknown.
+     */
+    public synchronized void add(Exception error, Path file, int line, int column) {
+        problems.add(new Problem(error, file, line, column));
+    }
+
+    /**
+     * Gets the errors, sorted by file and by position.
+     */
+    public synchronized List<Problem> getProblems() {
+        ArrayList<Problem> sorted = new ArrayList<Problem>(problems);
+        Collections.sort(sorted, BY_POSITION);
+        return sorted;
+    }
+
+    public synchronized boolean isEmpty() {
+        return problems.isEmpty();
+    }
+}
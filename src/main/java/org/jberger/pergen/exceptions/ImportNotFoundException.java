@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.exceptions;
+
+/**
+ * Raised when an input file imports a file which does not exist.
+ */
+public class ImportNotFoundException extends RuntimeException {
+
+    /**
+     * For serialization.
+     */
+    static final long serialVersionUID = 201210180001L;
+
+    /**
+     * Creates a new instance.
+     * @param fromFile The name of the file containing the import.
+     * @param importedFile The name of the imported file.
+     */
+    public ImportNotFoundException(final String fromFile,
+                                   final String importedFile) {
+        super("The file " + importedFile + " imported in " + fromFile
+              + " does not exist.");
+    }
+}
@@ -36,6 +36,6 @@ public class MultipleRelationException  extends RuntimeException {
                                      final String entity) {
         super("The entity " + fromEntity
               + " contains more than one relation toward the entity "
-              + fromEntity + " does not exist.");
+              + entity + ".");
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.exceptions;
+
+/**
+ * Raised when two schemas of a batch would be generated in the same output
+ * directory.
+ */
+public class OutputDirectoryCollisionException extends RuntimeException {
+
+    /**
+     * For serialization.
+     */
+    static final long serialVersionUID = 201210240001L;
+
+    /**
+     * Creates a new instance.
+     * @param firstFile The first schema.
+     * @param secondFile The other schema.
+     * @param directory The output directory of both schemas.
+     */
+    public OutputDirectoryCollisionException(final String firstFile,
+                                             final String secondFile,
+                                             final String directory) {
+        super("The files " + firstFile + " and " + secondFile
+              + " would both be generated in " + directory + ".");
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.exceptions;
+
+/**
+ * Raised when an input file does not follow the grammar of PerGen.
+ */
+public class SyntaxErrorException extends RuntimeException {
+
+    /**
+     * For serialization.
+     */
+    static final long serialVersionUID = 201210200001L;
+
+    private final int line;
+    private final int column;
+
+    /**
+     * Creates a new instance.
+     * @param line The line of the error, starting at 1.
+     * @param column The column of the error, starting at 1.
+     * @param problem What was found or expected.
+     */
+    public SyntaxErrorException(final int line, final int column,
+                                final String problem) {
+        super("[" + line + "," + column + "] " + problem);
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,414 @@
+/* Copyright 2007 Jacques Berger
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package org.jberger.pergen.explorers;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.jberger.pergen.generated.node.ADateDataType;
+import org.jberger.pergen.generated.node.AEntityDefinition;
+import org.jberger.pergen.generated.node.AFieldDefinition;
+import org.jberger.pergen.generated.node.AImportDefinition;
+import org.jberger.pergen.generated.node.AIntegerDataType;
+import org.jberger.pergen.generated.node.AManyRelationDefinition;
+import org.jberger.pergen.generated.node.AMayBeZero;
+import org.jberger.pergen.generated.node.AMoreIdentifier;
+import org.jberger.pergen.generated.node.AOneRelationDefinition;
+import org.jberger.pergen.generated.node.ARealDataType;
+import org.jberger.pergen.generated.node.ARelationInnerDefinition;
+import org.jberger.pergen.generated.node.AStringDataType;
+import org.jberger.pergen.generated.node.AStringLength;
+import org.jberger.pergen.generated.node.AUnicityDefinition;
+import org.jberger.pergen.generated.node.TIdentifier;
+import org.jberger.pergen.generated.node.Token;
+import org.jberger.pergen.generated.analysis.DepthFirstAdapter;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.domain.FieldType;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.RawRelation;
+import org.jberger.pergen.domain.RelationType;
+import org.jberger.pergen.domain.UnicityConstraint;
+import org.jberger.pergen.exceptions.EntityAlreadyDefinedException;
+import org.jberger.pergen.exceptions.ErrorCollector;
+import org.jberger.pergen.exceptions.FieldAlreadyDefinedException;
+import org.jberger.pergen.exceptions.FieldNotDefinedException;
+
+/**
+ * Runs once through an input file and builds its specifications: entities,
+ * fields and unicity constraints. The raw relations and the imported files
+ * are collected in the order of the file; the relations are validated and
+ * built by RelationAnalyzer once every imported file is explored, since they
+ * may aim at an entity of another file.
+ */
+public class SpecificationExplorer extends DepthFirstAdapter {
+
+    /**
+     * The data structure to fill with entities and fields informations.
+     */
+    private DataLayerSpecifications entitiesInfos;
+
+    /**
+     * The current data type used during the evaluation of the data type
+     * of the field.
+     */
+    private FieldType.Type currentDataType;
+
+    /**
+     * The length of the string, set to null if the data type is not STRING or
+     * also set to null if string length not specified.
+     */
+    private Integer stringLength;
+
+    /**
+     * Current entity during the evaluation of the entity.
+     */
+    private Entity currentEntity;
+
+    /**
+     * Indicates if the current entity was added to the specifications; an
+     * entity in error is still explored when the errors are collected.
+     */
+    private boolean currentEntityDefined;
+
+    /**
+     * Current unicity constraint during the evaluation of the constraint.
+     */
+    private UnicityConstraint currentUnicity;
+
+    /**
+     * Current relation during the evaluation of the relation.
+     */
+    private RawRelation currentRelation;
+
+    /**
+     * The raw relations, in the order of the file.
+     */
+    private ArrayList<RawRelation> relations = new ArrayList<RawRelation>();
+
+    /**
+     * The names of the imported files, in the order of the file.
+     */
+    private ArrayList<String> imports = new ArrayList<String>();
+
+    /**
+     * Receives the errors when they are collected, null to raise them.
+     */
+    private ErrorCollector errors;
+
+    /**
+     * The file explored, given with the collected errors.
+     */
+    private Path file;
+
+    /**
+     * Gives the instances of the identifiers.
+     */
+    private SymbolTable symbols = new SymbolTable();
+
+    /**
+     * Create a new instance.
+     * @param infos The data structure to fill with entities informations.
+     */
+    public SpecificationExplorer(final DataLayerSpecifications infos) {
+        super();
+        entitiesInfos = infos;
+    }
+
+    /**
+     * Shares the identifiers with the other files of a schema.
+     * @param table The symbol table of the schema.
+     */
+    public final void setSymbolTable(final SymbolTable table) {
+        symbols = table;
+    }
+
+    /**
+     * Collects the errors of the specifications instead of raising the
+     * first one; the definitions in error are left out.
+     * @param collector Receives the errors.
+     * @param inputFile The file explored, null for a reader.
+     */
+    public final void collectErrors(final ErrorCollector collector, final Path inputFile) {
+        errors = collector;
+        file = inputFile;
+    }
+
+    /**
+     * Gets the raw relations of the file.
+     * @return The raw relations, in the order of the file.
+     */
+    public final ArrayList<RawRelation> getRelations() {
+        return relations;
+    }
+
+    /**
+     * Gets the files imported by the file.
+     * @return The file names, without the quotes, in the order of the file.
+     */
+    public final List<String> getImports() {
+        return imports;
+    }
+
+    /**
+     * After analysing an import directive.
+     * @param node The node.
+     */
+    @Override
+    public final void outAImportDefinition(final AImportDefinition node) {
+        String fileName = node.getFileName().getText();
+        imports.add(fileName.substring(1, fileName.length() - 1));
+    }
+
+    /**
+     * Before analysing an entity.
+     * @param node The node.
+     */
+    @Override
+    public final void inAEntityDefinition(final AEntityDefinition node) {
+        String entityName = symbols.intern(node.getIdentifier().getText());
+        Entity newEntity = new Entity(entityName);
+        newEntity.setPosition(node.getIdentifier().getLine(), node.getIdentifier().getPos());
+        currentEntity = newEntity;
+        currentEntityDefined = false;
+
+        if (entitiesInfos.isEntityDefined(entityName)) {
+            fail(new EntityAlreadyDefinedException(entityName), node.getIdentifier());
+            return;
+        }
+
+        try {
+            entitiesInfos.addEntity(newEntity);
+            currentEntityDefined = true;
+        } catch (RuntimeException e) {
+            fail(e, node.getIdentifier());
+        }
+    }
+
+    /**
+     * After analysing an entity definition.
+     * @param node The node.
+     */
+    @Override
+    public final void outAEntityDefinition(final AEntityDefinition node) {
+        currentEntity = null;
+    }
+
+    /**
+     * Before analysing a field definition.
+     * @param node The node.
+     */
+    @Override
+    public final void inAFieldDefinition(final AFieldDefinition node) {
+        currentDataType = null;
+        stringLength = null;
+    }
+
+    /**
+     * After a field definition.
+     * @param node The node.
+     */
+    @Override
+    public final void outAFieldDefinition(final AFieldDefinition node) {
+        String fieldName = symbols.intern(node.getIdentifier().getText());
+
+        if (currentEntity.isFieldDefined(fieldName)) {
+            fail(new FieldAlreadyDefinedException(fieldName,
+                                                  currentEntity.getOriginalName()),
+                 node.getIdentifier());
+            return;
+        }
+
+        Field field = new Field(fieldName,
+                                                        currentDataType,
+                                                    node.getRequired() != null);
+
+        if (stringLength != null) {
+            field.setStringLength(stringLength);
+        }
+
+        try {
+            currentEntity.addField(field);
+        } catch (RuntimeException e) {
+            fail(e, node.getIdentifier());
+        }
+    }
+
+    /**
+     * After evaluating the string length.
+     * @param node The node.
+     */
+    @Override
+    public final void outAStringLength(final AStringLength node) {
+        stringLength = new Integer(node.getNumber().getText());
+    }
+
+    /**
+     * After analysing a date data type.
+     * @param node The node.
+     */
+    @Override
+    public final void outADateDataType(final ADateDataType node) {
+        currentDataType = FieldType.Type.DATE;
+    }
+
+    /**
+     * After analysing an Integer data type.
+     * @param node The node.
+     */
+    @Override
+    public final void outAIntegerDataType(final AIntegerDataType node) {
+        currentDataType = FieldType.Type.INTEGER;
+    }
+
+    /**
+     * After analysing a real data type.
+     * @param node The node.
+     */
+    @Override
+    public final void outARealDataType(final ARealDataType node) {
+        currentDataType = FieldType.Type.REAL;
+    }
+
+    /**
+     * After analysing a string data type.
+     * @param node The node.
+     */
+    @Override
+    public final void outAStringDataType(final AStringDataType node) {
+        currentDataType = FieldType.Type.STRING;
+    }
+
+    /**
+     * Before analysing a unicity definition.
+     * @param node The node.
+     */
+    @Override
+    public final void inAUnicityDefinition(final AUnicityDefinition node) {
+        currentUnicity = new UnicityConstraint();
+        addFieldToUnicityConstraint(currentUnicity, node.getIdentifier());
+    }
+
+    /**
+     * After analysing a unicity definition.
+     * @param node The node.
+     */
+    @Override
+    public final void outAUnicityDefinition(final AUnicityDefinition node) {
+        try {
+            currentEntity.addUnicityConstraint(currentUnicity);
+        } catch (RuntimeException e) {
+            fail(e, node.getIdentifier());
+        }
+        currentUnicity = null;
+    }
+
+    /**
+     * Add a field to a unicity constraint.
+     * @param unicity The unicity constraint.
+     * @param identifier The name of the field to add.
+     */
+    private void addFieldToUnicityConstraint(final UnicityConstraint unicity,
+                                             final TIdentifier identifier) {
+        String fieldName = symbols.intern(identifier.getText());
+        Field field = currentEntity.getField(fieldName);
+        if (field == null) {
+            fail(new FieldNotDefinedException(fieldName,
+                                              currentEntity.getOriginalName()),
+                 identifier);
+            return;
+        }
+
+        unicity.addField(field);
+    }
+
+    /**
+     * Raises an error, or collects it at the position of a token.
+     * @param error The error.
+     * @param token The token the error is about.
+     */
+    private void fail(final RuntimeException error, final Token token) {
+        if (errors == null) {
+            throw error;
+        }
+        errors.add(error, file, token.getLine(), token.getPos());
+    }
+
+    /**
+     * After analysing additional identifiers, which only happens during
+     * the evaluation of a unicity constraint.
+     * @param node The node.
+     */
+    @Override
+    public final void outAMoreIdentifier(final AMoreIdentifier node) {
+        if (currentUnicity != null) {
+            addFieldToUnicityConstraint(currentUnicity, node.getIdentifier());
+        }
+    }
+
+    /**
+     * Before analysing a relation definition.
+     * @param node The node.
+     */
+    @Override
+    public final void inARelationInnerDefinition(final ARelationInnerDefinition node) {
+        currentRelation = new RawRelation();
+        currentRelation.setFromEntity(currentEntity.getOriginalName());
+    }
+
+    /**
+     * After analysing a relation definition.
+     * @param node The node.
+     */
+    @Override
+    public final void outARelationInnerDefinition(final ARelationInnerDefinition node) {
+        if (currentEntityDefined) {
+            relations.add(currentRelation);
+        }
+        currentRelation = null;
+    }
+
+    /**
+     * Before analysing a "one" relation.
+     * @param node The node.
+     */
+    @Override
+    public final void inAOneRelationDefinition(final AOneRelationDefinition node) {
+        currentRelation.setToEntity(symbols.intern(node.getIdentifier().getText()));
+        currentRelation.setType(RelationType.Type.ONE);
+        currentRelation.setPosition(file, node.getIdentifier().getLine(), node.getIdentifier().getPos());
+    }
+
+    /**
+     * Before analysing a "many" relation.
+     * @param node The node.
+     */
+    @Override
+    public final void inAManyRelationDefinition(final AManyRelationDefinition node) {
+        currentRelation.setToEntity(symbols.intern(node.getIdentifier().getText()));
+        currentRelation.setType(RelationType.Type.MANY);
+        currentRelation.setPosition(file, node.getIdentifier().getLine(), node.getIdentifier().getPos());
+    }
+
+    /**
+     * Before analysing a "may be zero" definition.
+     * @param node The node.
+     */
+    @Override
+    public final void inAMayBeZero(final AMayBeZero node) {
+        currentRelation.setMayBeZero(true);
+    }
+}
@@ -0,0 +1,528 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.explorers;
+
+import static org.jberger.pergen.explorers.SpecificationScanner.COMMA;
+import static org.jberger.pergen.explorers.SpecificationScanner.DATE;
+import static org.jberger.pergen.explorers.SpecificationScanner.ENTITY;
+import static org.jberger.pergen.explorers.SpecificationScanner.EOF;
+import static org.jberger.pergen.explorers.SpecificationScanner.FILE_NAME;
+import static org.jberger.pergen.explorers.SpecificationScanner.HAS;
+import static org.jberger.pergen.explorers.SpecificationScanner.IDENTIFIER;
+import static org.jberger.pergen.explorers.SpecificationScanner.IMPORT;
+import static org.jberger.pergen.explorers.SpecificationScanner.INTEGER;
+import static org.jberger.pergen.explorers.SpecificationScanner.L_PAR;
+import static org.jberger.pergen.explorers.SpecificationScanner.MANY;
+import static org.jberger.pergen.explorers.SpecificationScanner.NUMBER;
+import static org.jberger.pergen.explorers.SpecificationScanner.ONE;
+import static org.jberger.pergen.explorers.SpecificationScanner.REAL;
+import static org.jberger.pergen.explorers.SpecificationScanner.REQUIRED;
+import static org.jberger.pergen.explorers.SpecificationScanner.R_PAR;
+import static org.jberger.pergen.explorers.SpecificationScanner.SEMICOLON;
+import static org.jberger.pergen.explorers.SpecificationScanner.STRING;
+import static org.jberger.pergen.explorers.SpecificationScanner.TO;
+import static org.jberger.pergen.explorers.SpecificationScanner.UNIQUE;
+import static org.jberger.pergen.explorers.SpecificationScanner.ZERO;
+
+import java.nio.CharBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.domain.FieldType;
+import org.jberger.pergen.domain.RawRelation;
+import org.jberger.pergen.domain.RelationType;
+import org.jberger.pergen.domain.UnicityConstraint;
+import org.jberger.pergen.exceptions.EntityAlreadyDefinedException;
+import org.jberger.pergen.exceptions.ErrorCollector;
+import org.jberger.pergen.exceptions.FieldAlreadyDefinedException;
+import org.jberger.pergen.exceptions.FieldNotDefinedException;
+import org.jberger.pergen.exceptions.SyntaxErrorException;
+
+/**
+ * Parses an input file by recursive descent and builds its specifications
+ * directly, without syntax tree: it gives the same entities, fields, unicity
+ * constraints, raw relations and imports as SpecificationExplorer run on the
+ * tree of the SableCC parser.
+ *
+ * The SableCC parser reads the whole file before the explorer runs, so a
+ * syntax error is reported before any error in the specifications. To keep
+ * that behaviour, the first error in the specifications is kept, the rest of
+ * the file is only checked for syntax, and the error is raised at the end.
+ * When the errors are collected, every error is kept with its position and
+ * the definitions in error are left out.
+ */
+public class SpecificationParser {
+
+    /**
+     * The data structure to fill with entities and fields informations.
+     */
+    private DataLayerSpecifications entitiesInfos;
+
+    /**
+     * The raw relations, in the order of the file.
+     */
+    private ArrayList<RawRelation> relations = new ArrayList<RawRelation>();
+
+    /**
+     * The names of the imported files, in the order of the file.
+     */
+    private ArrayList<String> imports = new ArrayList<String>();
+
+    private SpecificationScanner scanner;
+
+    /**
+     * The kind of the current token.
+     */
+    private int token;
+
+    /**
+     * Current entity during the evaluation of the entity.
+     */
+    private Entity currentEntity;
+
+    /**
+     * Current unicity constraint during the evaluation of the constraint.
+     */
+    private UnicityConstraint currentUnicity;
+
+    /**
+     * Indicates if the current entity was added to the specifications.
+     */
+    private boolean currentEntityDefined;
+
+    /**
+     * The first error found in the specifications, null if none.
+     */
+    private RuntimeException specificationError;
+
+    /**
+     * Receives the errors when they are collected, null to raise them.
+     */
+    private ErrorCollector errors;
+
+    /**
+     * The file parsed, given with the collected errors.
+     */
+    private Path file;
+
+    /**
+     * Gives the instances of the identifiers.
+     */
+    private SymbolTable symbols = new SymbolTable();
+
+    /**
+     * Create a new instance.
+     * @param infos The data structure to fill with entities informations.
+     */
+    public SpecificationParser(final DataLayerSpecifications infos) {
+        entitiesInfos = infos;
+    }
+
+    /**
+     * Shares the identifiers with the other files of a schema.
+     * @param table The symbol table of the schema.
+     */
+    public final void setSymbolTable(final SymbolTable table) {
+        symbols = table;
+    }
+
+    /**
+     * Collects the errors of the specifications instead of raising the
+     * first one. The syntax errors are still raised.
+     * @param collector Receives the errors.
+     * @param inputFile The file parsed, null for a reader.
+     */
+    public final void collectErrors(final ErrorCollector collector, final Path inputFile) {
+        errors = collector;
+        file = inputFile;
+    }
+
+    /**
+     * Parses the content of an input file.
+     * @param content The content of the file.
+     */
+    public final void parse(final String content) {
+        char[] buffer = content.toCharArray();
+        parse(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Parses the content of an input file, read from its array when the
+     * buffer has one.
+     * @param content The content of the file, from its position to its
+     *                limit.
+     */
+    public final void parse(final CharBuffer content) {
+        if (content.hasArray()) {
+            int start = content.arrayOffset() + content.position();
+            parse(content.array(), start, start + content.remaining());
+        } else {
+            parse(content.toString());
+        }
+    }
+
+    /**
+     * Parses the characters of an input file.
+     * @param buffer The characters.
+     * @param start The first character of the file.
+     * @param end The index following the last character of the file.
+     */
+    public final void parse(final char[] buffer, final int start, final int end) {
+        scanner = new SpecificationScanner(buffer, start, end);
+        token = scanner.next();
+        script();
+        if (specificationError != null) {
+            throw specificationError;
+        }
+    }
+
+    /**
+     * Reads the import definitions at the start of an input file, without
+     * parsing its entities.
+     * @param content The content of the file, from its position to its
+     *                limit.
+     * @return The file names, without the quotes, in the order of the file.
+     */
+    public static List<String> parseImports(final CharBuffer content) {
+        SpecificationParser parser = new SpecificationParser(new DataLayerSpecifications());
+        if (content.hasArray()) {
+            int start = content.arrayOffset() + content.position();
+            parser.scanner = new SpecificationScanner(content.array(), start, start + content.remaining());
+        } else {
+            char[] buffer = content.toString().toCharArray();
+            parser.scanner = new SpecificationScanner(buffer, 0, buffer.length);
+        }
+        parser.next();
+        parser.importDefinitions();
+        return parser.imports;
+    }
+
+    /**
+     * Gets the raw relations of the file.
+     * @return The raw relations, in the order of the file.
+     */
+    public final ArrayList<RawRelation> getRelations() {
+        return relations;
+    }
+
+    /**
+     * Gets the files imported by the file.
+     * @return The file names, without the quotes, in the order of the file.
+     */
+    public final List<String> getImports() {
+        return imports;
+    }
+
+    /**
+     * script = import_definition* entity_definition*;
+     */
+    private void script() {
+        importDefinitions();
+        boolean first = true;
+        while (token == ENTITY) {
+            entityDefinition();
+            first = false;
+        }
+        if (token != EOF) {
+            throw first ? unexpected(IMPORT, ENTITY, EOF) : unexpected(ENTITY, EOF);
+        }
+    }
+
+    /**
+     * import_definition = import file_name semicolon;
+     */
+    private void importDefinitions() {
+        while (token == IMPORT) {
+            next();
+            expect(FILE_NAME);
+            imports.add(scanner.unquotedText());
+            next();
+            expect(SEMICOLON);
+            next();
+        }
+    }
+
+    /**
+     * entity_definition = entity identifier
+     *                     l_par inner_definition more_inner_definition* r_par
+     *                     semicolon;
+     */
+    private void entityDefinition() {
+        next();
+        expect(IDENTIFIER);
+        beginEntity(scanner.symbol(symbols));
+        next();
+        expect(L_PAR);
+        next();
+        innerDefinition();
+        while (token == COMMA) {
+            next();
+            innerDefinition();
+        }
+        if (token != R_PAR) {
+            throw unexpected(COMMA, R_PAR);
+        }
+        next();
+        expect(SEMICOLON);
+        next();
+        currentEntity = null;
+    }
+
+    /**
+     * inner_definition = field_definition | relation_definition
+     *                    | unicity_definition;
+     */
+    private void innerDefinition() {
+        switch (token) {
+            case IDENTIFIER:
+                fieldDefinition();
+                break;
+            case HAS:
+                relationDefinition();
+                break;
+            case UNIQUE:
+                unicityDefinition();
+                break;
+            default:
+                throw unexpected(HAS, UNIQUE, IDENTIFIER);
+        }
+    }
+
+    /**
+     * field_definition = identifier data_type required?;
+     */
+    private void fieldDefinition() {
+        String fieldName = scanner.symbol(symbols);
+        int line = scanner.line();
+        int column = scanner.column();
+        next();
+
+        FieldType.Type dataType;
+        String stringLength = null;
+        switch (token) {
+            case DATE:
+                dataType = FieldType.Type.DATE;
+                break;
+            case INTEGER:
+                dataType = FieldType.Type.INTEGER;
+                break;
+            case REAL:
+                dataType = FieldType.Type.REAL;
+                break;
+            case STRING:
+                dataType = FieldType.Type.STRING;
+                break;
+            default:
+                throw unexpected(DATE, INTEGER, REAL, STRING);
+        }
+        next();
+        if (dataType == FieldType.Type.STRING && token == L_PAR) {
+            next();
+            expect(NUMBER);
+            stringLength = scanner.text();
+            next();
+            expect(R_PAR);
+            next();
+        }
+
+        boolean required = false;
+        if (token == REQUIRED) {
+            required = true;
+            next();
+        }
+        addField(fieldName, dataType, stringLength, required, line, column);
+    }
+
+    /**
+     * relation_definition = has may_be_zero? one identifier
+     *                       | has may_be_zero? many identifier;
+     */
+    private void relationDefinition() {
+        next();
+        boolean mayBeZero = false;
+        if (token == ZERO) {
+            next();
+            expect(TO);
+            next();
+            mayBeZero = true;
+        }
+
+        RelationType.Type type;
+        if (token == ONE) {
+            type = RelationType.Type.ONE;
+        } else if (token == MANY) {
+            type = RelationType.Type.MANY;
+        } else {
+            throw mayBeZero ? unexpected(MANY, ONE) : unexpected(MANY, ONE, ZERO);
+        }
+        next();
+        expect(IDENTIFIER);
+        addRelation(scanner.symbol(symbols), type, mayBeZero);
+        next();
+    }
+
+    /**
+     * unicity_definition = unique l_par identifier more_identifier* r_par;
+     */
+    private void unicityDefinition() {
+        next();
+        expect(L_PAR);
+        next();
+        expect(IDENTIFIER);
+        beginUnicity(scanner.symbol(symbols));
+        next();
+        while (token == COMMA) {
+            next();
+            expect(IDENTIFIER);
+            addFieldToUnicityConstraint(scanner.symbol(symbols));
+            next();
+        }
+        if (token != R_PAR) {
+            throw unexpected(COMMA, R_PAR);
+        }
+        next();
+        endUnicity();
+    }
+
+    private void beginEntity(final String entityName) {
+        if (specificationError != null) {
+            return;
+        }
+        currentEntity = new Entity(entityName);
+        currentEntity.setPosition(scanner.line(), scanner.column());
+        currentEntityDefined = false;
+        if (entitiesInfos.isEntityDefined(entityName)) {
+            fail(new EntityAlreadyDefinedException(entityName), scanner.line(), scanner.column());
+            return;
+        }
+
+        try {
+            entitiesInfos.addEntity(currentEntity);
+            currentEntityDefined = true;
+        } catch (RuntimeException e) {
+            fail(e, scanner.line(), scanner.column());
+        }
+    }
+
+    private void addField(final String fieldName, final FieldType.Type dataType,
+                          final String stringLength, final boolean required,
+                          final int line, final int column) {
+        if (specificationError != null) {
+            return;
+        }
+        if (currentEntity.isFieldDefined(fieldName)) {
+            fail(new FieldAlreadyDefinedException(fieldName, currentEntity.getOriginalName()), line, column);
+            return;
+        }
+
+        try {
+            Field field = new Field(fieldName, dataType, required);
+            if (stringLength != null) {
+                field.setStringLength(Integer.valueOf(stringLength));
+            }
+            currentEntity.addField(field);
+        } catch (RuntimeException e) {
+            fail(e, line, column);
+        }
+    }
+
+    private void addRelation(final String toEntity, final RelationType.Type type,
+                             final boolean mayBeZero) {
+        if (specificationError != null || !currentEntityDefined) {
+            return;
+        }
+        RawRelation relation = new RawRelation();
+        relation.setFromEntity(currentEntity.getOriginalName());
+        relation.setToEntity(toEntity);
+        relation.setType(type);
+        relation.setMayBeZero(mayBeZero);
+        relation.setPosition(file, scanner.line(), scanner.column());
+        relations.add(relation);
+    }
+
+    private void beginUnicity(final String fieldName) {
+        if (specificationError != null) {
+            return;
+        }
+        currentUnicity = new UnicityConstraint();
+        addFieldToUnicityConstraint(fieldName);
+    }
+
+    private void addFieldToUnicityConstraint(final String fieldName) {
+        if (specificationError != null) {
+            return;
+        }
+        Field field = currentEntity.getField(fieldName);
+        if (field == null) {
+            fail(new FieldNotDefinedException(fieldName, currentEntity.getOriginalName()),
+                 scanner.line(), scanner.column());
+            return;
+        }
+
+        currentUnicity.addField(field);
+    }
+
+    private void endUnicity() {
+        if (specificationError != null) {
+            return;
+        }
+        try {
+            currentEntity.addUnicityConstraint(currentUnicity);
+        } catch (RuntimeException e) {
+            fail(e, scanner.line(), scanner.column());
+        }
+        currentUnicity = null;
+    }
+
+    /**
+     * Keeps the first error in the specifications, or collects every error.
+     */
+    private void fail(final RuntimeException error, final int line, final int column) {
+        if (errors == null) {
+            specificationError = error;
+        } else {
+            errors.add(error, file, line, column);
+        }
+    }
+
+    private void next() {
+        token = scanner.next();
+    }
+
+    private void expect(final int kind) {
+        if (token != kind) {
+            throw unexpected(kind);
+        }
+    }
+
+    /**
+     * The error raised when the current token is not one of the expected
+     * tokens, worded like the errors of the SableCC parser.
+     */
+    private SyntaxErrorException unexpected(final int... expected) {
+        StringBuilder message = new StringBuilder("expecting: ");
+        for (int i = 0; i < expected.length; i++) {
+            if (i > 0) {
+                message.append(", ");
+            }
+            message.append(SpecificationScanner.describe(expected[i]));
+        }
+        return new SyntaxErrorException(scanner.line(), scanner.column(), message.toString());
+    }
+}
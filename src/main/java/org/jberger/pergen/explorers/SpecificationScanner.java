@@ -0,0 +1,313 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.explorers;
+
+import org.jberger.pergen.exceptions.SyntaxErrorException;
+
+/**
+ * Reads the tokens of an input file straight from its character buffer,
+ * following the tokens of grammar.sablecc. A token is only a kind and a
+ * position in the buffer: no object is created per token, and the text of
+ * a token is copied only when the parser asks for it.
+ */
+final class SpecificationScanner {
+
+    static final int EOF = 0;
+    static final int L_PAR = 1;
+    static final int R_PAR = 2;
+    static final int COMMA = 3;
+    static final int SEMICOLON = 4;
+    static final int ENTITY = 5;
+    static final int HAS = 6;
+    static final int IMPORT = 7;
+    static final int MANY = 8;
+    static final int ONE = 9;
+    static final int REQUIRED = 10;
+    static final int TO = 11;
+    static final int UNIQUE = 12;
+    static final int ZERO = 13;
+    static final int DATE = 14;
+    static final int INTEGER = 15;
+    static final int REAL = 16;
+    static final int STRING = 17;
+    static final int NUMBER = 18;
+    static final int FILE_NAME = 19;
+    static final int IDENTIFIER = 20;
+
+    /**
+     * The keywords, indexed by their kind.
+     */
+    private static final String[] KEYWORDS = {
+        null, null, null, null, null,
+        "entity", "has", "import", "many", "one", "required", "to", "unique", "zero",
+        "date", "integer", "real", "string"
+    };
+
+    private static final String[] DESCRIPTIONS = {
+        "EOF", "'('", "')'", "','", "';'",
+        "'entity'", "'has'", "'import'", "'many'", "'one'", "'required'", "'to'", "'unique'", "'zero'",
+        "'date'", "'integer'", "'real'", "'string'",
+        "number", "file name", "identifier"
+    };
+
+    private final char[] buffer;
+    private final int end;
+    private int position;
+    private int line = 1;
+    private int column = 1;
+    private boolean afterCarriageReturn;
+
+    private int kind;
+    private int tokenStart;
+    private int tokenEnd;
+    private int tokenLine;
+    private int tokenColumn;
+
+    /**
+     * Creates a new instance.
+     * @param buffer The characters of the file.
+     * @param start The first character to read.
+     * @param end The index following the last character to read.
+     */
+    SpecificationScanner(final char[] buffer, final int start, final int end) {
+        this.buffer = buffer;
+        this.position = start;
+        this.end = end;
+    }
+
+    /**
+     * Reads the next token, skipping the blanks and the comments.
+     * @return The kind of the token, EOF at the end of the file.
+     */
+    int next() {
+        skipIgnored();
+        tokenStart = position;
+        tokenLine = line;
+        tokenColumn = column;
+        if (position == end) {
+            kind = EOF;
+            tokenEnd = position;
+            return kind;
+        }
+
+        char c = buffer[position];
+        switch (c) {
+            case '(':
+                kind = L_PAR;
+                advance();
+                break;
+            case ')':
+                kind = R_PAR;
+                advance();
+                break;
+            case ',':
+                kind = COMMA;
+                advance();
+                break;
+            case ';':
+                kind = SEMICOLON;
+                advance();
+                break;
+            case '"':
+                scanFileName();
+                break;
+            default:
+                if (isDigit(c)) {
+                    while (position < end && isDigit(buffer[position])) {
+                        advance();
+                    }
+                    kind = NUMBER;
+                } else if (isLetter(c)) {
+                    while (position < end && isIdentifierPart(buffer[position])) {
+                        advance();
+                    }
+                    kind = keyword(tokenStart, position);
+                } else {
+                    advance();
+                    throw unknownToken();
+                }
+        }
+        tokenEnd = position;
+        return kind;
+    }
+
+    int kind() {
+        return kind;
+    }
+
+    /**
+     * Copies the text of the current token.
+     */
+    String text() {
+        return new String(buffer, tokenStart, tokenEnd - tokenStart);
+    }
+
+    /**
+     * Gets the text of the current token from a symbol table, the copy
+     * being dropped when the identifier is already known.
+     */
+    String symbol(final SymbolTable symbols) {
+        return symbols.intern(text());
+    }
+
+    /**
+     * Copies the text of the current token without its first and last
+     * characters, the quotes of a file name.
+     */
+    String unquotedText() {
+        return new String(buffer, tokenStart + 1, tokenEnd - tokenStart - 2);
+    }
+
+    int line() {
+        return tokenLine;
+    }
+
+    int column() {
+        return tokenColumn;
+    }
+
+    static String describe(final int kind) {
+        return DESCRIPTIONS[kind];
+    }
+
+    private void skipIgnored() {
+        while (position < end) {
+            char c = buffer[position];
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                advance();
+            } else if (c == '/') {
+                skipComment();
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Skips a comment: '/*', then either characters which are neither '*'
+     * nor '/', or a single '*' or '/', then the closing '*' and '/'.
+     */
+    private void skipComment() {
+        tokenStart = position;
+        tokenLine = line;
+        tokenColumn = column;
+        advance();
+        if (position == end || buffer[position] != '*') {
+            throw unknownToken();
+        }
+        advance();
+
+        if (position < end && buffer[position] != '*' && buffer[position] != '/') {
+            while (position < end && buffer[position] != '*' && buffer[position] != '/') {
+                advance();
+            }
+        } else if (position < end) {
+            advance();
+        } else {
+            throw unknownToken();
+        }
+
+        if (position + 1 >= end || buffer[position] != '*' || buffer[position + 1] != '/') {
+            throw unknownToken();
+        }
+        advance();
+        advance();
+    }
+
+    /**
+     * Reads a quoted file name, at least one character on a single line.
+     */
+    private void scanFileName() {
+        advance();
+        while (position < end && buffer[position] != '"' && buffer[position] != '\r' && buffer[position] != '\n') {
+            advance();
+        }
+        if (position == end || buffer[position] != '"' || position == tokenStart + 1) {
+            throw unknownToken();
+        }
+        advance();
+        kind = FILE_NAME;
+    }
+
+    /**
+     * Finds the keyword matching a word, ignoring the case.
+     * @return The kind of the keyword, IDENTIFIER if the word is not a
+     *         keyword.
+     */
+    private int keyword(final int start, final int stop) {
+        int length = stop - start;
+        for (int candidate = ENTITY; candidate <= STRING; candidate++) {
+            String keyword = KEYWORDS[candidate];
+            if (keyword.length() == length && matches(keyword, start)) {
+                return candidate;
+            }
+        }
+        return IDENTIFIER;
+    }
+
+    /**
+     * Compares a lower case keyword with the letters of the buffer. Setting
+     * the 0x20 bit gives the lower case of an ASCII letter and turns no
+     * digit nor underscore into a letter.
+     */
+    private boolean matches(final String keyword, final int start) {
+        for (int i = 0; i < keyword.length(); i++) {
+            if ((buffer[start + i] | 0x20) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves to the next character, counting the lines like the lexer
+     * generated by SableCC: CR, LF and CR LF each end a line.
+     */
+    private void advance() {
+        char c = buffer[position++];
+        if (c == '\n') {
+            if (!afterCarriageReturn) {
+                line++;
+                column = 1;
+            }
+            afterCarriageReturn = false;
+        } else if (c == '\r') {
+            line++;
+            column = 1;
+            afterCarriageReturn = true;
+        } else {
+            column++;
+            afterCarriageReturn = false;
+        }
+    }
+
+    private SyntaxErrorException unknownToken() {
+        return new SyntaxErrorException(tokenLine, tokenColumn, "Unknown token: "
+                                        + new String(buffer, tokenStart, position - tokenStart));
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isIdentifierPart(final char c) {
+        return isLetter(c) || isDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.explorers;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import org.jberger.pergen.generated.lexer.Lexer;
+import org.jberger.pergen.generated.lexer.LexerException;
+import org.jberger.pergen.generated.node.AEntityDefinition;
+import org.jberger.pergen.generated.node.AImportDefinition;
+import org.jberger.pergen.generated.node.Node;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.generated.node.TBlank;
+import org.jberger.pergen.generated.node.TComment;
+import org.jberger.pergen.generated.parser.Parser;
+import org.jberger.pergen.generated.parser.ParserException;
+
+/**
+ * The SableCC parser giving every entity and import definition to an
+ * explorer as soon as it is reduced. Its subtree is then replaced by an
+ * empty definition, so the syntax tree never holds more than the definition
+ * being read: the memory used grows with the specifications, not with the
+ * tree. The explorer sees the definitions in the order of the file, as when
+ * it runs on the complete tree. The blanks and the comments are dropped by
+ * the lexer: the parser would otherwise keep every one of them, with the
+ * token following it, until the end of the file.
+ *
+ * Like SpecificationParser, a syntax error is reported before any error in
+ * the specifications: the first error raised by the explorer is kept, the
+ * rest of the file is only parsed, and the error is raised at the end.
+ */
+public class StreamingParser extends Parser {
+
+    private final SpecificationExplorer explorer;
+
+    /**
+     * The first error raised by the explorer, null if none.
+     */
+    private RuntimeException specificationError;
+
+    /**
+     * Creates a new instance.
+     * @param input The content of the file, pushed back by the lexer while
+     *              looking for the longest token.
+     * @param explorer Receives the definitions.
+     */
+    public StreamingParser(final PushbackReader input, final SpecificationExplorer explorer) {
+        super(new SignificantTokenLexer(input));
+        this.explorer = explorer;
+    }
+
+    /**
+     * Parses the file, exploring its definitions.
+     * @return What is left of the syntax tree: the definitions are empty.
+     */
+    @Override
+    public Start parse() throws ParserException, LexerException, IOException {
+        Start start = super.parse();
+        if (specificationError != null) {
+            throw specificationError;
+        }
+        return start;
+    }
+
+    /**
+     * Called after every reduction with the nodes it produced.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected final void filter() {
+        for (int i = 0; i < nodeList.size(); i++) {
+            Object node = nodeList.get(i);
+            if (node instanceof AEntityDefinition && ((AEntityDefinition) node).getIdentifier() != null) {
+                explore((Node) node);
+                nodeList.set(i, new AEntityDefinition());
+            } else if (node instanceof AImportDefinition && ((AImportDefinition) node).getFileName() != null) {
+                explore((Node) node);
+                nodeList.set(i, new AImportDefinition());
+            }
+        }
+    }
+
+    private void explore(final Node definition) {
+        if (specificationError != null) {
+            return;
+        }
+        try {
+            definition.apply(explorer);
+        } catch (RuntimeException e) {
+            specificationError = e;
+        }
+    }
+
+    /**
+     * The lexer of the grammar, without the ignored tokens.
+     */
+    private static final class SignificantTokenLexer extends Lexer {
+
+        SignificantTokenLexer(final PushbackReader input) {
+            super(input);
+        }
+
+        @Override
+        protected void filter() {
+            if (token instanceof TBlank || token instanceof TComment) {
+                token = null;
+            }
+        }
+    }
+}
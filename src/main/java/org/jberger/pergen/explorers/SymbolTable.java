@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.explorers;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives one instance of every identifier read, so an entity or a field
+ * name repeated in a schema, in its relations or in the files it imports
+ * is kept in memory once. Shared by the files parsed concurrently.
+ */
+public final class SymbolTable {
+
+    private final ConcurrentHashMap<String, String> symbols = new ConcurrentHashMap<String, String>(256);
+
+    /**
+     * @param text An identifier.
+     * @return The instance of the table equal to the identifier.
+     */
+    public String intern(final String text) {
+        String symbol = symbols.putIfAbsent(text, text);
+        return symbol == null ? text : symbol;
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.files;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.GregorianCalendar;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the generated files as the entries of a single zip, or of a jar
+ * when the name of the archive ends with ".jar", instead of files on disk.
+ * The files may be written by many threads in any order: their content is
+ * kept in memory until close(), which writes the entries sorted by name
+ * with a fixed date, so the same specifications always give the same
+ * archive.
+ *
+ * The entries are not written as they arrive on purpose. The order of a
+ * zip is the order its entries are written in, and with a parallel
+ * generation it would change from one run to the next: two archives of the
+ * same specifications would then differ byte for byte, which defeats the
+ * build caches and the comparisons of generated archives. Keeping the
+ * files costs the size of the generated code, as for InMemoryTarget.
+ */
+public class ArchiveTarget implements OutputTarget, Closeable {
+
+    /**
+     * The date of every entry, the earliest date of the zip format. The
+     * format stores the local date and time, so it is taken in the local
+     * time zone to be the same everywhere.
+     */
+    private static final long ENTRY_TIME = new GregorianCalendar(1980, 0, 1).getTimeInMillis();
+
+    private Path archive;
+    private Path root;
+    private ConcurrentSkipListMap<String, byte[]> entries = new ConcurrentSkipListMap<String, byte[]>();
+
+    /**
+     * Creates a new instance.
+     * @param archive The zip or jar file to write.
+     * @param root The directory the files would be generated in: the names
+     *             of the entries are relative to it.
+     */
+    public ArchiveTarget(Path archive, Path root) {
+        this.archive = archive;
+        this.root = root;
+    }
+
+    @Override
+    public void createDirectory(Path directory) {
+        String name = entryName(directory);
+        if (!name.isEmpty()) {
+            entries.put(name + "/", new byte[0]);
+        }
+    }
+
+    @Override
+    public int write(Path file, CodeSink content) {
+        ByteBuffer encoded = content.encode();
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+        content.clear();
+        write(file, bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Adds a file already encoded.
+     * @param file The file, in the root directory.
+     * @param content The content of the file.
+     */
+    public void write(Path file, byte[] content) {
+        writeEntry(entryName(file), content);
+    }
+
+    /**
+     * Adds an entry which is not a generated file, a compiled class for
+     * instance.
+     * @param name The name of the entry, its directories separated by
+     *             slashes.
+     * @param content The content of the entry.
+     */
+    public void writeEntry(String name, byte[] content) {
+        entries.put(name, content);
+    }
+
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Writes the archive.
+     */
+    @Override
+    public void close() throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(archive));
+             ZipOutputStream zip = open(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                zipEntry.setTime(ENTRY_TIME);
+                zip.putNextEntry(zipEntry);
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private ZipOutputStream open(OutputStream out) throws IOException {
+        if (!archive.getFileName().toString().toLowerCase().endsWith(".jar")) {
+            return new ZipOutputStream(out);
+        }
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        JarOutputStream jar = new JarOutputStream(out);
+        ZipEntry manifestEntry = new ZipEntry("META-INF/MANIFEST.MF");
+        manifestEntry.setTime(ENTRY_TIME);
+        jar.putNextEntry(manifestEntry);
+        manifest.write(jar);
+        jar.closeEntry();
+        return jar;
+    }
+
+    /**
+     * The name of the entry of a file: its path from the root, separated
+     * by slashes whatever the file system.
+     */
+    private String entryName(Path file) {
+        Path relative = root.toAbsolutePath().normalize().relativize(file.toAbsolutePath().normalize());
+        StringBuilder name = new StringBuilder();
+        for (Path part : relative) {
+            if (name.length() > 0) {
+                name.append('/');
+            }
+            name.append(part.toString());
+        }
+        return name.toString();
+    }
+}
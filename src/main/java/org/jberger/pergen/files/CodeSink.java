@@ -0,0 +1,141 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Receives the generated code of a file. The code is accumulated in a
+ * growable buffer and written to disk in one operation, the buffer being
+ * reused for the next file.
+ */
+public class CodeSink {
+
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private char[] buffer = new char[INITIAL_CAPACITY];
+    private int length = 0;
+    private ByteBuffer encoded = ByteBuffer.allocate(INITIAL_CAPACITY);
+    private CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+    public void write(String toWrite) {
+        int toWriteLength = toWrite.length();
+        ensureCapacity(length + toWriteLength);
+        toWrite.getChars(0, toWriteLength, buffer, length);
+        length += toWriteLength;
+    }
+
+    public void write(char toWrite) {
+        ensureCapacity(length + 1);
+        buffer[length++] = toWrite;
+    }
+
+    /**
+     * Appends characters, such as the constant parts of a template.
+     */
+    public void write(char[] toWrite) {
+        ensureCapacity(length + toWrite.length);
+        System.arraycopy(toWrite, 0, buffer, length, toWrite.length);
+        length += toWrite.length;
+    }
+
+    /**
+     * Appends the content of another sink.
+     */
+    public void write(CodeSink toWrite) {
+        ensureCapacity(length + toWrite.length);
+        System.arraycopy(toWrite.buffer, 0, buffer, length, toWrite.length);
+        length += toWrite.length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Empties the sink, keeping its buffer for the next file.
+     */
+    public void clear() {
+        length = 0;
+    }
+
+    /**
+     * Writes the content of the sink in a file, encoded in UTF-8, replacing
+     * the file if it already exists. The sink is emptied afterward.
+     *
+     * @param file The file to write.
+     * @return The number of bytes written.
+     * @throws IOException From the file channel.
+     */
+    public int writeTo(Path file) throws IOException {
+        ByteBuffer bytes = encode();
+        int size = bytes.remaining();
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } finally {
+            channel.close();
+        }
+        clear();
+        return size;
+    }
+
+    /**
+     * Encodes the content of the sink in UTF-8.
+     *
+     * @return A buffer ready to be read, owned by the sink and only valid
+     *         until the next call.
+     */
+    public ByteBuffer encode() {
+        CharBuffer characters = CharBuffer.wrap(buffer, 0, length);
+        int maximumSize = (int) (length * encoder.maxBytesPerChar());
+        if (encoded.capacity() < maximumSize) {
+            encoded = ByteBuffer.allocate(maximumSize);
+        }
+        encoded.clear();
+        encoder.reset();
+        CoderResult result = encoder.encode(characters, encoded, true);
+        if (result.isError()) {
+            throw new IllegalStateException("Unable to encode the generated code: " + result);
+        }
+        encoder.flush(encoded);
+        encoded.flip();
+        return encoded;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+}
@@ -15,15 +15,58 @@
  */
 package org.jberger.pergen.files;
 
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
 
 public class FileLoader {
-    public static String loadFileIntoString(String filePath) throws IOException {
-        byte[] fullSizeBuffer = new byte[(int) new File(filePath).length()];
-        FileInputStream inputStream = new FileInputStream(filePath);
-        inputStream.read(fullSizeBuffer);
-        return new String(fullSizeBuffer);
+    /**
+     * Opens a schema file for streaming, decoded as UTF-8, so the lexer reads
+     * it without the whole content being loaded in memory.
+     */
+    public static BufferedReader openReader(Path file) throws IOException {
+        return Files.newBufferedReader(file, StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+
+    /**
+     * Opens a schema file for streaming, updating a digest with the bytes of
+     * the file as they are read.
+     */
+    public static BufferedReader openReader(Path file, MessageDigest digest) throws IOException {
+        return new BufferedReader(new InputStreamReader(new DigestInputStream(Files.newInputStream(file), digest),
+                                                        StandardCharsets.UTF_8.newDecoder()));
+    }
+
+    /**
+     * Loads a schema file into a character buffer, decoded as UTF-8, for the
+     * parsers scanning the characters in place.
+     */
+    public static CharBuffer loadFileIntoBuffer(Path file) throws IOException {
+        return StandardCharsets.UTF_8.decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Reads the remaining characters of a reader into a character buffer.
+     */
+    public static CharBuffer loadIntoBuffer(Reader reader) throws IOException {
+        char[] buffer = new char[8192];
+        int length = 0;
+        int read;
+        while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        return CharBuffer.wrap(buffer, 0, length);
+    }
+}
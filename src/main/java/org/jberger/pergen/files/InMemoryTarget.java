@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.files;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the generated files in memory, encoded in UTF-8 as they would be on
+ * disk. Used to run the generators without disk I/O.
+ */
+public class InMemoryTarget implements OutputTarget {
+
+    private ConcurrentHashMap<Path, byte[]> files = new ConcurrentHashMap<Path, byte[]>();
+
+    @Override
+    public void createDirectory(Path directory) {
+    }
+
+    @Override
+    public int write(Path file, CodeSink content) {
+        ByteBuffer encoded = content.encode();
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+        content.clear();
+        files.put(file, bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Gets the generated files, sorted by path.
+     */
+    public Map<Path, byte[]> getFiles() {
+        return new TreeMap<Path, byte[]>(files);
+    }
+
+    /**
+     * Gets the content of a generated file.
+     * @return The content, null if the file was not generated.
+     */
+    public String getContent(Path file) {
+        byte[] bytes = files.get(file);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int getFileCount() {
+        return files.size();
+    }
+
+    /**
+     * Forgets the generated files.
+     */
+    public void clear() {
+        files.clear();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.files;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Receives the files produced by the generators. The paths are those the
+ * files would have on disk; an implementation decides where the content
+ * actually goes.
+ */
+public interface OutputTarget {
+
+    /**
+     * Prepares a directory which will receive generated files.
+     *
+     * @param directory The directory.
+     */
+    void createDirectory(Path directory) throws IOException;
+
+    /**
+     * Writes a generated file and empties the sink.
+     *
+     * @param file The file.
+     * @param content The generated code.
+     * @return The number of bytes written.
+     */
+    int write(Path file, CodeSink content) throws IOException;
+}
@@ -2,47 +2,8 @@
 
 package org.jberger.pergen.generated.analysis;
 
-import org.jberger.pergen.generated.node.TZero;
-import org.jberger.pergen.generated.node.AUnicityInnerDefinition;
-import org.jberger.pergen.generated.node.ARealDataType;
-import org.jberger.pergen.generated.node.AUnicityDefinition;
-import org.jberger.pergen.generated.node.AScript;
-import org.jberger.pergen.generated.node.TRPar;
-import org.jberger.pergen.generated.node.Node;
-import org.jberger.pergen.generated.node.TLPar;
-import org.jberger.pergen.generated.node.Start;
-import org.jberger.pergen.generated.node.ARelationInnerDefinition;
-import org.jberger.pergen.generated.node.TComma;
-import org.jberger.pergen.generated.node.TMany;
-import org.jberger.pergen.generated.node.AEntityDefinition;
-import org.jberger.pergen.generated.node.TOne;
-import org.jberger.pergen.generated.node.TEntity;
-import org.jberger.pergen.generated.node.AFieldInnerDefinition;
-import org.jberger.pergen.generated.node.THas;
-import org.jberger.pergen.generated.node.AStringDataType;
-import org.jberger.pergen.generated.node.TIdentifier;
-import org.jberger.pergen.generated.node.ADateDataType;
-import org.jberger.pergen.generated.node.TComment;
-import org.jberger.pergen.generated.node.AMoreInnerDefinition;
-import org.jberger.pergen.generated.node.AOneRelationDefinition;
-import org.jberger.pergen.generated.node.AManyRelationDefinition;
-import org.jberger.pergen.generated.node.TInteger;
-import org.jberger.pergen.generated.node.AMayBeZero;
-import org.jberger.pergen.generated.node.TNumber;
-import org.jberger.pergen.generated.node.TTo;
-import org.jberger.pergen.generated.node.TReal;
-import org.jberger.pergen.generated.node.TString;
-import org.jberger.pergen.generated.node.AMoreIdentifier;
-import org.jberger.pergen.generated.node.TSemicolon;
-import org.jberger.pergen.generated.node.TUnique;
-import org.jberger.pergen.generated.node.TRequired;
-import org.jberger.pergen.generated.node.AFieldDefinition;
-import org.jberger.pergen.generated.node.EOF;
-import org.jberger.pergen.generated.node.TBlank;
-import org.jberger.pergen.generated.node.AStringLength;
-import org.jberger.pergen.generated.node.TDate;
-import org.jberger.pergen.generated.node.AIntegerDataType;
 import java.util.*;
+import org.jberger.pergen.generated.node.*;
 
 public class AnalysisAdapter implements Analysis
 {
@@ -113,6 +74,11 @@ public class AnalysisAdapter implements Analysis
         defaultCase(node);
     }
 
+    public void caseAImportDefinition(AImportDefinition node)
+    {
+        defaultCase(node);
+    }
+
     public void caseAEntityDefinition(AEntityDefinition node)
     {
         defaultCase(node);
@@ -223,6 +189,11 @@ public class AnalysisAdapter implements Analysis
         defaultCase(node);
     }
 
+    public void caseTImport(TImport node)
+    {
+        defaultCase(node);
+    }
+
     public void caseTMany(TMany node)
     {
         defaultCase(node);
@@ -278,6 +249,11 @@ public class AnalysisAdapter implements Analysis
         defaultCase(node);
     }
 
+    public void caseTFileName(TFileName node)
+    {
+        defaultCase(node);
+    }
+
     public void caseTIdentifier(TIdentifier node)
     {
         defaultCase(node);
@@ -2,29 +2,8 @@
 
 package org.jberger.pergen.generated.analysis;
 
-import org.jberger.pergen.generated.node.AManyRelationDefinition;
-import org.jberger.pergen.generated.node.AOneRelationDefinition;
-import org.jberger.pergen.generated.node.AMoreInnerDefinition;
-import org.jberger.pergen.generated.node.AUnicityInnerDefinition;
-import org.jberger.pergen.generated.node.ARealDataType;
-import org.jberger.pergen.generated.node.AMayBeZero;
-import org.jberger.pergen.generated.node.AUnicityDefinition;
-import org.jberger.pergen.generated.node.AScript;
-import org.jberger.pergen.generated.node.Node;
-import org.jberger.pergen.generated.node.ARelationInnerDefinition;
-import org.jberger.pergen.generated.node.Start;
-import org.jberger.pergen.generated.node.PMoreInnerDefinition;
-import org.jberger.pergen.generated.node.AMoreIdentifier;
-import org.jberger.pergen.generated.node.AEntityDefinition;
-import org.jberger.pergen.generated.node.PEntityDefinition;
-import org.jberger.pergen.generated.node.AFieldInnerDefinition;
-import org.jberger.pergen.generated.node.PMoreIdentifier;
-import org.jberger.pergen.generated.node.AStringDataType;
-import org.jberger.pergen.generated.node.AFieldDefinition;
-import org.jberger.pergen.generated.node.ADateDataType;
-import org.jberger.pergen.generated.node.AStringLength;
-import org.jberger.pergen.generated.node.AIntegerDataType;
 import java.util.*;
+import org.jberger.pergen.generated.node.*;
 
 public class ReversedDepthFirstAdapter extends AnalysisAdapter
 {
@@ -79,9 +58,46 @@ public class ReversedDepthFirstAdapter extends AnalysisAdapter
                 e.apply(this);
             }
         }
+        {
+            List<PImportDefinition> copy = new ArrayList<PImportDefinition>(node.getImportDefinition());
+            Collections.reverse(copy);
+            for(PImportDefinition e : copy)
+            {
+                e.apply(this);
+            }
+        }
         outAScript(node);
     }
 
+    public void inAImportDefinition(AImportDefinition node)
+    {
+        defaultIn(node);
+    }
+
+    public void outAImportDefinition(AImportDefinition node)
+    {
+        defaultOut(node);
+    }
+
+    @Override
+    public void caseAImportDefinition(AImportDefinition node)
+    {
+        inAImportDefinition(node);
+        if(node.getSemicolon() != null)
+        {
+            node.getSemicolon().apply(this);
+        }
+        if(node.getFileName() != null)
+        {
+            node.getFileName().apply(this);
+        }
+        if(node.getImport() != null)
+        {
+            node.getImport().apply(this);
+        }
+        outAImportDefinition(node);
+    }
+
     public void inAEntityDefinition(AEntityDefinition node)
     {
         defaultIn(node);
@@ -2,29 +2,8 @@
 
 package org.jberger.pergen.generated.lexer;
 
-import org.jberger.pergen.generated.node.TZero;
-import org.jberger.pergen.generated.node.TInteger;
-import org.jberger.pergen.generated.node.TNumber;
-import org.jberger.pergen.generated.node.TTo;
-import org.jberger.pergen.generated.node.TReal;
-import org.jberger.pergen.generated.node.TRPar;
-import org.jberger.pergen.generated.node.TString;
-import org.jberger.pergen.generated.node.TLPar;
-import org.jberger.pergen.generated.node.TComma;
-import org.jberger.pergen.generated.node.TMany;
-import org.jberger.pergen.generated.node.TOne;
-import org.jberger.pergen.generated.node.TEntity;
-import org.jberger.pergen.generated.node.TSemicolon;
-import org.jberger.pergen.generated.node.TUnique;
-import org.jberger.pergen.generated.node.THas;
-import org.jberger.pergen.generated.node.TRequired;
-import org.jberger.pergen.generated.node.EOF;
-import org.jberger.pergen.generated.node.TIdentifier;
-import org.jberger.pergen.generated.node.TBlank;
-import org.jberger.pergen.generated.node.Token;
-import org.jberger.pergen.generated.node.TComment;
-import org.jberger.pergen.generated.node.TDate;
 import java.io.*;
+import org.jberger.pergen.generated.node.*;
 
 @SuppressWarnings("nls")
 public class Lexer
@@ -392,6 +371,28 @@ public class Lexer
                             this.line = accept_line;
                             return token;
                         }
+                    case 20:
+                        {
+                            @SuppressWarnings("hiding") Token token = new20(
+                                getText(accept_length),
+                                start_line + 1,
+                                start_pos + 1);
+                            pushBack(accept_length);
+                            this.pos = accept_pos;
+                            this.line = accept_line;
+                            return token;
+                        }
+                    case 21:
+                        {
+                            @SuppressWarnings("hiding") Token token = new21(
+                                getText(accept_length),
+                                start_line + 1,
+                                start_pos + 1);
+                            pushBack(accept_length);
+                            this.pos = accept_pos;
+                            this.line = accept_line;
+                            return token;
+                        }
                     }
                 }
                 else
@@ -418,20 +419,22 @@ public class Lexer
     Token new3(@SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TSemicolon(line, pos); }
     Token new4(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TEntity(text, line, pos); }
     Token new5(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new THas(text, line, pos); }
-    Token new6(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TMany(text, line, pos); }
-    Token new7(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TOne(text, line, pos); }
-    Token new8(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TRequired(text, line, pos); }
-    Token new9(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TTo(text, line, pos); }
-    Token new10(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TUnique(text, line, pos); }
-    Token new11(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TZero(text, line, pos); }
-    Token new12(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TDate(text, line, pos); }
-    Token new13(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TInteger(text, line, pos); }
-    Token new14(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TReal(text, line, pos); }
-    Token new15(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TString(text, line, pos); }
-    Token new16(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TNumber(text, line, pos); }
-    Token new17(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TIdentifier(text, line, pos); }
-    Token new18(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TBlank(text, line, pos); }
-    Token new19(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TComment(text, line, pos); }
+    Token new6(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TImport(text, line, pos); }
+    Token new7(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TMany(text, line, pos); }
+    Token new8(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TOne(text, line, pos); }
+    Token new9(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TRequired(text, line, pos); }
+    Token new10(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TTo(text, line, pos); }
+    Token new11(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TUnique(text, line, pos); }
+    Token new12(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TZero(text, line, pos); }
+    Token new13(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TDate(text, line, pos); }
+    Token new14(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TInteger(text, line, pos); }
+    Token new15(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TReal(text, line, pos); }
+    Token new16(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TString(text, line, pos); }
+    Token new17(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TNumber(text, line, pos); }
+    Token new18(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TFileName(text, line, pos); }
+    Token new19(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TIdentifier(text, line, pos); }
+    Token new20(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TBlank(text, line, pos); }
+    Token new21(@SuppressWarnings("hiding") String text, @SuppressWarnings("hiding") int line, @SuppressWarnings("hiding") int pos) { return new TComment(text, line, pos); }
 
     private int getChar() throws IOException
     {
@@ -491,30 +494,30 @@ public class Lexer
     private static int[][][][] gotoTable;
 /*  {
         { // INITIAL
-            {{9, 9, 1}, {10, 10, 2}, {13, 13, 3}, {32, 32, 4}, {40, 40, 5}, {41, 41, 6}, {44, 44, 7}, {47, 47, 8}, {48, 57, 9}, {59, 59, 10}, {65, 67, 11}, {68, 68, 12}, {69, 69, 13}, {70, 71, 11}, {72, 72, 14}, {73, 73, 15}, {74, 76, 11}, {77, 77, 16}, {78, 78, 11}, {79, 79, 17}, {80, 81, 11}, {82, 82, 18}, {83, 83, 19}, {84, 84, 20}, {85, 85, 21}, {86, 89, 11}, {90, 90, 22}, {97, 99, 23}, {100, 100, 24}, {101, 101, 25}, {102, 103, 23}, {104, 104, 26}, {105, 105, 27}, {106, 108, 23}, {109, 109, 28}, {110, 110, 23}, {111, 111, 29}, {112, 113, 23}, {114, 114, 30}, {115, 115, 31}, {116, 116, 32}, {117, 117, 33}, {118, 121, 23}, {122, 122, 34}, },
+            {{9, 9, 1}, {10, 10, 2}, {13, 13, 3}, {32, 32, 4}, {34, 34, 5}, {40, 40, 6}, {41, 41, 7}, {44, 44, 8}, {47, 47, 9}, {48, 57, 10}, {59, 59, 11}, {65, 67, 12}, {68, 68, 13}, {69, 69, 14}, {70, 71, 12}, {72, 72, 15}, {73, 73, 16}, {74, 76, 12}, {77, 77, 17}, {78, 78, 12}, {79, 79, 18}, {80, 81, 12}, {82, 82, 19}, {83, 83, 20}, {84, 84, 21}, {85, 85, 22}, {86, 89, 12}, {90, 90, 23}, {97, 99, 24}, {100, 100, 25}, {101, 101, 26}, {102, 103, 24}, {104, 104, 27}, {105, 105, 28}, {106, 108, 24}, {109, 109, 29}, {110, 110, 24}, {111, 111, 30}, {112, 113, 24}, {114, 114, 31}, {115, 115, 32}, {116, 116, 33}, {117, 117, 34}, {118, 121, 24}, {122, 122, 35}, },
             {{9, 32, -2}, },
             {{9, 32, -2}, },
-            {{9, 9, 1}, {10, 10, 35}, {13, 32, -2}, },
+            {{9, 9, 1}, {10, 10, 36}, {13, 32, -2}, },
             {{9, 32, -2}, },
+            {{0, 9, 37}, {11, 12, 37}, {14, 33, 37}, {35, 65535, 37}, },
             {},
             {},
             {},
-            {{42, 42, 36}, },
-            {{48, 57, 9}, },
+            {{42, 42, 38}, },
+            {{48, 57, 10}, },
             {},
-            {{48, 57, 37}, {65, 90, 38}, {95, 95, 39}, {97, 122, 40}, },
-            {{48, 57, 37}, {65, 65, 41}, {66, 90, 38}, {95, 95, 39}, {97, 97, 42}, {98, 122, 40}, },
-            {{48, 57, 37}, {65, 77, 38}, {78, 78, 43}, {79, 90, 38}, {95, 95, 39}, {97, 109, 40}, {110, 110, 44}, {111, 122, 40}, },
-            {{48, 57, 37}, {65, 65, 45}, {66, 95, -14}, {97, 97, 46}, {98, 122, 40}, },
-            {{48, 77, -15}, {78, 78, 47}, {79, 109, -15}, {110, 110, 48}, {111, 122, 40}, },
-            {{48, 57, 37}, {65, 65, 49}, {66, 95, -14}, {97, 97, 50}, {98, 122, 40}, },
-            {{48, 77, -15}, {78, 78, 51}, {79, 109, -15}, {110, 110, 52}, {111, 122, 40}, },
-            {{48, 57, 37}, {65, 68, 38}, {69, 69, 53}, {70, 90, 38}, {95, 95, 39}, {97, 100, 40}, {101, 101, 54}, {102, 122, 40}, },
-            {{48, 57, 37}, {65, 83, 38}, {84, 84, 55}, {85, 90, 38}, {95, 95, 39}, {97, 115, 40}, {116, 116, 56}, {117, 122, 40}, },
-            {{48, 57, 37}, {65, 78, 38}, {79, 79, 57}, {80, 90, 38}, {95, 95, 39}, {97, 110, 40}, {111, 111, 58}, {112, 122, 40}, },
-            {{48, 77, -15}, {78, 78, 59}, {79, 109, -15}, {110, 110, 60}, {111, 122, 40}, },
-            {{48, 68, -20}, {69, 69, 61}, {70, 100, -20}, {101, 101, 62}, {102, 122, 40}, },
-            {{48, 122, -13}, },
+            {{48, 57, 39}, {65, 90, 40}, {95, 95, 41}, {97, 122, 42}, },
+            {{48, 57, 39}, {65, 65, 43}, {66, 90, 40}, {95, 95, 41}, {97, 97, 44}, {98, 122, 42}, },
+            {{48, 57, 39}, {65, 77, 40}, {78, 78, 45}, {79, 90, 40}, {95, 95, 41}, {97, 109, 42}, {110, 110, 46}, {111, 122, 42}, },
+            {{48, 57, 39}, {65, 65, 47}, {66, 95, -15}, {97, 97, 48}, {98, 122, 42}, },
+            {{48, 57, 39}, {65, 76, 40}, {77, 77, 49}, {78, 78, 50}, {79, 95, -16}, {97, 108, 42}, {109, 109, 51}, {110, 110, 52}, {111, 122, 42}, },
+            {{48, 57, 39}, {65, 65, 53}, {66, 95, -15}, {97, 97, 54}, {98, 122, 42}, },
+            {{48, 77, -16}, {78, 78, 55}, {79, 109, -16}, {110, 110, 56}, {111, 122, 42}, },
+            {{48, 57, 39}, {65, 68, 40}, {69, 69, 57}, {70, 90, 40}, {95, 95, 41}, {97, 100, 42}, {101, 101, 58}, {102, 122, 42}, },
+            {{48, 57, 39}, {65, 83, 40}, {84, 84, 59}, {85, 90, 40}, {95, 95, 41}, {97, 115, 42}, {116, 116, 60}, {117, 122, 42}, },
+            {{48, 57, 39}, {65, 78, 40}, {79, 79, 61}, {80, 90, 40}, {95, 95, 41}, {97, 110, 42}, {111, 111, 62}, {112, 122, 42}, },
+            {{48, 77, -16}, {78, 78, 63}, {79, 109, -16}, {110, 110, 64}, {111, 122, 42}, },
+            {{48, 68, -21}, {69, 69, 65}, {70, 100, -21}, {101, 101, 66}, {102, 122, 42}, },
             {{48, 122, -14}, },
             {{48, 122, -15}, },
             {{48, 122, -16}, },
@@ -526,112 +529,125 @@ public class Lexer
             {{48, 122, -22}, },
             {{48, 122, -23}, },
             {{48, 122, -24}, },
+            {{48, 122, -25}, },
             {{9, 32, -2}, },
-            {{0, 41, 63}, {42, 42, 64}, {43, 46, 63}, {47, 47, 65}, {48, 65535, 63}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 83, -21}, {84, 84, 66}, {85, 115, -21}, {116, 116, 67}, {117, 122, 40}, },
-            {{48, 122, -43}, },
-            {{48, 83, -21}, {84, 84, 68}, {85, 115, -21}, {116, 116, 69}, {117, 122, 40}, },
+            {{0, 33, -7}, {34, 34, 67}, {35, 65535, 37}, },
+            {{0, 41, 68}, {42, 42, 69}, {43, 46, 68}, {47, 47, 70}, {48, 65535, 68}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 83, -22}, {84, 84, 71}, {85, 115, -22}, {116, 116, 72}, {117, 122, 42}, },
             {{48, 122, -45}, },
-            {{48, 57, 37}, {65, 82, 38}, {83, 83, 70}, {84, 90, 38}, {95, 95, 39}, {97, 114, 40}, {115, 115, 71}, {116, 122, 40}, },
+            {{48, 83, -22}, {84, 84, 73}, {85, 115, -22}, {116, 116, 74}, {117, 122, 42}, },
             {{48, 122, -47}, },
-            {{48, 83, -21}, {84, 84, 72}, {85, 115, -21}, {116, 116, 73}, {117, 122, 40}, },
+            {{48, 57, 39}, {65, 82, 40}, {83, 83, 75}, {84, 90, 40}, {95, 95, 41}, {97, 114, 42}, {115, 115, 76}, {116, 122, 42}, },
             {{48, 122, -49}, },
-            {{48, 77, -15}, {78, 78, 74}, {79, 109, -15}, {110, 110, 75}, {111, 122, 40}, },
+            {{48, 57, 39}, {65, 79, 40}, {80, 80, 77}, {81, 90, 40}, {95, 95, 41}, {97, 111, 42}, {112, 112, 78}, {113, 122, 42}, },
+            {{48, 83, -22}, {84, 84, 79}, {85, 115, -22}, {116, 116, 80}, {117, 122, 42}, },
             {{48, 122, -51}, },
-            {{48, 68, -20}, {69, 69, 76}, {70, 100, -20}, {101, 101, 77}, {102, 122, 40}, },
-            {{48, 122, -53}, },
-            {{48, 57, 37}, {65, 65, 78}, {66, 80, 38}, {81, 81, 79}, {82, 90, 38}, {95, 95, 39}, {97, 97, 80}, {98, 112, 40}, {113, 113, 81}, {114, 122, 40}, },
+            {{48, 122, -52}, },
+            {{48, 77, -16}, {78, 78, 81}, {79, 109, -16}, {110, 110, 82}, {111, 122, 42}, },
             {{48, 122, -55}, },
-            {{48, 57, 37}, {65, 81, 38}, {82, 82, 82}, {83, 90, 38}, {95, 95, 39}, {97, 113, 40}, {114, 114, 83}, {115, 122, 40}, },
+            {{48, 68, -21}, {69, 69, 83}, {70, 100, -21}, {101, 101, 84}, {102, 122, 42}, },
             {{48, 122, -57}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 57, 37}, {65, 72, 38}, {73, 73, 84}, {74, 90, 38}, {95, 95, 39}, {97, 104, 40}, {105, 105, 85}, {106, 122, 40}, },
+            {{48, 57, 39}, {65, 65, 85}, {66, 80, 40}, {81, 81, 86}, {82, 90, 40}, {95, 95, 41}, {97, 97, 87}, {98, 112, 42}, {113, 113, 88}, {114, 122, 42}, },
+            {{48, 122, -59}, },
+            {{48, 57, 39}, {65, 81, 40}, {82, 82, 89}, {83, 90, 40}, {95, 95, 41}, {97, 113, 42}, {114, 114, 90}, {115, 122, 42}, },
             {{48, 122, -61}, },
-            {{48, 81, -57}, {82, 82, 86}, {83, 113, -57}, {114, 114, 87}, {115, 122, 40}, },
-            {{48, 122, -63}, },
-            {{0, 41, 63}, {42, 42, 88}, {43, 46, 63}, {48, 65535, 63}, },
-            {{42, 42, 88}, },
-            {{42, 42, 88}, },
-            {{48, 68, -20}, {69, 69, 89}, {70, 100, -20}, {101, 101, 90}, {102, 122, 40}, },
-            {{48, 122, -68}, },
-            {{48, 72, -61}, {73, 73, 91}, {74, 104, -61}, {105, 105, 92}, {106, 122, 40}, },
-            {{48, 122, -70}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 68, -20}, {69, 69, 93}, {70, 100, -20}, {101, 101, 94}, {102, 122, 40}, },
-            {{48, 122, -74}, },
-            {{48, 57, 37}, {65, 88, 38}, {89, 89, 95}, {90, 90, 38}, {95, 95, 39}, {97, 120, 40}, {121, 121, 96}, {122, 122, 40}, },
-            {{48, 122, -76}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 57, 37}, {65, 75, 38}, {76, 76, 97}, {77, 90, 38}, {95, 95, 39}, {97, 107, 40}, {108, 108, 98}, {109, 122, 40}, },
-            {{48, 57, 37}, {65, 84, 38}, {85, 85, 99}, {86, 90, 38}, {95, 95, 39}, {97, 116, 40}, {117, 117, 100}, {118, 122, 40}, },
-            {{48, 122, -80}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 57, 39}, {65, 72, 40}, {73, 73, 91}, {74, 90, 40}, {95, 95, 41}, {97, 104, 42}, {105, 105, 92}, {106, 122, 42}, },
+            {{48, 122, -65}, },
+            {{48, 81, -61}, {82, 82, 93}, {83, 113, -61}, {114, 114, 94}, {115, 122, 42}, },
+            {{48, 122, -67}, },
+            {},
+            {{0, 41, 68}, {42, 42, 95}, {43, 46, 68}, {48, 65535, 68}, },
+            {{42, 42, 95}, },
+            {{42, 42, 95}, },
+            {{48, 68, -21}, {69, 69, 96}, {70, 100, -21}, {101, 101, 97}, {102, 122, 42}, },
+            {{48, 122, -73}, },
+            {{48, 72, -65}, {73, 73, 98}, {74, 104, -65}, {105, 105, 99}, {106, 122, 42}, },
+            {{48, 122, -75}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 78, -23}, {79, 79, 100}, {80, 110, -23}, {111, 111, 101}, {112, 122, 42}, },
+            {{48, 122, -79}, },
+            {{48, 68, -21}, {69, 69, 102}, {70, 100, -21}, {101, 101, 103}, {102, 122, 42}, },
             {{48, 122, -81}, },
-            {{48, 72, -61}, {73, 73, 101}, {74, 104, -61}, {105, 105, 102}, {106, 122, 40}, },
-            {{48, 122, -84}, },
-            {{48, 57, 37}, {65, 80, 38}, {81, 81, 103}, {82, 95, -55}, {97, 112, 40}, {113, 113, 104}, {114, 122, 40}, },
-            {{48, 122, -86}, },
-            {{48, 78, -22}, {79, 79, 105}, {80, 110, -22}, {111, 111, 106}, {112, 122, 40}, },
+            {{48, 57, 39}, {65, 88, 40}, {89, 89, 104}, {90, 90, 40}, {95, 95, 41}, {97, 120, 42}, {121, 121, 105}, {122, 122, 42}, },
+            {{48, 122, -83}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 57, 39}, {65, 75, 40}, {76, 76, 106}, {77, 90, 40}, {95, 95, 41}, {97, 107, 42}, {108, 108, 107}, {109, 122, 42}, },
+            {{48, 57, 39}, {65, 84, 40}, {85, 85, 108}, {86, 90, 40}, {95, 95, 41}, {97, 116, 42}, {117, 117, 109}, {118, 122, 42}, },
+            {{48, 122, -87}, },
             {{48, 122, -88}, },
-            {{47, 47, 107}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 83, -21}, {84, 84, 108}, {85, 115, -21}, {116, 116, 109}, {117, 122, 40}, },
+            {{48, 72, -65}, {73, 73, 110}, {74, 104, -65}, {105, 105, 111}, {106, 122, 42}, },
+            {{48, 122, -91}, },
+            {{48, 57, 39}, {65, 80, 40}, {81, 81, 112}, {82, 95, -59}, {97, 112, 42}, {113, 113, 113}, {114, 122, 42}, },
             {{48, 122, -93}, },
-            {{48, 57, 37}, {65, 70, 38}, {71, 71, 110}, {72, 90, 38}, {95, 95, 39}, {97, 102, 40}, {103, 103, 111}, {104, 122, 40}, },
+            {{48, 78, -23}, {79, 79, 114}, {80, 110, -23}, {111, 111, 115}, {112, 122, 42}, },
             {{48, 122, -95}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 72, -61}, {73, 73, 112}, {74, 104, -61}, {105, 105, 113}, {106, 122, 40}, },
-            {{48, 122, -101}, },
-            {{48, 77, -15}, {78, 78, 114}, {79, 109, -15}, {110, 110, 115}, {111, 122, 40}, },
-            {{48, 122, -103}, },
-            {{48, 84, -81}, {85, 85, 116}, {86, 116, -81}, {117, 117, 117}, {118, 122, 40}, },
-            {{48, 122, -105}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {},
-            {{48, 88, -76}, {89, 89, 118}, {90, 120, -76}, {121, 121, 119}, {122, 122, 40}, },
+            {{47, 47, 116}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 83, -22}, {84, 84, 117}, {85, 115, -22}, {116, 116, 118}, {117, 122, 42}, },
+            {{48, 122, -100}, },
+            {{48, 81, -61}, {82, 82, 119}, {83, 113, -61}, {114, 114, 120}, {115, 122, 42}, },
+            {{48, 122, -102}, },
+            {{48, 57, 39}, {65, 70, 40}, {71, 71, 121}, {72, 90, 40}, {95, 95, 41}, {97, 102, 42}, {103, 103, 122}, {104, 122, 42}, },
+            {{48, 122, -104}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 72, -65}, {73, 73, 123}, {74, 104, -65}, {105, 105, 124}, {106, 122, 42}, },
             {{48, 122, -110}, },
-            {{48, 68, -20}, {69, 69, 120}, {70, 100, -20}, {101, 101, 121}, {102, 122, 40}, },
+            {{48, 77, -16}, {78, 78, 125}, {79, 109, -16}, {110, 110, 126}, {111, 122, 42}, },
             {{48, 122, -112}, },
-            {{48, 81, -57}, {82, 82, 122}, {83, 113, -57}, {114, 114, 123}, {115, 122, 40}, },
+            {{48, 84, -88}, {85, 85, 127}, {86, 116, -88}, {117, 117, 128}, {118, 122, 42}, },
             {{48, 122, -114}, },
-            {{48, 70, -95}, {71, 71, 124}, {72, 102, -95}, {103, 103, 125}, {104, 122, 40}, },
-            {{48, 122, -116}, },
-            {{48, 68, -20}, {69, 69, 126}, {70, 100, -20}, {101, 101, 127}, {102, 122, 40}, },
-            {{48, 122, -118}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 81, -57}, {82, 82, 128}, {83, 113, -57}, {114, 114, 129}, {115, 122, 40}, },
-            {{48, 122, -122}, },
-            {{48, 68, -20}, {69, 69, 130}, {70, 100, -20}, {101, 101, 131}, {102, 122, 40}, },
-            {{48, 122, -124}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
-            {{48, 57, 37}, {65, 67, 38}, {68, 68, 132}, {69, 90, 38}, {95, 95, 39}, {97, 99, 40}, {100, 100, 133}, {101, 122, 40}, },
-            {{48, 122, -132}, },
-            {{48, 122, -13}, },
-            {{48, 122, -13}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {},
+            {{48, 88, -83}, {89, 89, 129}, {90, 120, -83}, {121, 121, 130}, {122, 122, 42}, },
+            {{48, 122, -119}, },
+            {{48, 83, -22}, {84, 84, 131}, {85, 115, -22}, {116, 116, 132}, {117, 122, 42}, },
+            {{48, 122, -121}, },
+            {{48, 68, -21}, {69, 69, 133}, {70, 100, -21}, {101, 101, 134}, {102, 122, 42}, },
+            {{48, 122, -123}, },
+            {{48, 81, -61}, {82, 82, 135}, {83, 113, -61}, {114, 114, 136}, {115, 122, 42}, },
+            {{48, 122, -125}, },
+            {{48, 70, -104}, {71, 71, 137}, {72, 102, -104}, {103, 103, 138}, {104, 122, 42}, },
+            {{48, 122, -127}, },
+            {{48, 68, -21}, {69, 69, 139}, {70, 100, -21}, {101, 101, 140}, {102, 122, 42}, },
+            {{48, 122, -129}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 81, -61}, {82, 82, 141}, {83, 113, -61}, {114, 114, 142}, {115, 122, 42}, },
+            {{48, 122, -135}, },
+            {{48, 68, -21}, {69, 69, 143}, {70, 100, -21}, {101, 101, 144}, {102, 122, 42}, },
+            {{48, 122, -137}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
+            {{48, 57, 39}, {65, 67, 40}, {68, 68, 145}, {69, 90, 40}, {95, 95, 41}, {97, 99, 42}, {100, 100, 146}, {101, 122, 42}, },
+            {{48, 122, -145}, },
+            {{48, 122, -14}, },
+            {{48, 122, -14}, },
         }
     };*/
 
     private static int[][] accept;
 /*  {
         // INITIAL
-        {-1, 18, 18, 18, 18, 0, 1, 2, -1, 16, 3, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 18, -1, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 9, 9, 17, 17, 17, 17, -1, -1, -1, 17, 17, 17, 17, 5, 5, 17, 17, 17, 17, 7, 7, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, -1, 12, 12, 17, 17, 17, 17, 6, 6, 14, 14, 17, 17, 17, 17, 17, 17, 11, 11, 19, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 4, 4, 17, 17, 17, 17, 15, 15, 10, 10, 13, 13, 17, 17, 8, 8, },
+        {-1, 20, 20, 20, 20, -1, 0, 1, 2, -1, 17, 3, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 20, -1, -1, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 10, 10, 19, 19, 19, 19, 18, -1, -1, -1, 19, 19, 19, 19, 5, 5, 19, 19, 19, 19, 19, 19, 8, 8, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, -1, 13, 13, 19, 19, 19, 19, 19, 19, 7, 7, 15, 15, 19, 19, 19, 19, 19, 19, 12, 12, 21, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 4, 4, 6, 6, 19, 19, 19, 19, 16, 16, 11, 11, 14, 14, 19, 19, 9, 9, },
 
     };*/
 
@@ -656,9 +672,9 @@ public class Lexer
     {
         try
         {
-            DataInputStream s = new DataInputStream(
-                new BufferedInputStream(
-                Lexer.class.getResourceAsStream("lexer.dat")));
+            // The tables of lexer.dat, compiled into a string constant by
+            // TableEncoder so no resource is read at startup.
+            LexerTables s = new LexerTables();
 
             // read gotoTable
             int length = s.readInt();
@@ -693,12 +709,10 @@ public class Lexer
                     accept[i][j] = s.readInt();
                 }
             }
-
-            s.close();
         }
         catch(Exception e)
         {
-            throw new RuntimeException("The file \"lexer.dat\" is either missing or corrupted.");
+            throw new RuntimeException("The tables of \"lexer.dat\" are corrupted.");
         }
     }
 }
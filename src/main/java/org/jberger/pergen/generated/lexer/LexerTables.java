@@ -0,0 +1,229 @@
+/* This file was generated by TableEncoder from lexer.dat, do not edit. */
+
+package org.jberger.pergen.generated.lexer;
+
+/**
+ * The tables of lexer.dat, read in the order of the file: every
+ * int is two chars, high half first, and every char is itself.
+ */
+final class LexerTables
+{
+    private static final String DATA =
+        "\u0000\u0001\u0000\u0093\u0000-\u0000\u0009\u0000\u0009\u0000\u0001\u0000\n\u0000\n" +
+        "\u0000\u0002\u0000\r\u0000\r\u0000\u0003\u0000 \u0000 \u0000\u0004\u0000\"" +
+        "\u0000\"\u0000\u0005\u0000(\u0000(\u0000\u0006\u0000)\u0000)\u0000\u0007" +
+        "\u0000,\u0000,\u0000\u0008\u0000/\u0000/\u0000\u0009\u00000\u00009" +
+        "\u0000\n\u0000;\u0000;\u0000\u000b\u0000A\u0000C\u0000\u000c\u0000D" +
+        "\u0000D\u0000\r\u0000E\u0000E\u0000\u000e\u0000F\u0000G\u0000\u000c" +
+        "\u0000H\u0000H\u0000\u000f\u0000I\u0000I\u0000\u0010\u0000J\u0000L" +
+        "\u0000\u000c\u0000M\u0000M\u0000\u0011\u0000N\u0000N\u0000\u000c\u0000O" +
+        "\u0000O\u0000\u0012\u0000P\u0000Q\u0000\u000c\u0000R\u0000R\u0000\u0013" +
+        "\u0000S\u0000S\u0000\u0014\u0000T\u0000T\u0000\u0015\u0000U\u0000U" +
+        "\u0000\u0016\u0000V\u0000Y\u0000\u000c\u0000Z\u0000Z\u0000\u0017\u0000a" +
+        "\u0000c\u0000\u0018\u0000d\u0000d\u0000\u0019\u0000e\u0000e\u0000\u001a" +
+        "\u0000f\u0000g\u0000\u0018\u0000h\u0000h\u0000\u001b\u0000i\u0000i" +
+        "\u0000\u001c\u0000j\u0000l\u0000\u0018\u0000m\u0000m\u0000\u001d\u0000n" +
+        "\u0000n\u0000\u0018\u0000o\u0000o\u0000\u001e\u0000p\u0000q\u0000\u0018" +
+        "\u0000r\u0000r\u0000\u001f\u0000s\u0000s\u0000 \u0000t\u0000t" +
+        "\u0000!\u0000u\u0000u\u0000\"\u0000v\u0000y\u0000\u0018\u0000z" +
+        "\u0000z\u0000#\u0000\u0001\u0000\u0009\u0000 \uffff\ufffe\u0000\u0001\u0000\u0009" +
+        "\u0000 \uffff\ufffe\u0000\u0003\u0000\u0009\u0000\u0009\u0000\u0001\u0000\n\u0000\n" +
+        "\u0000$\u0000\r\u0000 \uffff\ufffe\u0000\u0001\u0000\u0009\u0000 \uffff\ufffe" +
+        "\u0000\u0004\u0000\u0000\u0000\u0009\u0000%\u0000\u000b\u0000\u000c\u0000%\u0000\u000e" +
+        "\u0000!\u0000%\u0000#\u0000\uffff\u0000%\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0001\u0000*\u0000*\u0000&\u0000\u0001\u00000\u00009\u0000\n" +
+        "\u0000\u0000\u0000\u0004\u00000\u00009\u0000'\u0000A\u0000Z\u0000(" +
+        "\u0000_\u0000_\u0000)\u0000a\u0000z\u0000*\u0000\u0006\u00000" +
+        "\u00009\u0000'\u0000A\u0000A\u0000+\u0000B\u0000Z\u0000(" +
+        "\u0000_\u0000_\u0000)\u0000a\u0000a\u0000,\u0000b\u0000z" +
+        "\u0000*\u0000\u0008\u00000\u00009\u0000'\u0000A\u0000M\u0000(" +
+        "\u0000N\u0000N\u0000-\u0000O\u0000Z\u0000(\u0000_\u0000_" +
+        "\u0000)\u0000a\u0000m\u0000*\u0000n\u0000n\u0000.\u0000o" +
+        "\u0000z\u0000*\u0000\u0005\u00000\u00009\u0000'\u0000A\u0000A" +
+        "\u0000/\u0000B\u0000_\uffff\ufff1\u0000a\u0000a\u00000\u0000b" +
+        "\u0000z\u0000*\u0000\u0009\u00000\u00009\u0000'\u0000A\u0000L" +
+        "\u0000(\u0000M\u0000M\u00001\u0000N\u0000N\u00002\u0000O" +
+        "\u0000_\uffff\ufff0\u0000a\u0000l\u0000*\u0000m\u0000m\u00003" +
+        "\u0000n\u0000n\u00004\u0000o\u0000z\u0000*\u0000\u0005\u00000" +
+        "\u00009\u0000'\u0000A\u0000A\u00005\u0000B\u0000_\uffff\ufff1" +
+        "\u0000a\u0000a\u00006\u0000b\u0000z\u0000*\u0000\u0005\u00000" +
+        "\u0000M\uffff\ufff0\u0000N\u0000N\u00007\u0000O\u0000m\uffff\ufff0" +
+        "\u0000n\u0000n\u00008\u0000o\u0000z\u0000*\u0000\u0008\u00000" +
+        "\u00009\u0000'\u0000A\u0000D\u0000(\u0000E\u0000E\u00009" +
+        "\u0000F\u0000Z\u0000(\u0000_\u0000_\u0000)\u0000a\u0000d" +
+        "\u0000*\u0000e\u0000e\u0000:\u0000f\u0000z\u0000*\u0000\u0008" +
+        "\u00000\u00009\u0000'\u0000A\u0000S\u0000(\u0000T\u0000T" +
+        "\u0000;\u0000U\u0000Z\u0000(\u0000_\u0000_\u0000)\u0000a" +
+        "\u0000s\u0000*\u0000t\u0000t\u0000<\u0000u\u0000z\u0000*" +
+        "\u0000\u0008\u00000\u00009\u0000'\u0000A\u0000N\u0000(\u0000O" +
+        "\u0000O\u0000=\u0000P\u0000Z\u0000(\u0000_\u0000_\u0000)" +
+        "\u0000a\u0000n\u0000*\u0000o\u0000o\u0000>\u0000p\u0000z" +
+        "\u0000*\u0000\u0005\u00000\u0000M\uffff\ufff0\u0000N\u0000N\u0000?" +
+        "\u0000O\u0000m\uffff\ufff0\u0000n\u0000n\u0000@\u0000o\u0000z" +
+        "\u0000*\u0000\u0005\u00000\u0000D\uffff\uffeb\u0000E\u0000E\u0000A" +
+        "\u0000F\u0000d\uffff\uffeb\u0000e\u0000e\u0000B\u0000f\u0000z" +
+        "\u0000*\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z" +
+        "\uffff\ufff1\u0000\u0001\u00000\u0000z\uffff\ufff0\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffef\u0000\u0001\u00000\u0000z\uffff\uffee\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffed\u0000\u0001\u00000\u0000z\uffff\uffec\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffeb\u0000\u0001\u00000\u0000z\uffff\uffea\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffe9\u0000\u0001\u00000\u0000z\uffff\uffe8\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffe7\u0000\u0001\u0000\u0009\u0000 \uffff\ufffe\u0000\u0003\u0000\u0000\u0000!" +
+        "\uffff\ufff9\u0000\"\u0000\"\u0000C\u0000#\u0000\uffff\u0000%\u0000\u0005" +
+        "\u0000\u0000\u0000)\u0000D\u0000*\u0000*\u0000E\u0000+\u0000." +
+        "\u0000D\u0000/\u0000/\u0000F\u00000\u0000\uffff\u0000D\u0000\u0001" +
+        "\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001" +
+        "\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0005" +
+        "\u00000\u0000S\uffff\uffea\u0000T\u0000T\u0000G\u0000U\u0000s" +
+        "\uffff\uffea\u0000t\u0000t\u0000H\u0000u\u0000z\u0000*\u0000\u0001" +
+        "\u00000\u0000z\uffff\uffd3\u0000\u0005\u00000\u0000S\uffff\uffea\u0000T" +
+        "\u0000T\u0000I\u0000U\u0000s\uffff\uffea\u0000t\u0000t\u0000J" +
+        "\u0000u\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uffd1\u0000\u0008" +
+        "\u00000\u00009\u0000'\u0000A\u0000R\u0000(\u0000S\u0000S" +
+        "\u0000K\u0000T\u0000Z\u0000(\u0000_\u0000_\u0000)\u0000a" +
+        "\u0000r\u0000*\u0000s\u0000s\u0000L\u0000t\u0000z\u0000*" +
+        "\u0000\u0001\u00000\u0000z\uffff\uffcf\u0000\u0008\u00000\u00009\u0000'" +
+        "\u0000A\u0000O\u0000(\u0000P\u0000P\u0000M\u0000Q\u0000Z" +
+        "\u0000(\u0000_\u0000_\u0000)\u0000a\u0000o\u0000*\u0000p" +
+        "\u0000p\u0000N\u0000q\u0000z\u0000*\u0000\u0005\u00000\u0000S" +
+        "\uffff\uffea\u0000T\u0000T\u0000O\u0000U\u0000s\uffff\uffea\u0000t" +
+        "\u0000t\u0000P\u0000u\u0000z\u0000*\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffcd\u0000\u0001\u00000\u0000z\uffff\uffcc\u0000\u0005\u00000\u0000M" +
+        "\uffff\ufff0\u0000N\u0000N\u0000Q\u0000O\u0000m\uffff\ufff0\u0000n" +
+        "\u0000n\u0000R\u0000o\u0000z\u0000*\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffc9\u0000\u0005\u00000\u0000D\uffff\uffeb\u0000E\u0000E\u0000S" +
+        "\u0000F\u0000d\uffff\uffeb\u0000e\u0000e\u0000T\u0000f\u0000z" +
+        "\u0000*\u0000\u0001\u00000\u0000z\uffff\uffc7\u0000\n\u00000\u00009" +
+        "\u0000'\u0000A\u0000A\u0000U\u0000B\u0000P\u0000(\u0000Q" +
+        "\u0000Q\u0000V\u0000R\u0000Z\u0000(\u0000_\u0000_\u0000)" +
+        "\u0000a\u0000a\u0000W\u0000b\u0000p\u0000*\u0000q\u0000q" +
+        "\u0000X\u0000r\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uffc5" +
+        "\u0000\u0008\u00000\u00009\u0000'\u0000A\u0000Q\u0000(\u0000R" +
+        "\u0000R\u0000Y\u0000S\u0000Z\u0000(\u0000_\u0000_\u0000)" +
+        "\u0000a\u0000q\u0000*\u0000r\u0000r\u0000Z\u0000s\u0000z" +
+        "\u0000*\u0000\u0001\u00000\u0000z\uffff\uffc3\u0000\u0001\u00000\u0000z" +
+        "\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0008\u00000\u00009" +
+        "\u0000'\u0000A\u0000H\u0000(\u0000I\u0000I\u0000[\u0000J" +
+        "\u0000Z\u0000(\u0000_\u0000_\u0000)\u0000a\u0000h\u0000*" +
+        "\u0000i\u0000i\u0000\\\u0000j\u0000z\u0000*\u0000\u0001\u00000" +
+        "\u0000z\uffff\uffbf\u0000\u0005\u00000\u0000Q\uffff\uffc3\u0000R\u0000R" +
+        "\u0000]\u0000S\u0000q\uffff\uffc3\u0000r\u0000r\u0000^\u0000s" +
+        "\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uffbd\u0000\u0000\u0000\u0004" +
+        "\u0000\u0000\u0000)\u0000D\u0000*\u0000*\u0000_\u0000+\u0000." +
+        "\u0000D\u00000\u0000\uffff\u0000D\u0000\u0001\u0000*\u0000*\u0000_" +
+        "\u0000\u0001\u0000*\u0000*\u0000_\u0000\u0005\u00000\u0000D\uffff\uffeb" +
+        "\u0000E\u0000E\u0000`\u0000F\u0000d\uffff\uffeb\u0000e\u0000e" +
+        "\u0000a\u0000f\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uffb7" +
+        "\u0000\u0005\u00000\u0000H\uffff\uffbf\u0000I\u0000I\u0000b\u0000J" +
+        "\u0000h\uffff\uffbf\u0000i\u0000i\u0000c\u0000j\u0000z\u0000*" +
+        "\u0000\u0001\u00000\u0000z\uffff\uffb5\u0000\u0001\u00000\u0000z\uffff\ufff2" +
+        "\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0005\u00000\u0000N\uffff\uffe9" +
+        "\u0000O\u0000O\u0000d\u0000P\u0000n\uffff\uffe9\u0000o\u0000o" +
+        "\u0000e\u0000p\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uffb1" +
+        "\u0000\u0005\u00000\u0000D\uffff\uffeb\u0000E\u0000E\u0000f\u0000F" +
+        "\u0000d\uffff\uffeb\u0000e\u0000e\u0000g\u0000f\u0000z\u0000*" +
+        "\u0000\u0001\u00000\u0000z\uffff\uffaf\u0000\u0008\u00000\u00009\u0000'" +
+        "\u0000A\u0000X\u0000(\u0000Y\u0000Y\u0000h\u0000Z\u0000Z" +
+        "\u0000(\u0000_\u0000_\u0000)\u0000a\u0000x\u0000*\u0000y" +
+        "\u0000y\u0000i\u0000z\u0000z\u0000*\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffad\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z" +
+        "\uffff\ufff2\u0000\u0008\u00000\u00009\u0000'\u0000A\u0000K\u0000(" +
+        "\u0000L\u0000L\u0000j\u0000M\u0000Z\u0000(\u0000_\u0000_" +
+        "\u0000)\u0000a\u0000k\u0000*\u0000l\u0000l\u0000k\u0000m" +
+        "\u0000z\u0000*\u0000\u0008\u00000\u00009\u0000'\u0000A\u0000T" +
+        "\u0000(\u0000U\u0000U\u0000l\u0000V\u0000Z\u0000(\u0000_" +
+        "\u0000_\u0000)\u0000a\u0000t\u0000*\u0000u\u0000u\u0000m" +
+        "\u0000v\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uffa9\u0000\u0001" +
+        "\u00000\u0000z\uffff\uffa8\u0000\u0005\u00000\u0000H\uffff\uffbf\u0000I" +
+        "\u0000I\u0000n\u0000J\u0000h\uffff\uffbf\u0000i\u0000i\u0000o" +
+        "\u0000j\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uffa5\u0000\u0007" +
+        "\u00000\u00009\u0000'\u0000A\u0000P\u0000(\u0000Q\u0000Q" +
+        "\u0000p\u0000R\u0000_\uffff\uffc5\u0000a\u0000p\u0000*\u0000q" +
+        "\u0000q\u0000q\u0000r\u0000z\u0000*\u0000\u0001\u00000\u0000z" +
+        "\uffff\uffa3\u0000\u0005\u00000\u0000N\uffff\uffe9\u0000O\u0000O\u0000r" +
+        "\u0000P\u0000n\uffff\uffe9\u0000o\u0000o\u0000s\u0000p\u0000z" +
+        "\u0000*\u0000\u0001\u00000\u0000z\uffff\uffa1\u0000\u0001\u0000/\u0000/" +
+        "\u0000t\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z" +
+        "\uffff\ufff2\u0000\u0005\u00000\u0000S\uffff\uffea\u0000T\u0000T\u0000u" +
+        "\u0000U\u0000s\uffff\uffea\u0000t\u0000t\u0000v\u0000u\u0000z" +
+        "\u0000*\u0000\u0001\u00000\u0000z\uffff\uff9c\u0000\u0005\u00000\u0000Q" +
+        "\uffff\uffc3\u0000R\u0000R\u0000w\u0000S\u0000q\uffff\uffc3\u0000r" +
+        "\u0000r\u0000x\u0000s\u0000z\u0000*\u0000\u0001\u00000\u0000z" +
+        "\uffff\uff9a\u0000\u0008\u00000\u00009\u0000'\u0000A\u0000F\u0000(" +
+        "\u0000G\u0000G\u0000y\u0000H\u0000Z\u0000(\u0000_\u0000_" +
+        "\u0000)\u0000a\u0000f\u0000*\u0000g\u0000g\u0000z\u0000h" +
+        "\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uff98\u0000\u0001\u00000" +
+        "\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000" +
+        "\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0005\u00000" +
+        "\u0000H\uffff\uffbf\u0000I\u0000I\u0000{\u0000J\u0000h\uffff\uffbf" +
+        "\u0000i\u0000i\u0000|\u0000j\u0000z\u0000*\u0000\u0001\u00000" +
+        "\u0000z\uffff\uff92\u0000\u0005\u00000\u0000M\uffff\ufff0\u0000N\u0000N" +
+        "\u0000}\u0000O\u0000m\uffff\ufff0\u0000n\u0000n\u0000~\u0000o" +
+        "\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uff90\u0000\u0005\u00000" +
+        "\u0000T\uffff\uffa8\u0000U\u0000U\u0000\u007f\u0000V\u0000t\uffff\uffa8" +
+        "\u0000u\u0000u\u0000\u0080\u0000v\u0000z\u0000*\u0000\u0001\u00000" +
+        "\u0000z\uffff\uff8e\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000" +
+        "\u0000z\uffff\ufff2\u0000\u0000\u0000\u0005\u00000\u0000X\uffff\uffad\u0000Y" +
+        "\u0000Y\u0000\u0081\u0000Z\u0000x\uffff\uffad\u0000y\u0000y\u0000\u0082" +
+        "\u0000z\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uff89\u0000\u0005" +
+        "\u00000\u0000S\uffff\uffea\u0000T\u0000T\u0000\u0083\u0000U\u0000s" +
+        "\uffff\uffea\u0000t\u0000t\u0000\u0084\u0000u\u0000z\u0000*\u0000\u0001" +
+        "\u00000\u0000z\uffff\uff87\u0000\u0005\u00000\u0000D\uffff\uffeb\u0000E" +
+        "\u0000E\u0000\u0085\u0000F\u0000d\uffff\uffeb\u0000e\u0000e\u0000\u0086" +
+        "\u0000f\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uff85\u0000\u0005" +
+        "\u00000\u0000Q\uffff\uffc3\u0000R\u0000R\u0000\u0087\u0000S\u0000q" +
+        "\uffff\uffc3\u0000r\u0000r\u0000\u0088\u0000s\u0000z\u0000*\u0000\u0001" +
+        "\u00000\u0000z\uffff\uff83\u0000\u0005\u00000\u0000F\uffff\uff98\u0000G" +
+        "\u0000G\u0000\u0089\u0000H\u0000f\uffff\uff98\u0000g\u0000g\u0000\u008a" +
+        "\u0000h\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uff81\u0000\u0005" +
+        "\u00000\u0000D\uffff\uffeb\u0000E\u0000E\u0000\u008b\u0000F\u0000d" +
+        "\uffff\uffeb\u0000e\u0000e\u0000\u008c\u0000f\u0000z\u0000*\u0000\u0001" +
+        "\u00000\u0000z\uffff\uff7f\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001" +
+        "\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001" +
+        "\u00000\u0000z\uffff\ufff2\u0000\u0005\u00000\u0000Q\uffff\uffc3\u0000R" +
+        "\u0000R\u0000\u008d\u0000S\u0000q\uffff\uffc3\u0000r\u0000r\u0000\u008e" +
+        "\u0000s\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uff79\u0000\u0005" +
+        "\u00000\u0000D\uffff\uffeb\u0000E\u0000E\u0000\u008f\u0000F\u0000d" +
+        "\uffff\uffeb\u0000e\u0000e\u0000\u0090\u0000f\u0000z\u0000*\u0000\u0001" +
+        "\u00000\u0000z\uffff\uff77\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001" +
+        "\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001" +
+        "\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001" +
+        "\u00000\u0000z\uffff\ufff2\u0000\u0008\u00000\u00009\u0000'\u0000A" +
+        "\u0000C\u0000(\u0000D\u0000D\u0000\u0091\u0000E\u0000Z\u0000(" +
+        "\u0000_\u0000_\u0000)\u0000a\u0000c\u0000*\u0000d\u0000d" +
+        "\u0000\u0092\u0000e\u0000z\u0000*\u0000\u0001\u00000\u0000z\uffff\uff6f" +
+        "\u0000\u0001\u00000\u0000z\uffff\ufff2\u0000\u0001\u00000\u0000z\uffff\ufff2" +
+        "\u0000\u0001\u0000\u0093\uffff\uffff\u0000\u0014\u0000\u0014\u0000\u0014\u0000\u0014\uffff\uffff" +
+        "\u0000\u0000\u0000\u0001\u0000\u0002\uffff\uffff\u0000\u0011\u0000\u0003\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0014\uffff\uffff" +
+        "\uffff\uffff\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\n" +
+        "\u0000\n\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0012\uffff\uffff\uffff\uffff" +
+        "\uffff\uffff\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0005\u0000\u0005\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0008\u0000\u0008\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\uffff\uffff\u0000\r\u0000\r\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0007\u0000\u0007\u0000\u000f\u0000\u000f\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u000c\u0000\u000c\u0000\u0015\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0004\u0000\u0004\u0000\u0006\u0000\u0006\u0000\u0013" +
+        "\u0000\u0013\u0000\u0013\u0000\u0013\u0000\u0010\u0000\u0010\u0000\u000b\u0000\u000b\u0000\u000e" +
+        "\u0000\u000e\u0000\u0013\u0000\u0013\u0000\u0009\u0000\u0009";
+
+    private int position;
+
+    int readInt()
+    {
+        int value = (DATA.charAt(this.position) << 16) | DATA.charAt(this.position + 1);
+        this.position += 2;
+        return value;
+    }
+
+    char readChar()
+    {
+        return DATA.charAt(this.position++);
+    }
+}
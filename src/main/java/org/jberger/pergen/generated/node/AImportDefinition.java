@@ -0,0 +1,180 @@
+/* This file was generated by SableCC (http://www.sablecc.org/). */
+
+package org.jberger.pergen.generated.node;
+
+import org.jberger.pergen.generated.analysis.*;
+
+@SuppressWarnings("nls")
+public final class AImportDefinition extends PImportDefinition
+{
+    private TImport _import_;
+    private TFileName _fileName_;
+    private TSemicolon _semicolon_;
+
+    public AImportDefinition()
+    {
+        // Constructor
+    }
+
+    public AImportDefinition(
+        @SuppressWarnings("hiding") TImport _import_,
+        @SuppressWarnings("hiding") TFileName _fileName_,
+        @SuppressWarnings("hiding") TSemicolon _semicolon_)
+    {
+        // Constructor
+        setImport(_import_);
+
+        setFileName(_fileName_);
+
+        setSemicolon(_semicolon_);
+
+    }
+
+    @Override
+    public Object clone()
+    {
+        return new AImportDefinition(
+            cloneNode(this._import_),
+            cloneNode(this._fileName_),
+            cloneNode(this._semicolon_));
+    }
+
+    public void apply(Switch sw)
+    {
+        ((Analysis) sw).caseAImportDefinition(this);
+    }
+
+    public TImport getImport()
+    {
+        return this._import_;
+    }
+
+    public void setImport(TImport node)
+    {
+        if(this._import_ != null)
+        {
+            this._import_.parent(null);
+        }
+
+        if(node != null)
+        {
+            if(node.parent() != null)
+            {
+                node.parent().removeChild(node);
+            }
+
+            node.parent(this);
+        }
+
+        this._import_ = node;
+    }
+
+    public TFileName getFileName()
+    {
+        return this._fileName_;
+    }
+
+    public void setFileName(TFileName node)
+    {
+        if(this._fileName_ != null)
+        {
+            this._fileName_.parent(null);
+        }
+
+        if(node != null)
+        {
+            if(node.parent() != null)
+            {
+                node.parent().removeChild(node);
+            }
+
+            node.parent(this);
+        }
+
+        this._fileName_ = node;
+    }
+
+    public TSemicolon getSemicolon()
+    {
+        return this._semicolon_;
+    }
+
+    public void setSemicolon(TSemicolon node)
+    {
+        if(this._semicolon_ != null)
+        {
+            this._semicolon_.parent(null);
+        }
+
+        if(node != null)
+        {
+            if(node.parent() != null)
+            {
+                node.parent().removeChild(node);
+            }
+
+            node.parent(this);
+        }
+
+        this._semicolon_ = node;
+    }
+
+    @Override
+    public String toString()
+    {
+        return ""
+            + toString(this._import_)
+            + toString(this._fileName_)
+            + toString(this._semicolon_);
+    }
+
+    @Override
+    void removeChild(@SuppressWarnings("unused") Node child)
+    {
+        // Remove child
+        if(this._import_ == child)
+        {
+            this._import_ = null;
+            return;
+        }
+
+        if(this._fileName_ == child)
+        {
+            this._fileName_ = null;
+            return;
+        }
+
+        if(this._semicolon_ == child)
+        {
+            this._semicolon_ = null;
+            return;
+        }
+
+        throw new RuntimeException("Not a child.");
+    }
+
+    @Override
+    void replaceChild(@SuppressWarnings("unused") Node oldChild, @SuppressWarnings("unused") Node newChild)
+    {
+        // Replace child
+        if(this._import_ == oldChild)
+        {
+            setImport((TImport) newChild);
+            return;
+        }
+
+        if(this._fileName_ == oldChild)
+        {
+            setFileName((TFileName) newChild);
+            return;
+        }
+
+        if(this._semicolon_ == oldChild)
+        {
+            setSemicolon((TSemicolon) newChild);
+            return;
+        }
+
+        throw new RuntimeException("Not a child.");
+    }
+}
@@ -2,12 +2,13 @@
 
 package org.jberger.pergen.generated.node;
 
-import org.jberger.pergen.generated.analysis.Analysis;
 import java.util.*;
+import org.jberger.pergen.generated.analysis.*;
 
 @SuppressWarnings("nls")
 public final class AScript extends PScript
 {
+    private final LinkedList<PImportDefinition> _importDefinition_ = new LinkedList<PImportDefinition>();
     private final LinkedList<PEntityDefinition> _entityDefinition_ = new LinkedList<PEntityDefinition>();
 
     public AScript()
@@ -16,9 +17,12 @@ public final class AScript extends PScript
     }
 
     public AScript(
+        @SuppressWarnings("hiding") List<PImportDefinition> _importDefinition_,
         @SuppressWarnings("hiding") List<PEntityDefinition> _entityDefinition_)
     {
         // Constructor
+        setImportDefinition(_importDefinition_);
+
         setEntityDefinition(_entityDefinition_);
 
     }
@@ -27,6 +31,7 @@ public final class AScript extends PScript
     public Object clone()
     {
         return new AScript(
+            cloneList(this._importDefinition_),
             cloneList(this._entityDefinition_));
     }
 
@@ -35,6 +40,26 @@ public final class AScript extends PScript
         ((Analysis) sw).caseAScript(this);
     }
 
+    public LinkedList<PImportDefinition> getImportDefinition()
+    {
+        return this._importDefinition_;
+    }
+
+    public void setImportDefinition(List<PImportDefinition> list)
+    {
+        this._importDefinition_.clear();
+        this._importDefinition_.addAll(list);
+        for(PImportDefinition e : list)
+        {
+            if(e.parent() != null)
+            {
+                e.parent().removeChild(e);
+            }
+
+            e.parent(this);
+        }
+    }
+
     public LinkedList<PEntityDefinition> getEntityDefinition()
     {
         return this._entityDefinition_;
@@ -59,6 +84,7 @@ public final class AScript extends PScript
     public String toString()
     {
         return ""
+            + toString(this._importDefinition_)
             + toString(this._entityDefinition_);
     }
 
@@ -66,6 +92,11 @@ public final class AScript extends PScript
     void removeChild(@SuppressWarnings("unused") Node child)
     {
         // Remove child
+        if(this._importDefinition_.remove(child))
+        {
+            return;
+        }
+
         if(this._entityDefinition_.remove(child))
         {
             return;
@@ -78,6 +109,24 @@ public final class AScript extends PScript
     void replaceChild(@SuppressWarnings("unused") Node oldChild, @SuppressWarnings("unused") Node newChild)
     {
         // Replace child
+        for(ListIterator<PImportDefinition> i = this._importDefinition_.listIterator(); i.hasNext();)
+        {
+            if(i.next() == oldChild)
+            {
+                if(newChild != null)
+                {
+                    i.set((PImportDefinition) newChild);
+                    newChild.parent(this);
+                    oldChild.parent(null);
+                    return;
+                }
+
+                i.remove();
+                oldChild.parent(null);
+                return;
+            }
+        }
+
         for(ListIterator<PEntityDefinition> i = this._entityDefinition_.listIterator(); i.hasNext();)
         {
             if(i.next() == oldChild)
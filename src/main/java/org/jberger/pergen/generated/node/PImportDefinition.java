@@ -0,0 +1,8 @@
+/* This file was generated by SableCC (http://www.sablecc.org/). */
+
+package org.jberger.pergen.generated.node;
+
+public abstract class PImportDefinition extends Node
+{
+    // Empty body
+}
@@ -0,0 +1,32 @@
+/* This file was generated by SableCC (http://www.sablecc.org/). */
+
+package org.jberger.pergen.generated.node;
+
+import org.jberger.pergen.generated.analysis.*;
+
+@SuppressWarnings("nls")
+public final class TFileName extends Token
+{
+    public TFileName(String text)
+    {
+        setText(text);
+    }
+
+    public TFileName(String text, int line, int pos)
+    {
+        setText(text);
+        setLine(line);
+        setPos(pos);
+    }
+
+    @Override
+    public Object clone()
+    {
+      return new TFileName(getText(), getLine(), getPos());
+    }
+
+    public void apply(Switch sw)
+    {
+        ((Analysis) sw).caseTFileName(this);
+    }
+}
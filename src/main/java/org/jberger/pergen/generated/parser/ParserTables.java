@@ -0,0 +1,117 @@
+/* This file was generated by TableEncoder from parser.dat, do not edit. */
+
+package org.jberger.pergen.generated.parser;
+
+/**
+ * The tables of parser.dat, read in the order of the file: every
+ * int is two chars, high half first, and every char is itself.
+ */
+final class ParserTables
+{
+    private static final String DATA =
+        "\u0000=\u0000\u0003\uffff\uffff\u0000\u0001\u0000\u0000\u0000\u0004\u0000\u0000\u0000\u0001" +
+        "\u0000\u0006\u0000\u0000\u0000\u0002\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0001\u0000\u0013" +
+        "\u0000\u0000\u0000\u0008\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0002\u0000\u0012\u0000\u0000" +
+        "\u0000\u0009\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0003\u0000\u0014\u0000\u0002\uffff\uffff" +
+        "\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u001b\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u001d" +
+        "\u0000\u0003\uffff\uffff\u0000\u0001\u0000\u0001\u0000\u0004\u0000\u0000\u0000\u0001\u0000\u0006" +
+        "\u0000\u0000\u0000\u0002\u0000\u0002\uffff\uffff\u0000\u0001\u0000\u0002\u0000\u0004\u0000\u0000" +
+        "\u0000\u0001\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0008\u0000\u0000\u0000\u0000\u0000\r" +
+        "\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0009\u0000\u0003\u0000\u0000\u0000\u000e\u0000\u0001" +
+        "\uffff\uffff\u0000\u0001\u0000\u001c\u0000\u0002\uffff\uffff\u0000\u0001\u0000\u0003\u0000\u0004" +
+        "\u0000\u0000\u0000\u0001\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u001e\u0000\u0004\uffff\uffff" +
+        "\u0000\u0003\u0000\r\u0000\u0005\u0000\u0000\u0000\u000f\u0000\u000b\u0000\u0000\u0000\u0010" +
+        "\u0000\u0013\u0000\u0000\u0000\u0011\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0004\u0000\u0004" +
+        "\uffff\uffff\u0000\u0003\u0000\u000f\u0000\u0007\u0000\u0000\u0000\u0016\u0000\u0008\u0000\u0000" +
+        "\u0000\u0017\u0000\u000c\u0000\u0000\u0000\u0018\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0010" +
+        "\u0000\u0000\u0000\u0000\u0000\u001a\u0000\u0005\uffff\uffff\u0000\u0003\u0000\u0011\u0000\r" +
+        "\u0000\u0000\u0000\u001b\u0000\u000e\u0000\u0000\u0000\u001c\u0000\u000f\u0000\u0000\u0000\u001d" +
+        "\u0000\u0010\u0000\u0000\u0000\u001e\u0000\u0003\uffff\uffff\u0000\u0003\u0000\u0012\u0000\u0001" +
+        "\u0000\u0000\u0000 \u0000\u0002\u0000\u0000\u0000!\u0000\u0001\uffff\uffff\u0000\u0001" +
+        "\u0000\u0007\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0008\u0000\u0001\uffff\uffff\u0000\u0001" +
+        "\u0000\u0009\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0016\u0000\u0013\u0000\u0000\u0000$" +
+        "\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u0017\u0000\u0013\u0000\u0000\u0000%\u0000\u0002" +
+        "\uffff\uffff\u0000\u0003\u0000\u0018\u0000\n\u0000\u0000\u0000&\u0000\u0003\uffff\uffff" +
+        "\u0000\u0003\u0000\u0019\u0000\u0007\u0000\u0000\u0000'\u0000\u0008\u0000\u0000\u0000(" +
+        "\u0000\u0002\uffff\uffff\u0000\u0003\u0000\u001a\u0000\u0013\u0000\u0000\u0000)\u0000\u0001" +
+        "\uffff\uffff\u0000\u0001\u0000\u0013\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0014\u0000\u0001" +
+        "\uffff\uffff\u0000\u0001\u0000\u0015\u0000\u0002\uffff\uffff\u0000\u0001\u0000\u0016\u0000\u0000" +
+        "\u0000\u0000\u0000*\u0000\u0002\uffff\uffff\u0000\u0001\u0000\u000b\u0000\u0009\u0000\u0000" +
+        "\u0000,\u0000\u0002\uffff\uffff\u0000\u0003\u0000 \u0000\u0003\u0000\u0000\u0000-" +
+        "\u0000\u0004\uffff\uffff\u0000\u0003\u0000!\u0000\u0005\u0000\u0000\u0000\u000f\u0000\u000b" +
+        "\u0000\u0000\u0000\u0010\u0000\u0013\u0000\u0000\u0000\u0011\u0000\u0001\uffff\uffff\u0000\u0001" +
+        "\u0000\u001f\u0000\u0003\uffff\uffff\u0000\u0003\u0000#\u0000\u0001\u0000\u0000\u0000/" +
+        "\u0000\u0002\u0000\u0000\u0000!\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u000f\u0000\u0001" +
+        "\uffff\uffff\u0000\u0001\u0000\r\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0019\u0000\u0002" +
+        "\uffff\uffff\u0000\u0003\u0000'\u0000\u0013\u0000\u0000\u00001\u0000\u0002\uffff\uffff" +
+        "\u0000\u0003\u0000(\u0000\u0013\u0000\u0000\u00002\u0000\u0003\uffff\uffff\u0000\u0003" +
+        "\u0000)\u0000\u0001\u0000\u0000\u00003\u0000\u0002\u0000\u0000\u00004\u0000\u0002" +
+        "\uffff\uffff\u0000\u0003\u0000*\u0000\u0011\u0000\u0000\u00007\u0000\u0001\uffff\uffff" +
+        "\u0000\u0001\u0000\u0017\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u000c\u0000\u0001\uffff\uffff" +
+        "\u0000\u0001\u0000\u0005\u0000\u0001\uffff\uffff\u0000\u0001\u0000\n\u0000\u0002\uffff\uffff" +
+        "\u0000\u0003\u0000/\u0000\u0003\u0000\u0000\u00008\u0000\u0001\uffff\uffff\u0000\u0001" +
+        "\u0000 \u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0010\u0000\u0001\uffff\uffff\u0000\u0001" +
+        "\u0000\u000e\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0011\u0000\u0002\uffff\uffff\u0000\u0003" +
+        "\u00004\u0000\u0013\u0000\u0000\u00009\u0000\u0001\uffff\uffff\u0000\u0001\u0000!" +
+        "\u0000\u0003\uffff\uffff\u0000\u0003\u00006\u0000\u0001\u0000\u0000\u0000:\u0000\u0002" +
+        "\u0000\u0000\u00004\u0000\u0002\uffff\uffff\u0000\u0003\u00007\u0000\u0001\u0000\u0000" +
+        "\u0000<\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0006\u0000\u0001\uffff\uffff\u0000\u0001" +
+        "\u0000\u001a\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0012\u0000\u0001\uffff\uffff\u0000\u0001" +
+        "\u0000\"\u0000\u0001\uffff\uffff\u0000\u0001\u0000\u0018\u0000\u0010\u0000\u0001\uffff\uffff" +
+        "\u0000\u0003\u0000\u0002\uffff\uffff\u0000\u0004\u0000\u0006\u0000\n\u0000\u0003\uffff\uffff" +
+        "\u0000\u0005\u0000\u0007\u0000\u000c\u0000\u000b\u0000\u000c\u0000\u0002\uffff\uffff\u0000\u0012" +
+        "\u0000!\u0000.\u0000\u0002\uffff\uffff\u0000\"\u0000#\u00000\u0000\u0001" +
+        "\uffff\uffff\u0000\u0013\u0000\u0001\uffff\uffff\u0000\u0014\u0000\u0001\uffff\uffff\u0000\u0015" +
+        "\u0000\u0001\uffff\uffff\u0000\u001f\u0000\u0001\uffff\uffff\u0000+\u0000\u0001\uffff\uffff" +
+        "\u0000\u0019\u0000\u0002\uffff\uffff\u00005\u00006\u0000;\u0000\u0001\uffff\uffff" +
+        "\u0000\u0006\u0000\u0002\uffff\uffff\u0000\u0007\u0000\u0006\u0000\u000b\u0000\u0001\uffff\uffff" +
+        "\u0000#\u0000\u0001\uffff\uffff\u00006\u0000\u0011\u0000\u001eexpe" +
+        "cting: entity, i" +
+        "mport, EOF\u0000\u0015expe" +
+        "cting: identifie" +
+        "r\u0000\u0014expecting: fi" +
+        "le name\u0000\u000eexpecti" +
+        "ng: EOF\u0000\u0016expecti" +
+        "ng: entity, EOF\u0000" +
+        "\u000eexpecting: '('\u0000" +
+        "\u000eexpecting: ';'\u0000" +
+        "\"expecting: has," +
+        " unique, identif" +
+        "ier\u0000\u001aexpecting: " +
+        "many, one, zero\u0000" +
+        "&expecting: date" +
+        ", integer, real," +
+        " string\u0000\u0013expecti" +
+        "ng: ')', ','\u0000\rex" +
+        "pecting: to\u0000\u0014exp" +
+        "ecting: many, on" +
+        "e\u0000\u001dexpecting: ')" +
+        "', ',', required" +
+        "\u0000\"expecting: '('" +
+        ", ')', ',', requ" +
+        "ired\u0000\u0011expecting:" +
+        " number\u0000\u000eexpecti" +
+        "ng: ')'\u0000=\u0000\u0000\u0000\u0001\u0000\u0002\u0000" +
+        "\u0003\u0000\u0000\u0000\u0004\u0000\u0000\u0000\u0004\u0000\u0005\u0000\u0006\u0000\u0000\u0000" +
+        "\u0004\u0000\u0004\u0000\u0007\u0000\u0000\u0000\u0008\u0000\u0005\u0000\u0009\u0000\n\u0000" +
+        "\n\u0000\n\u0000\n\u0000\u0001\u0000\u0001\u0000\u000b\u0000\u000c\u0000\u0001\u0000" +
+        "\r\u0000\r\u0000\r\u0000\u000e\u0000\r\u0000\u0006\u0000\u0007\u0000\n\u0000" +
+        "\n\u0000\n\u0000\n\u0000\u000c\u0000\u0001\u0000\u0001\u0000\n\u0000\u000f\u0000" +
+        "\r\u0000\n\u0000\u0004\u0000\n\u0000\u0006\u0000\n\u0000\n\u0000\n\u0000" +
+        "\n\u0000\u0001\u0000\n\u0000\n\u0000\u0010\u0000\u0004\u0000\n\u0000\n\u0000" +
+        "\n\u0000\r";
+
+    private int position;
+
+    int readInt()
+    {
+        int value = (DATA.charAt(this.position) << 16) | DATA.charAt(this.position + 1);
+        this.position += 2;
+        return value;
+    }
+
+    char readChar()
+    {
+        return DATA.charAt(this.position++);
+    }
+}
@@ -2,26 +2,8 @@
 
 package org.jberger.pergen.generated.parser;
 
-import org.jberger.pergen.generated.node.TZero;
-import org.jberger.pergen.generated.node.TInteger;
-import org.jberger.pergen.generated.node.TNumber;
-import org.jberger.pergen.generated.node.TTo;
-import org.jberger.pergen.generated.node.TReal;
-import org.jberger.pergen.generated.node.TRPar;
-import org.jberger.pergen.generated.node.TString;
-import org.jberger.pergen.generated.node.TLPar;
-import org.jberger.pergen.generated.node.TComma;
-import org.jberger.pergen.generated.node.TMany;
-import org.jberger.pergen.generated.node.TOne;
-import org.jberger.pergen.generated.node.TEntity;
-import org.jberger.pergen.generated.node.TSemicolon;
-import org.jberger.pergen.generated.node.TUnique;
-import org.jberger.pergen.generated.node.THas;
-import org.jberger.pergen.generated.node.TRequired;
-import org.jberger.pergen.generated.node.TIdentifier;
-import org.jberger.pergen.generated.node.EOF;
-import org.jberger.pergen.generated.node.TDate;
-import org.jberger.pergen.generated.analysis.AnalysisAdapter;
+import org.jberger.pergen.generated.node.*;
+import org.jberger.pergen.generated.analysis.*;
 
 class TokenIndex extends AnalysisAdapter
 {
@@ -64,80 +46,92 @@ class TokenIndex extends AnalysisAdapter
     }
 
     @Override
-    public void caseTMany(@SuppressWarnings("unused") TMany node)
+    public void caseTImport(@SuppressWarnings("unused") TImport node)
     {
         this.index = 6;
     }
 
     @Override
-    public void caseTOne(@SuppressWarnings("unused") TOne node)
+    public void caseTMany(@SuppressWarnings("unused") TMany node)
     {
         this.index = 7;
     }
 
     @Override
-    public void caseTRequired(@SuppressWarnings("unused") TRequired node)
+    public void caseTOne(@SuppressWarnings("unused") TOne node)
     {
         this.index = 8;
     }
 
     @Override
-    public void caseTTo(@SuppressWarnings("unused") TTo node)
+    public void caseTRequired(@SuppressWarnings("unused") TRequired node)
     {
         this.index = 9;
     }
 
     @Override
-    public void caseTUnique(@SuppressWarnings("unused") TUnique node)
+    public void caseTTo(@SuppressWarnings("unused") TTo node)
     {
         this.index = 10;
     }
 
     @Override
-    public void caseTZero(@SuppressWarnings("unused") TZero node)
+    public void caseTUnique(@SuppressWarnings("unused") TUnique node)
     {
         this.index = 11;
     }
 
     @Override
-    public void caseTDate(@SuppressWarnings("unused") TDate node)
+    public void caseTZero(@SuppressWarnings("unused") TZero node)
     {
         this.index = 12;
     }
 
     @Override
-    public void caseTInteger(@SuppressWarnings("unused") TInteger node)
+    public void caseTDate(@SuppressWarnings("unused") TDate node)
     {
         this.index = 13;
     }
 
     @Override
-    public void caseTReal(@SuppressWarnings("unused") TReal node)
+    public void caseTInteger(@SuppressWarnings("unused") TInteger node)
     {
         this.index = 14;
     }
 
     @Override
-    public void caseTString(@SuppressWarnings("unused") TString node)
+    public void caseTReal(@SuppressWarnings("unused") TReal node)
     {
         this.index = 15;
     }
 
     @Override
-    public void caseTNumber(@SuppressWarnings("unused") TNumber node)
+    public void caseTString(@SuppressWarnings("unused") TString node)
     {
         this.index = 16;
     }
 
     @Override
-    public void caseTIdentifier(@SuppressWarnings("unused") TIdentifier node)
+    public void caseTNumber(@SuppressWarnings("unused") TNumber node)
     {
         this.index = 17;
     }
 
     @Override
-    public void caseEOF(@SuppressWarnings("unused") EOF node)
+    public void caseTFileName(@SuppressWarnings("unused") TFileName node)
     {
         this.index = 18;
     }
+
+    @Override
+    public void caseTIdentifier(@SuppressWarnings("unused") TIdentifier node)
+    {
+        this.index = 19;
+    }
+
+    @Override
+    public void caseEOF(@SuppressWarnings("unused") EOF node)
+    {
+        this.index = 20;
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.generators;
+
+/**
+ * An error reported by the Java compiler in a generated file, with the
+ * entity the file was generated from.
+ */
+public class CompilationError {
+
+    private String entityName;
+    private String file;
+    private long line;
+    private String message;
+
+    /**
+     * Creates a new instance.
+     * @param entityName The entity of the file, null for the files shared
+     *                   by every entity.
+     * @param file The generated file, relative to the output directory.
+     * @param line The line of the error, -1 if unknown.
+     * @param message The message of the compiler.
+     */
+    public CompilationError(String entityName, String file, long line, String message) {
+        this.entityName = entityName;
+        this.file = file;
+        this.line = line;
+        this.message = message;
+    }
+
+    /**
+     * @return The original name of the entity, null for the files shared
+     *         by every entity.
+     */
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        String location = line < 0 ? file : file + ":" + line;
+        if (entityName == null) {
+            return location + ": " + message;
+        }
+        return "entity " + entityName + ", " + location + ": " + message;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.generators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers, for every generated file, the hash of the specifications that
+ * produced it. Used by the incremental generation to skip the files whose
+ * specifications did not change and to delete the files of removed
+ * entities.
+ */
+public class GenerationManifest {
+
+    /**
+     * Must be changed every time a code provider changes its output, so a
+     * new version of PerGen regenerates every file.
+     */
+    public static final String GENERATOR_VERSION = "1";
+
+    private static final String MANIFEST_FILE_NAME = "pergen.manifest";
+
+    private Path directory;
+    private Properties previousHashes = new Properties();
+    private ConcurrentHashMap<String, String> currentHashes = new ConcurrentHashMap<String, String>();
+    private ImpactAnalysis impactAnalysis;
+
+    private GenerationManifest(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the manifest of a previous generation in a directory. An empty
+     * manifest is returned if the directory was never generated.
+     */
+    public static GenerationManifest load(Path directory) throws IOException {
+        GenerationManifest manifest = new GenerationManifest(directory);
+        Path file = directory.resolve(MANIFEST_FILE_NAME);
+        if (Files.exists(file)) {
+            InputStream input = Files.newInputStream(file);
+            try {
+                manifest.previousHashes.load(input);
+            } finally {
+                input.close();
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Records the hash of the specifications of a file and tells if the file
+     * must be written.
+     *
+     * @param file The generated file.
+     * @param specificationHash The hash of the specifications used to
+     *                          generate the file.
+     * @return false if the file exists and was generated from the same
+     *         specifications, true otherwise.
+     */
+    public boolean needsGeneration(Path file, String specificationHash) {
+        String key = relativeName(file);
+        String hash = GENERATOR_VERSION + ":" + specificationHash;
+        currentHashes.put(key, hash);
+        return !hash.equals(previousHashes.getProperty(key)) || !Files.exists(file);
+    }
+
+    /**
+     * Keeps a file of the previous generation without computing the hash of
+     * its specifications, known to be unchanged.
+     *
+     * @param file The generated file.
+     * @return true if the file exists and was generated by this version of
+     *         PerGen, false if it must be generated.
+     */
+    public boolean keep(Path file) {
+        String key = relativeName(file);
+        String hash = previousHashes.getProperty(key);
+        if (hash == null || !hash.startsWith(GENERATOR_VERSION + ":") || !Files.exists(file)) {
+            return false;
+        }
+        currentHashes.put(key, hash);
+        return true;
+    }
+
+    /**
+     * @param analysis The entities affected since the generation recorded in
+     *                 the manifest, null when the previous specifications are
+     *                 not known and every hash must be computed.
+     */
+    public void setImpactAnalysis(ImpactAnalysis analysis) {
+        impactAnalysis = analysis;
+    }
+
+    public ImpactAnalysis getImpactAnalysis() {
+        return impactAnalysis;
+    }
+
+    /**
+     * Deletes the files generated previously but not part of this
+     * generation, then writes the manifest. The manifest can then be used
+     * for the next generation without being loaded again.
+     */
+    public void save() throws IOException {
+        for (String previousFile : previousHashes.stringPropertyNames()) {
+            if (!currentHashes.containsKey(previousFile)) {
+                Files.deleteIfExists(directory.resolve(previousFile));
+            }
+        }
+
+        Properties manifest = new Properties();
+        manifest.putAll(currentHashes);
+        OutputStream output = Files.newOutputStream(directory.resolve(MANIFEST_FILE_NAME));
+        try {
+            manifest.store(output, "Generated by PerGen, do not edit.");
+        } finally {
+            output.close();
+        }
+        previousHashes = manifest;
+        currentHashes = new ConcurrentHashMap<String, String>();
+    }
+
+    /**
+     * The name of a file relative to the generated directory, with '/' as
+     * separator whatever the platform.
+     */
+    private String relativeName(Path file) {
+        return directory.relativize(file).toString().replace('\\', '/');
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Relation;
+
+/**
+ * The entities whose generated files can change between two versions of the
+ * specifications. An entity is changed when its own specifications differ;
+ * it is affected when it is changed or related to a changed or removed
+ * entity, since its DAO embeds the names of the tables it is related to.
+ * The code providers only read the names of the directly related entities,
+ * so the closure stops at one relation. The files of the affected entities
+ * are still compared with the manifest, the others are kept as they are.
+ */
+public final class ImpactAnalysis {
+
+    private HashSet<String> changed = new HashSet<String>();
+    private HashSet<String> affected = new HashSet<String>();
+    private ArrayList<String> skipped = new ArrayList<String>();
+    private boolean removals;
+
+    private ImpactAnalysis() {
+    }
+
+    /**
+     * Compares the specifications of the previous generation with the
+     * current ones.
+     *
+     * @param previous The specifications of the previous generation.
+     * @param current The specifications to generate.
+     */
+    public static ImpactAnalysis between(final DataLayerSpecifications previous,
+                                         final DataLayerSpecifications current) {
+        HashMap<String, String> previousHashes = new HashMap<String, String>();
+        for (Entity entity : previous.getEntities()) {
+            previousHashes.put(entity.getOriginalName(), SpecificationFingerprint.of(entity));
+        }
+
+        ImpactAnalysis analysis = new ImpactAnalysis();
+        HashSet<String> dirty = new HashSet<String>();
+        for (Entity entity : current.getEntities()) {
+            String previousHash = previousHashes.remove(entity.getOriginalName());
+            if (!SpecificationFingerprint.of(entity).equals(previousHash)) {
+                analysis.changed.add(entity.getOriginalName());
+                dirty.add(entity.getOriginalName());
+            }
+        }
+        dirty.addAll(previousHashes.keySet());
+        analysis.removals = !previousHashes.isEmpty();
+
+        for (Entity entity : current.getEntities()) {
+            if (dirty.contains(entity.getOriginalName()) || isRelatedToAny(entity, dirty)) {
+                analysis.affected.add(entity.getOriginalName());
+            } else {
+                analysis.skipped.add(entity.getOriginalName());
+            }
+        }
+        Collections.sort(analysis.skipped);
+        return analysis;
+    }
+
+    private static boolean isRelatedToAny(final Entity entity, final HashSet<String> names) {
+        for (Relation relation : entity.getRelations()) {
+            if (names.contains(relation.getEntity().getOriginalName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the specifications of the entity itself changed or if
+     *         the entity is new; its POJO must be generated.
+     */
+    public boolean isChanged(final Entity entity) {
+        return changed.contains(entity.getOriginalName());
+    }
+
+    /**
+     * @return true if the entity changed or is related to an entity which
+     *         changed or was removed; its DAO must be generated.
+     */
+    public boolean isAffected(final Entity entity) {
+        return affected.contains(entity.getOriginalName());
+    }
+
+    /**
+     * @return true if an entity was added, changed or removed; the SQL script
+     *         must be generated.
+     */
+    public boolean hasChanges() {
+        return !changed.isEmpty() || removals;
+    }
+
+    /**
+     * @return The names of the entities none of whose files had to be
+     *         generated, sorted.
+     */
+    public List<String> getSkippedEntities() {
+        return Collections.unmodifiableList(skipped);
+    }
+}
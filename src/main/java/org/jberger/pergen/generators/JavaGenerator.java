@@ -14,16 +14,24 @@
  */
 package org.jberger.pergen.generators;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.jberger.pergen.domain.Field;
 import org.jberger.pergen.domain.DataLayerSpecifications;
 import org.jberger.pergen.domain.Entity;
 import org.jberger.pergen.domain.Relation;
 import org.jberger.pergen.domain.RelationType;
-import org.jberger.pergen.files.FileWriterWrapper;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.files.FileSystemTarget;
+import org.jberger.pergen.files.OutputTarget;
 import org.jberger.pergen.codeproviders.Java6Provider;
 
 /**
@@ -31,34 +39,126 @@ import org.jberger.pergen.codeproviders.Java6Provider;
  */
 public final class JavaGenerator {
 
-    String directory;
+    Path directory;
 
-    public JavaGenerator(String dir) {
+    /**
+     * Number of threads writing the files, 1 for a sequential generation.
+     */
+    private int parallelism;
+
+    /**
+     * The manifest of the incremental generation, null to generate every
+     * file.
+     */
+    private GenerationManifest manifest;
+
+    /**
+     * The buffer of each generating thread, reused from one file to the
+     * next.
+     */
+    private ThreadLocal<CodeSink> sinks = ThreadLocal.withInitial(CodeSink::new);
+
+    /**
+     * Receives the generated files, the disk by default.
+     */
+    private OutputTarget target = new FileSystemTarget();
+
+    public JavaGenerator(Path dir) {
+        this(dir, 1);
+    }
+
+    public JavaGenerator(Path dir, int threads) {
         directory = dir;
+        parallelism = threads;
+    }
+
+    /**
+     * Enables the incremental generation: only the files whose
+     * specifications changed since the generation recorded in the manifest
+     * are written.
+     */
+    public void setManifest(GenerationManifest generationManifest) {
+        manifest = generationManifest;
+    }
+
+    public void setOutputTarget(OutputTarget outputTarget) {
+        target = outputTarget;
     }
 
     public void generate(final DataLayerSpecifications global) throws IOException {
-        generateDAOs(global);
-        generatePOJOs(global);
+        if (parallelism > 1) {
+            generateInParallel(global);
+        } else {
+            generateDAOs(global);
+            generatePOJOs(global);
+        }
+    }
+
+    /**
+     * Generates the same files as the sequential generation, every DAO and
+     * POJO being written by its own task.
+     */
+    private void generateInParallel(final DataLayerSpecifications specs) throws IOException {
+        Path daoDirectory = createDirectory("daos");
+        Path pojoDirectory = createDirectory("pojos");
+        generateDaoExceptionFile(daoDirectory);
+        generateNullityException(daoDirectory);
+
+        ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (Entity entity : specs.getEntities()) {
+            tasks.add(() -> {
+                generateDaoFile(entity, daoDirectory);
+                return null;
+            });
+            tasks.add(() -> {
+                generatePojoFile(entity, pojoDirectory);
+                return null;
+            });
+        }
+        runAll(tasks);
     }
 
-    private void generateDaoExceptionFile(String workingDirectory) throws IOException {
-        String fileName = workingDirectory + "\\DAOException.java";
-        FileWriter fileWriter = new FileWriter(fileName);
-        FileWriterWrapper writer = new FileWriterWrapper(fileWriter);
+    private void runAll(List<Callable<Void>> tasks) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<Void> task : pool.invokeAll(tasks)) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Java generation interrupted.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void generateDaoExceptionFile(Path workingDirectory) throws IOException {
+        Path file = workingDirectory.resolve("DAOException.java");
+        if (!needsGeneration(file, "")) {
+            return;
+        }
+        CodeSink writer = sinks.get();
         generateDaoExceptionSourceCode(writer);
-        fileWriter.close();
+        target.write(file, writer);
     }
 
-    private void generateDaoExceptionSourceCode(FileWriterWrapper writer) throws IOException {
+    private void generateDaoExceptionSourceCode(CodeSink writer) throws IOException {
         Java6Provider.provideHeaderComment(writer);
         Java6Provider.providePackageDeclaration(writer, "daos");
         Java6Provider.provideDAOExceptionClass(writer);
     }
 
     private void generateDAOs(DataLayerSpecifications specs) throws IOException {
-        String realDirectory = directory + "\\daos";
-        new File(realDirectory).mkdir();
+        Path realDirectory = createDirectory("daos");
         generateDaoExceptionFile(realDirectory);
         generateNullityException(realDirectory);
 
@@ -70,18 +170,16 @@ public final class JavaGenerator {
     /**
      * Generates the NullityException.java file.
      */
-    private void generateNullityException(String workingDirectory) {
-        String fileName = workingDirectory + "\\NullityException.java";
-        try {
-            FileWriter fileWriter = new FileWriter(fileName);
-            FileWriterWrapper writer = new FileWriterWrapper(fileWriter);
-            Java6Provider.provideHeaderComment(writer);
-            Java6Provider.providePackageDeclaration(writer, "daos");
-            Java6Provider.provideNullityExceptionClass(writer);
-            fileWriter.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+    private void generateNullityException(Path workingDirectory) throws IOException {
+        Path file = workingDirectory.resolve("NullityException.java");
+        if (!needsGeneration(file, "")) {
+            return;
         }
+        CodeSink writer = sinks.get();
+        Java6Provider.provideHeaderComment(writer);
+        Java6Provider.providePackageDeclaration(writer, "daos");
+        Java6Provider.provideNullityExceptionClass(writer);
+        target.write(file, writer);
     }
 
     /**
@@ -91,20 +189,28 @@ public final class JavaGenerator {
      * @param global All the entities.
      */
     private void generatePOJOs(final DataLayerSpecifications global) throws IOException {
-        String realDirectory = directory + "\\pojos";
-        new File(realDirectory).mkdir();
+        Path realDirectory = createDirectory("pojos");
 
         for (Entity entity : global.getEntities()) {
-            String fileName = realDirectory + "\\" + entity.getJavaName()
-                    + ".java";
-            FileWriter fileWriter = new FileWriter(fileName);
-            FileWriterWrapper writer = new FileWriterWrapper(fileWriter);
-            generatePojoFile(entity, writer);
-            fileWriter.close();
+            generatePojoFile(entity, realDirectory);
+        }
+    }
+
+    private void generatePojoFile(Entity entity, Path realDirectory) throws IOException {
+        Path file = realDirectory.resolve(pojoClassName(entity) + ".java");
+        ImpactAnalysis impact = manifest == null ? null : manifest.getImpactAnalysis();
+        if (impact != null && !impact.isChanged(entity) && manifest.keep(file)) {
+            return;
+        }
+        if (!needsGeneration(file, SpecificationFingerprint.of(entity))) {
+            return;
         }
+        CodeSink writer = sinks.get();
+        generatePojoJavaCode(entity, writer);
+        target.write(file, writer);
     }
 
-    private void generatePojoFile(Entity entity, FileWriterWrapper writer) throws IOException {
+    private void generatePojoJavaCode(Entity entity, CodeSink writer) throws IOException {
         Java6Provider.provideHeaderComment(writer);
         Java6Provider.providePackageDeclaration(writer, "pojos");
         Java6Provider.providePOJOsImports(writer, entity);
@@ -134,7 +240,7 @@ public final class JavaGenerator {
         Java6Provider.provideClassEnd(writer);
     }
 
-    private void generateDaoJavaCode(FileWriterWrapper writer, Entity entity, String className) throws IOException {
+    private void generateDaoJavaCode(CodeSink writer, Entity entity, String className) throws IOException {
         Java6Provider.provideHeaderComment(writer);
         Java6Provider.providePackageDeclaration(writer, "daos");
         Java6Provider.provideDAOsImports(writer, entity.getJavaName());
@@ -151,12 +257,42 @@ public final class JavaGenerator {
         Java6Provider.provideClassEnd(writer);
     }
 
-    private void generateDaoFile(Entity entity, String realDirectory) throws IOException {
-        String className = entity.getJavaName() + "DAO";
-        String fileName = realDirectory + "\\" + className + ".java";
-        FileWriter fileWriter = new FileWriter(fileName);
-        FileWriterWrapper writer = new FileWriterWrapper(fileWriter);
+    private void generateDaoFile(Entity entity, Path realDirectory) throws IOException {
+        String className = daoClassName(entity);
+        Path file = realDirectory.resolve(className + ".java");
+        ImpactAnalysis impact = manifest == null ? null : manifest.getImpactAnalysis();
+        if (impact != null && !impact.isAffected(entity) && manifest.keep(file)) {
+            return;
+        }
+        if (!needsGeneration(file, SpecificationFingerprint.of(entity))) {
+            return;
+        }
+        CodeSink writer = sinks.get();
         generateDaoJavaCode(writer, entity, className);
-        fileWriter.close();
+        target.write(file, writer);
+    }
+
+    /**
+     * The name of the POJO of an entity, in the package "pojos".
+     */
+    static String pojoClassName(Entity entity) {
+        return entity.getJavaName();
+    }
+
+    /**
+     * The name of the DAO of an entity, in the package "daos".
+     */
+    static String daoClassName(Entity entity) {
+        return entity.getJavaName() + "DAO";
+    }
+
+    private Path createDirectory(String name) throws IOException {
+        Path realDirectory = directory.resolve(name);
+        target.createDirectory(realDirectory);
+        return realDirectory;
+    }
+
+    private boolean needsGeneration(Path file, String specificationHash) {
+        return manifest == null || manifest.needsGeneration(file, specificationHash);
     }
 }
@@ -15,9 +15,9 @@
 
 package org.jberger.pergen.generators;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.HashSet;
 
 import org.jberger.pergen.codeproviders.MySql5Provider;
 
@@ -26,7 +26,9 @@ import org.jberger.pergen.domain.DataLayerSpecifications;
 import org.jberger.pergen.domain.Relation;
 import org.jberger.pergen.domain.RelationType;
 import org.jberger.pergen.domain.UnicityConstraint;
-import org.jberger.pergen.files.FileWriterWrapper;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.files.FileSystemTarget;
+import org.jberger.pergen.files.OutputTarget;
 
 /**
  * Generates the SQL script.
@@ -34,60 +36,57 @@ import org.jberger.pergen.files.FileWriterWrapper;
 public final class SQLGenerator {
 
     /**
-     * Launches the generation of the alter table statements for the
-     * many-to-many relations.
+     * Builds the complete SQL script in a single pass over the entities. The
+     * statements are written in sections that are concatenated at the end:
+     * the entity tables, the junction tables of the many-to-many relations,
+     * the foreign keys of the one-to-many relations, the foreign keys of the
+     * junction tables and the unicity constraints.
      * 
      * @param global
      *            All the entities.
      * @param writer
-     *            The file writer.
+     *            The sink receiving the script.
      * @throws IOException
-     *             From the file writer.
+     *             From the code providers.
      */
-    private static void buildManyToManyAlterTables(final DataLayerSpecifications global,
-	    final FileWriterWrapper writer) throws IOException {
-	ArrayList<String> linkTablesDone = new ArrayList<String>();
+    public static void buildScript(final DataLayerSpecifications global, final CodeSink writer)
+	    throws IOException {
+	CodeSink junctionTables = new CodeSink();
+	CodeSink primaryAlterTables = new CodeSink();
+	CodeSink junctionAlterTables = new CodeSink();
+	CodeSink unicityConstraints = new CodeSink();
+	HashSet<String> junctionTablesDone = new HashSet<String>();
 
 	for (Entity entity : global.getEntities()) {
+	    MySql5Provider.provideStandardCreateTable(entity, writer);
+
 	    for (Relation relation : entity.getRelations()) {
 		if (relation.isManyToMany()) {
-		    if (!linkTablesDone.contains(relation.getNameOfLinkTable())) {
-			linkTablesDone.add(relation.getNameOfLinkTable());
-			writer.write(MySql5Provider.buildForeignKeyStatementsForJunctionTable(
-			        entity.getSqlName(), relation.getEntitySqlName()));
+		    if (junctionTablesDone.add(relation.getNameOfLinkTable())) {
+			MySql5Provider.provideCreateStatementForJunctionTable(entity.getSqlName(),
+			        relation.getEntitySqlName(), junctionTables);
+			MySql5Provider.provideForeignKeyStatementsForJunctionTable(entity.getSqlName(),
+			        relation.getEntitySqlName(), junctionAlterTables);
 		    }
 		}
+		if (relation.getType() == RelationType.Type.ONE) {
+		    MySql5Provider.provideForeignKeyStatement(entity.getSqlName(),
+			    relation.getEntity().getSqlName(), primaryAlterTables);
+		}
 	    }
-	}
-    }
-
-    /**
-     * Launches the generation of the create table statements for the
-     * many-to-many relations.
-     * 
-     * @param global
-     *            All the entities.
-     * @param writer
-     *            The file writer.
-     * @throws IOException
-     *             From the file writer.
-     */
-    private static void buildManyToManyLinkTables(final DataLayerSpecifications global,
-	    final FileWriterWrapper writer) throws IOException {
-	ArrayList<String> tablesCreated = new ArrayList<String>();
 
-	for (Entity entity : global.getEntities()) {
-	    for (Relation relation : entity.getRelations()) {
-		if (relation.isManyToMany()) {
-		    if (!tablesCreated.contains(relation.getNameOfLinkTable())) {
-			tablesCreated.add(relation.getNameOfLinkTable());
-			String query = MySql5Provider.buildCreateStatementForJunctionTable(
-			        entity.getSqlName(), relation.getEntitySqlName());
-			writer.write(query);
-		    }
-		}
+	    int unicityCount = 1;
+	    for (UnicityConstraint unicity : entity.getUnicityConstraints()) {
+		MySql5Provider.provideUnicityConstraint(unicity, entity.getSqlName(), unicityCount,
+		        unicityConstraints);
+		unicityCount++;
 	    }
 	}
+
+	writer.write(junctionTables);
+	writer.write(primaryAlterTables);
+	writer.write(junctionAlterTables);
+	writer.write(unicityConstraints);
     }
 
     public static String buildJunctionTableName(String table1, String table2) {
@@ -103,88 +102,70 @@ public final class SQLGenerator {
     }
 
     /**
-     * Launches the generation of the alter table statements from the
-     * one-to-many relation.
-     * 
-     * @param global
-     *            All the entities.
-     * @param writer
-     *            The file writer.
-     * @throws IOException
-     *             From the file writer.
-     */
-    private static void buildPrimaryAlterTables(final DataLayerSpecifications global,
-	    final FileWriterWrapper writer) throws IOException {
-	for (Entity entity : global.getEntities()) {
-	    for (Relation relation : entity.getRelations()) {
-		if (relation.getType() == RelationType.Type.ONE) {
-		    writer.write(MySql5Provider.buildForeignKeyStatement(entity.getSqlName(),
-			    relation.getEntity().getSqlName()));
-		}
-	    }
-	}
-    }
-
-    /**
-     * Launches the generation of the entity tables.
+     * Launches the generation of the SQL script.
      * 
      * @param global
-     *            All the entities.
-     * @param writer
-     *            The file writer.
+     *            All the entities informations.
+     * @param file
+     *            The file to generate.
      * @throws IOException
-     *             From the file writer.
+     *             If the script cannot be written.
      */
-    private static void buildPrimaryTables(final DataLayerSpecifications global, final FileWriterWrapper writer)
-	    throws IOException {
-	for (Entity entity : global.getEntities()) {
-	    MySql5Provider.provideStandardCreateTable(entity, writer);
-	}
+    public static void generate(final DataLayerSpecifications global, final Path file) throws IOException {
+	generate(global, file, null);
     }
 
     /**
-     * Launches the generation of the unicity constraints.
+     * Launches the generation of the SQL script if its specifications changed
+     * since the generation recorded in the manifest.
      * 
      * @param global
-     *            All the entities.
-     * @param writer
-     *            The file writer.
+     *            All the entities informations.
+     * @param file
+     *            The file to generate.
+     * @param manifest
+     *            The manifest of the incremental generation, null to always
+     *            generate the script.
      * @throws IOException
-     *             From the file writer.
+     *             If the script cannot be written.
      */
-    private static void buildUnicityConstraints(final DataLayerSpecifications global,
-	    final FileWriterWrapper writer) throws IOException {
-	for (Entity entity : global.getEntities()) {
-	    int unicityCount = 1;
-	    for (UnicityConstraint unicity : entity.getUnicityConstraints()) {
-		MySql5Provider.provideUnicityConstraint(unicity, entity.getSqlName(), unicityCount,
-		        writer);
-		unicityCount++;
-	    }
-	}
+    public static void generate(final DataLayerSpecifications global, final Path file,
+	    final GenerationManifest manifest) throws IOException {
+	generate(global, file, manifest, new FileSystemTarget());
     }
 
     /**
-     * Launches the generation of the SQL script.
+     * Launches the generation of the SQL script if its specifications changed
+     * since the generation recorded in the manifest.
      * 
      * @param global
      *            All the entities informations.
-     * @param fileName
+     * @param file
      *            The file to generate.
+     * @param manifest
+     *            The manifest of the incremental generation, null to always
+     *            generate the script.
+     * @param target
+     *            Receives the script.
+     * @throws IOException
+     *             If the script cannot be written.
      */
-    public static void generate(final DataLayerSpecifications global, final String fileName) {
-	try {
-	    FileWriter fileWriter = new FileWriter(fileName);
-	    FileWriterWrapper writer = new FileWriterWrapper(fileWriter);
-	    buildPrimaryTables(global, writer);
-	    buildManyToManyLinkTables(global, writer);
-	    buildPrimaryAlterTables(global, writer);
-	    buildManyToManyAlterTables(global, writer);
-	    buildUnicityConstraints(global, writer);
-	    fileWriter.close();
-	} catch (IOException e) {
-	    e.printStackTrace();
+    public static void generate(final DataLayerSpecifications global, final Path file,
+	    final GenerationManifest manifest, final OutputTarget target) throws IOException {
+	if (manifest != null) {
+	    ImpactAnalysis impact = manifest.getImpactAnalysis();
+	    if (impact != null && !impact.hasChanges() && manifest.keep(file)) {
+		return;
+	    }
+	    if (!manifest.needsGeneration(file, SpecificationFingerprint.of(global))) {
+		return;
+	    }
 	}
+	// The script is never written in part: as soon as one entity changed,
+	// it is built again from every entity and rewritten whole.
+	CodeSink writer = new CodeSink();
+	buildScript(global, writer);
+	target.write(file, writer);
     }
 
     /**
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.generators;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.exceptions.CompilationFailedException;
+
+/**
+ * Compiles the generated Java files in the running JVM, with the compiler
+ * of the JDK. The sources are read from memory and the classes are kept in
+ * memory: nothing is written on disk. The errors are reported with the
+ * entity whose DAO or POJO does not compile.
+ */
+public final class SourceCompiler {
+
+    /**
+     * A generated file given to the compiler.
+     */
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String file;
+        private final String entityName;
+        private final String content;
+
+        Source(String file, String entityName, byte[] content) {
+            super(URI.create("string:///" + file), Kind.SOURCE);
+            this.file = file;
+            this.entityName = entityName;
+            this.content = new String(content, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    /**
+     * A class written by the compiler.
+     */
+    private static final class CompiledClass extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        CompiledClass(String className) {
+            super(URI.create("bytes:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            bytes.reset();
+            return bytes;
+        }
+    }
+
+    /**
+     * Gives the compiler the classes of the JDK and keeps the classes it
+     * writes.
+     */
+    private static final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final TreeMap<String, CompiledClass> classes = new TreeMap<String, CompiledClass>();
+
+        MemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(JavaFileManager.Location location, String className,
+                                                   JavaFileObject.Kind kind, FileObject sibling) {
+            CompiledClass compiled = new CompiledClass(className);
+            classes.put(className.replace('.', '/') + kind.extension, compiled);
+            return compiled;
+        }
+    }
+
+    private static final List<String> OPTIONS = Arrays.asList("-proc:none", "-nowarn", "-Xlint:none");
+
+    /**
+     * The generated code targets Java 8 whatever the JDK running PerGen.
+     */
+    private static final String JAVA_VERSION = "8";
+
+    /**
+     * The options of the compiler, compiling against the API of Java 8 with
+     * --release when the compiler knows it, or only for the Java 8 language
+     * and class files otherwise, as with the compiler of a JDK 8.
+     */
+    static List<String> options(final JavaCompiler compiler) {
+        ArrayList<String> options = new ArrayList<String>(OPTIONS);
+        if (compiler.isSupportedOption("--release") >= 0) {
+            options.addAll(Arrays.asList("--release", JAVA_VERSION));
+        } else {
+            options.addAll(Arrays.asList("-source", JAVA_VERSION, "-target", JAVA_VERSION));
+        }
+        return options;
+    }
+
+    /**
+     * To avoid instanciation.
+     */
+    private SourceCompiler() {
+    }
+
+    /**
+     * Compiles generated files.
+     *
+     * @param sources The generated files and their content, in UTF-8. Only
+     *                the Java files are compiled.
+     * @param directory The directory the files were generated in.
+     * @param specs The specifications the files were generated from.
+     * @return The classes, by their file name in a jar ("daos/BookDAO.class"),
+     *         sorted by name.
+     * @throws CompilationFailedException If a file does not compile.
+     */
+    public static Map<String, byte[]> compile(final Map<Path, byte[]> sources, final Path directory,
+                                              final DataLayerSpecifications specs) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No Java compiler is available, PerGen must run on a JDK to compile.");
+        }
+
+        HashMap<String, String> entityOfFile = new HashMap<String, String>();
+        for (Entity entity : specs.getEntities()) {
+            entityOfFile.put("pojos/" + JavaGenerator.pojoClassName(entity) + ".java", entity.getOriginalName());
+            entityOfFile.put("daos/" + JavaGenerator.daoClassName(entity) + ".java", entity.getOriginalName());
+        }
+
+        ArrayList<Source> units = new ArrayList<Source>();
+        for (Map.Entry<Path, byte[]> source : sources.entrySet()) {
+            String file = fileName(directory.relativize(source.getKey()));
+            if (file.endsWith(".java")) {
+                units.add(new Source(file, entityOfFile.get(file), source.getValue()));
+            }
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (MemoryFileManager fileManager = new MemoryFileManager(
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8))) {
+            boolean compiled = compiler.getTask(null, fileManager, diagnostics, options(compiler), null, units)
+                                       .call();
+            if (!compiled) {
+                throw new CompilationFailedException(errors(diagnostics));
+            }
+
+            TreeMap<String, byte[]> classes = new TreeMap<String, byte[]>();
+            for (Map.Entry<String, CompiledClass> compiledClass : fileManager.classes.entrySet()) {
+                classes.put(compiledClass.getKey(), compiledClass.getValue().bytes.toByteArray());
+            }
+            return classes;
+        }
+    }
+
+    private static List<CompilationError> errors(final DiagnosticCollector<JavaFileObject> diagnostics) {
+        ArrayList<CompilationError> errors = new ArrayList<CompilationError>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+                continue;
+            }
+            String message = diagnostic.getMessage(Locale.ROOT);
+            if (diagnostic.getSource() instanceof Source) {
+                Source source = (Source) diagnostic.getSource();
+                errors.add(new CompilationError(source.entityName, source.file,
+                                                diagnostic.getLineNumber(), message));
+            } else {
+                errors.add(new CompilationError(null, "", -1, message));
+            }
+        }
+        return errors;
+    }
+
+    private static String fileName(final Path relative) {
+        StringBuilder name = new StringBuilder();
+        for (Path part : relative) {
+            if (name.length() > 0) {
+                name.append('/');
+            }
+            name.append(part.toString());
+        }
+        return name.toString();
+    }
+}
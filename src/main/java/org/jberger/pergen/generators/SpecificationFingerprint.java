@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.generators;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.domain.Relation;
+import org.jberger.pergen.domain.UnicityConstraint;
+
+/**
+ * Computes the hashes of the specifications used by the incremental
+ * generation. Everything a code provider reads from an entity is part of
+ * its hash, including the names of the related entities and link tables.
+ */
+public final class SpecificationFingerprint {
+
+    /**
+     * To avoid instanciation.
+     */
+    private SpecificationFingerprint() {
+    }
+
+    public static String of(final Entity entity) {
+        StringBuilder description = new StringBuilder();
+        describe(entity, description);
+        return hash(description);
+    }
+
+    public static String of(final DataLayerSpecifications specs) {
+        StringBuilder description = new StringBuilder();
+        for (Entity entity : specs.getEntities()) {
+            describe(entity, description);
+        }
+        return hash(description);
+    }
+
+    private static void describe(final Entity entity, final StringBuilder description) {
+        description.append("entity ").append(entity.getOriginalName()).append('\n');
+        for (Field field : entity.getFields()) {
+            description.append("field ").append(field.getOriginalName())
+                    .append(' ').append(field.getOriginalDataType())
+                    .append(' ').append(field.isRequired())
+                    .append(' ').append(field.getStringLength()).append('\n');
+        }
+        for (Relation relation : entity.getRelations()) {
+            description.append("relation ").append(relation.getEntity().getOriginalName())
+                    .append(' ').append(relation.getType())
+                    .append(' ').append(relation.isMaybeZero())
+                    .append(' ').append(relation.getNameOfLinkTable()).append('\n');
+        }
+        for (UnicityConstraint unicity : entity.getUnicityConstraints()) {
+            description.append("unique");
+            for (Field field : unicity.getFields()) {
+                description.append(' ').append(field.getOriginalName());
+            }
+            description.append('\n');
+        }
+    }
+
+    private static String hash(final CharSequence description) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(description.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexadecimal = new StringBuilder();
+            for (byte value : hash) {
+                hexadecimal.append(Character.forDigit((value >> 4) & 0xF, 16));
+                hexadecimal.append(Character.forDigit(value & 0xF, 16));
+            }
+            return hexadecimal.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
@@ -12,7 +12,7 @@ public class ArgsValidator {
     }
 
     public void validate(String[] args) {
-        if (args.length != 1) {
+        if (!new CommandLineOptions(args).isValid()) {
             writer.displayUsage();
             killer.exit();
         }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jberger.pergen.exceptions.OutputDirectoryCollisionException;
+import org.jberger.pergen.files.FileSystemTarget;
+
+/**
+ * Generates the code of many schemas in one JVM. The schemas are generated
+ * concurrently by a bounded pool, each one in its own output directory, and
+ * a failing schema does not stop the others. Every schema is generated by
+ * the same generator, so the schemas of a batch share the syntax trees of
+ * the files they import.
+ */
+public class BatchGenerator {
+
+    /**
+     * The result of the generation of one schema.
+     */
+    public static final class Outcome {
+
+        private Path inputFile;
+        private Path outputDirectory;
+        private Exception error;
+
+        Outcome(Path inputFile, Path outputDirectory, Exception error) {
+            this.inputFile = inputFile;
+            this.outputDirectory = outputDirectory;
+            this.error = error;
+        }
+
+        public Path getInputFile() {
+            return inputFile;
+        }
+
+        public Path getOutputDirectory() {
+            return outputDirectory;
+        }
+
+        /**
+         * Gets the reason of the failure.
+         * @return The exception, null if the schema was generated.
+         */
+        public Exception getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    private Generator generator;
+    private int poolSize;
+
+    /**
+     * Creates a new instance.
+     * @param generator Generates every schema, called concurrently. Its
+     *                  statistics receive the measures of all the schemas.
+     * @param poolSize The number of schemas generated at the same time.
+     */
+    public BatchGenerator(Generator generator, int poolSize) {
+        this.generator = generator;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Lists the schemas to generate. A directory stands for the regular,
+     * non hidden files it contains, sorted by name, except the files
+     * imported by another file of the directory: they are fragments of a
+     * schema, generated with the files importing them. A file given by name
+     * is always generated, and only once.
+     *
+     * @param inputs The files and directories given on the command line.
+     * @return The schema files.
+     */
+    public static List<Path> listInputFiles(List<String> inputs) throws IOException {
+        LinkedHashSet<Path> files = new LinkedHashSet<Path>();
+        for (String input : inputs) {
+            Path path = Paths.get(input).toAbsolutePath().normalize();
+            if (!Files.isDirectory(path)) {
+                files.add(path);
+                continue;
+            }
+
+            ArrayList<Path> directoryFiles = new ArrayList<Path>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(path)) {
+                for (Path entry : entries) {
+                    if (Files.isRegularFile(entry) && !entry.getFileName().toString().startsWith(".")) {
+                        directoryFiles.add(entry);
+                    }
+                }
+            }
+            HashSet<Path> imported = new HashSet<Path>();
+            for (Path file : directoryFiles) {
+                imported.addAll(InputFileParser.readImportedFiles(file));
+            }
+            directoryFiles.removeAll(imported);
+            Collections.sort(directoryFiles);
+            files.addAll(directoryFiles);
+        }
+        return new ArrayList<Path>(files);
+    }
+
+    /**
+     * The directory receiving the code of a schema: the name of the file
+     * without its extension, next to the file. A file without extension gets
+     * the "-generated" suffix.
+     */
+    public static Path outputDirectoryOf(Path inputFile) {
+        String name = inputFile.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        if (extension > 0) {
+            name = name.substring(0, extension);
+        } else {
+            name = name + "-generated";
+        }
+        return inputFile.resolveSibling(name);
+    }
+
+    /**
+     * Generates every schema.
+     *
+     * @param inputFiles The schema files.
+     * @return The outcome of every schema, in the order of the input files.
+     * @throws OutputDirectoryCollisionException If two schemas have the same
+     *         output directory, before any schema is generated.
+     */
+    public List<Outcome> generate(List<Path> inputFiles) throws InterruptedException {
+        HashMap<Path, Path> outputDirectories = new HashMap<Path, Path>();
+        for (Path inputFile : inputFiles) {
+            Path outputDirectory = outputDirectoryOf(inputFile);
+            Path other = outputDirectories.put(outputDirectory, inputFile);
+            if (other != null) {
+                throw new OutputDirectoryCollisionException(other.toString(), inputFile.toString(),
+                                                            outputDirectory.toString());
+            }
+        }
+
+        ArrayList<Callable<Outcome>> tasks = new ArrayList<Callable<Outcome>>();
+        for (final Path inputFile : inputFiles) {
+            tasks.add(() -> generate(inputFile));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(poolSize, tasks.size())));
+        try {
+            ArrayList<Outcome> outcomes = new ArrayList<Outcome>();
+            for (Future<Outcome> outcome : pool.invokeAll(tasks)) {
+                try {
+                    outcomes.add(outcome.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            return outcomes;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Outcome generate(Path inputFile) {
+        Path outputDirectory = outputDirectoryOf(inputFile);
+        try {
+            Files.createDirectories(outputDirectory);
+        } catch (IOException e) {
+            return new Outcome(inputFile, outputDirectory, e);
+        }
+        GenerationResult result = generator.generate(inputFile, outputDirectory, new FileSystemTarget());
+        Exception error = null;
+        if (!result.isSuccess()) {
+            error = result.getDiagnostics().get(0).getCause();
+        }
+        return new Outcome(inputFile, outputDirectory, error);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parses the command line: the input files and the optional switches.
+ */
+public class CommandLineOptions {
+
+    private static final String PARALLELISM_OPTION = "--parallelism=";
+    private static final String INCREMENTAL_OPTION = "--incremental";
+    private static final String WATCH_OPTION = "--watch";
+    private static final String STATS_OPTION = "--stats";
+    private static final String STATS_FILE_OPTION = "--stats=";
+    private static final String ARCHIVE_OPTION = "--archive=";
+    private static final String COMPILE_OPTION = "--compile=";
+    private static final String CHECK_OPTION = "--check";
+    private static final String PARSER_OPTION = "--parser=";
+
+    private ArrayList<String> inputFiles = new ArrayList<String>();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private boolean incremental = false;
+    private boolean watch = false;
+    private boolean stats = false;
+    private String statsFile;
+    private String archiveFile;
+    private String compileFile;
+    private boolean check = false;
+    private InputFileParser.ParserType parserType = InputFileParser.ParserType.SABLECC;
+    private boolean valid = true;
+
+    public CommandLineOptions(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(PARALLELISM_OPTION)) {
+                parallelism = parsePositiveInteger(arg.substring(PARALLELISM_OPTION.length()));
+            } else if (arg.equals(INCREMENTAL_OPTION)) {
+                incremental = true;
+            } else if (arg.equals(WATCH_OPTION)) {
+                watch = true;
+            } else if (arg.equals(STATS_OPTION)) {
+                stats = true;
+            } else if (arg.startsWith(STATS_FILE_OPTION)) {
+                stats = true;
+                statsFile = arg.substring(STATS_FILE_OPTION.length());
+                valid = valid && !statsFile.isEmpty();
+            } else if (arg.startsWith(ARCHIVE_OPTION)) {
+                archiveFile = arg.substring(ARCHIVE_OPTION.length());
+                valid = valid && !archiveFile.isEmpty();
+            } else if (arg.startsWith(COMPILE_OPTION)) {
+                compileFile = arg.substring(COMPILE_OPTION.length());
+                valid = valid && !compileFile.isEmpty();
+            } else if (arg.equals(CHECK_OPTION)) {
+                check = true;
+            } else if (arg.startsWith(PARSER_OPTION)) {
+                parserType = parseParserType(arg.substring(PARSER_OPTION.length()));
+            } else if (arg.startsWith("--")) {
+                valid = false;
+            } else {
+                inputFiles.add(arg);
+            }
+        }
+
+        if (inputFiles.isEmpty() || (watch && inputFiles.size() != 1)) {
+            valid = false;
+        }
+        if ((archiveFile != null || compileFile != null) && (inputFiles.size() != 1 || isIncremental())) {
+            valid = false;
+        }
+        if (check && (archiveFile != null || compileFile != null || isIncremental())) {
+            valid = false;
+        }
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getInputFile() {
+        return inputFiles.get(0);
+    }
+
+    /**
+     * The input files and directories, in the order of the command line.
+     */
+    public List<String> getInputFiles() {
+        return Collections.unmodifiableList(inputFiles);
+    }
+
+    /**
+     * Number of threads used to generate the files. A value of 1 gives
+     * the sequential generation.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Only the files whose specifications changed since the last generation
+     * are written.
+     */
+    public boolean isIncremental() {
+        return incremental || watch;
+    }
+
+    /**
+     * The input file is watched and the code is generated again every time
+     * it changes. Implies the incremental generation.
+     */
+    public boolean isWatch() {
+        return watch;
+    }
+
+    /**
+     * The wall time, the CPU time and the allocations of every phase are
+     * measured and displayed.
+     */
+    public boolean isStats() {
+        return stats;
+    }
+
+    /**
+     * The file receiving the measures as JSON.
+     * @return The file, null if the measures are only displayed.
+     */
+    public String getStatsFile() {
+        return statsFile;
+    }
+
+    /**
+     * The zip or jar file receiving the generated files, which are then not
+     * written in the directory of the input file. The whole archive is
+     * written every time, so it is not compatible with the incremental
+     * generation.
+     * @return The file, null to write the files on disk.
+     */
+    public String getArchiveFile() {
+        return archiveFile;
+    }
+
+    /**
+     * The jar receiving the compiled classes and the SQL script. The code
+     * is generated and compiled in memory, and the sources are only written
+     * in the archive when one is asked.
+     * @return The file, null to not compile.
+     */
+    public String getCompileFile() {
+        return compileFile;
+    }
+
+    /**
+     * The input files are only checked: every error is reported and no
+     * file is generated.
+     */
+    public boolean isCheck() {
+        return check;
+    }
+
+    /**
+     * The parser reading the input files: sablecc, recursive-descent or
+     * streaming, sablecc by default.
+     */
+    public InputFileParser.ParserType getParserType() {
+        return parserType;
+    }
+
+    private InputFileParser.ParserType parseParserType(String value) {
+        for (InputFileParser.ParserType type : InputFileParser.ParserType.values()) {
+            if (type.name().replace('_', '-').equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        valid = false;
+        return InputFileParser.ParserType.SABLECC;
+    }
+
+    private int parsePositiveInteger(String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported as an invalid command line below.
+        }
+        valid = false;
+        return 1;
+    }
+}
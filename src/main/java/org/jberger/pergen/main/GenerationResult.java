@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.exceptions.Diagnostic;
+
+/**
+ * The outcome of the generation of one schema.
+ */
+public final class GenerationResult {
+
+    private final DataLayerSpecifications specifications;
+    private final List<Path> files;
+    private final List<Diagnostic> diagnostics;
+    private final List<String> skippedEntities;
+
+    GenerationResult(DataLayerSpecifications specifications, List<Path> files, List<Diagnostic> diagnostics,
+                     List<String> skippedEntities) {
+        this.specifications = specifications;
+        this.files = Collections.unmodifiableList(files);
+        this.diagnostics = Collections.unmodifiableList(diagnostics);
+        this.skippedEntities = Collections.unmodifiableList(skippedEntities);
+    }
+
+    /**
+     * Gets the specifications the code was generated from.
+     * @return The specifications, null if the schema could not be analysed.
+     */
+    public DataLayerSpecifications getSpecifications() {
+        return specifications;
+    }
+
+    /**
+     * Gets the files given to the output target, sorted by path. With the
+     * incremental generation, the unchanged files are not part of them.
+     */
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    /**
+     * Gets the problems which stopped the generation.
+     * @return The problems, empty when the code was generated.
+     */
+    public List<Diagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * Gets the entities whose files were kept from the previous incremental
+     * generation, without being compared, since neither they nor the
+     * entities they are related to changed.
+     * @return The names of the entities, sorted; empty when the generation
+     *         is not incremental or when the previous specifications are not
+     *         known.
+     */
+    public List<String> getSkippedEntities() {
+        return skippedEntities;
+    }
+
+    public boolean isSuccess() {
+        return diagnostics.isEmpty();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.files.OutputTarget;
+
+/**
+ * Records the wall time, the CPU time and the bytes allocated by every
+ * phase of a generation, and the files and bytes written.
+ *
+ * The CPU time and the allocations are those of the thread running the
+ * phase, so a phase must not hand its work to other threads while it is
+ * measured: with --stats the imported files are loaded and the files are
+ * generated on the calling thread. A phase run several times, once per file
+ * or per schema, accumulates its measures.
+ */
+public class GenerationStatistics {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * The accumulated measures of a phase.
+     */
+    public static final class Phase {
+
+        private final String name;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+        private int runs;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        /**
+         * @return The CPU time, -1 if the JVM does not measure it.
+         */
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        /**
+         * @return The allocated bytes, -1 if the JVM does not measure them.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+    }
+
+    /**
+     * A phase being measured.
+     */
+    public final class Measure {
+
+        private final String phase;
+        private final long wallStart;
+        private final long cpuStart;
+        private final long allocationStart;
+
+        Measure(String phase) {
+            this.phase = phase;
+            this.allocationStart = allocatedBytes();
+            this.cpuStart = cpuTime();
+            this.wallStart = System.nanoTime();
+        }
+
+        /**
+         * Ends the measure and adds it to the phase.
+         */
+        public void stop() {
+            long wall = System.nanoTime() - wallStart;
+            long cpu = cpuStart < 0 ? -1 : cpuTime() - cpuStart;
+            long allocated = allocationStart < 0 ? -1 : allocatedBytes() - allocationStart;
+            record(phase, wall, cpu, allocated);
+        }
+    }
+
+    private LinkedHashMap<String, Phase> phases = new LinkedHashMap<String, Phase>();
+    private long filesWritten;
+    private long bytesWritten;
+
+    /**
+     * Starts measuring a phase on the current thread.
+     *
+     * @param phase The name of the phase.
+     * @return The measure to stop at the end of the phase.
+     */
+    public Measure start(String phase) {
+        return new Measure(phase);
+    }
+
+    /**
+     * Counts the files written through a target.
+     *
+     * @param target The target receiving the files.
+     * @return A target counting the files and the bytes, then writing them
+     *         to the given target.
+     */
+    public OutputTarget count(final OutputTarget target) {
+        return new OutputTarget() {
+            @Override
+            public void createDirectory(Path directory) throws IOException {
+                target.createDirectory(directory);
+            }
+
+            @Override
+            public int write(Path file, CodeSink content) throws IOException {
+                int bytes = target.write(file, content);
+                fileWritten(bytes);
+                return bytes;
+            }
+        };
+    }
+
+    public synchronized List<Phase> getPhases() {
+        return new ArrayList<Phase>(phases.values());
+    }
+
+    public synchronized long getFilesWritten() {
+        return filesWritten;
+    }
+
+    public synchronized long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Writes the statistics as a table, one line per phase, for the command
+     * line. Times are in milliseconds, allocations in kilobytes, "n/a" when
+     * the JVM does not measure them.
+     * @return The lines of the table, without a line break at the end.
+     */
+    public synchronized String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%-10s %6s %12s %12s %14s",
+                                   "Phase", "Runs", "Wall (ms)", "CPU (ms)", "Allocated (KB)"));
+        for (Phase phase : phases.values()) {
+            table.append('\n').append(String.format(Locale.ROOT, "%-10s %6d %12s %12s %14s",
+                                                     phase.name, phase.runs, millis(phase.wallNanos),
+                                                     millis(phase.cpuNanos), kilobytes(phase.allocatedBytes)));
+        }
+        table.append("\nFiles written: ").append(filesWritten).append(", bytes written: ").append(bytesWritten);
+        return table.toString();
+    }
+
+    private static String millis(long nanos) {
+        return nanos < 0 ? "n/a" : String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static String kilobytes(long bytes) {
+        return bytes < 0 ? "n/a" : Long.toString(bytes / 1024);
+    }
+
+    /**
+     * Writes the statistics as a JSON object, for the tools tracking them
+     * over time. Times are in nanoseconds.
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"phases\": [");
+        String separator = "\n";
+        for (Phase phase : phases.values()) {
+            json.append(separator);
+            json.append(String.format(Locale.ROOT,
+                    "    {\"name\": \"%s\", \"runs\": %d, \"wallNanos\": %d, \"cpuNanos\": %d, "
+                    + "\"allocatedBytes\": %d}",
+                    phase.name, phase.runs, phase.wallNanos, phase.cpuNanos, phase.allocatedBytes));
+            separator = ",\n";
+        }
+        json.append("\n  ],\n");
+        json.append("  \"filesWritten\": ").append(filesWritten).append(",\n");
+        json.append("  \"bytesWritten\": ").append(bytesWritten).append("\n}\n");
+        return json.toString();
+    }
+
+    synchronized void record(String name, long wall, long cpu, long allocated) {
+        Phase phase = phases.get(name);
+        if (phase == null) {
+            phase = new Phase(name);
+            phases.put(name, phase);
+        }
+        phase.wallNanos += wall;
+        phase.cpuNanos = cpu < 0 || phase.cpuNanos < 0 ? -1 : phase.cpuNanos + cpu;
+        phase.allocatedBytes = allocated < 0 || phase.allocatedBytes < 0 ? -1 : phase.allocatedBytes + allocated;
+        phase.runs++;
+    }
+
+    synchronized void fileWritten(int bytes) {
+        filesWritten++;
+        bytesWritten += bytes;
+    }
+
+    private static long cpuTime() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) {
+            return -1;
+        }
+        return THREADS.getCurrentThreadCpuTime();
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
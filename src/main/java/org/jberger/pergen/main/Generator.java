@@ -0,0 +1,350 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.exceptions.Diagnostic;
+import org.jberger.pergen.exceptions.ErrorCollector;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.files.OutputTarget;
+import org.jberger.pergen.generators.GenerationManifest;
+import org.jberger.pergen.generators.ImpactAnalysis;
+import org.jberger.pergen.generators.JavaGenerator;
+import org.jberger.pergen.generators.SQLGenerator;
+
+/**
+ * Generates the code of a schema from a host process. A generation never
+ * ends the process and never prints: its problems are returned with its
+ * result, and the generated files go to an output target. Once configured,
+ * a generator can be called concurrently, each call using its own output
+ * target.
+ */
+public class Generator {
+
+    private ParseCache cache;
+    private int parallelism = 1;
+    private boolean incremental;
+    private GenerationStatistics statistics;
+    private InputFileParser.ParserType parserType = InputFileParser.ParserType.SABLECC;
+
+    public Generator() {
+        this(new ParseCache());
+    }
+
+    /**
+     * @param cache The syntax trees of the files already parsed, which can
+     *              be shared by many generators.
+     */
+    public Generator(ParseCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * @param parallelism The number of threads generating the code of one
+     *                    schema, 1 by default.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Only writes the files whose specifications changed since the last
+     * generation in the same output directory. The manifest is then kept in
+     * the output directory, on disk, whatever the output target; two
+     * concurrent calls must not share an output directory.
+     * @param incremental False by default.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Measures the generations, the measures of the concurrent calls adding
+     * up.
+     * @param statistics The statistics receiving the measures, null to not
+     *                   measure.
+     */
+    public void setStatistics(GenerationStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * @param type The parser reading the schemas, SABLECC by default.
+     */
+    public void setParserType(InputFileParser.ParserType type) {
+        this.parserType = type;
+    }
+
+    /**
+     * Generates the code of a schema file.
+     *
+     * @param inputFile The schema, the files it imports are relative to it.
+     * @param outputDirectory The directory the generated files belong to.
+     * @param target Receives the generated files.
+     * @return The generated files or the problems which stopped the
+     *         generation.
+     */
+    public GenerationResult generate(Path inputFile, Path outputDirectory, OutputTarget target) {
+        return run(inputFile, null, outputDirectory, target);
+    }
+
+    /**
+     * Generates the code of a schema read from a reader, which the caller
+     * closes.
+     *
+     * @param schema The content of the schema.
+     * @param directory The directory the generated files belong to and the
+     *                  imported files are relative to.
+     * @param target Receives the generated files.
+     * @return The generated files or the problems which stopped the
+     *         generation.
+     */
+    public GenerationResult generate(Reader schema, Path directory, OutputTarget target) {
+        return run(null, schema, directory, target);
+    }
+
+    /**
+     * Checks a schema file and the files it imports without generating any
+     * code, every error being reported.
+     *
+     * @param inputFile The schema, the files it imports are relative to it.
+     * @return The specifications or every error found, with its file and its
+     *         position when known. No file is generated.
+     */
+    public GenerationResult check(Path inputFile) {
+        return check(new InputFileParser(inputFile, cache));
+    }
+
+    /**
+     * Checks a schema read from a reader, which the caller closes, without
+     * generating any code.
+     *
+     * @param schema The content of the schema.
+     * @param directory The directory the imported files are relative to.
+     * @return The specifications or every error found.
+     */
+    public GenerationResult check(Reader schema, Path directory) {
+        return check(new InputFileParser(schema, directory));
+    }
+
+    private GenerationResult check(InputFileParser parser) {
+        ErrorCollector errors = new ErrorCollector();
+        parser.setStatistics(statistics);
+        parser.setParserType(parserType);
+        parser.collectErrors(errors);
+
+        DataLayerSpecifications specs = null;
+        ArrayList<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+        try {
+            specs = parser.extractSpecifications();
+        } catch (Exception e) {
+            diagnostics.add(Diagnostic.of(e));
+        }
+        for (ErrorCollector.Problem problem : errors.getProblems()) {
+            diagnostics.add(Diagnostic.of(problem));
+        }
+        return new GenerationResult(diagnostics.isEmpty() ? specs : null, Collections.<Path>emptyList(),
+                                    diagnostics, Collections.<String>emptyList());
+    }
+
+    private GenerationResult run(Path inputFile, Reader schema, Path outputDirectory, OutputTarget target) {
+        RecordingTarget recording = new RecordingTarget(target);
+        DataLayerSpecifications specs = null;
+        ArrayList<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+        List<String> skipped = Collections.<String>emptyList();
+        try {
+            GenerationManifest manifest = incremental ? GenerationManifest.load(outputDirectory) : null;
+            specs = generateSourceCode(inputFile, schema, outputDirectory, manifest, recording);
+            if (manifest != null && manifest.getImpactAnalysis() != null) {
+                skipped = manifest.getImpactAnalysis().getSkippedEntities();
+            }
+        } catch (Exception e) {
+            diagnostics.add(Diagnostic.of(e));
+        }
+        return new GenerationResult(specs, recording.getFiles(), diagnostics, skipped);
+    }
+
+    /**
+     * Parses an input file and generates its code in a directory. With the
+     * incremental generation, the analyzed specifications of a file are kept
+     * in a snapshot next to the manifest and an unchanged input file is not
+     * parsed again. The snapshot also gives the specifications of the
+     * previous generation: the manifest then receives the analysis of the
+     * entities affected since, and the files of the others are kept without
+     * being compared. With statistics, every phase runs on the calling
+     * thread so its CPU time and its allocations are measured. The generated
+     * files go to the target, as if written in the output directory.
+     * @return The specifications the code was generated from.
+     */
+    DataLayerSpecifications generateSourceCode(Path inputFile, Path outputDirectory, GenerationManifest manifest,
+                                               OutputTarget target) throws Exception {
+        return generateSourceCode(inputFile, null, outputDirectory, manifest, target);
+    }
+
+    private DataLayerSpecifications generateSourceCode(Path inputFile, Reader schema, Path outputDirectory,
+                                                       GenerationManifest manifest, OutputTarget target)
+                                                       throws Exception {
+        DataLayerSpecifications specs = null;
+        DataLayerSpecifications previous = null;
+        List<Path> sourceFiles = null;
+        Path snapshot = SpecificationSnapshot.fileIn(outputDirectory);
+        boolean snapshotted = manifest != null && inputFile != null;
+        if (snapshotted) {
+            GenerationStatistics.Measure measure = start("snapshot");
+            specs = SpecificationSnapshot.load(snapshot);
+            previous = specs == null ? SpecificationSnapshot.loadPrevious(snapshot) : specs;
+            stop(measure);
+        }
+        if (specs == null) {
+            InputFileParser parser = inputFile == null ? new InputFileParser(schema, outputDirectory)
+                                                       : new InputFileParser(inputFile, cache);
+            parser.setStatistics(statistics);
+            parser.setParserType(parserType);
+            specs = parser.extractSpecifications();
+            sourceFiles = parser.getSourceFiles();
+        }
+        if (manifest != null) {
+            GenerationStatistics.Measure measure = start("impact");
+            manifest.setImpactAnalysis(previous == null ? null : ImpactAnalysis.between(previous, specs));
+            stop(measure);
+        }
+
+        if (statistics == null) {
+            generateCode(outputDirectory, specs, manifest, target);
+        } else {
+            generateMeasuredCode(outputDirectory, specs, manifest, target);
+        }
+
+        // Written once the code is, so a failed generation is compared
+        // with the specifications of the files still on disk next time.
+        if (snapshotted && sourceFiles != null) {
+            GenerationStatistics.Measure measure = start("snapshot");
+            SpecificationSnapshot.save(snapshot, specs, sourceFiles);
+            stop(measure);
+        }
+        if (manifest != null) {
+            GenerationStatistics.Measure measure = start("manifest");
+            manifest.save();
+            stop(measure);
+        }
+        return specs;
+    }
+
+    private GenerationStatistics.Measure start(String phase) {
+        return statistics == null ? null : statistics.start(phase);
+    }
+
+    private static void stop(GenerationStatistics.Measure measure) {
+        if (measure != null) {
+            measure.stop();
+        }
+    }
+
+    /**
+     * Runs the SQL and the Java generation one after the other, measuring
+     * them and counting the files written.
+     */
+    private void generateMeasuredCode(Path directory, DataLayerSpecifications global, GenerationManifest manifest,
+                                      OutputTarget output) throws Exception {
+        OutputTarget target = statistics.count(output);
+
+        GenerationStatistics.Measure sql = statistics.start("sql");
+        SQLGenerator.generate(global, directory.resolve("script.sql"), manifest, target);
+        sql.stop();
+
+        GenerationStatistics.Measure java = statistics.start("java");
+        JavaGenerator generator = new JavaGenerator(directory, 1);
+        generator.setManifest(manifest);
+        generator.setOutputTarget(target);
+        generator.generate(global);
+        java.stop();
+    }
+
+    /**
+     * Runs the SQL and the Java generation. When more than one thread is
+     * allowed, the SQL script is written while the Java files are generated.
+     */
+    private void generateCode(final Path directory, final DataLayerSpecifications global,
+                              final GenerationManifest manifest, final OutputTarget target) throws Exception {
+        JavaGenerator java = new JavaGenerator(directory, parallelism);
+        java.setManifest(manifest);
+        java.setOutputTarget(target);
+        if (parallelism == 1) {
+            SQLGenerator.generate(global, directory.resolve("script.sql"), manifest, target);
+            java.generate(global);
+            return;
+        }
+
+        ExecutorService sqlPhase = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> sql = sqlPhase.submit(() -> {
+                SQLGenerator.generate(global, directory.resolve("script.sql"), manifest, target);
+                return null;
+            });
+            java.generate(global);
+            sql.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            sqlPhase.shutdown();
+        }
+    }
+
+    /**
+     * Passes the files to a target, keeping their paths.
+     */
+    private static final class RecordingTarget implements OutputTarget {
+
+        private final OutputTarget target;
+        private final ConcurrentLinkedQueue<Path> files = new ConcurrentLinkedQueue<Path>();
+
+        RecordingTarget(OutputTarget target) {
+            this.target = target;
+        }
+
+        @Override
+        public void createDirectory(Path directory) throws IOException {
+            target.createDirectory(directory);
+        }
+
+        @Override
+        public int write(Path file, CodeSink content) throws IOException {
+            int written = target.write(file, content);
+            files.add(file);
+            return written;
+        }
+
+        List<Path> getFiles() {
+            ArrayList<Path> sorted = new ArrayList<Path>(files);
+            Collections.sort(sorted);
+            return sorted;
+        }
+    }
+}
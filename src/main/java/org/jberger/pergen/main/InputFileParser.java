@@ -16,46 +16,451 @@
 
 package org.jberger.pergen.main;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.PushbackReader;
+import java.io.Reader;
 import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.RawRelation;
 import org.jberger.pergen.domain.RelationAnalyzer;
-import org.jberger.pergen.explorers.EntityAndFieldExplorer;
-import org.jberger.pergen.explorers.RelationExplorer;
-import org.jberger.pergen.generated.lexer.Lexer;
-import org.jberger.pergen.generated.node.Node;
-import org.jberger.pergen.generated.parser.Parser;
+import org.jberger.pergen.exceptions.Diagnostic;
+import org.jberger.pergen.exceptions.EntityAlreadyDefinedException;
+import org.jberger.pergen.exceptions.ErrorCollector;
+import org.jberger.pergen.exceptions.ImportNotFoundException;
+import org.jberger.pergen.exceptions.SyntaxErrorException;
+import org.jberger.pergen.explorers.SpecificationExplorer;
+import org.jberger.pergen.explorers.SpecificationParser;
+import org.jberger.pergen.explorers.StreamingParser;
+import org.jberger.pergen.explorers.SymbolTable;
+import org.jberger.pergen.files.FileLoader;
+import org.jberger.pergen.generated.lexer.LexerException;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.generated.parser.ParserException;
 
+/**
+ * Extracts the specifications of an input file and of the files it
+ * imports. Every file is parsed and explored into its own partial
+ * specifications, the imported files of a same level concurrently; the
+ * partial specifications are then merged and the relations are built, so a
+ * relation can aim at an entity of another file.
+ */
 public class InputFileParser {
 
-    private String content;
+    /**
+     * The parsers able to read an input file.
+     */
+    public enum ParserType {
+        /**
+         * The parser generated by SableCC from grammar.sablecc, whose syntax
+         * trees are explored by SpecificationExplorer and kept in the
+         * ParseCache.
+         */
+        SABLECC,
+
+        /**
+         * SpecificationParser, which builds the specifications while reading
+         * the characters of the file, without syntax tree.
+         */
+        RECURSIVE_DESCENT,
+
+        /**
+         * The parser generated by SableCC, each definition being explored
+         * by SpecificationExplorer as soon as it is reduced, then dropped:
+         * no syntax tree is kept, nor cached.
+         */
+        STREAMING
+    }
+
+    private Reader input;
+    private Path inputFile;
+    private Path importDirectory = Paths.get("");
+    private ParseCache cache;
+    private List<Path> sourceFiles = new ArrayList<Path>();
+    private GenerationStatistics statistics;
+    private ParserType parserType = ParserType.SABLECC;
+    private ErrorCollector errors;
+
+    /**
+     * The identifiers of the input file and of the files it imports.
+     */
+    private SymbolTable symbols = new SymbolTable();
+
+    /**
+     * Indicates if a file could not be read while collecting the errors.
+     */
+    private volatile boolean unreadable;
 
     public InputFileParser(String inputFileContent) {
-        this.content = inputFileContent;
+        this(new StringReader(inputFileContent));
+    }
+
+    /**
+     * @param inputFileReader The content of the input file, read as the
+     *                        lexer needs it. The caller closes it. The
+     *                        imported files are relative to the working
+     *                        directory.
+     */
+    public InputFileParser(Reader inputFileReader) {
+        this.input = inputFileReader;
+        this.cache = new ParseCache();
+    }
+
+    /**
+     * @param inputFileReader The content of the input file. The caller
+     *                        closes it.
+     * @param importDirectory The directory the files imported by the input
+     *                        file are relative to.
+     */
+    public InputFileParser(Reader inputFileReader, Path importDirectory) {
+        this(inputFileReader);
+        this.importDirectory = importDirectory;
+    }
+
+    /**
+     * @param inputFile The input file, the imported files are relative to
+     *                  the file importing them.
+     * @param cache The syntax trees of the files already parsed, reused when
+     *              a file did not change.
+     */
+    public InputFileParser(Path inputFile, ParseCache cache) {
+        this.inputFile = inputFile.toAbsolutePath().normalize();
+        this.cache = cache;
     }
 
+    /**
+     * Measures the phases of the extraction. The imported files are then
+     * loaded one at a time, on the calling thread.
+     * @param statistics The statistics receiving the measures, null to not
+     *                   measure.
+     */
+    public void setStatistics(GenerationStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Chooses the parser reading the files.
+     * @param type The parser, SABLECC by default.
+     */
+    public void setParserType(ParserType type) {
+        this.parserType = type;
+    }
+
+    /**
+     * Collects every error of the input file and of the files it imports
+     * instead of raising the first one. A syntax error or a missing import
+     * stops the exploration of its file only; the relations are then not
+     * analysed, since some entities are unknown.
+     * @param collector Receives the errors, null to raise the first one.
+     */
+    public void collectErrors(ErrorCollector collector) {
+        this.errors = collector;
+    }
+
+    /**
+     * Extracts the specifications.
+     * @return The specifications, null when the errors are collected and a
+     *         file could not be read.
+     */
     public DataLayerSpecifications extractSpecifications()
             throws Exception {
-        Node ast = parseInputFile();
+        PartialSpecifications root = read(inputFile, () -> {
+            if (input == null) {
+                return load(inputFile);
+            } else if (parserType == ParserType.RECURSIVE_DESCENT) {
+                return parse(null, FileLoader.loadIntoBuffer(input));
+            } else if (parserType == ParserType.STREAMING) {
+                return stream(null, input);
+            }
+            return explore(null, statistics == null ? ParseCache.parse(input)
+                                                    : ParseCache.parse(input, statistics));
+        });
+        if (root == null) {
+            return null;
+        }
 
-        DataLayerSpecifications specs = new DataLayerSpecifications();
-        ast.apply(new EntityAndFieldExplorer(specs));
-        RelationExplorer relationExplorer = new RelationExplorer();
-        ast.apply(relationExplorer);
+        List<PartialSpecifications> files = new ArrayList<PartialSpecifications>();
+        files.add(root);
+        if (!root.imports.isEmpty()) {
+            loadImports(files);
+        }
+        for (PartialSpecifications file : files) {
+            if (file.file != null) {
+                sourceFiles.add(file.file);
+            }
+        }
+        if (unreadable) {
+            return null;
+        }
+        return merge(files);
+    }
+
+    /**
+     * Reads a file, its syntax error being collected when the errors are.
+     * @return The specifications of the file, null if it has a syntax error
+     *         which was collected.
+     */
+    private PartialSpecifications read(Path file, Callable<PartialSpecifications> reading) throws Exception {
+        if (errors == null) {
+            return reading.call();
+        }
+        try {
+            return reading.call();
+        } catch (LexerException | ParserException | SyntaxErrorException e) {
+            Diagnostic position = Diagnostic.of(e);
+            errors.add(e, file, position.getLine(), position.getColumn());
+            unreadable = true;
+            return null;
+        }
+    }
+
+    /**
+     * Gets the files read by extractSpecifications(): the input file, when
+     * the parser was created from a file, and the imported files.
+     * @return The files, in the order they were loaded.
+     */
+    public List<Path> getSourceFiles() {
+        return sourceFiles;
+    }
+
+    /**
+     * Reads the files an input file imports directly, without parsing its
+     * entities.
+     *
+     * @param file The input file.
+     * @return The imported files, absolute; empty when the imports of the
+     *         file cannot be read, the error being reported when the file
+     *         is parsed.
+     */
+    public static List<Path> readImportedFiles(Path file) throws IOException {
+        List<String> names;
+        try {
+            names = SpecificationParser.parseImports(FileLoader.loadFileIntoBuffer(file));
+        } catch (SyntaxErrorException e) {
+            return new ArrayList<Path>();
+        }
+        ArrayList<Path> imported = new ArrayList<Path>();
+        Path directory = file.toAbsolutePath().getParent();
+        for (String name : names) {
+            imported.add(directory.resolve(name).normalize());
+        }
+        return imported;
+    }
 
-        RelationAnalyzer analyzer = new RelationAnalyzer(relationExplorer.getRelations());
-        analyzer.analyse(specs);
+    /**
+     * Loads the imported files, level by level, the files of a level being
+     * parsed concurrently. A file imported many times is only loaded once.
+     */
+    private void loadImports(List<PartialSpecifications> files) throws Exception {
+        HashSet<Path> known = new HashSet<Path>();
+        if (inputFile != null) {
+            known.add(inputFile);
+        }
+
+        List<PartialSpecifications> level = files;
+        while (!level.isEmpty()) {
+            ArrayList<Callable<PartialSpecifications>> tasks = new ArrayList<Callable<PartialSpecifications>>();
+            for (PartialSpecifications file : level) {
+                for (String name : file.imports) {
+                    final Path imported = resolve(file, name);
+                    if (imported != null && known.add(imported)) {
+                        tasks.add(() -> read(imported, () -> load(imported)));
+                    }
+                }
+            }
+
+            ArrayList<PartialSpecifications> nextLevel = new ArrayList<PartialSpecifications>();
+            if (tasks.size() == 1 || statistics != null) {
+                for (Callable<PartialSpecifications> task : tasks) {
+                    addRead(nextLevel, task.call());
+                }
+            } else if (!tasks.isEmpty()) {
+                for (Future<PartialSpecifications> task : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                    addRead(nextLevel, get(task));
+                }
+            }
+            files.addAll(nextLevel);
+            level = nextLevel;
+        }
+    }
+
+    private static void addRead(List<PartialSpecifications> level, PartialSpecifications file) {
+        if (file != null) {
+            level.add(file);
+        }
+    }
+
+    private Path resolve(PartialSpecifications importing, String name) {
+        Path directory = importing.file == null ? importDirectory : importing.file.getParent();
+        Path imported = directory.resolve(name).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(imported)) {
+            String from = importing.file == null ? "the input file" : importing.file.getFileName().toString();
+            ImportNotFoundException error = new ImportNotFoundException(from, name);
+            if (errors == null) {
+                throw error;
+            }
+            errors.add(error, importing.file, 0, 0);
+            unreadable = true;
+            return null;
+        }
+        return imported;
+    }
+
+    private static PartialSpecifications get(Future<PartialSpecifications> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private PartialSpecifications load(Path file) throws Exception {
+        if (parserType == ParserType.SABLECC) {
+            return explore(file, cache.parse(file, statistics));
+        } else if (parserType == ParserType.STREAMING) {
+            try (Reader reader = FileLoader.openReader(file)) {
+                return stream(file, reader);
+            }
+        }
+
+        GenerationStatistics.Measure measure = statistics == null ? null : statistics.start("load");
+        CharBuffer content = FileLoader.loadFileIntoBuffer(file);
+        if (measure != null) {
+            measure.stop();
+        }
+        return parse(file, content);
+    }
+
+    private PartialSpecifications parse(Path file, CharBuffer content) {
+        GenerationStatistics.Measure measure = statistics == null ? null : statistics.start("parse");
+        PartialSpecifications partial = new PartialSpecifications(file);
+        SpecificationParser parser = new SpecificationParser(partial.specs);
+        parser.setSymbolTable(symbols);
+        if (errors != null) {
+            parser.collectErrors(errors, file);
+        }
+        parser.parse(content);
+        partial.relations = parser.getRelations();
+        partial.imports = parser.getImports();
+        if (measure != null) {
+            measure.stop();
+        }
+        return partial;
+    }
+
+    private PartialSpecifications explore(Path file, Start ast) {
+        GenerationStatistics.Measure measure = statistics == null ? null : statistics.start("explore");
+        PartialSpecifications partial = new PartialSpecifications(file);
+        SpecificationExplorer explorer = newExplorer(file, partial);
+        ast.apply(explorer);
+        partial.relations = explorer.getRelations();
+        partial.imports = explorer.getImports();
+        if (measure != null) {
+            measure.stop();
+        }
+        return partial;
+    }
+
+    /**
+     * Lexes, parses and explores a file at once, with the streaming parser.
+     */
+    private PartialSpecifications stream(Path file, Reader reader) throws Exception {
+        GenerationStatistics.Measure measure = statistics == null ? null : statistics.start("parse");
+        PartialSpecifications partial = new PartialSpecifications(file);
+        SpecificationExplorer explorer = newExplorer(file, partial);
+        new StreamingParser(new PushbackReader(reader, ParseCache.PUSHBACK_SIZE), explorer).parse();
+        partial.relations = explorer.getRelations();
+        partial.imports = explorer.getImports();
+        if (measure != null) {
+            measure.stop();
+        }
+        return partial;
+    }
+
+    private SpecificationExplorer newExplorer(Path file, PartialSpecifications partial) {
+        SpecificationExplorer explorer = new SpecificationExplorer(partial.specs);
+        explorer.setSymbolTable(symbols);
+        if (errors != null) {
+            explorer.collectErrors(errors, file);
+        }
+        return explorer;
+    }
+
+    /**
+     * Merges the partial specifications, in the order the files were
+     * loaded, then builds the relations.
+     */
+    private DataLayerSpecifications merge(List<PartialSpecifications> files) {
+        GenerationStatistics.Measure measure = statistics == null ? null : statistics.start("analyse");
+        DataLayerSpecifications specs = mergeFiles(files, errors);
+        if (measure != null) {
+            measure.stop();
+        }
         return specs;
     }
 
-    private Node parseInputFile() throws Exception {
-        PushbackReader lecture = new PushbackReader(new BufferedReader(new StringReader(
-                content)));
+    private static DataLayerSpecifications mergeFiles(List<PartialSpecifications> files, ErrorCollector errors) {
+        if (files.size() == 1) {
+            PartialSpecifications single = files.get(0);
+            new RelationAnalyzer(single.relations).analyse(single.specs, errors);
+            return single.specs;
+        }
+
+        DataLayerSpecifications merged = new DataLayerSpecifications();
+        ArrayList<RawRelation> relations = new ArrayList<RawRelation>();
+        for (PartialSpecifications file : files) {
+            Set<String> leftOut = new HashSet<String>();
+            for (Entity entity : file.specs.getEntities()) {
+                try {
+                    if (merged.isEntityDefined(entity.getOriginalName())) {
+                        throw new EntityAlreadyDefinedException(entity.getOriginalName());
+                    }
+                    merged.addEntity(entity);
+                } catch (RuntimeException e) {
+                    if (errors == null) {
+                        throw e;
+                    }
+                    errors.add(e, file.file, entity.getLine(), entity.getColumn());
+                    leftOut.add(entity.getOriginalName());
+                }
+            }
+            for (RawRelation relation : file.relations) {
+                if (!leftOut.contains(relation.getFromEntity())) {
+                    relations.add(relation);
+                }
+            }
+        }
+        new RelationAnalyzer(relations).analyse(merged, errors);
+        return merged;
+    }
+
+    /**
+     * The specifications of one file, before the relations are built.
+     */
+    private static final class PartialSpecifications {
+
+        private final Path file;
+        private final DataLayerSpecifications specs = new DataLayerSpecifications();
+        private ArrayList<RawRelation> relations;
+        private List<String> imports;
 
-        Lexer lexer = new Lexer(lecture);
-        Parser parser = new Parser(lexer);
-        Node ast = parser.parse();
-        return ast;
+        PartialSpecifications(Path file) {
+            this.file = file;
+        }
     }
 }
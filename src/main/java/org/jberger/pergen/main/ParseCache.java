@@ -0,0 +1,258 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jberger.pergen.files.FileLoader;
+import org.jberger.pergen.generated.lexer.Lexer;
+import org.jberger.pergen.generated.lexer.LexerException;
+import org.jberger.pergen.generated.node.EOF;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.generated.node.Token;
+import org.jberger.pergen.generated.parser.Parser;
+import org.jberger.pergen.generated.parser.ParserException;
+
+/**
+ * Keeps the syntax tree of the input files parsed, so an unchanged file is
+ * not lexed and parsed again. A file is unchanged when its content has the
+ * same digest; the syntax trees are only read by the explorers and can be
+ * shared between threads. The cache is bounded, so a long running watch or
+ * batch does not keep the tree of every file it ever parsed.
+ */
+public class ParseCache {
+
+    /**
+     * Number of characters the lexer may push back while looking for the
+     * longest token.
+     */
+    static final int PUSHBACK_SIZE = 1024;
+
+    /**
+     * Number of syntax trees kept when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final LinkedHashMap<Path, Entry> entries;
+
+    public ParseCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache keeping the syntax trees of at most a number of files,
+     * the least recently used ones being dropped first.
+     *
+     * @param capacity The number of syntax trees kept.
+     */
+    public ParseCache(final int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Path, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+                return size() > ParseCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the syntax tree of a file, parsing the file only if its content
+     * changed since the last call.
+     *
+     * @param file The input file.
+     * @return The syntax tree.
+     */
+    public Start parse(Path file) throws IOException, LexerException, ParserException {
+        return parse(file, null);
+    }
+
+    /**
+     * Gets the syntax tree of a file, measuring the loading, the lexing and
+     * the parsing of the file. A file already parsed is only read to compute
+     * its digest; a new or changed file is streamed to the lexer, its digest
+     * being computed while it is read, so its reading is measured with the
+     * lexing.
+     *
+     * @param file The input file.
+     * @param statistics The statistics receiving the measures, null to not
+     *                   measure.
+     * @return The syntax tree.
+     */
+    public Start parse(Path file, GenerationStatistics statistics)
+            throws IOException, LexerException, ParserException {
+        Path key = file.toAbsolutePath().normalize();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            GenerationStatistics.Measure load = statistics == null ? null : statistics.start("load");
+            boolean unchanged = Arrays.equals(entry.digest, digest(key));
+            if (load != null) {
+                load.stop();
+            }
+            if (unchanged) {
+                return entry.ast;
+            }
+        }
+
+        MessageDigest digest = newDigest();
+        GenerationStatistics.Measure open = statistics == null ? null : statistics.start("load");
+        Start ast;
+        try (Reader reader = FileLoader.openReader(key, digest)) {
+            if (open == null) {
+                ast = parse(reader);
+            } else {
+                open.stop();
+                ast = parse(reader, statistics);
+            }
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(digest.digest(), ast));
+        }
+        return ast;
+    }
+
+    /**
+     * Drops the syntax trees of the files which do not exist anymore.
+     */
+    public void evictMissingFiles() {
+        synchronized (entries) {
+            Iterator<Path> files = entries.keySet().iterator();
+            while (files.hasNext()) {
+                if (!Files.exists(files.next())) {
+                    files.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the content of an input file, without caching.
+     *
+     * @param input The content of the file.
+     * @return The syntax tree.
+     */
+    public static Start parse(Reader input) throws IOException, LexerException, ParserException {
+        Lexer lexer = new Lexer(new PushbackReader(input, PUSHBACK_SIZE));
+        return new Parser(lexer).parse();
+    }
+
+    /**
+     * Parses the content of an input file in two measured phases: the
+     * tokens are all read first, then given to the parser.
+     */
+    static Start parse(Reader input, GenerationStatistics statistics)
+            throws IOException, LexerException, ParserException {
+        GenerationStatistics.Measure lex = statistics.start("lex");
+        Lexer lexer = new Lexer(new PushbackReader(input, PUSHBACK_SIZE));
+        ArrayList<Token> tokens = new ArrayList<Token>();
+        Token token;
+        do {
+            token = lexer.next();
+            tokens.add(token);
+        } while (!(token instanceof EOF));
+        lex.stop();
+
+        GenerationStatistics.Measure parse = statistics.start("parse");
+        Start ast = new Parser(new ReplayLexer(tokens)).parse();
+        parse.stop();
+        return ast;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * The SHA-256 digest of the content of a file, read by blocks.
+     */
+    static byte[] digest(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            while (input.read(buffer) != -1) {
+                continue;
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] digest;
+        private final Start ast;
+
+        Entry(byte[] digest, Start ast) {
+            this.digest = digest;
+            this.ast = ast;
+        }
+    }
+
+    /**
+     * Gives the parser the tokens already read, the last one being the end
+     * of the file.
+     */
+    private static final class ReplayLexer extends Lexer {
+
+        private final List<Token> tokens;
+        private int next;
+
+        ReplayLexer(List<Token> tokens) {
+            super(new PushbackReader(new StringReader("")));
+            this.tokens = tokens;
+        }
+
+        @Override
+        public Token peek() {
+            return tokens.get(next);
+        }
+
+        @Override
+        public Token next() {
+            Token token = tokens.get(next);
+            if (next < tokens.size() - 1) {
+                next++;
+            }
+            return token;
+        }
+    }
+}
@@ -15,13 +15,20 @@
 
 package org.jberger.pergen.main;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 import org.jberger.pergen.domain.DataLayerSpecifications;
-import org.jberger.pergen.files.FileLoader;
-import org.jberger.pergen.files.FilePath;
+import org.jberger.pergen.exceptions.Diagnostic;
+import org.jberger.pergen.files.ArchiveTarget;
+import org.jberger.pergen.files.FileSystemTarget;
+import org.jberger.pergen.files.InMemoryTarget;
 import org.jberger.pergen.files.PrintStreamWrapper;
-import org.jberger.pergen.generators.JavaGenerator;
-import org.jberger.pergen.generators.SQLGenerator;
+import org.jberger.pergen.generators.GenerationManifest;
+import org.jberger.pergen.generators.SourceCompiler;
 import org.jberger.pergen.output.MessageWriter;
 
 public final class PerGen {
@@ -32,26 +39,257 @@ public final class PerGen {
 
 	    ArgsValidator validator = new ArgsValidator(writer, killer);
         validator.validate(args);
+        CommandLineOptions options = new CommandLineOptions(args);
+
+        if (options.isCheck()) {
+            check(options, writer, killer);
+            return;
+        }
+
+        if (options.isWatch()) {
+            watch(options, writer);
+            return;
+        }
+
+        if (isBatch(options)) {
+            if (options.getArchiveFile() != null || options.getCompileFile() != null) {
+                writer.displayUsage();
+                killer.exit();
+                return;
+            }
+            generateBatch(options, writer, killer);
+            return;
+        }
 
 	    try {
-            generateSourceCodeFromInputFileSpecs(args[0]);
+            GenerationStatistics statistics = options.isStats() ? new GenerationStatistics() : null;
+            generateSourceCodeFromInputFileSpecs(options, statistics, writer);
+            if (statistics != null) {
+                reportStatistics(options, statistics, writer);
+            }
 	    } catch (Exception e) {
             writer.displayErrorMessage(e);
+            killer.exit();
 	    }
     }
 
-    private static void generateSourceCodeFromInputFileSpecs(final String inputFilePath) throws Exception {
-        String inputFileContent = FileLoader.loadFileIntoString(inputFilePath);
-        String workingDirectory = FilePath.extractDirectory(inputFilePath);
-        InputFileParser parser = new InputFileParser(inputFileContent);
-        DataLayerSpecifications specs = parser.extractSpecifications();
-        generateCode(workingDirectory, specs);
+    /**
+     * Displays the measures of the generation and writes them as JSON when
+     * a file is given.
+     */
+    private static void reportStatistics(final CommandLineOptions options, final GenerationStatistics statistics,
+                                         final MessageWriter writer) throws Exception {
+        writer.displayStatistics(statistics.toTable());
+        if (options.getStatsFile() != null) {
+            Files.write(Paths.get(options.getStatsFile()), statistics.toJson().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean isBatch(final CommandLineOptions options) {
+        return options.getInputFiles().size() > 1
+               || Files.isDirectory(Paths.get(options.getInputFile()));
+    }
+
+    /**
+     * Generates every schema of the command line, each one in its own
+     * directory, and reports the outcome of each of them. The process exits
+     * with an error once the whole batch is done if a schema failed.
+     */
+    private static void generateBatch(final CommandLineOptions options, final MessageWriter writer,
+                                      final SystemKiller killer) {
+        int failed = 0;
+        try {
+            List<Path> inputFiles = BatchGenerator.listInputFiles(options.getInputFiles());
+            GenerationStatistics statistics = options.isStats() ? new GenerationStatistics() : null;
+            Generator generator = generator(options, statistics, new ParseCache());
+            generator.setParallelism(1);
+            generator.setIncremental(options.isIncremental());
+            BatchGenerator batch = new BatchGenerator(generator, options.getParallelism());
+            for (BatchGenerator.Outcome outcome : batch.generate(inputFiles)) {
+                if (outcome.isSuccess()) {
+                    writer.displayBatchSuccess(outcome.getInputFile().toString());
+                } else {
+                    writer.displayBatchFailure(outcome.getInputFile().toString(), outcome.getError());
+                    failed++;
+                }
+            }
+            writer.displayBatchSummary(inputFiles.size() - failed, failed);
+            if (statistics != null) {
+                reportStatistics(options, statistics, writer);
+            }
+        } catch (Exception e) {
+            writer.displayErrorMessage(e);
+            failed++;
+        }
+
+        if (failed > 0) {
+            killer.exit();
+        }
+    }
+
+    /**
+     * Checks every schema of the command line and reports all their errors.
+     * The process exits with an error if one was found.
+     */
+    private static void check(final CommandLineOptions options, final MessageWriter writer,
+                              final SystemKiller killer) {
+        int errors = 0;
+        try {
+            List<Path> inputFiles = BatchGenerator.listInputFiles(options.getInputFiles());
+            GenerationStatistics statistics = options.isStats() ? new GenerationStatistics() : null;
+            Generator generator = generator(options, statistics, new ParseCache());
+            for (Path inputFile : inputFiles) {
+                for (Diagnostic diagnostic : generator.check(inputFile).getDiagnostics()) {
+                    writer.displayDiagnostic(diagnostic);
+                    errors++;
+                }
+            }
+            writer.displayCheckSummary(inputFiles.size(), errors);
+            if (statistics != null) {
+                reportStatistics(options, statistics, writer);
+            }
+        } catch (Exception e) {
+            writer.displayErrorMessage(e);
+            errors++;
+        }
+
+        if (errors > 0) {
+            killer.exit();
+        }
+    }
+
+    private static void generateSourceCodeFromInputFileSpecs(final CommandLineOptions options,
+                                                             final GenerationStatistics statistics,
+                                                             final MessageWriter writer) throws Exception {
+        Path inputFile = Paths.get(options.getInputFile()).toAbsolutePath();
+        GenerationManifest manifest = null;
+        if (options.isIncremental()) {
+            manifest = GenerationManifest.load(inputFile.getParent());
+        }
+        if (options.getCompileFile() != null) {
+            compile(options, inputFile, statistics);
+            return;
+        }
+        Generator generator = generator(options, statistics, new ParseCache());
+        if (options.getArchiveFile() == null) {
+            generator.generateSourceCode(inputFile, inputFile.getParent(), manifest, new FileSystemTarget());
+        } else {
+            try (ArchiveTarget archive = new ArchiveTarget(Paths.get(options.getArchiveFile()),
+                                                           inputFile.getParent())) {
+                generator.generateSourceCode(inputFile, inputFile.getParent(), manifest, archive);
+            }
+        }
+        reportSkippedEntities(manifest, writer);
     }
 
+    /**
+     * Displays the entities an incremental generation did not have to
+     * generate, when the specifications of the previous generation were
+     * known.
+     */
+    private static void reportSkippedEntities(final GenerationManifest manifest, final MessageWriter writer) {
+        if (manifest != null && manifest.getImpactAnalysis() != null) {
+            writer.displaySkippedEntities(manifest.getImpactAnalysis().getSkippedEntities());
+        }
+    }
+
+    /**
+     * Generates the code in memory and compiles it in the JVM. The classes
+     * and the SQL script are written in a jar, the sources in the archive
+     * when one is asked.
+     */
+    private static void compile(final CommandLineOptions options, final Path inputFile,
+                                final GenerationStatistics statistics) throws Exception {
+        Path directory = inputFile.getParent();
+        InMemoryTarget generated = new InMemoryTarget();
+        DataLayerSpecifications specs = generator(options, statistics, new ParseCache())
+                .generateSourceCode(inputFile, directory, null, generated);
+        Map<Path, byte[]> files = generated.getFiles();
+
+        GenerationStatistics.Measure measure = start(statistics, "compile");
+        Map<String, byte[]> classes = SourceCompiler.compile(files, directory, specs);
+        stop(measure);
+
+        try (ArchiveTarget jar = new ArchiveTarget(Paths.get(options.getCompileFile()), directory)) {
+            for (Map.Entry<String, byte[]> compiledClass : classes.entrySet()) {
+                jar.writeEntry(compiledClass.getKey(), compiledClass.getValue());
+            }
+            for (Map.Entry<Path, byte[]> file : files.entrySet()) {
+                if (!file.getKey().toString().endsWith(".java")) {
+                    jar.write(file.getKey(), file.getValue());
+                }
+            }
+        }
+
+        if (options.getArchiveFile() != null) {
+            try (ArchiveTarget archive = new ArchiveTarget(Paths.get(options.getArchiveFile()), directory)) {
+                for (Map.Entry<Path, byte[]> file : files.entrySet()) {
+                    archive.write(file.getKey(), file.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates the code every time the input file or a file it imports
+     * changes, the imported files being those recorded by the snapshot of
+     * the last generation. The JVM, the parser tables and the manifest stay
+     * loaded between two generations; an error is displayed and the files
+     * are watched again.
+     */
+    private static void watch(final CommandLineOptions options, final MessageWriter writer) {
+        final Path inputFile = Paths.get(options.getInputFile()).toAbsolutePath();
+        try {
+            final GenerationManifest manifest = GenerationManifest.load(inputFile.getParent());
+            final ParseCache cache = new ParseCache();
+            Runnable regeneration = () -> {
+                try {
+                    GenerationStatistics statistics = options.isStats() ? new GenerationStatistics() : null;
+                    cache.evictMissingFiles();
+                    generator(options, statistics, cache)
+                            .generateSourceCode(inputFile, inputFile.getParent(), manifest, new FileSystemTarget());
+                    writer.displayGenerated(inputFile.toString());
+                    reportSkippedEntities(manifest, writer);
+                    if (statistics != null) {
+                        reportStatistics(options, statistics, writer);
+                    }
+                } catch (Exception e) {
+                    writer.displayErrorMessage(e);
+                }
+            };
+
+            regeneration.run();
+            writer.displayWatching(inputFile.toString());
+            SchemaWatcher watcher = new SchemaWatcher(inputFile, regeneration);
+            watcher.setSourceFiles(
+                    () -> SpecificationSnapshot.readSourceFiles(SpecificationSnapshot.fileIn(inputFile.getParent())));
+            watcher.watch();
+        } catch (Exception e) {
+            writer.displayErrorMessage(e);
+        }
+    }
+
+    /**
+     * Creates a generator configured by the options. The watch mode keeps
+     * its cache between two generations, a batch shares it between its
+     * schemas.
+     */
+    private static Generator generator(final CommandLineOptions options, final GenerationStatistics statistics,
+                                       final ParseCache cache) {
+        Generator generator = new Generator(cache);
+        generator.setParallelism(options.getParallelism());
+        generator.setParserType(options.getParserType());
+        generator.setStatistics(statistics);
+        return generator;
+    }
+
+    private static GenerationStatistics.Measure start(final GenerationStatistics statistics, final String phase) {
+        return statistics == null ? null : statistics.start(phase);
+    }
 
-    private static void generateCode(String directory, DataLayerSpecifications global) throws IOException {
-	SQLGenerator.generate(global, directory + "\\script.sql");
-        JavaGenerator java = new JavaGenerator(directory);
-	java.generate(global);
+    private static void stop(final GenerationStatistics.Measure measure) {
+        if (measure != null) {
+            measure.stop();
+        }
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Watches an input file and the files it imports, and runs a regeneration
+ * every time one of them changes. The events are debounced: an editor
+ * saving a file usually produces a burst of events and the regeneration
+ * runs once the files are quiet.
+ */
+public class SchemaWatcher {
+
+    /**
+     * The time without events after which the file is considered saved.
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private Path inputFile;
+    private Runnable regeneration;
+    private Supplier<? extends Collection<Path>> sourceFiles;
+    private Runnable watching;
+    private long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+    private volatile WatchService service;
+    private volatile boolean stopped = false;
+    private HashSet<Path> watchedFiles = new HashSet<Path>();
+    private HashMap<WatchKey, Path> directories = new HashMap<WatchKey, Path>();
+
+    /**
+     * Creates a new instance.
+     * @param inputFile The file to watch.
+     * @param regeneration Run every time the file changed.
+     */
+    public SchemaWatcher(Path inputFile, Runnable regeneration) {
+        this.inputFile = inputFile.toAbsolutePath().normalize();
+        this.regeneration = regeneration;
+    }
+
+    public void setDebounceMillis(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Watches the files the input file imports as well. The files are asked
+     * when the watch starts and after every regeneration, so an import added
+     * or removed is taken into account.
+     * @param sourceFiles Gives the input file and the files it imports, the
+     *                    files already watched being kept when it gives
+     *                    none, as after a failed regeneration.
+     */
+    public void setSourceFiles(Supplier<? extends Collection<Path>> sourceFiles) {
+        this.sourceFiles = sourceFiles;
+    }
+
+    /**
+     * @param watching Run every time the files are watched: when the watch
+     *                 starts and after every regeneration. The changes made
+     *                 before are not seen.
+     */
+    public void setWatching(Runnable watching) {
+        this.watching = watching;
+    }
+
+    /**
+     * Watches the files until the thread is interrupted or stop() is called.
+     * Only the events about the input file and the files it imports are
+     * considered, the generated files written next to them are ignored.
+     */
+    public void watch() throws IOException, InterruptedException {
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        service = watchService;
+        try {
+            if (stopped) {
+                return;
+            }
+            register(watchService);
+            while (true) {
+                if (!concernsSourceFile(watchService.take())) {
+                    continue;
+                }
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    concernsSourceFile(key);
+                }
+                regeneration.run();
+                register(watchService);
+            }
+        } catch (ClosedWatchServiceException e) {
+            // stop() was called.
+        } finally {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Stops the watch, watch() returns as soon as possible.
+     */
+    public void stop() throws IOException {
+        stopped = true;
+        WatchService watchService = service;
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Registers the directory of every source file, and cancels the
+     * directories which do not hold one anymore.
+     */
+    private void register(WatchService watchService) throws IOException {
+        HashSet<Path> files = new HashSet<Path>();
+        files.add(inputFile);
+        Collection<Path> sources = sourceFiles == null ? null : sourceFiles.get();
+        if (sources != null && !sources.isEmpty()) {
+            for (Path source : sources) {
+                files.add(source.toAbsolutePath().normalize());
+            }
+        } else {
+            files.addAll(watchedFiles);
+        }
+        watchedFiles = files;
+
+        HashSet<Path> needed = new HashSet<Path>();
+        for (Path file : files) {
+            needed.add(file.getParent());
+        }
+        Iterator<Map.Entry<WatchKey, Path>> registered = directories.entrySet().iterator();
+        while (registered.hasNext()) {
+            Map.Entry<WatchKey, Path> directory = registered.next();
+            if (!needed.remove(directory.getValue())) {
+                directory.getKey().cancel();
+                registered.remove();
+            }
+        }
+        for (Path directory : needed) {
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+            directories.put(directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                               StandardWatchEventKinds.ENTRY_MODIFY), directory);
+        }
+        if (watching != null) {
+            watching.run();
+        }
+    }
+
+    private boolean concernsSourceFile(WatchKey key) {
+        boolean found = false;
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || directory != null && context instanceof Path
+                       && watchedFiles.contains(directory.resolve((Path) context))) {
+                found = true;
+            }
+        }
+        key.reset();
+        return found;
+    }
+}
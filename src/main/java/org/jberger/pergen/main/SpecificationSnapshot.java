@@ -0,0 +1,279 @@
+/*
+ * Copyright 2012 Jacques Berger.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jberger.pergen.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.domain.FieldType;
+import org.jberger.pergen.domain.Relation;
+import org.jberger.pergen.domain.RelationType;
+import org.jberger.pergen.domain.UnicityConstraint;
+import org.jberger.pergen.generators.GenerationManifest;
+
+/**
+ * Stores the analyzed specifications in a compact binary file, so an
+ * unchanged schema is loaded without being lexed, parsed and explored
+ * again. The snapshot records the digest of every source file and the
+ * generator version; it is ignored as soon as one of them changed.
+ *
+ * The entities, the fields, the unicity constraints and the relations are
+ * written in their iteration order and restored in the same order, so the
+ * generated code does not depend on the snapshot being used or not.
+ */
+public final class SpecificationSnapshot {
+
+    /**
+     * "PGSS", the first bytes of a snapshot file.
+     */
+    private static final int MAGIC = 0x50475353;
+
+    /**
+     * Must be changed every time the layout of the file changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String SNAPSHOT_FILE_NAME = "pergen.snapshot";
+
+    private SpecificationSnapshot() {
+    }
+
+    /**
+     * The snapshot file of an output directory.
+     */
+    public static Path fileIn(Path directory) {
+        return directory.resolve(SNAPSHOT_FILE_NAME);
+    }
+
+    /**
+     * Loads the specifications of a snapshot if it is still valid.
+     *
+     * @param snapshot The snapshot file.
+     * @return The frozen specifications, null if the snapshot does not
+     *         exist, is damaged or if a source file changed since it was
+     *         written.
+     */
+    public static DataLayerSpecifications load(Path snapshot) throws IOException {
+        return load(snapshot, true);
+    }
+
+    /**
+     * Loads the specifications of a snapshot, even if its source files
+     * changed since it was written: they are the specifications of the
+     * previous generation.
+     *
+     * @param snapshot The snapshot file.
+     * @return The frozen specifications, null if the snapshot does not
+     *         exist, is damaged or was written by another version of PerGen.
+     */
+    public static DataLayerSpecifications loadPrevious(Path snapshot) throws IOException {
+        return load(snapshot, false);
+    }
+
+    /**
+     * Reads the files the specifications of a snapshot were read from.
+     *
+     * @param snapshot The snapshot file.
+     * @return The source files, empty if the snapshot does not exist, is
+     *         damaged or was written by another version of PerGen.
+     */
+    public static List<Path> readSourceFiles(Path snapshot) {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION
+                    || !GenerationManifest.GENERATOR_VERSION.equals(input.readUTF())) {
+                return Collections.<Path>emptyList();
+            }
+            int count = input.readInt();
+            ArrayList<Path> sourceFiles = new ArrayList<Path>(count);
+            for (int i = 0; i < count; i++) {
+                sourceFiles.add(Paths.get(input.readUTF()));
+                input.readFully(new byte[input.readInt()]);
+            }
+            return sourceFiles;
+        } catch (IOException | RuntimeException e) {
+            return Collections.<Path>emptyList();
+        }
+    }
+
+    private static DataLayerSpecifications load(Path snapshot, boolean checkSources) throws IOException {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION
+                    || !GenerationManifest.GENERATOR_VERSION.equals(input.readUTF())) {
+                return null;
+            }
+            if (!sourcesUnchanged(input) && checkSources) {
+                return null;
+            }
+            return readSpecifications(input);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // A damaged snapshot is only a cache miss.
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot of frozen specifications.
+     *
+     * @param snapshot The snapshot file.
+     * @param specs The specifications, with their relations built.
+     * @param sourceFiles The files the specifications were read from.
+     */
+    public static void save(Path snapshot, DataLayerSpecifications specs,
+                            List<Path> sourceFiles) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(snapshot)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(GenerationManifest.GENERATOR_VERSION);
+
+            output.writeInt(sourceFiles.size());
+            for (Path source : sourceFiles) {
+                output.writeUTF(source.toAbsolutePath().normalize().toString());
+                byte[] digest = ParseCache.digest(source);
+                output.writeInt(digest.length);
+                output.write(digest);
+            }
+
+            writeSpecifications(output, specs);
+        }
+    }
+
+    private static boolean sourcesUnchanged(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        boolean unchanged = count > 0;
+        for (int i = 0; i < count; i++) {
+            Path source = Paths.get(input.readUTF());
+            byte[] digest = new byte[input.readInt()];
+            input.readFully(digest);
+            if (unchanged && (!Files.isRegularFile(source)
+                    || !Arrays.equals(digest, ParseCache.digest(source)))) {
+                unchanged = false;
+            }
+        }
+        return unchanged;
+    }
+
+    private static void writeSpecifications(DataOutputStream output,
+                                            DataLayerSpecifications specs) throws IOException {
+        Collection<Entity> entities = specs.getEntities();
+        IdentityHashMap<Entity, Integer> indexes = new IdentityHashMap<Entity, Integer>();
+        output.writeInt(entities.size());
+        for (Entity entity : entities) {
+            indexes.put(entity, indexes.size());
+            output.writeUTF(entity.getOriginalName());
+
+            output.writeInt(entity.getFields().size());
+            for (Field field : entity.getFields()) {
+                output.writeUTF(field.getOriginalName());
+                output.writeByte(field.getOriginalDataType().ordinal());
+                output.writeBoolean(field.isRequired());
+                Integer length = field.getStringLength();
+                output.writeInt(length == null ? -1 : length.intValue());
+            }
+
+            output.writeInt(entity.getUnicityConstraints().size());
+            for (UnicityConstraint unicity : entity.getUnicityConstraints()) {
+                output.writeInt(unicity.getFields().size());
+                for (Field field : unicity.getFields()) {
+                    output.writeUTF(field.getOriginalName());
+                }
+            }
+        }
+
+        for (Entity entity : entities) {
+            output.writeInt(entity.getRelations().size());
+            for (Relation relation : entity.getRelations()) {
+                output.writeInt(indexes.get(relation.getEntity()));
+                output.writeByte(relation.getType().ordinal());
+                output.writeBoolean(relation.isMaybeZero());
+                output.writeBoolean(relation.isManyToMany());
+                output.writeBoolean(relation.getNameOfLinkTable() != null);
+                if (relation.getNameOfLinkTable() != null) {
+                    output.writeUTF(relation.getNameOfLinkTable());
+                }
+            }
+        }
+    }
+
+    private static DataLayerSpecifications readSpecifications(DataInputStream input) throws IOException {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        FieldType.Type[] fieldTypes = FieldType.Type.values();
+        RelationType.Type[] relationTypes = RelationType.Type.values();
+
+        int entityCount = input.readInt();
+        ArrayList<Entity> entities = new ArrayList<Entity>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = new Entity(input.readUTF());
+
+            int fieldCount = input.readInt();
+            for (int j = 0; j < fieldCount; j++) {
+                Field field = new Field(input.readUTF(), fieldTypes[input.readByte()], input.readBoolean());
+                int length = input.readInt();
+                if (length != -1) {
+                    field.setStringLength(length);
+                }
+                entity.addField(field);
+            }
+
+            int unicityCount = input.readInt();
+            for (int j = 0; j < unicityCount; j++) {
+                UnicityConstraint unicity = new UnicityConstraint();
+                int size = input.readInt();
+                for (int k = 0; k < size; k++) {
+                    unicity.addField(entity.getField(input.readUTF()));
+                }
+                entity.addUnicityConstraint(unicity);
+            }
+
+            specs.addEntity(entity);
+            entities.add(entity);
+        }
+
+        for (Entity entity : entities) {
+            int relationCount = input.readInt();
+            for (int j = 0; j < relationCount; j++) {
+                Entity related = entities.get(input.readInt());
+                RelationType.Type type = relationTypes[input.readByte()];
+                boolean maybeZero = input.readBoolean();
+                boolean manyToMany = input.readBoolean();
+                String linkTable = input.readBoolean() ? input.readUTF() : null;
+                entity.addRelation(new Relation(related, type, maybeZero, manyToMany, linkTable));
+            }
+        }
+
+        specs.freeze();
+        return specs;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.jberger.pergen.output;
 
+import java.util.List;
+import org.jberger.pergen.exceptions.Diagnostic;
 import org.jberger.pergen.files.PrintStreamWrapper;
 
 public class MessageWriter {
@@ -28,9 +30,58 @@ public class MessageWriter {
         out.println("Wrong parameters...");
         out.println("Use : java PerGen <file>");
         out.println("<file> = absolute or relative file path, no spaces allowed");
+        out.println("<file>... or <directory> = generate each schema in a directory named after its file");
+        out.println("--parallelism=<n> = number of threads generating the files");
+        out.println("--incremental = only write the files whose specifications changed");
+        out.println("--watch = generate again every time the file changes");
+        out.println("--archive=<file.zip> = write the generated files in a zip or jar archive");
+        out.println("--compile=<file.jar> = compile the generated files in a jar, without writing them");
+        out.println("--check = report every error of the files, without generating them");
+        out.println("--parser=<sablecc|recursive-descent|streaming> = the parser reading the files, sablecc by default");
+        out.println("--stats[=<file>] = display the time and the memory used by each phase, written as JSON in <file>");
+    }
+
+    public void displayWatching(String file) {
+        out.println("Watching " + file + ", press Ctrl+C to stop.");
+    }
+
+    public void displayGenerated(String file) {
+        out.println("Generated from " + file + ".");
     }
     
+    public void displayBatchSuccess(String file) {
+        out.println("OK: " + file);
+    }
+
+    public void displayBatchFailure(String file, Exception e) {
+        out.println("Error: " + file + ": " + e.getLocalizedMessage());
+    }
+
+    public void displayBatchSummary(int generated, int failed) {
+        out.println(generated + " schema(s) generated, " + failed + " failed.");
+    }
+
+    public void displayDiagnostic(Diagnostic diagnostic) {
+        out.println("Error: " + diagnostic);
+    }
+
+    public void displayCheckSummary(int checked, int errors) {
+        out.println(checked + " schema(s) checked, " + errors + " error(s) found.");
+    }
+
+    public void displaySkippedEntities(List<String> entities) {
+        if (entities.isEmpty()) {
+            out.println("0 unchanged entity(ies) skipped.");
+        } else {
+            out.println(entities.size() + " unchanged entity(ies) skipped: " + String.join(", ", entities) + ".");
+        }
+    }
+
+    public void displayStatistics(String statistics) {
+        out.println(statistics);
+    }
+
     public void displayErrorMessage(Exception e) {
         out.println("Error: " + e.getLocalizedMessage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package org.jberger.pergen.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.main.InputFileParser;
+import org.jberger.pergen.synthetic.SyntheticSchemaGenerator;
+import org.jberger.pergen.transformers.IdentifierTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The three conversions of every entity and field name of a schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdentifierTransformerBenchmark {
+
+    private static final long SEED = 2012;
+
+    @Param({"10", "1000", "10000"})
+    public int entities;
+
+    private String[] identifiers;
+
+    @Setup
+    public void collectIdentifiers() throws Exception {
+        DataLayerSpecifications specs = new InputFileParser(
+                new SyntheticSchemaGenerator(SEED, entities).generate()).extractSpecifications();
+        ArrayList<String> names = new ArrayList<String>();
+        for (Entity entity : specs.getEntities()) {
+            names.add(entity.getOriginalName());
+            for (Field field : entity.getFields()) {
+                names.add(field.getOriginalName());
+            }
+        }
+        identifiers = names.toArray(new String[names.size()]);
+    }
+
+    @Benchmark
+    public void convert(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(IdentifierTransformer.snakeCaseIdentifierToPascalCase(identifier));
+            blackhole.consume(IdentifierTransformer.snakeCaseIdentifierToCamelCase(identifier));
+            blackhole.consume(IdentifierTransformer.snakeCaseIdentifierToSqlStandardCase(identifier));
+        }
+    }
+}
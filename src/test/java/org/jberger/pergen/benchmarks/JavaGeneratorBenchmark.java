@@ -0,0 +1,53 @@
+package org.jberger.pergen.benchmarks;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.files.InMemoryTarget;
+import org.jberger.pergen.generators.JavaGenerator;
+import org.jberger.pergen.main.InputFileParser;
+import org.jberger.pergen.synthetic.SyntheticSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The generation of the DAOs and the POJOs, sequential and parallel. The
+ * files go to memory so the disk does not weigh on the measure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JavaGeneratorBenchmark {
+
+    private static final long SEED = 2012;
+    private static final Path DIRECTORY = Paths.get("generated");
+
+    @Param({"10", "1000", "10000"})
+    public int entities;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private DataLayerSpecifications specs;
+    private InMemoryTarget target = new InMemoryTarget();
+
+    @Setup
+    public void analyseSchema() throws Exception {
+        specs = new InputFileParser(new SyntheticSchemaGenerator(SEED, entities).generate()).extractSpecifications();
+    }
+
+    @Benchmark
+    public InMemoryTarget javaFiles() throws Exception {
+        JavaGenerator generator = new JavaGenerator(DIRECTORY, parallelism);
+        generator.setOutputTarget(target);
+        generator.generate(specs);
+        return target;
+    }
+}
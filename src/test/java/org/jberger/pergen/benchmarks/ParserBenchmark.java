@@ -0,0 +1,73 @@
+package org.jberger.pergen.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.explorers.SpecificationParser;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.main.InputFileParser;
+import org.jberger.pergen.main.ParseCache;
+import org.jberger.pergen.synthetic.SyntheticSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The lexer and the parser alone, then the complete extraction of the
+ * specifications: parsing, exploration and relation analysis. Both are
+ * measured with the SableCC parser and with the recursive descent one; the
+ * extraction also with the streaming SableCC parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmark {
+
+    private static final long SEED = 2012;
+
+    @Param({"10", "1000", "10000"})
+    public int entities;
+
+    private String schema;
+
+    @Setup
+    public void synthesizeSchema() {
+        schema = new SyntheticSchemaGenerator(SEED, entities).generate();
+    }
+
+    @Benchmark
+    public Start lexAndParse() throws Exception {
+        return ParseCache.parse(new StringReader(schema));
+    }
+
+    @Benchmark
+    public DataLayerSpecifications extractSpecifications() throws Exception {
+        return new InputFileParser(schema).extractSpecifications();
+    }
+
+    @Benchmark
+    public DataLayerSpecifications recursiveDescentParse() {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        new SpecificationParser(specs).parse(schema);
+        return specs;
+    }
+
+    @Benchmark
+    public DataLayerSpecifications extractSpecificationsRecursiveDescent() throws Exception {
+        InputFileParser parser = new InputFileParser(schema);
+        parser.setParserType(InputFileParser.ParserType.RECURSIVE_DESCENT);
+        return parser.extractSpecifications();
+    }
+
+    @Benchmark
+    public DataLayerSpecifications extractSpecificationsStreaming() throws Exception {
+        InputFileParser parser = new InputFileParser(schema);
+        parser.setParserType(InputFileParser.ParserType.STREAMING);
+        return parser.extractSpecifications();
+    }
+}
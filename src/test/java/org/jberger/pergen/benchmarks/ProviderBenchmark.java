@@ -0,0 +1,65 @@
+package org.jberger.pergen.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.codeproviders.Java6Provider;
+import org.jberger.pergen.codeproviders.MySql5Provider;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.main.InputFileParser;
+import org.jberger.pergen.synthetic.SyntheticSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The code of the providers rendered from the precompiled templates. The sink
+ * is reused so only the building of the code is measured.
+ *
+ * Before the templates, the same code built by concatenation took about
+ * 55 ms/op for 1000 entities, against about 17 ms/op with the templates
+ * (short run).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProviderBenchmark {
+
+    private static final long SEED = 2012;
+
+    @Param({"10", "1000"})
+    public int entities;
+
+    private DataLayerSpecifications specs;
+    private CodeSink sink = new CodeSink();
+
+    @Setup
+    public void analyseSchema() throws Exception {
+        specs = new InputFileParser(new SyntheticSchemaGenerator(SEED, entities).generate()).extractSpecifications();
+    }
+
+    @Benchmark
+    public int templates() throws Exception {
+        int length = 0;
+        for (Entity entity : specs.getEntities()) {
+            for (Field field : entity.getFields()) {
+                Java6Provider.providePOJOsFieldAndGetterSetter(sink, field);
+            }
+            Java6Provider.provideDAOGetMethod(sink, entity);
+            Java6Provider.provideDAOGetAllMethod(sink, entity);
+            Java6Provider.provideDAODeleteMethod(sink, entity);
+            Java6Provider.provideDAOCheckNullityMethod(sink, entity);
+            Java6Provider.provideDAOSaveMethod(sink, entity);
+            MySql5Provider.provideStandardCreateTable(entity, sink);
+            length += sink.length();
+            sink.clear();
+        }
+        return length;
+    }
+}
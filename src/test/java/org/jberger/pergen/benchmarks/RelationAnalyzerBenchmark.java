@@ -0,0 +1,60 @@
+package org.jberger.pergen.benchmarks;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.RawRelation;
+import org.jberger.pergen.domain.RelationAnalyzer;
+import org.jberger.pergen.explorers.SpecificationExplorer;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.main.ParseCache;
+import org.jberger.pergen.synthetic.SyntheticSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The pairing and the construction of the relations. The analysis freezes
+ * the specifications, so every invocation explores the syntax tree again
+ * outside of the measure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RelationAnalyzerBenchmark {
+
+    private static final long SEED = 2012;
+
+    @Param({"10", "1000", "10000"})
+    public int entities;
+
+    private Start ast;
+    private DataLayerSpecifications specs;
+    private ArrayList<RawRelation> relations;
+
+    @Setup(Level.Trial)
+    public void parseSchema() throws Exception {
+        ast = ParseCache.parse(new StringReader(new SyntheticSchemaGenerator(SEED, entities).generate()));
+    }
+
+    @Setup(Level.Invocation)
+    public void exploreSchema() {
+        specs = new DataLayerSpecifications();
+        SpecificationExplorer explorer = new SpecificationExplorer(specs);
+        ast.apply(explorer);
+        relations = explorer.getRelations();
+    }
+
+    @Benchmark
+    public DataLayerSpecifications analyse() {
+        new RelationAnalyzer(relations).analyse(specs);
+        return specs;
+    }
+}
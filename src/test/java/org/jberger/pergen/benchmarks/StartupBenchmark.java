@@ -0,0 +1,76 @@
+package org.jberger.pergen.benchmarks;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.PushbackReader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.explorers.SpecificationParser;
+import org.jberger.pergen.generated.TableEncoder;
+import org.jberger.pergen.generated.lexer.Lexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The time from the launch of a JVM to the first token of a schema, the
+ * part of a short command line run spent before any work is done. Every
+ * invocation starts a new JVM running FirstToken:
+ *
+ * sablecc: the SableCC lexer, its tables compiled into LexerTables.
+ * sablecc-resource-tables: the same, after decoding lexer.dat and
+ * parser.dat as the generated initializers did before the tables were
+ * compiled.
+ * recursive-descent: SpecificationParser, which has no table, parsing a
+ * one-entity schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupBenchmark {
+
+    private static final String SCHEMA = "entity Book (title string(150) required);";
+
+    @Param({"sablecc", "sablecc-resource-tables", "recursive-descent"})
+    public String startup;
+
+    /**
+     * Reads the first token of a schema in the JVM it is launched in.
+     */
+    public static final class FirstToken {
+
+        public static void main(String[] args) throws Exception {
+            if (args[0].equals("recursive-descent")) {
+                new SpecificationParser(new DataLayerSpecifications()).parse(SCHEMA);
+                return;
+            }
+            if (args[0].equals("sablecc-resource-tables")) {
+                try (InputStream lexer = TableEncoder.openTable("lexer/lexer.dat");
+                     InputStream parser = TableEncoder.openTable("parser/parser.dat")) {
+                    TableEncoder.readLexerTables(lexer);
+                    TableEncoder.readParserTables(parser);
+                }
+            }
+            new Lexer(new PushbackReader(new StringReader(SCHEMA), 1024)).next();
+        }
+    }
+
+    @Benchmark
+    public int launchToFirstToken() throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                                             FirstToken.class.getName(), startup)
+                .inheritIO()
+                .start();
+        int status = process.waitFor();
+        if (status != 0) {
+            throw new IllegalStateException("FirstToken failed with status " + status + ".");
+        }
+        return status;
+    }
+}
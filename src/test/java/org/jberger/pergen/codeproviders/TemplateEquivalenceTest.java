@@ -0,0 +1,109 @@
+package org.jberger.pergen.codeproviders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.domain.Relation;
+import org.jberger.pergen.domain.RelationType;
+import org.jberger.pergen.domain.UnicityConstraint;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.main.InputFileParser;
+import org.jberger.pergen.main.ParseCache;
+import org.jberger.pergen.synthetic.SyntheticSchemaGenerator;
+import org.jberger.pergen.tests.mock.MockFileWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The providers written with templates give exactly the code of the
+ * providers building it by concatenation, as recorded in the expected files
+ * before the templates were introduced.
+ */
+public class TemplateEquivalenceTest {
+
+    @Test
+    public final void testGrammarOk() throws Exception {
+        assertSameCode("grammar_ok.expected",
+                       new InputFileParser(Paths.get("test_files/grammar_ok.txt"), new ParseCache())
+                               .extractSpecifications());
+    }
+
+    @Test
+    public final void testSyntheticSchema() throws Exception {
+        SyntheticSchemaGenerator generator = new SyntheticSchemaGenerator(2012, 6);
+        generator.setFieldsPerEntity(3);
+        generator.setUnicityConstraintsPerEntity(2);
+        assertSameCode("synthetic-2012.expected",
+                       new InputFileParser(generator.generate()).extractSpecifications());
+    }
+
+    private static void assertSameCode(String expectedFile, DataLayerSpecifications specs) throws Exception {
+        MockFileWriter templates = new MockFileWriter();
+        for (Entity entity : specs.getEntities()) {
+            provideWithTemplates(entity, templates);
+        }
+        Assertions.assertEquals(readExpected(expectedFile), templates.getWrittenData());
+    }
+
+    private static String readExpected(String expectedFile) throws IOException {
+        try (InputStream input = TemplateEquivalenceTest.class.getResourceAsStream(expectedFile)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void provideWithTemplates(Entity entity, CodeSink writer) throws Exception {
+        Java6Provider.provideHeaderComment(writer);
+        Java6Provider.providePackageDeclaration(writer, "pojos");
+        Java6Provider.providePOJOsImports(writer, entity);
+        Java6Provider.provideClassDeclaration(writer, entity.getJavaName());
+        Java6Provider.provideDefaultConstructor(writer, entity.getJavaName());
+        Java6Provider.providePOJOsIdGetterSetter(writer);
+        for (Field field : entity.getFields()) {
+            Java6Provider.providePOJOsFieldAndGetterSetter(writer, field);
+        }
+        for (Relation relation : entity.getRelations()) {
+            if (relation.getType() == RelationType.Type.ONE) {
+                Java6Provider.providePOJOsEverythingForAOneRelation(writer, relation.getEntity().getJavaName());
+            } else {
+                Java6Provider.providePOJOsEverythingForAManyRelation(writer, relation.getEntity().getJavaName());
+            }
+        }
+        Java6Provider.provideDAOsImports(writer, entity.getJavaName());
+        Java6Provider.provideDAOsConnectionAndConstructor(writer, entity.getJavaName() + "DAO");
+        Java6Provider.provideDAOGetMethod(writer, entity);
+        Java6Provider.provideDAOGetAllMethod(writer, entity);
+        Java6Provider.provideDAODeleteMethod(writer, entity);
+        Java6Provider.provideDAOCheckNullityMethod(writer, entity);
+        Java6Provider.provideDAONewIdMethod(writer, entity);
+        Java6Provider.provideDAOSaveMethod(writer, entity);
+        Java6Provider.provideClassEnd(writer);
+        Java6Provider.provideDAOExceptionClass(writer);
+        Java6Provider.provideNullityExceptionClass(writer);
+
+        MySql5Provider.provideStandardCreateTable(entity, writer);
+        int unicityCount = 1;
+        for (UnicityConstraint unicity : entity.getUnicityConstraints()) {
+            MySql5Provider.provideUnicityConstraint(unicity, entity.getSqlName(), unicityCount++, writer);
+        }
+        for (Relation relation : entity.getRelations()) {
+            String other = relation.getEntity().getSqlName();
+            MySql5Provider.provideCreateStatementForJunctionTable(entity.getSqlName(), other, writer);
+            writer.write(MySql5Provider.buildCreateStatementForJunctionTable(entity.getSqlName(), other));
+            MySql5Provider.provideForeignKeyStatement(entity.getSqlName(), other, writer);
+            writer.write(MySql5Provider.buildForeignKeyStatement(entity.getSqlName(), other));
+            MySql5Provider.provideForeignKeyStatementsForJunctionTable(entity.getSqlName(), other, writer);
+            writer.write(MySql5Provider.buildForeignKeyStatementsForJunctionTable(entity.getSqlName(), other));
+        }
+    }
+}
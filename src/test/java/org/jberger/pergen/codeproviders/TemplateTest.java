@@ -0,0 +1,46 @@
+package org.jberger.pergen.codeproviders;
+
+import org.jberger.pergen.tests.mock.MockFileWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TemplateTest {
+
+    @Test
+    public final void testRenderInSink() {
+        Template template = Template.compile("get${name}() { return ${field}; } // ${name}\n", "field", "name");
+        MockFileWriter sink = new MockFileWriter();
+        template.render(sink, "title", "Title");
+        template.render(sink, "price", "Price");
+        Assertions.assertEquals("getTitle() { return title; } // Title\n"
+                + "getPrice() { return price; } // Price\n", sink.getWrittenData());
+    }
+
+    @Test
+    public final void testRenderInString() {
+        Template template = Template.compile("${table}_ID=?", "table");
+        Assertions.assertEquals("BOOK_ID=?", template.render("BOOK"));
+        Assertions.assertEquals("constant", Template.compile("constant").render());
+    }
+
+    @Test
+    public final void testSlotsNextToEachOther() {
+        Template template = Template.compile("${a}${b}${a}", "a", "b");
+        Assertions.assertEquals("xyx", template.render("x", "y"));
+    }
+
+    @Test
+    public final void testInvalidTemplates() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Template.compile("${name", "name"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Template.compile("${other}", "name"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Template.compile("no slot", "name"));
+    }
+
+    @Test
+    public final void testWrongNumberOfValues() {
+        Template template = Template.compile("${a} ${b}", "a", "b");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> template.render("x"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> template.render(new MockFileWriter(), "x", "y", "z"));
+    }
+}
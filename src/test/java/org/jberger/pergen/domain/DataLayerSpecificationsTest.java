@@ -15,6 +15,7 @@
 
 package org.jberger.pergen.domain;
 
+import org.jberger.pergen.exceptions.AmbiguousEntityNameException;
 import org.junit.jupiter.api.*;
 
 public class DataLayerSpecificationsTest {
@@ -49,4 +50,45 @@ public class DataLayerSpecificationsTest {
         global.addEntity(new Entity("third"));
         Assertions.assertEquals(3, global.getEntities().size());
     }
+
+    @Test
+    public final void testGetEntityByGeneratedNames() {
+        DataLayerSpecifications global = new DataLayerSpecifications();
+        Entity entity = new Entity("book_section");
+        global.addEntity(entity);
+
+        Assertions.assertSame(entity, global.getEntityByJavaName("BookSection"));
+        Assertions.assertSame(entity, global.getEntityBySqlName("BOOK_SECTION"));
+        Assertions.assertNull(global.getEntityByJavaName("book_section"));
+        Assertions.assertNull(global.getEntityBySqlName("BOOKSECTION"));
+        Assertions.assertNull(global.getEntityBySqlName("book_section"));
+    }
+
+    @Test
+    public final void testAmbiguousEntityName() {
+        DataLayerSpecifications global = new DataLayerSpecifications();
+        global.addEntity(new Entity("book_section"));
+
+        AmbiguousEntityNameException exception = Assertions.assertThrows(AmbiguousEntityNameException.class,
+                () -> global.addEntity(new Entity("BOOK_SECTION")));
+        Assertions.assertEquals("The two entities BOOK_SECTION and book_section produces the same name: "
+                + "BookSection.", exception.getMessage());
+    }
+
+    @Test
+    public final void testFreeze() {
+        DataLayerSpecifications global = new DataLayerSpecifications();
+        global.addEntity(new Entity("cheese"));
+        global.addEntity(new Entity("wine"));
+        global.freeze();
+
+        Assertions.assertTrue(global.isFrozen());
+        Assertions.assertEquals(2, global.getEntityCount());
+        Assertions.assertSame(global.getEntities(), global.getEntities());
+        for (Entity entity : global.getEntities()) {
+            Assertions.assertTrue(entity.isFrozen());
+        }
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> global.addEntity(new Entity("bread")));
+    }
 }
@@ -14,6 +14,7 @@
  */
 package org.jberger.pergen.domain;
 
+import org.jberger.pergen.exceptions.AmbiguousFieldNameException;
 import org.junit.jupiter.api.*;
 
 public class EntityTest {
@@ -63,4 +64,85 @@ public class EntityTest {
         Entity entity = new Entity("entity_name");
         Assertions.assertEquals("EntityName", entity.getJavaName());
     }
+
+    @Test
+    public final void testGetFieldByGeneratedNames() {
+        Entity entity = new Entity("Rain");
+        Field field = new Field("drop_count", FieldType.Type.INTEGER, true);
+        entity.addField(field);
+
+        Assertions.assertSame(field, entity.getFieldByJavaName("dropCount"));
+        Assertions.assertSame(field, entity.getFieldBySqlName("DROP_COUNT"));
+    }
+
+    @Test
+    public final void testAmbiguousFieldName() {
+        Entity entity = new Entity("Rain");
+        entity.addField(new Field("drop_count", FieldType.Type.INTEGER, true));
+
+        AmbiguousFieldNameException exception = Assertions.assertThrows(AmbiguousFieldNameException.class,
+                () -> entity.addField(new Field("Drop_Count", FieldType.Type.INTEGER, true)));
+        Assertions.assertEquals("The two fields Drop_Count and drop_count in entity Rain produces the same "
+                + "name: dropCount.", exception.getMessage());
+    }
+
+    @Test
+    public final void testFieldsWithTheSameJavaNameHashCode() {
+        Entity entity = new Entity("Rain");
+        Field first = new Field("aa", FieldType.Type.INTEGER, true);
+        Field second = new Field("b_b", FieldType.Type.INTEGER, true);
+        entity.addField(first);
+        entity.addField(second);
+
+        Assertions.assertSame(first, entity.getFieldByJavaName("aa"));
+        Assertions.assertSame(second, entity.getFieldByJavaName("bB"));
+        Assertions.assertSame(second, entity.getFieldBySqlName("B_B"));
+        Assertions.assertNull(entity.getFieldByJavaName("cc"));
+        Assertions.assertThrows(AmbiguousFieldNameException.class,
+                () -> entity.addField(new Field("B_b", FieldType.Type.INTEGER, true)));
+    }
+
+    @Test
+    public final void testRelationViews() {
+        Entity entity = new Entity("book");
+        Relation author = new Relation(new Entity("author"), RelationType.Type.MANY,
+                                       false, true, "AUTHOR_BOOK");
+        Relation section = new Relation(new Entity("section"), RelationType.Type.ONE,
+                                        false, false, null);
+        Relation page = new Relation(new Entity("page"), RelationType.Type.MANY,
+                                     true, false, null);
+        entity.addRelation(author);
+        Assertions.assertEquals(1, entity.getAllManyToManyRelations().size());
+        entity.addRelation(section);
+        entity.addRelation(page);
+
+        Assertions.assertSame(author, entity.getAllManyToManyRelations().get(0));
+        Assertions.assertSame(section, entity.getAllManyToOneRelations().get(0));
+        Assertions.assertSame(page, entity.getAllOneToManyRelations().get(0));
+        Assertions.assertEquals(2, entity.getAllMANYRelations().size());
+        Assertions.assertSame(entity.getAllMANYRelations(), entity.getAllMANYRelations());
+    }
+
+    @Test
+    public final void testFrozenEntity() {
+        DataLayerSpecifications global = new DataLayerSpecifications();
+        Entity entity = new Entity("Rain");
+        Field name = new Field("name", FieldType.Type.STRING, true);
+        entity.addField(new Field("drop_count", FieldType.Type.INTEGER, true));
+        entity.addField(name);
+        global.addEntity(entity);
+        global.freeze();
+
+        Assertions.assertTrue(entity.isFrozen());
+        Assertions.assertSame(entity.getRelations(), entity.getRelations());
+        Assertions.assertSame(entity.getUnicityConstraints(), entity.getUnicityConstraints());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> entity.getUnicityConstraints().add(new UnicityConstraint()));
+        Assertions.assertThrows(IllegalStateException.class, () -> name.setStringLength(10));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> entity.addField(new Field("other", FieldType.Type.INTEGER, true)));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> entity.addRelation(new Relation(entity, RelationType.Type.ONE,
+                                                      false, false, null)));
+    }
 }
@@ -0,0 +1,114 @@
+package org.jberger.pergen.domain;
+
+import org.jberger.pergen.exceptions.BidirectionalRelationException;
+import org.jberger.pergen.exceptions.EntityNotDefinedException;
+import org.jberger.pergen.exceptions.ErrorCollector;
+import org.jberger.pergen.exceptions.MultipleRelationException;
+import org.jberger.pergen.exceptions.NotSupportedException;
+import org.jberger.pergen.tests.mock.Specifications;
+import org.junit.jupiter.api.*;
+
+public class RelationPairingTest {
+
+    @Test
+    public final void testOneToMany() {
+        DataLayerSpecifications specs = Specifications.withEntities("book", "section");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("book", "section", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("section", "book", RelationType.Type.MANY));
+        pairing.build(specs);
+
+        Relation toSection = specs.getEntity("book").getRelations().iterator().next();
+        Assertions.assertSame(specs.getEntity("section"), toSection.getEntity());
+        Assertions.assertEquals(RelationType.Type.ONE, toSection.getType());
+        Assertions.assertFalse(toSection.isManyToMany());
+        Assertions.assertEquals(1, specs.getEntity("section").getRelations().size());
+    }
+
+    @Test
+    public final void testManyToMany() {
+        DataLayerSpecifications specs = Specifications.withEntities("book", "author");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("book", "author", RelationType.Type.MANY));
+        pairing.add(Specifications.relation("author", "book", RelationType.Type.MANY));
+        pairing.build(specs);
+
+        Relation toAuthor = specs.getEntity("book").getRelations().iterator().next();
+        Assertions.assertTrue(toAuthor.isManyToMany());
+        Assertions.assertEquals("AUTHOR_BOOK", toAuthor.getNameOfLinkTable());
+    }
+
+    @Test
+    public final void testRelationsKeepTheirOrder() {
+        DataLayerSpecifications specs = Specifications.withEntities("a", "b", "c");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("a", "c", RelationType.Type.MANY));
+        pairing.add(Specifications.relation("a", "b", RelationType.Type.MANY));
+        pairing.add(Specifications.relation("b", "a", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("c", "a", RelationType.Type.ONE));
+        pairing.build(specs);
+
+        Relation[] relations = specs.getEntity("a").getRelations().toArray(new Relation[0]);
+        Assertions.assertSame(specs.getEntity("c"), relations[0].getEntity());
+        Assertions.assertSame(specs.getEntity("b"), relations[1].getEntity());
+    }
+
+    @Test
+    public final void testErrorsAreCollected() {
+        DataLayerSpecifications specs = Specifications.withEntities("book", "section", "author");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("book", "section", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("section", "book", RelationType.Type.MANY));
+        pairing.add(Specifications.relation("book", "library", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("author", "book", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("section", "book", RelationType.Type.ONE));
+        ErrorCollector errors = new ErrorCollector();
+        pairing.build(specs, errors);
+
+        Assertions.assertEquals(3, errors.getProblems().size());
+        Assertions.assertTrue(errors.getProblems().get(0).getError() instanceof EntityNotDefinedException);
+        Assertions.assertTrue(errors.getProblems().get(1).getError() instanceof MultipleRelationException);
+        Assertions.assertTrue(errors.getProblems().get(2).getError() instanceof BidirectionalRelationException);
+        Assertions.assertEquals(1, specs.getEntity("section").getRelations().size());
+    }
+
+    @Test
+    public final void testBidirectionalRelation() {
+        DataLayerSpecifications specs = Specifications.withEntities("book", "section");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("book", "section", RelationType.Type.ONE));
+        Assertions.assertThrows(BidirectionalRelationException.class, () -> pairing.build(specs));
+    }
+
+    @Test
+    public final void testMultipleRelation() {
+        DataLayerSpecifications specs = Specifications.withEntities("book", "section");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("book", "section", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("book", "section", RelationType.Type.MANY));
+        pairing.add(Specifications.relation("section", "book", RelationType.Type.MANY));
+        MultipleRelationException exception = Assertions.assertThrows(MultipleRelationException.class,
+                () -> pairing.build(specs));
+        Assertions.assertEquals("The entity book contains more than one relation toward the entity section.",
+                                exception.getMessage());
+    }
+
+    @Test
+    public final void testEntityNotDefinedIsReportedFirst() {
+        DataLayerSpecifications specs = Specifications.withEntities("book");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("book", "book", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("book", "book", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("book", "section", RelationType.Type.ONE));
+        Assertions.assertThrows(EntityNotDefinedException.class, () -> pairing.build(specs));
+    }
+
+    @Test
+    public final void testOneToOneNotSupported() {
+        DataLayerSpecifications specs = Specifications.withEntities("book", "section");
+        RelationPairing pairing = new RelationPairing();
+        pairing.add(Specifications.relation("book", "section", RelationType.Type.ONE));
+        pairing.add(Specifications.relation("section", "book", RelationType.Type.ONE));
+        Assertions.assertThrows(NotSupportedException.class, () -> pairing.build(specs));
+    }
+}
@@ -0,0 +1,167 @@
+package org.jberger.pergen.explorers;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.exceptions.FieldNotDefinedException;
+import org.jberger.pergen.exceptions.SyntaxErrorException;
+import org.jberger.pergen.generated.lexer.LexerException;
+import org.jberger.pergen.generated.parser.ParserException;
+import org.jberger.pergen.generators.SpecificationFingerprint;
+import org.jberger.pergen.main.InputFileParser;
+import org.jberger.pergen.main.ParseCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SpecificationParserTest {
+
+    @Test
+    public final void testConformanceOnTestFiles() throws Exception {
+        int files = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(Paths.get("test_files"))) {
+            for (Path file : entries) {
+                assertSameResult(file.toString(), extract(file, InputFileParser.ParserType.SABLECC),
+                                 extract(file, InputFileParser.ParserType.RECURSIVE_DESCENT));
+                assertSameResult(file.toString(), extract(file, InputFileParser.ParserType.SABLECC),
+                                 extract(file, InputFileParser.ParserType.STREAMING));
+                files++;
+            }
+        }
+        Assertions.assertTrue(files > 0);
+    }
+
+    @Test
+    public final void testConformanceOnSyntax() throws Exception {
+        List<String> contents = Arrays.asList(
+                "",
+                "/* only a comment */",
+                "/***/ entity A (a date);",
+                "/*/*/ENTITY A (a DATE REQUIRED);",
+                "/* é \r\n à */\r\nentity a_1 (b string(12) required, c string required, d real);",
+                "entity A (x integer, unique (x), has zero to one B);\rentity B (y date, has many A);",
+                "entity A (x integer);\nentity B (has zero to many A, unique (y));",
+                "entity A (x string(99999999999));",
+                "entity A (x integer);\nentity A (y integer);\n entity B ( ;",
+                "entity A (x integer)",
+                "entity A (x integer,);",
+                "entity A (date date);",
+                "entity A (x text);",
+                "entity A (has zero many B);",
+                "entity A (unique x);",
+                "entity A (x string(12);",
+                "entity A (x integer) /* not closed",
+                "entity A (x integer); /* a*b */",
+                "entity A (x @ integer);",
+                "entity 1A (x integer);",
+                "import \"a.txt\" entity A (x integer);",
+                "import \"\";",
+                "import \"a\n\";",
+                "entity A (x integer);\n\n   import \"b.txt\";");
+        for (String content : contents) {
+            assertSameResult(content, extract(content, InputFileParser.ParserType.SABLECC),
+                             extract(content, InputFileParser.ParserType.RECURSIVE_DESCENT));
+            assertSameResult(content, extract(content, InputFileParser.ParserType.SABLECC),
+                             extract(content, InputFileParser.ParserType.STREAMING));
+        }
+    }
+
+    @Test
+    public final void testImports() {
+        SpecificationParser parser = new SpecificationParser(new DataLayerSpecifications());
+        parser.parse("import \"a.txt\"; IMPORT \"dir/b.txt\";\nentity A (x integer);");
+        Assertions.assertEquals(Arrays.asList("a.txt", "dir/b.txt"), parser.getImports());
+    }
+
+    @Test
+    public final void testRelations() {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        SpecificationParser parser = new SpecificationParser(specs);
+        parser.parse("entity A (x integer, has zero to many B, has one C);");
+        Assertions.assertEquals(2, parser.getRelations().size());
+        Assertions.assertTrue(parser.getRelations().get(0).isMayBeZero());
+        Assertions.assertEquals("B", parser.getRelations().get(0).getToEntity());
+        Assertions.assertEquals("C", parser.getRelations().get(1).getToEntity());
+        Assertions.assertFalse(parser.getRelations().get(1).isMayBeZero());
+    }
+
+    @Test
+    public final void testSyntaxErrorPosition() {
+        SpecificationParser parser = new SpecificationParser(new DataLayerSpecifications());
+        SyntaxErrorException e = Assertions.assertThrows(SyntaxErrorException.class,
+                () -> parser.parse("entity A (\r\n  x integer\r\n  y date);"));
+        Assertions.assertEquals(3, e.getLine());
+        Assertions.assertEquals(3, e.getColumn());
+        Assertions.assertEquals("[3,3] expecting: ',', ')'", e.getMessage());
+    }
+
+    @Test
+    public final void testSyntaxErrorBeforeSpecificationError() {
+        Assertions.assertThrows(SyntaxErrorException.class, () -> new SpecificationParser(new DataLayerSpecifications())
+                .parse("entity A (unique (x));\nentity B ("));
+        Assertions.assertThrows(FieldNotDefinedException.class, () -> new SpecificationParser(new DataLayerSpecifications())
+                .parse("entity A (unique (x));\nentity B (y date);"));
+    }
+
+    private static Object extract(Path file, InputFileParser.ParserType type) {
+        InputFileParser parser = new InputFileParser(file, new ParseCache());
+        parser.setParserType(type);
+        return extract(parser);
+    }
+
+    private static Object extract(String content, InputFileParser.ParserType type) {
+        InputFileParser parser = new InputFileParser(new StringReader(content));
+        parser.setParserType(type);
+        return extract(parser);
+    }
+
+    private static Object extract(InputFileParser parser) {
+        try {
+            return parser.extractSpecifications();
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    /**
+     * Two parsers give the same specifications, or fail the same way: the
+     * same error in the specifications, or a syntax error at the same place.
+     */
+    private static void assertSameResult(String input, Object expected, Object actual) throws IOException {
+        if (expected instanceof LexerException || expected instanceof ParserException) {
+            Assertions.assertTrue(actual instanceof SyntaxErrorException || actual.getClass() == expected.getClass(),
+                                  input + ": " + actual);
+            Assertions.assertEquals(position((Exception) expected), position((Exception) actual), input);
+        } else if (expected instanceof Exception) {
+            Assertions.assertNotNull(actual, input);
+            Assertions.assertEquals(expected.getClass(), actual.getClass(), input + ": " + actual);
+            Assertions.assertEquals(((Exception) expected).getMessage(), ((Exception) actual).getMessage(), input);
+        } else {
+            Assertions.assertTrue(actual instanceof DataLayerSpecifications, input + ": " + actual);
+            DataLayerSpecifications expectedSpecs = (DataLayerSpecifications) expected;
+            DataLayerSpecifications actualSpecs = (DataLayerSpecifications) actual;
+            Assertions.assertEquals(names(expectedSpecs), names(actualSpecs), input);
+            Assertions.assertEquals(SpecificationFingerprint.of(expectedSpecs),
+                                    SpecificationFingerprint.of(actualSpecs), input);
+        }
+    }
+
+    private static String position(Exception e) {
+        return e.getMessage().substring(0, e.getMessage().indexOf(']') + 1);
+    }
+
+    private static List<String> names(DataLayerSpecifications specs) {
+        ArrayList<String> names = new ArrayList<String>();
+        for (Entity entity : specs.getEntities()) {
+            names.add(entity.getOriginalName());
+        }
+        return names;
+    }
+}
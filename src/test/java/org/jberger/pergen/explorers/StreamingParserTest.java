@@ -0,0 +1,47 @@
+package org.jberger.pergen.explorers;
+
+import java.io.PushbackReader;
+import java.io.StringReader;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.exceptions.EntityAlreadyDefinedException;
+import org.jberger.pergen.generated.node.AEntityDefinition;
+import org.jberger.pergen.generated.node.AScript;
+import org.jberger.pergen.generated.node.PEntityDefinition;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.generated.parser.ParserException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StreamingParserTest {
+
+    @Test
+    public final void testDefinitionsAreDropped() throws Exception {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        SpecificationExplorer explorer = new SpecificationExplorer(specs);
+        Start start = new StreamingParser(input("entity A (name string, has many B);"
+                + "entity B (name string, has one A);"), explorer).parse();
+
+        Assertions.assertEquals(2, specs.getEntities().size());
+        Assertions.assertEquals(2, explorer.getRelations().size());
+        Assertions.assertSame(specs.getEntity("A").getField("name").getOriginalName(),
+                              specs.getEntity("B").getField("name").getOriginalName());
+        Assertions.assertSame(specs.getEntity("B").getOriginalName(), explorer.getRelations().get(0).getToEntity());
+        for (PEntityDefinition definition : ((AScript) start.getPScript()).getEntityDefinition()) {
+            Assertions.assertNull(((AEntityDefinition) definition).getIdentifier());
+        }
+    }
+
+    @Test
+    public final void testSyntaxErrorBeforeSpecificationError() {
+        Assertions.assertThrows(ParserException.class, () -> new StreamingParser(
+                input("entity A (x date);\nentity A (y date);\nentity B ("),
+                new SpecificationExplorer(new DataLayerSpecifications())).parse());
+        Assertions.assertThrows(EntityAlreadyDefinedException.class, () -> new StreamingParser(
+                input("entity A (x date);\nentity A (y date);\nentity B (z date);"),
+                new SpecificationExplorer(new DataLayerSpecifications())).parse());
+    }
+
+    private static PushbackReader input(String content) {
+        return new PushbackReader(new StringReader(content), 1024);
+    }
+}
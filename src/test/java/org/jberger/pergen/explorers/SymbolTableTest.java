@@ -0,0 +1,31 @@
+package org.jberger.pergen.explorers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SymbolTableTest {
+
+    @Test
+    public final void testSameInstance() {
+        SymbolTable symbols = new SymbolTable();
+        String book = symbols.intern(new String("Book"));
+
+        Assertions.assertSame(book, symbols.intern(new String("Book")));
+        Assertions.assertNotSame(book, symbols.intern(new String("Boo")));
+        Assertions.assertEquals("Boo", symbols.intern(new String("Boo")));
+        Assertions.assertEquals(2, symbols.size());
+    }
+
+    @Test
+    public final void testManySymbols() {
+        SymbolTable symbols = new SymbolTable();
+        String[] names = new String[5000];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = symbols.intern("field_" + i);
+        }
+        for (int i = 0; i < names.length; i++) {
+            Assertions.assertSame(names[i], symbols.intern(new String("field_" + i)));
+        }
+        Assertions.assertEquals(names.length, symbols.size());
+    }
+}
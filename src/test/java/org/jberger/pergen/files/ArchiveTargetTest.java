@@ -0,0 +1,116 @@
+package org.jberger.pergen.files;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ArchiveTargetTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public final void testEntriesSortedByName() throws IOException {
+        Path archive = directory.resolve("generated.zip");
+        try (ArchiveTarget target = new ArchiveTarget(archive, directory)) {
+            write(target, "script.sql", "create table;");
+            target.createDirectory(directory.resolve("pojos"));
+            write(target, "pojos/Book.java", "class Book {}");
+            target.createDirectory(directory.resolve("daos"));
+            write(target, "daos/BookDAO.java", "class BookDAO {}");
+            write(target, "daos/AuthorDAO.java", "class AuthorDAO {}");
+        }
+
+        Assertions.assertEquals(Arrays.asList("daos/", "daos/AuthorDAO.java", "daos/BookDAO.java",
+                                              "pojos/", "pojos/Book.java", "script.sql"), entryNames(archive));
+        Assertions.assertEquals("class Book {}", entryContent(archive, "pojos/Book.java"));
+        Assertions.assertFalse(Files.exists(directory.resolve("daos")));
+        Assertions.assertFalse(Files.exists(directory.resolve("script.sql")));
+    }
+
+    @Test
+    public final void testSameFilesGiveSameArchive() throws IOException {
+        Path first = directory.resolve("first.zip");
+        Path second = directory.resolve("second.zip");
+        try (ArchiveTarget target = new ArchiveTarget(first, directory)) {
+            write(target, "a.java", "a");
+            write(target, "b.java", "b");
+        }
+        try (ArchiveTarget target = new ArchiveTarget(second, directory)) {
+            write(target, "b.java", "b");
+            write(target, "a.java", "a");
+        }
+        Assertions.assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    }
+
+    @Test
+    public final void testJarHasManifest() throws IOException {
+        Path archive = directory.resolve("generated.jar");
+        try (ArchiveTarget target = new ArchiveTarget(archive, directory)) {
+            write(target, "a.java", "é");
+        }
+        Assertions.assertEquals(Arrays.asList("META-INF/MANIFEST.MF", "a.java"), entryNames(archive));
+        Assertions.assertEquals("é", entryContent(archive, "a.java"));
+    }
+
+    private void write(ArchiveTarget target, String file, String content) {
+        CodeSink sink = new CodeSink();
+        sink.write(content);
+        target.write(directory.resolve(file), sink);
+    }
+
+    private static List<String> entryNames(Path archive) throws IOException {
+        ArrayList<String> names = new ArrayList<String>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+
+    private static String entryContent(Path archive, String name) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals(name)) {
+                    return new String(readAll(zip), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,69 @@
+package org.jberger.pergen.files;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.*;
+
+public class CodeSinkTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public void testWrite() {
+        CodeSink sink = new CodeSink();
+        sink.write("public class ");
+        sink.write("Book");
+        sink.write(' ');
+        sink.write("{\n");
+        Assertions.assertEquals("public class Book {\n", sink.toString());
+        Assertions.assertEquals(20, sink.length());
+    }
+
+    @Test
+    public void testWriteBeyondInitialCapacity() {
+        CodeSink sink = new CodeSink();
+        StringBuilder expected = new StringBuilder();
+        for (int line = 0; line < 10000; line++) {
+            sink.write("    line " + line + "\n");
+            expected.append("    line ").append(line).append('\n');
+        }
+        Assertions.assertEquals(expected.toString(), sink.toString());
+    }
+
+    @Test
+    public void testWriteToFileEmptiesTheSink() throws IOException {
+        Path file = directory.resolve("Book.java");
+        CodeSink sink = new CodeSink();
+        sink.write("class Café {}\n");
+        int size = sink.writeTo(file);
+
+        Assertions.assertEquals("class Café {}\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        Assertions.assertEquals(Files.size(file), size);
+        Assertions.assertEquals(0, sink.length());
+    }
+
+    @Test
+    public void testWriteToReplacesTheFile() throws IOException {
+        Path file = directory.resolve("Book.java");
+        CodeSink sink = new CodeSink();
+        sink.write("a much longer previous content\n");
+        sink.writeTo(file);
+        sink.write("short\n");
+        sink.writeTo(file);
+
+        Assertions.assertEquals("short\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+}
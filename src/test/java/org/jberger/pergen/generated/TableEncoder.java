@@ -0,0 +1,350 @@
+package org.jberger.pergen.generated;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Compiles lexer.dat and parser.dat, the tables written by SableCC, into
+ * the string constants of LexerTables and ParserTables, and patches the
+ * static initializers of Lexer and Parser to read them instead of the
+ * resources. Every int of a table is two chars, high half first, and every
+ * char is itself.
+ *
+ * regenerate-parser.sh runs it after SableCC. TableEncoderTest fails while
+ * the compiled tables differ from the files, or while Lexer and Parser do
+ * not read them.
+ */
+public final class TableEncoder {
+
+    private static final Path SOURCES = Paths.get("src/main/java/org/jberger/pergen/generated");
+    private static final int CHARS_PER_LINE = 16;
+
+    /**
+     * The changes made to the initializer of the lexer generated by SableCC,
+     * as pairs of the generated text and of its replacement.
+     */
+    private static final String[] LEXER_PATCH = {
+        "            DataInputStream s = new DataInputStream(\n"
+        + "                new BufferedInputStream(\n"
+        + "                Lexer.class.getResourceAsStream(\"lexer.dat\")));\n",
+        "            // The tables of lexer.dat, compiled into a string constant by\n"
+        + "            // TableEncoder so no resource is read at startup.\n"
+        + "            LexerTables s = new LexerTables();\n",
+        "            }\n\n            s.close();\n        }\n        catch(Exception e)\n",
+        "            }\n        }\n        catch(Exception e)\n",
+        "throw new RuntimeException(\"The file \\\"lexer.dat\\\" is either missing or corrupted.\");",
+        "throw new RuntimeException(\"The tables of \\\"lexer.dat\\\" are corrupted.\");"
+    };
+
+    /**
+     * The changes made to the initializer of the parser generated by SableCC.
+     */
+    private static final String[] PARSER_PATCH = {
+        "import java.io.DataInputStream;\n"
+        + "import java.io.BufferedInputStream;\n"
+        + "import java.io.IOException;\n",
+        "import java.io.IOException;\n",
+        "            DataInputStream s = new DataInputStream(\n"
+        + "                new BufferedInputStream(\n"
+        + "                Parser.class.getResourceAsStream(\"parser.dat\")));\n",
+        "            // The tables of parser.dat, compiled into a string constant by\n"
+        + "            // TableEncoder so no resource is read at startup.\n"
+        + "            ParserTables s = new ParserTables();\n",
+        "            }\n\n            s.close();\n        }\n        catch(Exception e)\n",
+        "            }\n        }\n        catch(Exception e)\n",
+        "throw new RuntimeException(\"The file \\\"parser.dat\\\" is either missing or corrupted.\");",
+        "throw new RuntimeException(\"The tables of \\\"parser.dat\\\" are corrupted.\");"
+    };
+
+    /**
+     * The tables of the lexer.
+     */
+    public static final class LexerTables {
+
+        public int[][][][] gotoTable;
+        public int[][] accept;
+        String encoded;
+    }
+
+    /**
+     * The tables of the parser.
+     */
+    public static final class ParserTables {
+
+        public int[][][] actionTable;
+        public int[][][] gotoTable;
+        public String[] errorMessages;
+        public int[] errors;
+        String encoded;
+    }
+
+    /**
+     * Reads a table file and records what is read as chars.
+     */
+    private static final class RecordingInput {
+
+        private final DataInputStream in;
+        private final StringBuilder encoded = new StringBuilder();
+
+        RecordingInput(InputStream in) {
+            this.in = new DataInputStream(new BufferedInputStream(in));
+        }
+
+        int readInt() throws IOException {
+            int value = in.readInt();
+            encoded.append((char) (value >>> 16)).append((char) value);
+            return value;
+        }
+
+        char readChar() throws IOException {
+            char value = in.readChar();
+            encoded.append(value);
+            return value;
+        }
+    }
+
+    private TableEncoder() {
+    }
+
+    /**
+     * Reads lexer.dat the way the lexer generated by SableCC reads it.
+     */
+    public static LexerTables readLexerTables(InputStream in) throws IOException {
+        RecordingInput s = new RecordingInput(in);
+        LexerTables tables = new LexerTables();
+        int length = s.readInt();
+        tables.gotoTable = new int[length][][][];
+        for (int i = 0; i < tables.gotoTable.length; i++) {
+            length = s.readInt();
+            tables.gotoTable[i] = new int[length][][];
+            for (int j = 0; j < tables.gotoTable[i].length; j++) {
+                length = s.readInt();
+                tables.gotoTable[i][j] = new int[length][3];
+                for (int k = 0; k < tables.gotoTable[i][j].length; k++) {
+                    for (int l = 0; l < 3; l++) {
+                        tables.gotoTable[i][j][k][l] = s.readInt();
+                    }
+                }
+            }
+        }
+
+        length = s.readInt();
+        tables.accept = new int[length][];
+        for (int i = 0; i < tables.accept.length; i++) {
+            length = s.readInt();
+            tables.accept[i] = new int[length];
+            for (int j = 0; j < tables.accept[i].length; j++) {
+                tables.accept[i][j] = s.readInt();
+            }
+        }
+        tables.encoded = s.encoded.toString();
+        return tables;
+    }
+
+    /**
+     * Reads parser.dat the way the parser generated by SableCC reads it.
+     */
+    public static ParserTables readParserTables(InputStream in) throws IOException {
+        RecordingInput s = new RecordingInput(in);
+        ParserTables tables = new ParserTables();
+        int length = s.readInt();
+        tables.actionTable = new int[length][][];
+        for (int i = 0; i < tables.actionTable.length; i++) {
+            length = s.readInt();
+            tables.actionTable[i] = new int[length][3];
+            for (int j = 0; j < tables.actionTable[i].length; j++) {
+                for (int k = 0; k < 3; k++) {
+                    tables.actionTable[i][j][k] = s.readInt();
+                }
+            }
+        }
+
+        length = s.readInt();
+        tables.gotoTable = new int[length][][];
+        for (int i = 0; i < tables.gotoTable.length; i++) {
+            length = s.readInt();
+            tables.gotoTable[i] = new int[length][2];
+            for (int j = 0; j < tables.gotoTable[i].length; j++) {
+                for (int k = 0; k < 2; k++) {
+                    tables.gotoTable[i][j][k] = s.readInt();
+                }
+            }
+        }
+
+        length = s.readInt();
+        tables.errorMessages = new String[length];
+        for (int i = 0; i < tables.errorMessages.length; i++) {
+            length = s.readInt();
+            StringBuilder buffer = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                buffer.append(s.readChar());
+            }
+            tables.errorMessages[i] = buffer.toString();
+        }
+
+        length = s.readInt();
+        tables.errors = new int[length];
+        for (int i = 0; i < tables.errors.length; i++) {
+            tables.errors[i] = s.readInt();
+        }
+        tables.encoded = s.encoded.toString();
+        return tables;
+    }
+
+    /**
+     * Writes the source of a class holding an encoded table.
+     */
+    static String source(String packageName, String className, String fileName, String encoded) {
+        String eol = "\r\n";
+        StringBuilder source = new StringBuilder();
+        source.append("/* This file was generated by TableEncoder from ").append(fileName)
+              .append(", do not edit. */").append(eol).append(eol);
+        source.append("package ").append(packageName).append(';').append(eol).append(eol);
+        source.append("/**").append(eol);
+        source.append(" * The tables of ").append(fileName).append(", read in the order of the file: every").append(eol);
+        source.append(" * int is two chars, high half first, and every char is itself.").append(eol);
+        source.append(" */").append(eol);
+        source.append("final class ").append(className).append(eol).append('{').append(eol);
+        source.append("    private static final String DATA =");
+        for (int start = 0; start < encoded.length(); start += CHARS_PER_LINE) {
+            source.append(start == 0 ? eol + "        \"" : " +" + eol + "        \"");
+            int end = Math.min(encoded.length(), start + CHARS_PER_LINE);
+            for (int i = start; i < end; i++) {
+                escape(encoded.charAt(i), source);
+            }
+            source.append('"');
+        }
+        source.append(';').append(eol).append(eol);
+        source.append("    private int position;").append(eol).append(eol);
+        source.append("    int readInt()").append(eol);
+        source.append("    {").append(eol);
+        source.append("        int value = (DATA.charAt(this.position) << 16) | DATA.charAt(this.position + 1);").append(eol);
+        source.append("        this.position += 2;").append(eol);
+        source.append("        return value;").append(eol);
+        source.append("    }").append(eol).append(eol);
+        source.append("    char readChar()").append(eol);
+        source.append("    {").append(eol);
+        source.append("        return DATA.charAt(this.position++);").append(eol);
+        source.append("    }").append(eol);
+        source.append('}').append(eol);
+        return source.toString();
+    }
+
+    /**
+     * Writes a char in a string literal. The unicode escapes are avoided for
+     * the line breaks, the quote and the backslash, since javac translates
+     * them before reading the literal.
+     */
+    private static void escape(char c, StringBuilder source) {
+        if (c == '"' || c == '\\') {
+            source.append('\\').append(c);
+        } else if (c == '\n') {
+            source.append("\\n");
+        } else if (c == '\r') {
+            source.append("\\r");
+        } else if (c >= ' ' && c <= '~') {
+            source.append(c);
+        } else {
+            source.append(String.format("\\u%04x", (int) c));
+        }
+    }
+
+    /**
+     * Opens a table written by SableCC. The tables are read from the sources,
+     * they are not packaged since nothing reads them at run time.
+     * @param file The path of the table, relative to the generated package.
+     */
+    public static InputStream openTable(String file) throws IOException {
+        return Files.newInputStream(SOURCES.resolve(file));
+    }
+
+    static String lexerSource() throws IOException {
+        try (InputStream in = openTable("lexer/lexer.dat")) {
+            return source("org.jberger.pergen.generated.lexer", "LexerTables", "lexer.dat",
+                          readLexerTables(in).encoded);
+        }
+    }
+
+    static String parserSource() throws IOException {
+        try (InputStream in = openTable("parser/parser.dat")) {
+            return source("org.jberger.pergen.generated.parser", "ParserTables", "parser.dat",
+                          readParserTables(in).encoded);
+        }
+    }
+
+    /**
+     * Makes the initializer of a lexer generated by SableCC read LexerTables.
+     * A lexer already patched is returned unchanged.
+     */
+    static String patchLexer(String source) {
+        return patch(source, LEXER_PATCH, "LexerTables s = new LexerTables();");
+    }
+
+    /**
+     * Makes the initializer of a parser generated by SableCC read
+     * ParserTables. A parser already patched is returned unchanged.
+     */
+    static String patchParser(String source) {
+        return patch(source, PARSER_PATCH, "ParserTables s = new ParserTables();");
+    }
+
+    /**
+     * Undoes patchLexer, giving back the initializer written by SableCC.
+     */
+    static String unpatchLexer(String source) {
+        return unpatch(source, LEXER_PATCH);
+    }
+
+    /**
+     * Undoes patchParser, giving back the initializer written by SableCC.
+     */
+    static String unpatchParser(String source) {
+        return unpatch(source, PARSER_PATCH);
+    }
+
+    private static String patch(String source, String[] changes, String tablesRead) {
+        String eol = source.contains("\r\n") ? "\r\n" : "\n";
+        String patched = source;
+        for (int i = 0; i < changes.length; i += 2) {
+            patched = patched.replace(changes[i].replace("\n", eol), changes[i + 1].replace("\n", eol));
+        }
+        if (!patched.contains(tablesRead) || patched.contains("getResourceAsStream")) {
+            throw new IllegalStateException("The initializer written by SableCC has changed, "
+                                            + "update the patches of TableEncoder.");
+        }
+        return patched;
+    }
+
+    private static String unpatch(String source, String[] changes) {
+        String eol = source.contains("\r\n") ? "\r\n" : "\n";
+        String unpatched = source;
+        for (int i = 0; i < changes.length; i += 2) {
+            unpatched = unpatched.replace(changes[i + 1].replace("\n", eol), changes[i].replace("\n", eol));
+        }
+        return unpatched;
+    }
+
+    public static void main(String[] args) throws IOException {
+        write(SOURCES.resolve("lexer/LexerTables.java"), lexerSource());
+        write(SOURCES.resolve("parser/ParserTables.java"), parserSource());
+        write(SOURCES.resolve("lexer/Lexer.java"), patchLexer(read(SOURCES.resolve("lexer/Lexer.java"))));
+        write(SOURCES.resolve("parser/Parser.java"), patchParser(read(SOURCES.resolve("parser/Parser.java"))));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static void write(Path file, String source) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(source);
+        }
+    }
+}
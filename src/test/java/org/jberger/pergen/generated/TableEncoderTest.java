@@ -0,0 +1,92 @@
+package org.jberger.pergen.generated;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.jberger.pergen.generated.lexer.Lexer;
+import org.jberger.pergen.generated.parser.Parser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TableEncoderTest {
+
+    private static final String STALE = "The compiled tables differ from the .dat files, run TableEncoder.";
+    private static final String UNPATCHED = "The generated initializers do not read the compiled tables, "
+                                            + "run regenerate-parser.sh.";
+
+    @Test
+    public final void testLexerTables() throws Exception {
+        TableEncoder.LexerTables expected;
+        try (InputStream in = TableEncoder.openTable("lexer/lexer.dat")) {
+            expected = TableEncoder.readLexerTables(in);
+        }
+        Assertions.assertArrayEquals(expected.gotoTable, (int[][][][]) table(Lexer.class, "gotoTable"), STALE);
+        Assertions.assertArrayEquals(expected.accept, (int[][]) table(Lexer.class, "accept"), STALE);
+    }
+
+    @Test
+    public final void testParserTables() throws Exception {
+        TableEncoder.ParserTables expected;
+        try (InputStream in = TableEncoder.openTable("parser/parser.dat")) {
+            expected = TableEncoder.readParserTables(in);
+        }
+        Assertions.assertArrayEquals(expected.actionTable, (int[][][]) table(Parser.class, "actionTable"), STALE);
+        Assertions.assertArrayEquals(expected.gotoTable, (int[][][]) table(Parser.class, "gotoTable"), STALE);
+        Assertions.assertArrayEquals(expected.errorMessages, (String[]) table(Parser.class, "errorMessages"), STALE);
+        Assertions.assertArrayEquals(expected.errors, (int[]) table(Parser.class, "errors"), STALE);
+    }
+
+    @Test
+    public final void testSourcesUpToDate() throws IOException {
+        Assertions.assertEquals(TableEncoder.lexerSource(), read("lexer/LexerTables.java"), STALE);
+        Assertions.assertEquals(TableEncoder.parserSource(), read("parser/ParserTables.java"), STALE);
+    }
+
+    @Test
+    public final void testInitializersReadCompiledTables() throws IOException {
+        String lexer = read("lexer/Lexer.java");
+        String parser = read("parser/Parser.java");
+        Assertions.assertEquals(lexer, TableEncoder.patchLexer(lexer), UNPATCHED);
+        Assertions.assertEquals(parser, TableEncoder.patchParser(parser), UNPATCHED);
+    }
+
+    @Test
+    public final void testPatchGeneratedInitializers() throws IOException {
+        String lexer = read("lexer/Lexer.java");
+        String generatedLexer = TableEncoder.unpatchLexer(lexer);
+        Assertions.assertTrue(generatedLexer.contains("Lexer.class.getResourceAsStream(\"lexer.dat\")"));
+        Assertions.assertEquals(lexer, TableEncoder.patchLexer(generatedLexer));
+
+        String parser = read("parser/Parser.java");
+        String generatedParser = TableEncoder.unpatchParser(parser);
+        Assertions.assertTrue(generatedParser.contains("Parser.class.getResourceAsStream(\"parser.dat\")"));
+        Assertions.assertTrue(generatedParser.contains("import java.io.DataInputStream;"));
+        Assertions.assertEquals(parser, TableEncoder.patchParser(generatedParser));
+    }
+
+    @Test
+    public final void testChangedInitializerIsRejected() {
+        Assertions.assertThrows(IllegalStateException.class,
+                                () -> TableEncoder.patchLexer("public class Lexer {}"));
+    }
+
+    @Test
+    public final void testEscapedChars() {
+        String source = TableEncoder.source("p", "T", "t.dat", "a\"\\\n\r\u0000￿");
+        Assertions.assertTrue(source.contains("\"a\\\"\\\\\\n\\r\\u0000\\uffff\""), source);
+    }
+
+    private static Object table(Class<?> owner, String name) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static String read(String file) throws IOException {
+        return new String(Files.readAllBytes(Paths.get("src/main/java/org/jberger/pergen/generated", file)),
+                          StandardCharsets.UTF_8);
+    }
+}
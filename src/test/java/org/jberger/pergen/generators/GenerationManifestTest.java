@@ -0,0 +1,106 @@
+package org.jberger.pergen.generators;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.*;
+
+public class GenerationManifestTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public void testNewFileNeedsGeneration() throws IOException {
+        GenerationManifest manifest = GenerationManifest.load(directory);
+        Assertions.assertTrue(manifest.needsGeneration(directory.resolve("Book.java"), "hash"));
+    }
+
+    @Test
+    public void testUnchangedFileIsSkipped() throws IOException {
+        Path file = createFile("Book.java");
+        GenerationManifest manifest = GenerationManifest.load(directory);
+        manifest.needsGeneration(file, "hash");
+        manifest.save();
+
+        GenerationManifest nextRun = GenerationManifest.load(directory);
+        Assertions.assertFalse(nextRun.needsGeneration(file, "hash"));
+    }
+
+    @Test
+    public void testChangedFileNeedsGeneration() throws IOException {
+        Path file = createFile("Book.java");
+        GenerationManifest manifest = GenerationManifest.load(directory);
+        manifest.needsGeneration(file, "hash");
+        manifest.save();
+
+        GenerationManifest nextRun = GenerationManifest.load(directory);
+        Assertions.assertTrue(nextRun.needsGeneration(file, "other hash"));
+    }
+
+    @Test
+    public void testRemovedEntityFileIsDeleted() throws IOException {
+        Path file = createFile("Book.java");
+        GenerationManifest manifest = GenerationManifest.load(directory);
+        manifest.needsGeneration(file, "hash");
+        manifest.save();
+
+        GenerationManifest nextRun = GenerationManifest.load(directory);
+        nextRun.save();
+        Assertions.assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testManifestIsReusedAfterSave() throws IOException {
+        Path book = createFile("Book.java");
+        Path author = createFile("Author.java");
+        GenerationManifest manifest = GenerationManifest.load(directory);
+        manifest.needsGeneration(book, "hash");
+        manifest.needsGeneration(author, "hash");
+        manifest.save();
+
+        Assertions.assertFalse(manifest.needsGeneration(book, "hash"));
+        manifest.save();
+        Assertions.assertFalse(Files.exists(author));
+    }
+
+    @Test
+    public void testKeptFileIsNotDeleted() throws IOException {
+        Path file = createFile("Book.java");
+        GenerationManifest manifest = GenerationManifest.load(directory);
+        manifest.needsGeneration(file, "hash");
+        manifest.save();
+
+        GenerationManifest nextRun = GenerationManifest.load(directory);
+        Assertions.assertTrue(nextRun.keep(file));
+        nextRun.save();
+        Assertions.assertTrue(Files.exists(file));
+        Assertions.assertFalse(GenerationManifest.load(directory).needsGeneration(file, "hash"));
+    }
+
+    @Test
+    public void testUnknownOrMissingFileIsNotKept() throws IOException {
+        Path file = createFile("Book.java");
+        GenerationManifest manifest = GenerationManifest.load(directory);
+        Assertions.assertFalse(manifest.keep(file));
+        manifest.needsGeneration(file, "hash");
+        manifest.save();
+
+        Files.delete(file);
+        Assertions.assertFalse(GenerationManifest.load(directory).keep(file));
+    }
+
+    private Path createFile(String name) throws IOException {
+        return Files.createFile(directory.resolve(name));
+    }
+}
@@ -0,0 +1,126 @@
+package org.jberger.pergen.generators;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.files.InMemoryTarget;
+import org.jberger.pergen.main.Generator;
+import org.jberger.pergen.main.InputFileParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ImpactAnalysisTest {
+
+    private static final String AUTHOR = "entity Author (name string, has many Book);";
+    private static final String BOOK = "entity Book (title string, has many Author, has one Library);";
+    private static final String LIBRARY = "entity Library (city string, has many Book);";
+    private static final String OPTIONS = "entity Options (option1 date);";
+
+    @Test
+    public final void testSameSpecifications() throws Exception {
+        DataLayerSpecifications specs = parse(AUTHOR + BOOK + LIBRARY + OPTIONS);
+        ImpactAnalysis analysis = ImpactAnalysis.between(specs, parse(AUTHOR + BOOK + LIBRARY + OPTIONS));
+
+        Assertions.assertFalse(analysis.hasChanges());
+        Assertions.assertEquals(Arrays.asList("Author", "Book", "Library", "Options"),
+                                analysis.getSkippedEntities());
+    }
+
+    @Test
+    public final void testRelatedEntitiesAreAffected() throws Exception {
+        DataLayerSpecifications previous = parse(AUTHOR + BOOK + LIBRARY + OPTIONS);
+        DataLayerSpecifications current = parse(AUTHOR + BOOK
+                + "entity Library (city string, phone string, has many Book);" + OPTIONS);
+        ImpactAnalysis analysis = ImpactAnalysis.between(previous, current);
+
+        Assertions.assertTrue(analysis.hasChanges());
+        Assertions.assertTrue(analysis.isChanged(current.getEntity("Library")));
+        Assertions.assertTrue(analysis.isAffected(current.getEntity("Library")));
+        Assertions.assertFalse(analysis.isChanged(current.getEntity("Book")));
+        Assertions.assertTrue(analysis.isAffected(current.getEntity("Book")));
+        Assertions.assertFalse(analysis.isAffected(current.getEntity("Author")));
+        Assertions.assertEquals(Arrays.asList("Author", "Options"), analysis.getSkippedEntities());
+    }
+
+    @Test
+    public final void testAddedAndRemovedEntities() throws Exception {
+        DataLayerSpecifications previous = parse(AUTHOR + BOOK + LIBRARY + OPTIONS);
+        DataLayerSpecifications current = parse(AUTHOR + BOOK + LIBRARY + "entity Settings (value string);");
+        ImpactAnalysis analysis = ImpactAnalysis.between(previous, current);
+
+        Assertions.assertTrue(analysis.hasChanges());
+        Assertions.assertTrue(analysis.isChanged(current.getEntity("Settings")));
+        Assertions.assertEquals(Arrays.asList("Author", "Book", "Library"), analysis.getSkippedEntities());
+
+        analysis = ImpactAnalysis.between(previous, parse(AUTHOR + BOOK + LIBRARY));
+        Assertions.assertTrue(analysis.hasChanges());
+        Assertions.assertEquals(Arrays.asList("Author", "Book", "Library"), analysis.getSkippedEntities());
+    }
+
+    @Test
+    public final void testRemovedRelationChangesBothSides() throws Exception {
+        DataLayerSpecifications previous = parse(AUTHOR + BOOK + LIBRARY + OPTIONS);
+        DataLayerSpecifications current = parse("entity Author (name string);"
+                + "entity Book (title string, has one Library);" + LIBRARY + OPTIONS);
+        ImpactAnalysis analysis = ImpactAnalysis.between(previous, current);
+
+        Assertions.assertTrue(analysis.isChanged(current.getEntity("Author")));
+        Assertions.assertTrue(analysis.isChanged(current.getEntity("Book")));
+        Assertions.assertTrue(analysis.isAffected(current.getEntity("Library")));
+        Assertions.assertEquals(Collections.singletonList("Options"), analysis.getSkippedEntities());
+    }
+
+    @Test
+    public final void testChangeTwoRelationsAwayDoesNotAffect() throws Exception {
+        String previousSchema = AUTHOR + BOOK + LIBRARY + OPTIONS;
+        String currentSchema = "entity Author (name string, birth date, has many Book);" + BOOK + LIBRARY + OPTIONS;
+        DataLayerSpecifications current = parse(currentSchema);
+        ImpactAnalysis analysis = ImpactAnalysis.between(parse(previousSchema), current);
+
+        Assertions.assertTrue(analysis.isChanged(current.getEntity("Author")));
+        Assertions.assertTrue(analysis.isAffected(current.getEntity("Book")));
+        Assertions.assertFalse(analysis.isAffected(current.getEntity("Library")));
+        Assertions.assertEquals(Arrays.asList("Library", "Options"), analysis.getSkippedEntities());
+
+        Map<Path, byte[]> previousFiles = generate(previousSchema);
+        Map<Path, byte[]> currentFiles = generate(currentSchema);
+        int libraryFiles = 0;
+        for (Map.Entry<Path, byte[]> file : currentFiles.entrySet()) {
+            if (file.getKey().getFileName().toString().startsWith("Library")) {
+                Assertions.assertArrayEquals(previousFiles.get(file.getKey()), file.getValue(),
+                                             file.getKey().toString());
+                libraryFiles++;
+            }
+        }
+        Assertions.assertEquals(2, libraryFiles);
+    }
+
+    @Test
+    public final void testRelationChangeTwoRelationsAway() throws Exception {
+        DataLayerSpecifications previous = parse(AUTHOR + BOOK + LIBRARY + OPTIONS);
+        DataLayerSpecifications current = parse("entity Author (name string, has one Book);"
+                + "entity Book (title string, has many Author, has one Library);" + LIBRARY + OPTIONS);
+        ImpactAnalysis analysis = ImpactAnalysis.between(previous, current);
+
+        Assertions.assertTrue(analysis.isChanged(current.getEntity("Author")));
+        Assertions.assertTrue(analysis.isChanged(current.getEntity("Book")));
+        Assertions.assertFalse(analysis.isChanged(current.getEntity("Library")));
+        Assertions.assertTrue(analysis.isAffected(current.getEntity("Library")));
+        Assertions.assertEquals(Collections.singletonList("Options"), analysis.getSkippedEntities());
+    }
+
+    private static Map<Path, byte[]> generate(String schema) {
+        InMemoryTarget target = new InMemoryTarget();
+        Assertions.assertTrue(new Generator().generate(new StringReader(schema), Paths.get("out"), target)
+                                             .isSuccess());
+        return target.getFiles();
+    }
+
+    private static DataLayerSpecifications parse(String schema) throws Exception {
+        return new InputFileParser(new StringReader(schema), Paths.get("")).extractSpecifications();
+    }
+}
@@ -0,0 +1,79 @@
+package org.jberger.pergen.generators;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jberger.pergen.files.InMemoryTarget;
+import org.jberger.pergen.tests.mock.Specifications;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.*;
+
+public class JavaGeneratorTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public void testGeneratedFiles() throws IOException {
+        new JavaGenerator(directory).generate(Specifications.library());
+
+        Assertions.assertTrue(Files.exists(directory.resolve("daos").resolve("DAOException.java")));
+        Assertions.assertTrue(Files.exists(directory.resolve("daos").resolve("NullityException.java")));
+        Assertions.assertTrue(Files.exists(directory.resolve("daos").resolve("AuthorDAO.java")));
+        Assertions.assertTrue(Files.exists(directory.resolve("daos").resolve("BookDAO.java")));
+        Assertions.assertTrue(Files.exists(directory.resolve("pojos").resolve("Author.java")));
+        Assertions.assertTrue(Files.exists(directory.resolve("pojos").resolve("Book.java")));
+    }
+
+    @Test
+    public void testParallelGenerationIsIdenticalToSequential() throws IOException {
+        Path sequential = directory.resolve("sequential");
+        Path parallel = directory.resolve("parallel");
+        new JavaGenerator(sequential, 1).generate(Specifications.library());
+        new JavaGenerator(parallel, 4).generate(Specifications.library());
+
+        assertSameContent(sequential, parallel);
+    }
+
+    @Test
+    public void testInMemoryTargetHoldsTheSameFiles() throws IOException {
+        new JavaGenerator(directory).generate(Specifications.library());
+
+        InMemoryTarget target = new InMemoryTarget();
+        JavaGenerator generator = new JavaGenerator(directory, 4);
+        generator.setOutputTarget(target);
+        generator.generate(Specifications.library());
+
+        Assertions.assertEquals(8, target.getFileCount());
+        for (Map.Entry<Path, byte[]> file : target.getFiles().entrySet()) {
+            Assertions.assertArrayEquals(Files.readAllBytes(file.getKey()), file.getValue(),
+                                         file.getKey().toString());
+        }
+    }
+
+    static void assertSameContent(Path expected, Path actual) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(expected)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Path relative = expected.relativize(file);
+            Assertions.assertArrayEquals(Files.readAllBytes(file),
+                                         Files.readAllBytes(actual.resolve(relative)),
+                                         relative.toString());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.jberger.pergen.generators;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.exceptions.CompilationFailedException;
+import org.jberger.pergen.files.InMemoryTarget;
+import org.jberger.pergen.tests.mock.Specifications;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SourceCompilerTest {
+
+    private static final Path DIRECTORY = Paths.get("generated").toAbsolutePath();
+
+    @Test
+    public final void testCompileGeneratedFiles() throws Exception {
+        DataLayerSpecifications specs = Specifications.library();
+        Map<String, byte[]> classes = SourceCompiler.compile(generate(specs), DIRECTORY, specs);
+
+        Assertions.assertEquals(Arrays.asList("daos/AuthorDAO.class", "daos/BookDAO.class", "daos/DAOException.class",
+                                              "daos/NullityException.class", "daos/SectionDAO.class",
+                                              "pojos/Author.class", "pojos/Book.class", "pojos/Section.class"),
+                                Arrays.asList(classes.keySet().toArray()));
+        byte[] pojo = classes.get("pojos/Author.class");
+        Assertions.assertEquals(0xCAFEBABE, ((pojo[0] & 0xFF) << 24) | ((pojo[1] & 0xFF) << 16)
+                                            | ((pojo[2] & 0xFF) << 8) | (pojo[3] & 0xFF));
+        Assertions.assertEquals(52, ((pojo[6] & 0xFF) << 8) | (pojo[7] & 0xFF), "Java 8 class file");
+    }
+
+    @Test
+    public final void testOptionsTargetJava8() {
+        Assertions.assertTrue(Collections.indexOfSubList(SourceCompiler.options(ToolProvider.getSystemJavaCompiler()),
+                                                         Arrays.asList("--release", "8")) >= 0);
+
+        JavaCompiler withoutRelease = (JavaCompiler) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {JavaCompiler.class}, (proxy, method, args) -> -1);
+        List<String> options = SourceCompiler.options(withoutRelease);
+        Assertions.assertFalse(options.contains("--release"));
+        Assertions.assertTrue(Collections.indexOfSubList(options, Arrays.asList("-source", "8", "-target", "8")) >= 0);
+    }
+
+    @Test
+    public final void testErrorMappedToEntity() throws Exception {
+        DataLayerSpecifications specs = Specifications.library();
+        TreeMap<Path, byte[]> sources = new TreeMap<Path, byte[]>(generate(specs));
+        Path pojo = DIRECTORY.resolve("pojos").resolve("Book.java");
+        String broken = new String(sources.get(pojo), StandardCharsets.UTF_8).replace("public Book() {",
+                                                                                      "public Book() { undefined();");
+        sources.put(pojo, broken.getBytes(StandardCharsets.UTF_8));
+
+        CompilationFailedException e = Assertions.assertThrows(CompilationFailedException.class,
+                () -> SourceCompiler.compile(sources, DIRECTORY, specs));
+        Assertions.assertEquals(1, e.getErrors().size());
+        CompilationError error = e.getErrors().get(0);
+        Assertions.assertEquals("book", error.getEntityName());
+        Assertions.assertEquals("pojos/Book.java", error.getFile());
+        Assertions.assertTrue(error.getLine() > 0);
+        Assertions.assertTrue(e.getMessage().contains("entity book, pojos/Book.java:" + error.getLine() + ": "),
+                              e.getMessage());
+    }
+
+    private static Map<Path, byte[]> generate(DataLayerSpecifications specs) throws Exception {
+        InMemoryTarget target = new InMemoryTarget();
+        JavaGenerator generator = new JavaGenerator(DIRECTORY);
+        generator.setOutputTarget(target);
+        generator.generate(specs);
+        return target.getFiles();
+    }
+}
@@ -15,6 +15,9 @@
 
 package org.jberger.pergen.generators;
 
+import java.io.IOException;
+import org.jberger.pergen.tests.mock.MockFileWriter;
+import org.jberger.pergen.tests.mock.Specifications;
 import org.junit.jupiter.api.*;
 
 public class SqlGeneratorTest {
@@ -28,4 +31,25 @@ public class SqlGeneratorTest {
     public void testBuildJunctionTableNameReverseOrder() {
         Assertions.assertEquals(SQLGenerator.buildJunctionTableName("BOOK", "AUTHOR"), "AUTHOR_BOOK");
     }
+
+    @Test
+    public void testBuildScriptSections() throws IOException {
+        MockFileWriter writer = new MockFileWriter();
+        SQLGenerator.buildScript(Specifications.library(), writer);
+        String script = writer.getWrittenData();
+
+        int lastTable = script.lastIndexOf("CREATE TABLE AUTHOR (");
+        lastTable = Math.max(lastTable, script.lastIndexOf("CREATE TABLE BOOK ("));
+        lastTable = Math.max(lastTable, script.lastIndexOf("CREATE TABLE SECTION ("));
+        int junctionTable = script.indexOf("CREATE TABLE AUTHOR_BOOK (");
+        int foreignKey = script.indexOf("ALTER TABLE BOOK ADD (CONSTRAINT FK_BOOK_SECTION");
+        int junctionForeignKey = script.indexOf("ALTER TABLE AUTHOR_BOOK ADD (CONSTRAINT FK_AUTHOR_BOOK_AUTHOR");
+
+        Assertions.assertTrue(lastTable < junctionTable);
+        Assertions.assertTrue(junctionTable < foreignKey);
+        Assertions.assertTrue(foreignKey < junctionForeignKey);
+        Assertions.assertEquals(junctionTable, script.lastIndexOf("CREATE TABLE AUTHOR_BOOK ("));
+        Assertions.assertEquals(junctionForeignKey,
+                                script.lastIndexOf("ALTER TABLE AUTHOR_BOOK ADD (CONSTRAINT FK_AUTHOR_BOOK_AUTHOR"));
+    }
 }
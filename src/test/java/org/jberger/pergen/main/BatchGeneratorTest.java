@@ -0,0 +1,97 @@
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jberger.pergen.exceptions.EntityNotDefinedException;
+import org.jberger.pergen.exceptions.OutputDirectoryCollisionException;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchGeneratorTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+        Files.copy(Paths.get("test_files/grammar_ok.txt"), directory.resolve("library.txt"));
+        Files.copy(Paths.get("test_files/entity_not_defined.txt"), directory.resolve("broken.txt"));
+        Files.copy(Paths.get("test_files/grammar_ok.txt"), directory.resolve("shop.txt"));
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public final void testListDirectory() throws IOException {
+        Files.createFile(directory.resolve(".hidden"));
+        Files.createDirectory(directory.resolve("library"));
+        List<Path> files = BatchGenerator.listInputFiles(Collections.singletonList(directory.toString()));
+        Assertions.assertEquals(Arrays.asList(directory.resolve("broken.txt"), directory.resolve("library.txt"),
+                                              directory.resolve("shop.txt")), files);
+    }
+
+    @Test
+    public final void testImportedFilesAreNotListed() throws IOException {
+        Files.write(directory.resolve("main.txt"), "import \"authors.txt\";\nentity Book (title string);"
+                .getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("authors.txt"), "entity Author (name string);".getBytes(StandardCharsets.UTF_8));
+        List<Path> files = BatchGenerator.listInputFiles(Arrays.asList(directory.toString(),
+                                                                       directory.resolve("shop.txt").toString()));
+        Assertions.assertEquals(Arrays.asList(directory.resolve("broken.txt"), directory.resolve("library.txt"),
+                                              directory.resolve("main.txt"), directory.resolve("shop.txt")), files);
+
+        files = BatchGenerator.listInputFiles(Collections.singletonList(directory.resolve("authors.txt").toString()));
+        Assertions.assertEquals(Collections.singletonList(directory.resolve("authors.txt")), files);
+    }
+
+    @Test
+    public final void testOutputDirectoryCollision() throws Exception {
+        Files.copy(Paths.get("test_files/grammar_ok.txt"), directory.resolve("library.pgn"));
+        List<Path> files = BatchGenerator.listInputFiles(Collections.singletonList(directory.toString()));
+        Assertions.assertThrows(OutputDirectoryCollisionException.class,
+                () -> new BatchGenerator(new Generator(), 2).generate(files));
+        Assertions.assertFalse(Files.exists(directory.resolve("library")));
+    }
+
+    @Test
+    public final void testOutputDirectory() {
+        Assertions.assertEquals(directory.resolve("library"),
+                                BatchGenerator.outputDirectoryOf(directory.resolve("library.txt")));
+        Assertions.assertEquals(directory.resolve("library-generated"),
+                                BatchGenerator.outputDirectoryOf(directory.resolve("library")));
+    }
+
+    @Test
+    public final void testFailureDoesNotStopTheBatch() throws Exception {
+        List<Path> files = BatchGenerator.listInputFiles(Collections.singletonList(directory.toString()));
+        List<BatchGenerator.Outcome> outcomes = new BatchGenerator(new Generator(), 2).generate(files);
+
+        Assertions.assertEquals(3, outcomes.size());
+        Assertions.assertTrue(outcomes.get(0).getError() instanceof EntityNotDefinedException);
+        Assertions.assertTrue(outcomes.get(1).isSuccess());
+        Assertions.assertTrue(outcomes.get(2).isSuccess());
+        Assertions.assertTrue(Files.exists(directory.resolve("library").resolve("script.sql")));
+        Assertions.assertTrue(Files.isDirectory(directory.resolve("shop").resolve("pojos")));
+    }
+
+    @Test
+    public final void testFileWithoutExtension() throws Exception {
+        Path file = Files.copy(Paths.get("test_files/grammar_ok.txt"), directory.resolve("schema"));
+        BatchGenerator.Outcome outcome = new BatchGenerator(new Generator(), 1).generate(Collections.singletonList(file)).get(0);
+        Assertions.assertTrue(outcome.isSuccess());
+        Assertions.assertEquals(directory.resolve("schema-generated"), outcome.getOutputDirectory());
+        Assertions.assertTrue(Files.exists(directory.resolve("schema-generated").resolve("script.sql")));
+    }
+}
@@ -0,0 +1,120 @@
+package org.jberger.pergen.main;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CommandLineOptionsTest {
+
+    @Test
+    public final void testInputFileOnly() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"inputfile"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertEquals("inputfile", options.getInputFile());
+        Assertions.assertTrue(options.getParallelism() >= 1);
+    }
+
+    @Test
+    public final void testParallelism() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"--parallelism=3", "inputfile"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertEquals(3, options.getParallelism());
+    }
+
+    @Test
+    public final void testInvalidParallelism() {
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--parallelism=0", "inputfile"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--parallelism=x", "inputfile"}).isValid());
+    }
+
+    @Test
+    public final void testUnknownOption() {
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--unknown", "inputfile"}).isValid());
+    }
+
+    @Test
+    public final void testWatch() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"--watch", "inputfile"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertTrue(options.isWatch());
+        Assertions.assertTrue(options.isIncremental());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"inputfile"}).isWatch());
+    }
+
+    @Test
+    public final void testManyInputFiles() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"a.txt", "--incremental", "b.txt"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertEquals(Arrays.asList("a.txt", "b.txt"), options.getInputFiles());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--watch", "a.txt", "b.txt"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--incremental"}).isValid());
+    }
+
+    @Test
+    public final void testStats() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"--stats", "inputfile"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertTrue(options.isStats());
+        Assertions.assertNull(options.getStatsFile());
+
+        options = new CommandLineOptions(new String[] {"inputfile", "--stats=stats.json"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertTrue(options.isStats());
+        Assertions.assertEquals("stats.json", options.getStatsFile());
+
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"inputfile"}).isStats());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--stats=", "inputfile"}).isValid());
+    }
+
+    @Test
+    public final void testArchive() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"--archive=out.zip", "inputfile"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertEquals("out.zip", options.getArchiveFile());
+        Assertions.assertNull(new CommandLineOptions(new String[] {"inputfile"}).getArchiveFile());
+
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--archive=", "inputfile"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--archive=out.zip", "a", "b"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--archive=out.zip", "--incremental", "a"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--archive=out.zip", "--watch", "a"}).isValid());
+    }
+
+    @Test
+    public final void testCompile() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"--compile=classes.jar", "inputfile"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertEquals("classes.jar", options.getCompileFile());
+        Assertions.assertTrue(new CommandLineOptions(new String[] {"--compile=c.jar", "--archive=s.zip", "a"}).isValid());
+
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--compile=", "inputfile"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--compile=c.jar", "a", "b"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--compile=c.jar", "--watch", "a"}).isValid());
+    }
+
+    @Test
+    public final void testCheck() {
+        CommandLineOptions options = new CommandLineOptions(new String[] {"--check", "a", "b"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertTrue(options.isCheck());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"inputfile"}).isCheck());
+        Assertions.assertTrue(new CommandLineOptions(new String[] {"--check", "--stats", "a"}).isValid());
+
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--check", "--watch", "a"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--check", "--incremental", "a"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--check", "--archive=s.zip", "a"}).isValid());
+    }
+
+    @Test
+    public final void testParser() {
+        Assertions.assertEquals(InputFileParser.ParserType.SABLECC,
+                                new CommandLineOptions(new String[] {"a"}).getParserType());
+        CommandLineOptions options = new CommandLineOptions(new String[] {"--parser=streaming", "a"});
+        Assertions.assertTrue(options.isValid());
+        Assertions.assertEquals(InputFileParser.ParserType.STREAMING, options.getParserType());
+        Assertions.assertEquals(InputFileParser.ParserType.RECURSIVE_DESCENT,
+                                new CommandLineOptions(new String[] {"--parser=recursive-descent", "a"}).getParserType());
+
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--parser=yacc", "a"}).isValid());
+        Assertions.assertFalse(new CommandLineOptions(new String[] {"--parser=", "a"}).isValid());
+    }
+}
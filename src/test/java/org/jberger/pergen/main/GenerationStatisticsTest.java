@@ -0,0 +1,116 @@
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.files.FileSystemTarget;
+import org.jberger.pergen.files.InMemoryTarget;
+import org.jberger.pergen.files.OutputTarget;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GenerationStatisticsTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public final void testPhasesAddUp() {
+        GenerationStatistics statistics = new GenerationStatistics();
+        statistics.record("parse", 10, 5, 100);
+        statistics.record("sql", 3, 2, 1);
+        statistics.record("parse", 20, 5, 50);
+
+        List<GenerationStatistics.Phase> phases = statistics.getPhases();
+        Assertions.assertEquals(2, phases.size());
+        Assertions.assertEquals("parse", phases.get(0).getName());
+        Assertions.assertEquals(2, phases.get(0).getRuns());
+        Assertions.assertEquals(30, phases.get(0).getWallNanos());
+        Assertions.assertEquals(10, phases.get(0).getCpuNanos());
+        Assertions.assertEquals(150, phases.get(0).getAllocatedBytes());
+        Assertions.assertEquals("sql", phases.get(1).getName());
+    }
+
+    @Test
+    public final void testUnsupportedMeasure() {
+        GenerationStatistics statistics = new GenerationStatistics();
+        statistics.record("parse", 10, 5, -1);
+        statistics.record("parse", 10, 5, 100);
+        Assertions.assertEquals(-1, statistics.getPhases().get(0).getAllocatedBytes());
+        Assertions.assertEquals(10, statistics.getPhases().get(0).getCpuNanos());
+    }
+
+    @Test
+    public final void testCountFilesWritten() throws IOException {
+        GenerationStatistics statistics = new GenerationStatistics();
+        InMemoryTarget memory = new InMemoryTarget();
+        OutputTarget target = statistics.count(memory);
+        CodeSink content = new CodeSink();
+        content.write("été");
+        target.write(Paths.get("a.txt"), content);
+        content.write("abc");
+        target.write(Paths.get("b.txt"), content);
+
+        Assertions.assertEquals(2, statistics.getFilesWritten());
+        Assertions.assertEquals(8, statistics.getBytesWritten());
+        Assertions.assertEquals(2, memory.getFileCount());
+    }
+
+    @Test
+    public final void testToTable() {
+        GenerationStatistics statistics = new GenerationStatistics();
+        statistics.record("parse", 1500000, -1, 4096);
+        statistics.fileWritten(42);
+        String[] lines = statistics.toTable().split("\n");
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("Phase"));
+        Assertions.assertEquals("parse           1        1.500          n/a              4", lines[1]);
+        Assertions.assertEquals("Files written: 1, bytes written: 42", lines[2]);
+    }
+
+    @Test
+    public final void testToJson() {
+        GenerationStatistics statistics = new GenerationStatistics();
+        statistics.record("lex", 1, 2, 3);
+        statistics.fileWritten(42);
+        Assertions.assertEquals("{\n  \"phases\": [\n"
+                + "    {\"name\": \"lex\", \"runs\": 1, \"wallNanos\": 1, \"cpuNanos\": 2, \"allocatedBytes\": 3}\n"
+                + "  ],\n  \"filesWritten\": 1,\n  \"bytesWritten\": 42\n}\n", statistics.toJson());
+    }
+
+    @Test
+    public final void testMeasuredGeneration() throws Exception {
+        Path inputFile = Files.copy(Paths.get("test_files/grammar_ok.txt"), directory.resolve("schema.txt"));
+        GenerationStatistics statistics = new GenerationStatistics();
+        Generator generator = new Generator();
+        generator.setParallelism(4);
+        generator.setStatistics(statistics);
+        Assertions.assertTrue(generator.generate(inputFile, directory, new FileSystemTarget()).isSuccess());
+
+        ArrayList<String> names = new ArrayList<String>();
+        for (GenerationStatistics.Phase phase : statistics.getPhases()) {
+            names.add(phase.getName());
+            Assertions.assertTrue(phase.getWallNanos() >= 0);
+        }
+        Assertions.assertEquals(Arrays.asList("load", "lex", "parse", "explore", "analyse", "sql", "java"), names);
+        Assertions.assertTrue(statistics.getFilesWritten() > 1);
+        Assertions.assertTrue(statistics.getBytesWritten() > Files.size(directory.resolve("script.sql")));
+    }
+}
@@ -0,0 +1,283 @@
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.jberger.pergen.exceptions.BidirectionalRelationException;
+import org.jberger.pergen.exceptions.Diagnostic;
+import org.jberger.pergen.exceptions.EntityAlreadyDefinedException;
+import org.jberger.pergen.exceptions.EntityNotDefinedException;
+import org.jberger.pergen.exceptions.FieldAlreadyDefinedException;
+import org.jberger.pergen.exceptions.FieldNotDefinedException;
+import org.jberger.pergen.exceptions.ImportNotFoundException;
+import org.jberger.pergen.files.CodeSink;
+import org.jberger.pergen.files.FileSystemTarget;
+import org.jberger.pergen.files.InMemoryTarget;
+import org.jberger.pergen.files.OutputTarget;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GeneratorTest {
+
+    private static final Path DIRECTORY = Paths.get("/virtual/out");
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public final void testGenerateFromReader() {
+        InMemoryTarget target = new InMemoryTarget();
+        GenerationResult result = new Generator().generate(
+                new StringReader("entity Book (title string);"), DIRECTORY, target);
+
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertTrue(result.getSpecifications().isEntityDefined("Book"));
+        Assertions.assertEquals(target.getFileCount(), result.getFiles().size());
+        Assertions.assertTrue(result.getFiles().contains(DIRECTORY.resolve("script.sql")));
+        Assertions.assertTrue(target.getContent(DIRECTORY.resolve("script.sql")).toLowerCase().contains("book"));
+    }
+
+    @Test
+    public final void testGenerateFromFile() {
+        InMemoryTarget target = new InMemoryTarget();
+        GenerationResult result = new Generator().generate(Paths.get("test_files/grammar_ok.txt"), DIRECTORY,
+                                                           target);
+
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertEquals(4, result.getSpecifications().getEntities().size());
+        Assertions.assertEquals(target.getFiles().keySet(), result.getFiles().stream()
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public final void testSyntaxErrorIsPositioned() {
+        for (InputFileParser.ParserType type : InputFileParser.ParserType.values()) {
+            Generator generator = new Generator();
+            generator.setParserType(type);
+            InMemoryTarget target = new InMemoryTarget();
+            GenerationResult result = generator.generate(
+                    new StringReader("entity Book (title string);\nentity Author (name string"), DIRECTORY, target);
+
+            Assertions.assertFalse(result.isSuccess(), type.name());
+            Assertions.assertNull(result.getSpecifications());
+            Assertions.assertEquals(0, target.getFileCount());
+            Diagnostic diagnostic = result.getDiagnostics().get(0);
+            Assertions.assertEquals(2, diagnostic.getLine(), type.name());
+            Assertions.assertTrue(diagnostic.getColumn() > 0, type.name());
+        }
+    }
+
+    @Test
+    public final void testSpecificationErrorIsReported() {
+        GenerationResult result = new Generator().generate(Paths.get("test_files/entity_not_defined.txt"),
+                                                           DIRECTORY, new InMemoryTarget());
+
+        Assertions.assertEquals(1, result.getDiagnostics().size());
+        Diagnostic diagnostic = result.getDiagnostics().get(0);
+        Assertions.assertTrue(diagnostic.getCause() instanceof EntityNotDefinedException);
+        Assertions.assertFalse(diagnostic.hasPosition());
+        Assertions.assertEquals(diagnostic.getCause().getLocalizedMessage(), diagnostic.getMessage());
+    }
+
+    @Test
+    public final void testScriptWriteFailureIsReported() {
+        for (int parallelism : new int[] {1, 4}) {
+            Generator generator = new Generator();
+            generator.setParallelism(parallelism);
+            final InMemoryTarget memory = new InMemoryTarget();
+            GenerationResult result = generator.generate(new StringReader("entity Book (title string);"), DIRECTORY,
+                                                         new OutputTarget() {
+                @Override
+                public void createDirectory(Path directory) {
+                    memory.createDirectory(directory);
+                }
+
+                @Override
+                public int write(Path file, CodeSink content) throws IOException {
+                    if (file.endsWith("script.sql")) {
+                        throw new IOException("Disk full");
+                    }
+                    return memory.write(file, content);
+                }
+            });
+
+            Assertions.assertFalse(result.isSuccess());
+            Diagnostic diagnostic = result.getDiagnostics().get(0);
+            Assertions.assertTrue(diagnostic.getCause() instanceof IOException);
+            Assertions.assertEquals("Disk full", diagnostic.getMessage());
+        }
+    }
+
+    @Test
+    public final void testImportsOfReaderAreRelativeToDirectory() throws Exception {
+        Files.write(directory.resolve("authors.txt"),
+                    "entity Author (name string, has zero to many Book);".getBytes(StandardCharsets.UTF_8));
+
+        GenerationResult result = new Generator().generate(
+                new StringReader("import \"authors.txt\";\nentity Book (title string, has many Author);"),
+                directory, new InMemoryTarget());
+
+        Assertions.assertTrue(result.isSuccess(), String.valueOf(result.getDiagnostics()));
+        Assertions.assertTrue(result.getSpecifications().isEntityDefined("Author"));
+    }
+
+    @Test
+    public final void testConcurrentGenerations() throws Exception {
+        final Generator generator = new Generator();
+        Map<Path, byte[]> expected = generate(generator);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Map<Path, byte[]>>> tasks = new ArrayList<Callable<Map<Path, byte[]>>>();
+            for (int i = 0; i < 16; i++) {
+                tasks.add(() -> generate(generator));
+            }
+            for (Future<Map<Path, byte[]>> files : pool.invokeAll(tasks)) {
+                Map<Path, byte[]> generated = files.get();
+                Assertions.assertEquals(expected.keySet(), generated.keySet());
+                for (Map.Entry<Path, byte[]> file : expected.entrySet()) {
+                    Assertions.assertArrayEquals(file.getValue(), generated.get(file.getKey()));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public final void testCheckReportsEveryError() {
+        String schema = "entity Author (name string, name date, has many Book, unique(name, missing));\n"
+                + "entity Author (x string);\n"
+                + "entity Book (title string, has one Author, has many Library);\n"
+                + "entity Shelf (label string, has many Book);";
+        for (InputFileParser.ParserType type : InputFileParser.ParserType.values()) {
+            Generator generator = new Generator();
+            generator.setParserType(type);
+            GenerationResult result = generator.check(new StringReader(schema), DIRECTORY);
+
+            Assertions.assertNull(result.getSpecifications());
+            Assertions.assertTrue(result.getFiles().isEmpty());
+            List<Diagnostic> diagnostics = result.getDiagnostics();
+            Assertions.assertEquals(5, diagnostics.size(), type.name());
+            assertDiagnostic(diagnostics.get(0), FieldAlreadyDefinedException.class, 1, 29);
+            assertDiagnostic(diagnostics.get(1), FieldNotDefinedException.class, 1, 68);
+            assertDiagnostic(diagnostics.get(2), EntityAlreadyDefinedException.class, 2, 8);
+            assertDiagnostic(diagnostics.get(3), EntityNotDefinedException.class, 3, 53);
+            assertDiagnostic(diagnostics.get(4), BidirectionalRelationException.class, 4, 38);
+        }
+    }
+
+    @Test
+    public final void testCheckValidSchema() {
+        GenerationResult result = new Generator().check(Paths.get("test_files/grammar_ok.txt"));
+
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertEquals(4, result.getSpecifications().getEntities().size());
+        Assertions.assertTrue(result.getFiles().isEmpty());
+    }
+
+    @Test
+    public final void testCheckReportsErrorsOfImportedFiles() throws Exception {
+        Path main = directory.resolve("main.txt");
+        Files.write(main, "import \"broken.txt\";\nimport \"missing.txt\";\nentity Library (name string, name date);"
+                .getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("broken.txt"), "entity Book (title string"
+                .getBytes(StandardCharsets.UTF_8));
+
+        List<Diagnostic> diagnostics = new Generator().check(main).getDiagnostics();
+
+        Assertions.assertEquals(3, diagnostics.size());
+        Assertions.assertEquals(directory.resolve("broken.txt"), diagnostics.get(0).getFile());
+        Assertions.assertEquals(1, diagnostics.get(0).getLine());
+        Assertions.assertEquals(main, diagnostics.get(1).getFile());
+        Assertions.assertTrue(diagnostics.get(1).getCause() instanceof ImportNotFoundException);
+        Assertions.assertEquals(main, diagnostics.get(2).getFile());
+        assertDiagnostic(diagnostics.get(2), FieldAlreadyDefinedException.class, 3, 30);
+    }
+
+    @Test
+    public final void testCheckPositionsEntityDefinedInTwoFiles() throws Exception {
+        Path main = directory.resolve("main.txt");
+        Path books = directory.resolve("books.txt");
+        Files.write(main, "import \"books.txt\";\nentity Book (title string);".getBytes(StandardCharsets.UTF_8));
+        Files.write(books, "entity Library (name string);\n  entity Book (title string);"
+                .getBytes(StandardCharsets.UTF_8));
+
+        for (InputFileParser.ParserType type : InputFileParser.ParserType.values()) {
+            Generator generator = new Generator();
+            generator.setParserType(type);
+            List<Diagnostic> diagnostics = generator.check(main).getDiagnostics();
+
+            Assertions.assertEquals(1, diagnostics.size(), type.name());
+            Assertions.assertEquals(books, diagnostics.get(0).getFile(), type.name());
+            assertDiagnostic(diagnostics.get(0), EntityAlreadyDefinedException.class, 2, 10);
+        }
+    }
+
+    private static void assertDiagnostic(Diagnostic diagnostic, Class<?> error, int line, int column) {
+        Assertions.assertEquals(error, diagnostic.getCause().getClass(), diagnostic.toString());
+        Assertions.assertEquals(line, diagnostic.getLine(), diagnostic.toString());
+        Assertions.assertEquals(column, diagnostic.getColumn(), diagnostic.toString());
+    }
+
+    private static Map<Path, byte[]> generate(Generator generator) {
+        InMemoryTarget target = new InMemoryTarget();
+        GenerationResult result = generator.generate(Paths.get("test_files/grammar_ok.txt"), DIRECTORY, target);
+        Assertions.assertTrue(result.isSuccess());
+        return target.getFiles();
+    }
+
+    @Test
+    public final void testIncrementalGenerationSkipsUnaffectedEntities() throws Exception {
+        Path schema = Files.copy(Paths.get("test_files/grammar_ok.txt"), directory.resolve("schema.txt"));
+        Generator generator = new Generator();
+        generator.setIncremental(true);
+
+        GenerationResult first = generator.generate(schema, directory, new FileSystemTarget());
+        Assertions.assertTrue(first.isSuccess());
+        Assertions.assertTrue(first.getSkippedEntities().isEmpty());
+
+        GenerationResult unchanged = generator.generate(schema, directory, new FileSystemTarget());
+        Assertions.assertTrue(unchanged.getFiles().isEmpty());
+        Assertions.assertEquals(Arrays.asList("Author", "Book", "Library", "Options"),
+                                unchanged.getSkippedEntities());
+
+        String content = new String(Files.readAllBytes(schema), StandardCharsets.UTF_8);
+        Files.write(schema, content.replace("numberOfEmployees integer required,",
+                                            "numberOfEmployees integer required, city string,")
+                .getBytes(StandardCharsets.UTF_8));
+        GenerationResult changed = generator.generate(schema, directory, new FileSystemTarget());
+        // The DAO of Book is affected, but compared: it does not read the
+        // fields of Library.
+        Assertions.assertEquals(Arrays.asList(directory.resolve("daos/LibraryDAO.java"),
+                                              directory.resolve("pojos/Library.java"),
+                                              directory.resolve("script.sql")), changed.getFiles());
+        Assertions.assertEquals(Arrays.asList("Author", "Options"), changed.getSkippedEntities());
+        Assertions.assertTrue(Files.exists(directory.resolve("daos/AuthorDAO.java")));
+        Assertions.assertTrue(Files.exists(directory.resolve("pojos/Book.java")));
+    }
+}
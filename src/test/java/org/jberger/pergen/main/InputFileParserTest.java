@@ -0,0 +1,198 @@
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.exceptions.BidirectionalRelationException;
+import org.jberger.pergen.exceptions.EntityAlreadyDefinedException;
+import org.jberger.pergen.exceptions.EntityNotDefinedException;
+import org.jberger.pergen.exceptions.FieldAlreadyDefinedException;
+import org.jberger.pergen.exceptions.FieldNotDefinedException;
+import org.jberger.pergen.exceptions.ImportNotFoundException;
+import org.jberger.pergen.exceptions.MultipleRelationException;
+import org.jberger.pergen.files.FileLoader;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InputFileParserTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public final void testGrammarOk() throws Exception {
+        DataLayerSpecifications specs = parse("grammar_ok.txt");
+        Assertions.assertEquals(4, specs.getEntities().size());
+
+        Entity author = specs.getEntity("Author");
+        Assertions.assertEquals(4, author.getFields().size());
+        Assertions.assertEquals(1, author.getUnicityConstraints().size());
+        Assertions.assertEquals(1, author.getRelations().size());
+        Assertions.assertEquals(2, specs.getEntity("Book").getRelations().size());
+        Assertions.assertEquals(50, specs.getEntity("Author").getField("lastname").getStringLength().intValue());
+    }
+
+    @Test
+    public final void testUtf8Comment() throws Exception {
+        DataLayerSpecifications specs = new InputFileParser(
+                "/* Élément é à ü */ entity Options (option1 date);").extractSpecifications();
+        Assertions.assertTrue(specs.isEntityDefined("Options"));
+    }
+
+    @Test
+    public final void testBidirectionalRelation() {
+        Assertions.assertThrows(BidirectionalRelationException.class, () -> parse("bidirectional_relation.txt"));
+    }
+
+    @Test
+    public final void testEntityDefinedTwice() {
+        Assertions.assertThrows(EntityAlreadyDefinedException.class, () -> parse("entity_defined_twice.txt"));
+    }
+
+    @Test
+    public final void testEntityNotDefined() {
+        Assertions.assertThrows(EntityNotDefinedException.class, () -> parse("entity_not_defined.txt"));
+    }
+
+    @Test
+    public final void testFieldDefinedTwice() {
+        Assertions.assertThrows(FieldAlreadyDefinedException.class, () -> parse("field_defined_twice.txt"));
+    }
+
+    @Test
+    public final void testFieldNotDefined() {
+        Assertions.assertThrows(FieldNotDefinedException.class, () -> parse("field_not_defined.txt"));
+    }
+
+    @Test
+    public final void testMultipleRelation() {
+        Assertions.assertThrows(MultipleRelationException.class, () -> parse("multiple_relation.txt"));
+    }
+
+    @Test
+    public final void testImportedFilesAreMerged() throws Exception {
+        Path main = write(directory.resolve("main.txt"),
+                "import \"authors.txt\";\nimport \"shop/books.txt\";\n"
+                + "entity Library (name string, has many Book);");
+        write(directory.resolve("authors.txt"), "entity Author (name string, has zero to many Book);");
+        write(Files.createDirectory(directory.resolve("shop")).resolve("books.txt"),
+                "import \"../authors.txt\";\n"
+                + "entity Book (title string, has many Author, has one Library);");
+
+        DataLayerSpecifications specs = new InputFileParser(main, new ParseCache()).extractSpecifications();
+        Assertions.assertEquals(3, specs.getEntities().size());
+        Assertions.assertEquals(1, specs.getEntity("Author").getAllManyToManyRelations().size());
+        Assertions.assertEquals(2, specs.getEntity("Book").getRelations().size());
+        Assertions.assertTrue(specs.isFrozen());
+    }
+
+    @Test
+    public final void testIdentifiersAreSharedBetweenFiles() throws Exception {
+        Path main = write(directory.resolve("main.txt"),
+                "import \"books.txt\";\nentity Library (name string, has many Book);");
+        write(directory.resolve("books.txt"), "entity Book (name string, has one Library);");
+
+        for (InputFileParser.ParserType type : InputFileParser.ParserType.values()) {
+            InputFileParser parser = new InputFileParser(main, new ParseCache());
+            parser.setParserType(type);
+            DataLayerSpecifications specs = parser.extractSpecifications();
+            Entity library = specs.getEntity("Library");
+            Entity book = specs.getEntity("Book");
+            Assertions.assertSame(library.getField("name").getOriginalName(),
+                                  book.getField("name").getOriginalName(), type.name());
+            Assertions.assertEquals("getName", book.getField("name").getGetterName(), type.name());
+            Assertions.assertSame(book, library.getRelations().iterator().next().getEntity(), type.name());
+        }
+    }
+
+    @Test
+    public final void testUnchangedImportIsNotParsedAgain() throws Exception {
+        Path main = write(directory.resolve("main.txt"), "import \"other.txt\";\nentity Library (name string);");
+        Path other = write(directory.resolve("other.txt"), "entity Book (title string);");
+        ParseCache cache = new ParseCache();
+
+        new InputFileParser(main, cache).extractSpecifications();
+        Start ast = cache.parse(other);
+        new InputFileParser(main, cache).extractSpecifications();
+        Assertions.assertSame(ast, cache.parse(other));
+        Assertions.assertEquals(2, cache.size());
+
+        write(other, "entity Book (title string, price real);");
+        Assertions.assertNotSame(ast, cache.parse(other));
+        Assertions.assertEquals(2, new InputFileParser(main, cache).extractSpecifications()
+                                        .getEntity("Book").getFields().size());
+    }
+
+    @Test
+    public final void testCacheIsBounded() throws Exception {
+        Path first = write(directory.resolve("first.txt"), "entity Book (title string);");
+        Path second = write(directory.resolve("second.txt"), "entity Author (name string);");
+        ParseCache cache = new ParseCache(1);
+
+        Start ast = cache.parse(first);
+        cache.parse(second);
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertNotSame(ast, cache.parse(first));
+    }
+
+    @Test
+    public final void testDeletedFilesAreEvicted() throws Exception {
+        Path first = write(directory.resolve("first.txt"), "entity Book (title string);");
+        Path second = write(directory.resolve("second.txt"), "entity Author (name string);");
+        ParseCache cache = new ParseCache();
+        cache.parse(first);
+        cache.parse(second);
+
+        Files.delete(second);
+        cache.evictMissingFiles();
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public final void testEntityDefinedInTwoFiles() throws Exception {
+        Path main = write(directory.resolve("main.txt"), "import \"other.txt\";\nentity Book (title string);");
+        write(directory.resolve("other.txt"), "import \"main.txt\";\nentity Book (title string);");
+        Assertions.assertThrows(EntityAlreadyDefinedException.class,
+                () -> new InputFileParser(main, new ParseCache()).extractSpecifications());
+    }
+
+    @Test
+    public final void testImportNotFound() throws Exception {
+        Path main = write(directory.resolve("main.txt"), "import \"missing.txt\";\nentity Book (title string);");
+        ImportNotFoundException exception = Assertions.assertThrows(ImportNotFoundException.class,
+                () -> new InputFileParser(main, new ParseCache()).extractSpecifications());
+        Assertions.assertEquals("The file missing.txt imported in main.txt does not exist.", exception.getMessage());
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Path testFile(String name) {
+        return Paths.get("test_files", name);
+    }
+
+    private static DataLayerSpecifications parse(String testFile) throws Exception {
+        try (Reader reader = FileLoader.openReader(testFile(testFile))) {
+            return new InputFileParser(reader).extractSpecifications();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SchemaWatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private Path directory;
+    private Semaphore regenerations;
+    private Semaphore watching;
+    private SchemaWatcher watcher;
+    private Thread thread;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+        regenerations = new Semaphore(0);
+        watching = new Semaphore(0);
+    }
+
+    @AfterEach
+    public void stopWatching() throws Exception {
+        if (watcher != null) {
+            watcher.stop();
+            thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+            Assertions.assertFalse(thread.isAlive());
+        }
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public final void testRegeneratesOnceForABurstOfEdits() throws Exception {
+        Path inputFile = directory.resolve("schema.txt");
+        Files.write(inputFile, "entity".getBytes(StandardCharsets.UTF_8));
+        startWatching(inputFile, 300);
+
+        for (int i = 0; i < 10; i++) {
+            Files.write(inputFile, ("entity " + i).getBytes(StandardCharsets.UTF_8));
+        }
+        awaitRegeneration();
+        watcher.stop();
+        thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assertions.assertEquals(0, regenerations.availablePermits());
+    }
+
+    @Test
+    public final void testRegeneratesWhenAnImportedFileChanges() throws Exception {
+        Path inputFile = directory.resolve("schema.txt");
+        Files.write(inputFile, "import \"lib/books.txt\";".getBytes(StandardCharsets.UTF_8));
+        Path imported = Files.createDirectory(directory.resolve("lib")).resolve("books.txt");
+        Files.write(imported, "entity Book (title string);".getBytes(StandardCharsets.UTF_8));
+        watcher = new SchemaWatcher(inputFile, regenerations::release);
+        watcher.setSourceFiles(() -> Arrays.asList(inputFile, imported));
+        startWatching(inputFile, 10);
+
+        Files.write(imported, "entity Author (name string);".getBytes(StandardCharsets.UTF_8));
+        awaitRegeneration();
+    }
+
+    @Test
+    public final void testIgnoresOtherFiles() throws Exception {
+        Path inputFile = directory.resolve("schema.txt");
+        Files.write(inputFile, "entity".getBytes(StandardCharsets.UTF_8));
+        startWatching(inputFile, 10);
+
+        Files.write(directory.resolve("script.sql"), "drop".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertFalse(regenerations.tryAcquire(500, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Waits for one regeneration, then for the files to be watched again.
+     */
+    private void awaitRegeneration() throws InterruptedException {
+        Assertions.assertTrue(regenerations.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertTrue(watching.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Starts the watch on another thread and returns once the files are
+     * watched.
+     */
+    private void startWatching(Path inputFile, long debounceMillis) throws InterruptedException {
+        if (watcher == null) {
+            watcher = new SchemaWatcher(inputFile, regenerations::release);
+        }
+        watcher.setDebounceMillis(debounceMillis);
+        watcher.setWatching(watching::release);
+        thread = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (IOException | InterruptedException e) {
+                // The test fails on the missing regeneration.
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        Assertions.assertTrue(watching.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,97 @@
+package org.jberger.pergen.main;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.generators.SpecificationFingerprint;
+import org.jberger.pergen.tests.mock.TemporaryDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SpecificationSnapshotTest {
+
+    private Path directory;
+    private Path inputFile;
+    private Path snapshot;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = TemporaryDirectory.create();
+        inputFile = Files.copy(Paths.get("test_files/grammar_ok.txt"), directory.resolve("schema.txt"));
+        snapshot = SpecificationSnapshot.fileIn(directory);
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        TemporaryDirectory.delete(directory);
+    }
+
+    @Test
+    public final void testSnapshotRestoresTheSpecifications() throws Exception {
+        DataLayerSpecifications specs = save();
+        DataLayerSpecifications loaded = SpecificationSnapshot.load(snapshot);
+
+        Assertions.assertNotNull(loaded);
+        Assertions.assertTrue(loaded.isFrozen());
+        Assertions.assertEquals(SpecificationFingerprint.of(specs), SpecificationFingerprint.of(loaded));
+        Assertions.assertEquals(names(specs), names(loaded));
+        Assertions.assertEquals(50, loaded.getEntity("Author").getField("lastname").getStringLength().intValue());
+        Assertions.assertEquals("AUTHOR_BOOK",
+                loaded.getEntity("Book").getAllManyToManyRelations().get(0).getNameOfLinkTable());
+    }
+
+    @Test
+    public final void testChangedSourceInvalidatesTheSnapshot() throws Exception {
+        save();
+        Files.write(inputFile, "entity Options (option1 date);".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertNull(SpecificationSnapshot.load(snapshot));
+        Assertions.assertEquals(4, SpecificationSnapshot.loadPrevious(snapshot).getEntities().size());
+    }
+
+    @Test
+    public final void testReadSourceFiles() throws Exception {
+        Assertions.assertTrue(SpecificationSnapshot.readSourceFiles(snapshot).isEmpty());
+        save();
+        Files.write(inputFile, "entity Options (option1 date);".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(Arrays.asList(inputFile.toAbsolutePath().normalize()),
+                                SpecificationSnapshot.readSourceFiles(snapshot));
+    }
+
+    @Test
+    public final void testMissingOrDamagedSnapshot() throws Exception {
+        Assertions.assertNull(SpecificationSnapshot.load(snapshot));
+        save();
+        byte[] content = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(content, content.length / 2));
+        Assertions.assertNull(SpecificationSnapshot.load(snapshot));
+        Assertions.assertNull(SpecificationSnapshot.loadPrevious(snapshot));
+    }
+
+    private DataLayerSpecifications save() throws Exception {
+        InputFileParser parser = new InputFileParser(inputFile, new ParseCache());
+        DataLayerSpecifications specs = parser.extractSpecifications();
+        SpecificationSnapshot.save(snapshot, specs, parser.getSourceFiles());
+        return specs;
+    }
+
+    private static List<String> names(DataLayerSpecifications specs) {
+        List<String> names = new ArrayList<String>();
+        for (Entity entity : specs.getEntities()) {
+            names.add(entity.getOriginalName());
+            for (Field field : entity.getFields()) {
+                names.add(field.getOriginalName());
+            }
+        }
+        return names;
+    }
+}
@@ -15,6 +15,10 @@
  */
 package org.jberger.pergen.output;
 
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import org.jberger.pergen.exceptions.Diagnostic;
 import org.jberger.pergen.tests.mock.MockPrintStream;
 import org.junit.jupiter.api.*;
 
@@ -25,7 +29,27 @@ public class MessageWriterTest {
         MockPrintStream mock = new MockPrintStream();
         MessageWriter writer = new MessageWriter(mock);
         writer.displayUsage();
-        Assertions.assertEquals("Wrong parameters...\nUse : java PerGen <file>\n<file> = absolute or relative file path, no spaces allowed\n", mock.getWrittenData());
+        Assertions.assertEquals("Wrong parameters...\nUse : java PerGen <file>\n<file> = absolute or relative file path, no spaces allowed\n"
+                + "<file>... or <directory> = generate each schema in a directory named after its file\n"
+                + "--parallelism=<n> = number of threads generating the files\n"
+                + "--incremental = only write the files whose specifications changed\n"
+                + "--watch = generate again every time the file changes\n"
+                + "--archive=<file.zip> = write the generated files in a zip or jar archive\n"
+                + "--compile=<file.jar> = compile the generated files in a jar, without writing them\n"
+                + "--check = report every error of the files, without generating them\n"
+                + "--parser=<sablecc|recursive-descent|streaming> = the parser reading the files, sablecc by default\n"
+                + "--stats[=<file>] = display the time and the memory used by each phase, written as JSON in <file>\n",
+                mock.getWrittenData());
+    }
+
+    @Test
+    public void testDisplayWatching() {
+        MockPrintStream mock = new MockPrintStream();
+        MessageWriter writer = new MessageWriter(mock);
+        writer.displayWatching("schema.txt");
+        writer.displayGenerated("schema.txt");
+        Assertions.assertEquals("Watching schema.txt, press Ctrl+C to stop.\n"
+                + "Generated from schema.txt.\n", mock.getWrittenData());
     }
 
     @Test
@@ -36,4 +60,44 @@ public class MessageWriterTest {
         writer.displayErrorMessage(e);
         Assertions.assertEquals("Error: Message d'erreur\n", mock.getWrittenData());
     }
+
+    @Test
+    public void testDisplayBatchOutcomes() {
+        MockPrintStream mock = new MockPrintStream();
+        MessageWriter writer = new MessageWriter(mock);
+        writer.displayBatchSuccess("a.txt");
+        writer.displayBatchFailure("b.txt", new Exception("Message d'erreur"));
+        writer.displayBatchSummary(1, 1);
+        Assertions.assertEquals("OK: a.txt\nError: b.txt: Message d'erreur\n"
+                + "1 schema(s) generated, 1 failed.\n", mock.getWrittenData());
+    }
+
+    @Test
+    public void testDisplayCheck() {
+        MockPrintStream mock = new MockPrintStream();
+        MessageWriter writer = new MessageWriter(mock);
+        writer.displayDiagnostic(new Diagnostic("Message d'erreur", Paths.get("a.txt"), 3, 14, null));
+        writer.displayDiagnostic(new Diagnostic("Message d'erreur", null, 0, 0, null));
+        writer.displayCheckSummary(1, 2);
+        Assertions.assertEquals("Error: a.txt [3,14] Message d'erreur\nError: Message d'erreur\n"
+                + "1 schema(s) checked, 2 error(s) found.\n", mock.getWrittenData());
+    }
+
+    @Test
+    public void testDisplaySkippedEntities() {
+        MockPrintStream mock = new MockPrintStream();
+        MessageWriter writer = new MessageWriter(mock);
+        writer.displaySkippedEntities(Arrays.asList("Author", "Book"));
+        writer.displaySkippedEntities(Collections.<String>emptyList());
+        Assertions.assertEquals("2 unchanged entity(ies) skipped: Author, Book.\n"
+                + "0 unchanged entity(ies) skipped.\n", mock.getWrittenData());
+    }
+
+    @Test
+    public void testDisplayStatistics() {
+        MockPrintStream mock = new MockPrintStream();
+        MessageWriter writer = new MessageWriter(mock);
+        writer.displayStatistics("Phase\nFiles written: 0, bytes written: 0");
+        Assertions.assertEquals("Phase\nFiles written: 0, bytes written: 0\n", mock.getWrittenData());
+    }
 }
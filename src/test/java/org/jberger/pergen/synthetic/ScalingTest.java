@@ -0,0 +1,234 @@
+package org.jberger.pergen.synthetic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.RelationAnalyzer;
+import org.jberger.pergen.explorers.SpecificationExplorer;
+import org.jberger.pergen.explorers.SpecificationParser;
+import org.jberger.pergen.files.InMemoryTarget;
+import org.jberger.pergen.generated.node.Start;
+import org.jberger.pergen.generators.JavaGenerator;
+import org.jberger.pergen.generators.SQLGenerator;
+import org.jberger.pergen.main.ParseCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the time and the peak heap of the parse, the analysis and the
+ * generation grow near-linearly with the size of the schema. Each phase is
+ * measured on a small and on a large synthetic schema; the growth is
+ * expressed as the exponent e of cost = size^e and compared to the bounds
+ * recorded in scaling-bounds.properties.
+ *
+ * Run with: mvn -P scaling test
+ */
+@Tag("scaling")
+public class ScalingTest {
+
+    private static final int SMALL = 1000;
+    private static final int LARGE = 8000;
+    private static final int RUNS = 5;
+    private static final long MEASURE_NANOS = 1000000000L;
+
+    private static Properties bounds = new Properties();
+
+    private interface Phase {
+        Object run(Schema schema) throws Exception;
+    }
+
+    /**
+     * A schema and the results of the previous phases.
+     */
+    private static final class Schema {
+
+        private final String text;
+        private Start ast;
+        private DataLayerSpecifications specs;
+
+        Schema(int entities) throws Exception {
+            SyntheticSchemaGenerator generator = new SyntheticSchemaGenerator(2012, entities);
+            generator.setFieldsPerEntity(5);
+            generator.setOneToManyDensity(1.0);
+            generator.setManyToManyDensity(0.5);
+            generator.setUnicityConstraintsPerEntity(1);
+            text = generator.generate();
+            ast = parse(this);
+            specs = analyse(this);
+        }
+    }
+
+    @BeforeAll
+    public static void loadBounds() throws IOException {
+        try (InputStream input = ScalingTest.class.getResourceAsStream("scaling-bounds.properties")) {
+            bounds.load(input);
+        }
+    }
+
+    @Test
+    public final void testParse() throws Exception {
+        checkScaling("parse", ScalingTest::parse);
+    }
+
+    @Test
+    public final void testRecursiveDescentParse() throws Exception {
+        checkScaling("recursive-descent", ScalingTest::parseRecursiveDescent);
+    }
+
+    @Test
+    public final void testAnalysis() throws Exception {
+        checkScaling("analysis", ScalingTest::analyse);
+    }
+
+    @Test
+    public final void testGeneration() throws Exception {
+        checkScaling("generation", ScalingTest::generate);
+    }
+
+    private static Start parse(Schema schema) throws Exception {
+        return ParseCache.parse(new StringReader(schema.text));
+    }
+
+    private static DataLayerSpecifications parseRecursiveDescent(Schema schema) {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        new SpecificationParser(specs).parse(schema.text);
+        return specs;
+    }
+
+    private static DataLayerSpecifications analyse(Schema schema) {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        SpecificationExplorer explorer = new SpecificationExplorer(specs);
+        schema.ast.apply(explorer);
+        new RelationAnalyzer(explorer.getRelations()).analyse(specs);
+        return specs;
+    }
+
+    private static InMemoryTarget generate(Schema schema) throws Exception {
+        InMemoryTarget target = new InMemoryTarget();
+        SQLGenerator.generate(schema.specs, Paths.get("script.sql"), null, target);
+        JavaGenerator generator = new JavaGenerator(Paths.get(""));
+        generator.setOutputTarget(target);
+        generator.generate(schema.specs);
+        return target;
+    }
+
+    private static void checkScaling(String name, Phase phase) throws Exception {
+        Schema small = new Schema(SMALL);
+        Schema large = new Schema(LARGE);
+        measure(phase, small);
+        measure(phase, large);
+
+        double[] smallCost = measure(phase, small);
+        double[] largeCost = measure(phase, large);
+        double timeExponent = exponent(smallCost[0], largeCost[0]);
+        double heapExponent = exponent(smallCost[1], largeCost[1]);
+        String report = String.format("%s: time %.1f ms -> %.1f ms (exponent %.2f), "
+                + "peak heap %.1f MB -> %.1f MB (exponent %.2f)", name,
+                smallCost[0] / 1e6, largeCost[0] / 1e6, timeExponent,
+                smallCost[1] / 1e6, largeCost[1] / 1e6, heapExponent);
+
+        Assertions.assertTrue(timeExponent <= bound(name + ".time"), report);
+        Assertions.assertTrue(heapExponent <= bound(name + ".heap"), report);
+    }
+
+    /**
+     * Runs a phase a few times, and for one second at least so the best
+     * time of the short runs is not the noise of the machine. The time spent
+     * collecting the garbage is not counted: it depends on everything the
+     * test keeps alive, and the heap is measured on its own. The runs
+     * without collection are preferred, the collection times being only
+     * known to the millisecond.
+     * @return The best time, in nanoseconds, and the largest peak of the
+     *         heap above the heap used before the run, in bytes.
+     */
+    private static double[] measure(Phase phase, Schema schema) throws Exception {
+        long bestTime = Long.MAX_VALUE;
+        long bestCollectedTime = Long.MAX_VALUE;
+        long peakHeap = 0;
+        long measureStart = System.nanoTime();
+        for (int run = 0; run < RUNS || System.nanoTime() - measureStart < MEASURE_NANOS; run++) {
+            System.gc();
+            long before = usedHeap();
+            resetPeakHeap();
+            long collections = collectionCount();
+            long collecting = collectionMillis();
+            long start = System.nanoTime();
+            Object result = phase.run(schema);
+            long time = System.nanoTime() - start;
+            if (collectionCount() == collections) {
+                bestTime = Math.min(bestTime, time);
+            } else {
+                time -= TimeUnit.MILLISECONDS.toNanos(collectionMillis() - collecting);
+                bestCollectedTime = Math.min(bestCollectedTime, time);
+            }
+            peakHeap = Math.max(peakHeap, peakHeap() - before);
+            Assertions.assertNotNull(result);
+        }
+        if (bestTime == Long.MAX_VALUE) {
+            bestTime = bestCollectedTime;
+        }
+        return new double[] {bestTime, Math.max(peakHeap, 1)};
+    }
+
+    private static double exponent(double smallCost, double largeCost) {
+        return Math.log(largeCost / smallCost) / Math.log((double) LARGE / SMALL);
+    }
+
+    private static double bound(String key) {
+        return Double.parseDouble(bounds.getProperty(key));
+    }
+
+    private static long collectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long collectionMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(collector.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    private static long usedHeap() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
@@ -0,0 +1,172 @@
+package org.jberger.pergen.synthetic;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Writes large and valid input files. The same seed and the same settings
+ * always give the same schema.
+ *
+ * Every relation is written on both entities: a one-to-many relation is a
+ * "has one" on the child and a "has many" on the parent, a many-to-many
+ * relation is a "has many" on both. Two entities are linked by at most one
+ * relation and the names carry their index, so the schema never contains an
+ * ambiguous, duplicated or undefined name.
+ */
+public class SyntheticSchemaGenerator {
+
+    private static final String[] WORDS = {
+        "account", "address", "amount", "author", "balance", "book", "branch", "budget",
+        "category", "client", "comment", "contract", "country", "course", "delivery", "device",
+        "discount", "document", "employee", "event", "invoice", "item", "label", "lesson",
+        "member", "message", "order", "payment", "person", "product", "project", "rating",
+        "region", "report", "review", "room", "schedule", "section", "session", "shipment",
+        "status", "supplier", "task", "teacher", "ticket", "title", "vendor", "visit"
+    };
+
+    private static final String[] TYPES = {"date", "integer", "real", "string", "string(50)", "string(255)"};
+
+    private long seed;
+    private int entityCount;
+    private int fieldsPerEntity = 4;
+    private double oneToManyDensity = 1.0;
+    private double manyToManyDensity = 0.5;
+    private int unicityConstraintsPerEntity = 1;
+
+    /**
+     * Creates a new instance.
+     * @param seed The seed of the pseudo-random choices.
+     * @param entityCount The number of entities.
+     */
+    public SyntheticSchemaGenerator(long seed, int entityCount) {
+        this.seed = seed;
+        this.entityCount = entityCount;
+    }
+
+    /**
+     * @param fieldsPerEntity The number of fields of every entity, at least
+     *                        one since an entity cannot be empty.
+     */
+    public void setFieldsPerEntity(int fieldsPerEntity) {
+        if (fieldsPerEntity < 1) {
+            throw new IllegalArgumentException("An entity needs at least one field.");
+        }
+        this.fieldsPerEntity = fieldsPerEntity;
+    }
+
+    /**
+     * @param density The average number of parents of an entity, through a
+     *                one-to-many relation.
+     */
+    public void setOneToManyDensity(double density) {
+        this.oneToManyDensity = density;
+    }
+
+    /**
+     * @param density The average number of many-to-many relations defined
+     *                by an entity.
+     */
+    public void setManyToManyDensity(double density) {
+        this.manyToManyDensity = density;
+    }
+
+    /**
+     * @param count The number of unicity constraints of every entity, at
+     *              most the number of fields.
+     */
+    public void setUnicityConstraintsPerEntity(int count) {
+        this.unicityConstraintsPerEntity = count;
+    }
+
+    public static String entityName(int index) {
+        return WORDS[index % WORDS.length] + "_entity" + index;
+    }
+
+    /**
+     * Writes the schema.
+     * @return The content of the input file.
+     */
+    public String generate() {
+        Random random = new Random(seed);
+        List<List<String>> relations = new ArrayList<List<String>>();
+        for (int i = 0; i < entityCount; i++) {
+            relations.add(new ArrayList<String>());
+        }
+        HashSet<Long> linked = new HashSet<Long>();
+
+        for (int child = 1; child < entityCount; child++) {
+            for (int k = count(random, oneToManyDensity); k > 0; k--) {
+                int parent = random.nextInt(child);
+                if (linked.add(pair(child, parent))) {
+                    relations.get(child).add("has " + zeroTo(random) + "one " + entityName(parent));
+                    relations.get(parent).add("has " + zeroTo(random) + "many " + entityName(child));
+                }
+            }
+        }
+        for (int first = 1; first < entityCount; first++) {
+            for (int k = count(random, manyToManyDensity); k > 0; k--) {
+                int second = random.nextInt(first);
+                if (linked.add(pair(first, second))) {
+                    relations.get(first).add("has many " + entityName(second));
+                    relations.get(second).add("has " + zeroTo(random) + "many " + entityName(first));
+                }
+            }
+        }
+
+        StringBuilder schema = new StringBuilder(entityCount * (60 + fieldsPerEntity * 30));
+        schema.append("/* Synthetic schema, seed ").append(seed).append(", ")
+              .append(entityCount).append(" entities. */\n\n");
+        for (int i = 0; i < entityCount; i++) {
+            writeEntity(schema, random, i, relations.get(i));
+        }
+        return schema.toString();
+    }
+
+    private void writeEntity(StringBuilder schema, Random random, int index, List<String> relations) {
+        schema.append("entity ").append(entityName(index)).append(" (\n");
+        String separator = "  ";
+        for (int field = 0; field < fieldsPerEntity; field++) {
+            schema.append(separator).append(fieldName(field)).append(' ')
+                  .append(TYPES[random.nextInt(TYPES.length)]);
+            if (random.nextBoolean()) {
+                schema.append(" required");
+            }
+            separator = ",\n  ";
+        }
+        for (String relation : relations) {
+            schema.append(separator).append(relation);
+            separator = ",\n  ";
+        }
+        int constraints = Math.min(unicityConstraintsPerEntity, fieldsPerEntity);
+        for (int constraint = 0; constraint < constraints; constraint++) {
+            schema.append(separator).append("unique(").append(fieldName(constraint));
+            for (int field = constraint + 1; field < fieldsPerEntity && random.nextInt(3) == 0; field++) {
+                schema.append(", ").append(fieldName(field));
+            }
+            schema.append(')');
+        }
+        schema.append("\n  );\n\n");
+    }
+
+    private static String fieldName(int index) {
+        return WORDS[(index * 7 + 3) % WORDS.length] + "_field" + index;
+    }
+
+    private static String zeroTo(Random random) {
+        return random.nextInt(4) == 0 ? "zero to " : "";
+    }
+
+    private static int count(Random random, double density) {
+        int count = (int) density;
+        if (random.nextDouble() < density - count) {
+            count++;
+        }
+        return count;
+    }
+
+    private static long pair(int first, int second) {
+        return ((long) Math.max(first, second) << 32) | Math.min(first, second);
+    }
+}
@@ -0,0 +1,49 @@
+package org.jberger.pergen.synthetic;
+
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.main.InputFileParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SyntheticSchemaGeneratorTest {
+
+    @Test
+    public final void testSameSeedGivesSameSchema() {
+        Assertions.assertEquals(new SyntheticSchemaGenerator(42, 100).generate(),
+                                new SyntheticSchemaGenerator(42, 100).generate());
+        Assertions.assertNotEquals(new SyntheticSchemaGenerator(42, 100).generate(),
+                                   new SyntheticSchemaGenerator(43, 100).generate());
+    }
+
+    @Test
+    public final void testSchemaIsValid() throws Exception {
+        SyntheticSchemaGenerator generator = new SyntheticSchemaGenerator(7, 500);
+        generator.setFieldsPerEntity(6);
+        generator.setOneToManyDensity(1.5);
+        generator.setManyToManyDensity(1.0);
+        generator.setUnicityConstraintsPerEntity(2);
+        DataLayerSpecifications specs = new InputFileParser(generator.generate()).extractSpecifications();
+
+        Assertions.assertEquals(500, specs.getEntities().size());
+        int relations = 0;
+        int manyToMany = 0;
+        for (Entity entity : specs.getEntities()) {
+            Assertions.assertEquals(6, entity.getFields().size());
+            Assertions.assertEquals(2, entity.getUnicityConstraints().size());
+            relations += entity.getRelations().size();
+            manyToMany += entity.getAllManyToManyRelations().size();
+        }
+        Assertions.assertTrue(manyToMany > 600, "many-to-many relations: " + manyToMany);
+        Assertions.assertTrue(relations - manyToMany > 900, "one-to-many relations: " + (relations - manyToMany));
+    }
+
+    @Test
+    public final void testSingleEntity() throws Exception {
+        SyntheticSchemaGenerator generator = new SyntheticSchemaGenerator(1, 1);
+        generator.setFieldsPerEntity(1);
+        Assertions.assertEquals(1, new InputFileParser(generator.generate()).extractSpecifications()
+                                           .getEntities().size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.setFieldsPerEntity(0));
+    }
+}
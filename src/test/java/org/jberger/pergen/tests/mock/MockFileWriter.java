@@ -1,21 +1,10 @@
 package org.jberger.pergen.tests.mock;
 
-import org.jberger.pergen.files.FileWriterWrapper;
+import org.jberger.pergen.files.CodeSink;
 
-public class MockFileWriter extends FileWriterWrapper {
-
-    private String writtenData = "";
-
-    public MockFileWriter() {
-	super(null);
-    }
-
-    @Override
-    public void write(String str) {
-	writtenData = writtenData + str;
-    }
+public class MockFileWriter extends CodeSink {
 
     public String getWrittenData() {
-	return writtenData;
+	return toString();
     }
 }
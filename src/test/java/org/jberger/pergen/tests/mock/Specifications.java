@@ -0,0 +1,65 @@
+package org.jberger.pergen.tests.mock;
+
+import java.util.ArrayList;
+import org.jberger.pergen.domain.DataLayerSpecifications;
+import org.jberger.pergen.domain.Entity;
+import org.jberger.pergen.domain.Field;
+import org.jberger.pergen.domain.FieldType;
+import org.jberger.pergen.domain.RawRelation;
+import org.jberger.pergen.domain.RelationAnalyzer;
+import org.jberger.pergen.domain.RelationType;
+
+/**
+ * The specifications the tests generate code from, built without parsing a
+ * schema.
+ */
+public final class Specifications {
+
+    private Specifications() {
+    }
+
+    /**
+     * Authors writing many books, each book in one section.
+     */
+    public static DataLayerSpecifications library() {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        Entity author = new Entity("author");
+        author.addField(new Field("first_name", FieldType.Type.STRING, true));
+        author.addField(new Field("birthdate", FieldType.Type.DATE, false));
+        specs.addEntity(author);
+        Entity book = new Entity("book");
+        book.addField(new Field("title", FieldType.Type.STRING, true));
+        book.addField(new Field("price", FieldType.Type.REAL, true));
+        specs.addEntity(book);
+        Entity section = new Entity("section");
+        section.addField(new Field("name", FieldType.Type.STRING, true));
+        specs.addEntity(section);
+
+        ArrayList<RawRelation> relations = new ArrayList<RawRelation>();
+        relations.add(relation("author", "book", RelationType.Type.MANY));
+        relations.add(relation("book", "author", RelationType.Type.MANY));
+        relations.add(relation("book", "section", RelationType.Type.ONE));
+        relations.add(relation("section", "book", RelationType.Type.MANY));
+        new RelationAnalyzer(relations).analyse(specs);
+        return specs;
+    }
+
+    /**
+     * Entities without fields nor relations.
+     */
+    public static DataLayerSpecifications withEntities(String... entityNames) {
+        DataLayerSpecifications specs = new DataLayerSpecifications();
+        for (String name : entityNames) {
+            specs.addEntity(new Entity(name));
+        }
+        return specs;
+    }
+
+    public static RawRelation relation(String from, String to, RelationType.Type type) {
+        RawRelation relation = new RawRelation();
+        relation.setFromEntity(from);
+        relation.setToEntity(to);
+        relation.setType(type);
+        return relation;
+    }
+}
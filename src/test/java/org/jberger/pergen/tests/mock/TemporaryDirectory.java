@@ -0,0 +1,48 @@
+package org.jberger.pergen.tests.mock;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * The directories the tests write their files in, deleted after each test.
+ */
+public final class TemporaryDirectory {
+
+    private TemporaryDirectory() {
+    }
+
+    public static Path create() throws IOException {
+        return Files.createTempDirectory("pergen");
+    }
+
+    /**
+     * Deletes a directory and everything it contains.
+     * @param directory The directory, ignored when null or already deleted.
+     */
+    public static void delete(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path visited, IOException e) throws IOException {
+                if (e != null) {
+                    throw e;
+                }
+                Files.delete(visited);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}